@@ -0,0 +1,100 @@
+package org.sgrewritten.stargate.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.block.BlockPhysicsEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sgrewritten.stargate.StargateAPIMock;
+import org.sgrewritten.stargate.api.BlockHandlerResolver;
+import org.sgrewritten.stargate.database.StorageMock;
+import org.sgrewritten.stargate.listener.BlockEventListener;
+import org.sgrewritten.stargate.network.StargateRegistry;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares block physics event throughput with and without the chunk presence filter
+ *
+ * <p>Both variants run the listener. The unfiltered variant uses a registry whose filter reports every chunk as
+ * possibly containing portals, so every event does the full registry lookup the listener did before the filter
+ * existed.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockPhysicsBenchmark {
+
+    private static final int EVENT_COUNT = 4096;
+
+    @Param({"10000", "100000"})
+    private int portalCount;
+
+    @Param({"true", "false"})
+    private boolean presenceFilter;
+
+    private BlockEventListener listener;
+    private final BlockPhysicsEvent[] events = new BlockPhysicsEvent[EVENT_COUNT];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ServerMock server = MockBukkit.mock();
+        StorageMock storage = new StorageMock();
+        StargateRegistry registry = presenceFilter ? new StargateRegistry(storage, new BlockHandlerResolver(storage))
+                : new UnfilteredRegistry(storage);
+        StargateAPIMock stargateAPI = new StargateAPIMock(storage, registry);
+        listener = new BlockEventListener(stargateAPI);
+        SyntheticPortalWorld portalWorld = new SyntheticPortalWorld(server.addSimpleWorld("world"), registry, portalCount, 64);
+        Random random = new Random(0);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Block block = portalWorld.getRandomLocation(random).getBlock();
+            events[i] = new BlockPhysicsEvent(block, block.getBlockData());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public void onBlockPhysics(Blackhole blackhole) {
+        BlockPhysicsEvent event = events[cursor++ & (EVENT_COUNT - 1)];
+        listener.onBlockPhysics(event);
+        blackhole.consume(event.isCancelled());
+    }
+
+    /**
+     * A registry without a chunk presence filter, which always has to look up the block
+     */
+    private static final class UnfilteredRegistry extends StargateRegistry {
+
+        private UnfilteredRegistry(StorageMock storage) {
+            super(storage, new BlockHandlerResolver(storage));
+        }
+
+        @Override
+        public boolean hasPortalsNear(World world, int x, int z) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.sgrewritten.stargate.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sgrewritten.stargate.api.network.Network;
+import org.sgrewritten.stargate.api.network.portal.behavior.NetworkedBehavior;
+import org.sgrewritten.stargate.exception.UnimplementedFlagException;
+import org.sgrewritten.stargate.exception.name.InvalidNameException;
+import org.sgrewritten.stargate.exception.name.NameConflictException;
+import org.sgrewritten.stargate.exception.name.NameLengthException;
+import org.sgrewritten.stargate.network.NetworkType;
+import org.sgrewritten.stargate.network.StargateNetwork;
+import org.sgrewritten.stargate.network.StorageType;
+import org.sgrewritten.stargate.network.portal.VirtualPortal;
+import org.sgrewritten.stargate.util.LanguageManagerMock;
+import org.sgrewritten.stargate.util.portal.PortalMock;
+
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes for a networked portal to list its destinations for the player activating it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DestinationListingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int networkSize;
+
+    private NetworkedBehavior behavior;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidNameException, NameLengthException, UnimplementedFlagException, NameConflictException {
+        ServerMock server = MockBukkit.mock();
+        PlayerMock player = server.addPlayer();
+        Network network = new StargateNetwork("network", NetworkType.CUSTOM, StorageType.LOCAL);
+        for (int i = 0; i < networkSize; i++) {
+            network.addPortal(new VirtualPortal("server", "portal" + i, network, new HashSet<>(), player.getUniqueId()));
+        }
+        OriginPortal origin = new OriginPortal(network, player.getUniqueId());
+        behavior = new NetworkedBehavior(new LanguageManagerMock());
+        behavior.assignPortal(origin);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public void listDestinations() {
+        behavior.update();
+    }
+
+    /**
+     * A portal activated by the given player, which lists destinations of the given network
+     */
+    private static class OriginPortal extends PortalMock {
+        private final Network network;
+        private final UUID activator;
+
+        private OriginPortal(Network network, UUID activator) {
+            this.network = network;
+            this.activator = activator;
+        }
+
+        @Override
+        public Network getNetwork() {
+            return network;
+        }
+
+        @Override
+        public String getName() {
+            return "origin";
+        }
+
+        @Override
+        public String getId() {
+            return "origin";
+        }
+
+        @Override
+        public UUID getActivatorUUID() {
+            return activator;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.sgrewritten.stargate.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.BlockFace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sgrewritten.stargate.api.network.RegistryAPI;
+import org.sgrewritten.stargate.exception.GateConflictException;
+import org.sgrewritten.stargate.exception.InvalidStructureException;
+import org.sgrewritten.stargate.gate.BlockMaterialCache;
+import org.sgrewritten.stargate.gate.Gate;
+import org.sgrewritten.stargate.gate.GateFormat;
+import org.sgrewritten.stargate.gate.GateFormatHandler;
+import org.sgrewritten.stargate.network.RegistryMock;
+import org.sgrewritten.stargate.network.portal.PortalBlockGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares finding the format of a gate among many formats sharing its control block material, by creating a gate for
+ * every format, and by checking every format with its matcher before creating the gate
+ *
+ * <p>Only the last format checked matches the gate, which is the worst case for both approaches.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GateFormatMatchBenchmark {
+
+    @Param({"10", "40"})
+    private int formatCount;
+
+    private Path gateFolder;
+    private WorldMock world;
+    private Location signLocation;
+    private RegistryAPI registry;
+    private List<GateFormat> formats;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ServerMock server = MockBukkit.mock();
+        world = server.addSimpleWorld("world");
+        signLocation = PortalBlockGenerator.generatePortal(new Location(world, 0, 3, 0)).getLocation();
+        registry = new RegistryMock();
+        gateFolder = Files.createTempDirectory("stargate-gates");
+        List<Material> frameMaterials = Arrays.stream(Material.values())
+                .filter(material -> !material.isLegacy() && material.isBlock() && material.isSolid() &&
+                        material != Material.OBSIDIAN)
+                .limit(formatCount - 1L).toList();
+        for (Material frameMaterial : frameMaterials) {
+            writeGate("a_" + frameMaterial.name().toLowerCase() + ".gate", frameMaterial);
+        }
+        //Named to be sorted last, so that every other format is checked first
+        writeGate("z_nether.gate", Material.OBSIDIAN);
+        formats = GateFormatHandler.loadGateFormats(gateFolder.toFile());
+        formats.sort(Comparator.comparing(GateFormat::getFileName));
+        if (findByMatching() != formats.get(formats.size() - 1)) {
+            throw new IllegalStateException("The generated gate does not match the last format");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        MockBukkit.unmock();
+        try (Stream<Path> files = Files.walk(gateFolder)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public GateFormat findByCreatingGates() {
+        for (GateFormat format : formats) {
+            if (createGate(format) != null) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public GateFormat findByMatching() {
+        BlockMaterialCache blocks = new BlockMaterialCache(world);
+        for (GateFormat format : formats) {
+            if (format.getMatcher().matches(blocks, signLocation, BlockFace.SOUTH) && createGate(format) != null) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    private Gate createGate(GateFormat format) {
+        try {
+            return new Gate(format, signLocation, BlockFace.SOUTH, false, registry);
+        } catch (InvalidStructureException | GateConflictException ignored) {
+            return null;
+        }
+    }
+
+    private void writeGate(String fileName, Material frameMaterial) throws IOException {
+        Files.write(gateFolder.resolve(fileName), List.of("portal-open=NETHER_PORTAL", "portal-closed=AIR",
+                "X=" + frameMaterial.name(), "-=OBSIDIAN", "", " XX ", "X..X", "-..-", "X*.X", " XX "));
+    }
+}
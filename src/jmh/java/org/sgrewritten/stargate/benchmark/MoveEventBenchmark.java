@@ -0,0 +1,86 @@
+package org.sgrewritten.stargate.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Location;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sgrewritten.stargate.StargateAPIMock;
+import org.sgrewritten.stargate.listener.MoveEventListener;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures player move handling, for moves crossing a block boundary either far away from or into a portal iris
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoveEventBenchmark {
+
+    private static final int EVENT_COUNT = 4096;
+
+    @Param({"10000", "100000"})
+    private int portalCount;
+
+    private MoveEventListener listener;
+    private final PlayerMoveEvent[] randomMoves = new PlayerMoveEvent[EVENT_COUNT];
+    private final PlayerMoveEvent[] irisMoves = new PlayerMoveEvent[EVENT_COUNT];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ServerMock server = MockBukkit.mock();
+        StargateAPIMock stargateAPI = new StargateAPIMock();
+        listener = new MoveEventListener(stargateAPI.getRegistry());
+        SyntheticPortalWorld portalWorld = new SyntheticPortalWorld(server.addSimpleWorld("world"),
+                stargateAPI.getRegistry(), portalCount, 64);
+        PlayerMock player = server.addPlayer();
+        Random random = new Random(0);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            randomMoves[i] = createMove(player, portalWorld.getRandomLocation(random));
+            irisMoves[i] = createMove(player, portalWorld.getRandomIrisLocation(random));
+        }
+    }
+
+    private PlayerMoveEvent createMove(PlayerMock player, Location to) {
+        Location from = to.clone().add(0, 0, -1);
+        return new PlayerMoveEvent(player, from, to);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public void onPlayerMove_randomLocation() {
+        listener.onPlayerMove(randomMoves[nextIndex()]);
+    }
+
+    @Benchmark
+    public void onPlayerMove_irisLocation() {
+        listener.onPlayerMove(irisMoves[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        return cursor++ & (EVENT_COUNT - 1);
+    }
+}
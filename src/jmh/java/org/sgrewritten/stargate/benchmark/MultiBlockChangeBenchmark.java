@@ -0,0 +1,103 @@
+package org.sgrewritten.stargate.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.event.Cancellable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sgrewritten.stargate.StargateAPIMock;
+import org.sgrewritten.stargate.property.BlockEventType;
+import org.sgrewritten.stargate.util.BlockEventHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures handling of explosion sized multi block change events far away from any portal
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiBlockChangeBenchmark {
+
+    private static final int EXPLOSION_COUNT = 256;
+    private static final int EXPLOSION_RADIUS = 3;
+
+    @Param({"10000", "100000"})
+    private int portalCount;
+
+    private StargateAPIMock stargateAPI;
+    private final List<List<Block>> explosions = new ArrayList<>();
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ServerMock server = MockBukkit.mock();
+        stargateAPI = new StargateAPIMock();
+        SyntheticPortalWorld portalWorld = new SyntheticPortalWorld(server.addSimpleWorld("world"),
+                stargateAPI.getRegistry(), portalCount, 64);
+        Random random = new Random(0);
+        for (int i = 0; i < EXPLOSION_COUNT; i++) {
+            explosions.add(getBlocksInRadius(portalWorld.getRandomLocation(random)));
+        }
+    }
+
+    private List<Block> getBlocksInRadius(Location center) {
+        List<Block> blocks = new ArrayList<>();
+        for (int x = -EXPLOSION_RADIUS; x <= EXPLOSION_RADIUS; x++) {
+            for (int y = -EXPLOSION_RADIUS; y <= EXPLOSION_RADIUS; y++) {
+                for (int z = -EXPLOSION_RADIUS; z <= EXPLOSION_RADIUS; z++) {
+                    if (x * x + y * y + z * z <= EXPLOSION_RADIUS * EXPLOSION_RADIUS) {
+                        blocks.add(center.clone().add(x, y, z).getBlock());
+                    }
+                }
+            }
+        }
+        return blocks;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public boolean onAnyMultiBlockChangeEvent() {
+        List<Block> blocks = explosions.get(cursor++ & (EXPLOSION_COUNT - 1));
+        CancellableMock event = new CancellableMock();
+        BlockEventHelper.onAnyMultiBlockChangeEvent(event, BlockEventType.ENTITY_EXPLODE, blocks, stargateAPI);
+        return event.isCancelled();
+    }
+
+    private static class CancellableMock implements Cancellable {
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.sgrewritten.stargate.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sgrewritten.stargate.api.BlockHandlerResolver;
+import org.sgrewritten.stargate.api.gate.GateStructureType;
+import org.sgrewritten.stargate.api.network.portal.RealPortal;
+import org.sgrewritten.stargate.database.StorageMock;
+import org.sgrewritten.stargate.network.StargateRegistry;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures location lookups in the registry, both for locations far away from portals and inside portals
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistryLookupBenchmark {
+
+    private static final int LOCATION_COUNT = 4096;
+
+    @Param({"10000", "100000"})
+    private int portalCount;
+
+    private StargateRegistry registry;
+    private final Location[] randomLocations = new Location[LOCATION_COUNT];
+    private final Location[] irisLocations = new Location[LOCATION_COUNT];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ServerMock server = MockBukkit.mock();
+        StorageMock storage = new StorageMock();
+        registry = new StargateRegistry(storage, new BlockHandlerResolver(storage));
+        SyntheticPortalWorld portalWorld = new SyntheticPortalWorld(server.addSimpleWorld("world"), registry, portalCount, 64);
+        Random random = new Random(0);
+        for (int i = 0; i < LOCATION_COUNT; i++) {
+            randomLocations[i] = portalWorld.getRandomLocation(random);
+            irisLocations[i] = portalWorld.getRandomIrisLocation(random);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public RealPortal getPortal_randomLocation() {
+        return registry.getPortal(randomLocations[nextIndex()]);
+    }
+
+    @Benchmark
+    public RealPortal getPortal_irisLocation() {
+        return registry.getPortal(irisLocations[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<RealPortal> getPortalsFromTouchingBlock_randomLocation() {
+        return registry.getPortalsFromTouchingBlock(randomLocations[nextIndex()], GateStructureType.FRAME);
+    }
+
+    @Benchmark
+    public List<RealPortal> getPortalsFromTouchingBlock_irisLocation() {
+        return registry.getPortalsFromTouchingBlock(irisLocations[nextIndex()], GateStructureType.FRAME);
+    }
+
+    private int nextIndex() {
+        return cursor++ & (LOCATION_COUNT - 1);
+    }
+}
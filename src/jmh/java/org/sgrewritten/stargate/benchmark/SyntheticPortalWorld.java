@@ -0,0 +1,84 @@
+package org.sgrewritten.stargate.benchmark;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.sgrewritten.stargate.api.gate.GateStructureType;
+import org.sgrewritten.stargate.api.network.RegistryAPI;
+import org.sgrewritten.stargate.api.network.portal.BlockLocation;
+import org.sgrewritten.stargate.api.network.portal.RealPortal;
+import org.sgrewritten.stargate.util.portal.PortalMock;
+
+import java.util.Random;
+
+/**
+ * A synthetic world populated with a grid of registered portals, for use in benchmarks
+ *
+ * <p>Every portal has a 4x5 frame with a 2x3 iris, and portals are placed on a grid with the given spacing. No blocks
+ * are placed in the world, only the registry is populated.</p>
+ */
+public class SyntheticPortalWorld {
+
+    public static final int FRAME_WIDTH = 4;
+    public static final int FRAME_HEIGHT = 5;
+    public static final int BASE_Y = 64;
+
+    private final World world;
+    private final int gridSide;
+    private final int spacing;
+
+    /**
+     * @param world       <p>The world to place portals in</p>
+     * @param registry    <p>The registry to register portals to</p>
+     * @param portalCount <p>The amount of portals to register</p>
+     * @param spacing     <p>The distance in blocks between neighbouring portals on the grid</p>
+     */
+    public SyntheticPortalWorld(World world, RegistryAPI registry, int portalCount, int spacing) {
+        this.world = world;
+        this.spacing = spacing;
+        this.gridSide = (int) Math.ceil(Math.sqrt(portalCount));
+        for (int i = 0; i < portalCount; i++) {
+            registerPortal(registry, new PortalMock(), (i % gridSide) * spacing, (i / gridSide) * spacing);
+        }
+    }
+
+    private void registerPortal(RegistryAPI registry, RealPortal portal, int originX, int originZ) {
+        for (int dx = 0; dx < FRAME_WIDTH; dx++) {
+            for (int dy = 0; dy < FRAME_HEIGHT; dy++) {
+                boolean isIris = dx > 0 && dx < FRAME_WIDTH - 1 && dy > 0 && dy < FRAME_HEIGHT - 1;
+                GateStructureType type = isIris ? GateStructureType.IRIS : GateStructureType.FRAME;
+                Location location = new Location(world, originX + dx, BASE_Y + dy, originZ);
+                registry.registerLocation(type, new BlockLocation(location), portal);
+            }
+        }
+    }
+
+    /**
+     * Gets a random location anywhere within the area covered by the portal grid
+     *
+     * @param random <p>The random generator to use</p>
+     * @return <p>A location which is most likely far away from any portal</p>
+     */
+    public Location getRandomLocation(Random random) {
+        int extent = gridSide * spacing;
+        return new Location(world, random.nextInt(extent), BASE_Y + random.nextInt(FRAME_HEIGHT), random.nextInt(extent));
+    }
+
+    /**
+     * Gets the location of an iris block of a random portal
+     *
+     * @param random <p>The random generator to use</p>
+     * @return <p>A location inside the iris of a portal</p>
+     */
+    public Location getRandomIrisLocation(Random random) {
+        int x = random.nextInt(gridSide) * spacing + 1 + random.nextInt(FRAME_WIDTH - 2);
+        int z = random.nextInt(gridSide) * spacing;
+        return new Location(world, x, BASE_Y + 1 + random.nextInt(FRAME_HEIGHT - 2), z);
+    }
+
+    /**
+     * @return <p>The world containing the portals</p>
+     */
+    public World getWorld() {
+        return world;
+    }
+}
@@ -35,6 +35,7 @@ import org.jetbrains.annotations.Nullable;
 import org.sgrewritten.stargate.api.BlockHandlerResolver;
 import org.sgrewritten.stargate.api.StargateAPI;
 import org.sgrewritten.stargate.api.config.ConfigurationAPI;
+import org.sgrewritten.stargate.api.config.ConfigurationChangeListener;
 import org.sgrewritten.stargate.api.config.ConfigurationOption;
 import org.sgrewritten.stargate.api.database.StorageAPI;
 import org.sgrewritten.stargate.api.formatting.LanguageManager;
@@ -50,22 +51,29 @@ import org.sgrewritten.stargate.config.ConfigurationHelper;
 import org.sgrewritten.stargate.config.StargateYamlConfiguration;
 import org.sgrewritten.stargate.database.SQLDatabase;
 import org.sgrewritten.stargate.database.SQLDatabaseAPI;
+import org.sgrewritten.stargate.database.WriteBehindStorage;
 import org.sgrewritten.stargate.database.property.PropertiesDatabase;
 import org.sgrewritten.stargate.database.property.StoredPropertiesAPI;
 import org.sgrewritten.stargate.database.property.StoredProperty;
 import org.sgrewritten.stargate.economy.StargateEconomyAPI;
 import org.sgrewritten.stargate.economy.VaultEconomyManager;
 import org.sgrewritten.stargate.exception.StargateInitializationException;
+import org.sgrewritten.stargate.exception.database.StorageWriteException;
 import org.sgrewritten.stargate.formatting.StargateLanguageManager;
 import org.sgrewritten.stargate.listener.*;
 import org.sgrewritten.stargate.manager.*;
+import org.sgrewritten.stargate.metrics.MetricsReporter;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
 import org.sgrewritten.stargate.migration.DataMigrator;
 import org.sgrewritten.stargate.network.StargateNetworkManager;
 import org.sgrewritten.stargate.network.StargateRegistry;
 import org.sgrewritten.stargate.network.StorageType;
+import org.sgrewritten.stargate.network.portal.ExitChunkLoader;
 import org.sgrewritten.stargate.property.NonLegacyClass;
 import org.sgrewritten.stargate.property.PluginChannel;
 import org.sgrewritten.stargate.property.StargateConstant;
+import org.sgrewritten.stargate.thread.task.StargateGlobalTask;
 import org.sgrewritten.stargate.thread.task.StargateQueuedAsyncTask;
 import org.sgrewritten.stargate.thread.task.StargateRegionTask;
 import org.sgrewritten.stargate.thread.task.StargateTask;
@@ -83,6 +91,7 @@ import java.util.Date;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -157,10 +166,14 @@ public class Stargate extends JavaPlugin implements StargateAPI, ConfigurationAP
 
             registerListeners();
             StargateRegionTask.startPopulator(this);
+            StargateGlobalTask.startTimingWheel(this);
             StargateQueuedAsyncTask.enableAsyncQueue(threadQueueId);
             registerCommands();
             sendWarningMessages();
 
+            StargateMetrics.registerMBeans();
+            new MetricsReporter(getDataFolder()).start();
+
             //Register bStats metrics
             int pluginId = 13629;
             BStatsHelper.registerMetrics(pluginId, this, getRegistry());
@@ -210,6 +223,14 @@ public class Stargate extends JavaPlugin implements StargateAPI, ConfigurationAP
         economyManager = new VaultEconomyManager(languageManager);
         database = DatabaseHelper.loadDatabase(this);
         storageAPI = new SQLDatabase(database, storedProperties);
+        int storageWriteDelay = ConfigurationHelper.getInteger(ConfigurationOption.STORAGE_WRITE_DELAY);
+        if (storageWriteDelay > 0) {
+            WriteBehindStorage writeBehindStorage = new WriteBehindStorage(storageAPI, storageWriteDelay);
+            StargateMetrics.registerGauge(MetricName.of("storage_queue_depth"), writeBehindStorage::getQueueDepth);
+            StargateMetrics.registerGauge(MetricName.of("storage_queue_peak_depth"), writeBehindStorage::getPeakQueueDepth);
+            StargateMetrics.registerLatency(MetricName.of("storage_flush_latency"), writeBehindStorage.getFlushLatency());
+            storageAPI = writeBehindStorage;
+        }
         blockHandlerResolver = new BlockHandlerResolver(storageAPI);
         registry = new StargateRegistry(storageAPI, blockHandlerResolver);
         networkManager = new StargateNetworkManager(registry, storageAPI);
@@ -365,6 +386,7 @@ public class Stargate extends JavaPlugin implements StargateAPI, ConfigurationAP
         } catch (IOException | InvalidConfigurationException e) {
             Stargate.log(e);
         }
+        ConfigurationHelper.refresh();
     }
 
     @Override
@@ -379,6 +401,7 @@ public class Stargate extends JavaPlugin implements StargateAPI, ConfigurationAP
     @Override
     public void setConfigurationOptionValue(ConfigurationOption configurationOption, Object newValue) {
         config.set(configurationOption.getConfigNode(), newValue);
+        ConfigurationHelper.refresh();
     }
 
     @Override
@@ -391,20 +414,40 @@ public class Stargate extends JavaPlugin implements StargateAPI, ConfigurationAP
         saveConfig();
     }
 
+    @Override
+    public void addConfigurationChangeListener(ConfigurationChangeListener listener) {
+        ConfigurationHelper.addChangeListener(listener);
+    }
+
+    @Override
+    public void removeConfigurationChangeListener(ConfigurationChangeListener listener) {
+        ConfigurationHelper.removeChangeListener(listener);
+    }
+
     @Override
     public void reload() {
+        ConfigurationHelper.refresh();
         registry.getNetworkRegistry(StorageType.LOCAL).closeAllPortals();
         registry.getNetworkRegistry(StorageType.INTER_SERVER).closeAllPortals();
         try {
             load();
             GateFormatRegistry.loadGateFormats(this.getDataFolder());
-            if (storageAPI instanceof SQLDatabase sqlDatabase) {
-                sqlDatabase.load(DatabaseHelper.loadDatabase(this));
+            StorageAPI storage = storageAPI;
+            if (storageAPI instanceof WriteBehindStorage writeBehindStorage) {
+                writeBehindStorage.flush();
+                storage = writeBehindStorage.getStorage();
+            }
+            if (storage instanceof SQLDatabase sqlDatabase) {
+                SQLDatabaseAPI previousDatabase = database;
+                database = DatabaseHelper.loadDatabase(this);
+                sqlDatabase.load(database);
+                previousDatabase.close();
             }
             registry.clear();
             networkManager.loadPortals(this);
             economyManager.setupEconomy();
-        } catch (StargateInitializationException | IOException | SQLException | URISyntaxException e) {
+        } catch (StargateInitializationException | IOException | SQLException | URISyntaxException |
+                 StorageWriteException e) {
             Stargate.log(e);
             getServer().getPluginManager().disablePlugin(this);
         }
@@ -426,6 +469,7 @@ public class Stargate extends JavaPlugin implements StargateAPI, ConfigurationAP
         }
         languageManager.setLanguage(ConfigurationHelper.getString(ConfigurationOption.LANGUAGE));
         loadConfigLevel();
+        PermissionCache.setCacheTime(ConfigurationHelper.getInteger(ConfigurationOption.PERMISSION_CACHE_TIME));
         if (ConfigurationHelper.getBoolean(ConfigurationOption.USING_BUNGEE)) {
             Messenger messenger = Bukkit.getMessenger();
 
@@ -457,7 +501,20 @@ public class Stargate extends JavaPlugin implements StargateAPI, ConfigurationAP
         registry.getNetworkRegistry(StorageType.LOCAL).closeAllPortals();
         registry.getNetworkRegistry(StorageType.INTER_SERVER).closeAllPortals();
         StargateQueuedAsyncTask.disableAsyncQueue(threadQueueId);
+        StargateGlobalTask.getTimingWheel().runAll();
         StargateTask.forceRunAllTasks();
+        ExitChunkLoader.clearTickets();
+        if (storageAPI instanceof WriteBehindStorage writeBehindStorage) {
+            try {
+                writeBehindStorage.flush();
+            } catch (StorageWriteException e) {
+                Stargate.log(e);
+            }
+        }
+        if (database != null) {
+            database.close();
+        }
+        StargateMetrics.unregisterMBeans();
         if (ConfigurationHelper.getBoolean(ConfigurationOption.USING_BUNGEE)) {
             Messenger messenger = Bukkit.getMessenger();
             messenger.unregisterOutgoingPluginChannel(this);
@@ -515,6 +572,48 @@ public class Stargate extends JavaPlugin implements StargateAPI, ConfigurationAP
         return builder.toString();
     }
 
+    /**
+     * Checks whether messages at the given level are logged
+     *
+     * <p>Use this to skip building expensive log messages, or loops only used for logging.</p>
+     *
+     * @param priorityLevel <p>The log level to check</p>
+     * @return <p>True if messages at the given level are logged</p>
+     */
+    public static boolean isLoggable(Level priorityLevel) {
+        return priorityLevel.intValue() >= Stargate.logLevel.intValue();
+    }
+
+    /**
+     * Log a message at the given level, only creating the message if the level is logged
+     *
+     * @param priorityLevel   <p>The log level to log the message on</p>
+     * @param messageSupplier <p>A supplier of the message to log</p>
+     */
+    public static void log(Level priorityLevel, Supplier<String> messageSupplier) {
+        if (!isLoggable(priorityLevel)) {
+            return;
+        }
+        Stargate.log(priorityLevel, messageSupplier.get());
+    }
+
+    /**
+     * Log a message at the given level, only formatting the message if the level is logged
+     *
+     * <p>The arguments are still put in an array, and primitives boxed, before the level is checked. On hot paths,
+     * check {@link #isLoggable(Level)} before calling this.</p>
+     *
+     * @param priorityLevel <p>The log level to log the message on</p>
+     * @param format        <p>The format of the message, as used by {@link String#format(String, Object...)}</p>
+     * @param arguments     <p>The arguments referenced by the format</p>
+     */
+    public static void log(Level priorityLevel, String format, Object... arguments) {
+        if (!isLoggable(priorityLevel)) {
+            return;
+        }
+        Stargate.log(priorityLevel, String.format(format, arguments));
+    }
+
     /**
      * Log any message at the given level
      *
@@ -522,7 +621,7 @@ public class Stargate extends JavaPlugin implements StargateAPI, ConfigurationAP
      * @param message       <p>The message to log</p>
      */
     public static void log(Level priorityLevel, String message) {
-        if (priorityLevel.intValue() < Stargate.logLevel.intValue()) {
+        if (!isLoggable(priorityLevel)) {
             return;
         }
         if (instance != null) {
@@ -541,6 +640,13 @@ public class Stargate extends JavaPlugin implements StargateAPI, ConfigurationAP
         Stargate.logLevel = priorityLevel;
     }
 
+    /**
+     * @return <p>The current log level of Stargate</p>
+     */
+    public static Level getLogLevel() {
+        return Stargate.logLevel;
+    }
+
     /**
      * Gets an instance of this plugin
      *
@@ -38,4 +38,18 @@ public interface ConfigurationAPI {
      */
     void reload();
 
+    /**
+     * Adds a listener notified whenever the values of configuration options change
+     *
+     * @param listener <p>The listener to add</p>
+     */
+    void addConfigurationChangeListener(ConfigurationChangeListener listener);
+
+    /**
+     * Removes a previously added configuration change listener
+     *
+     * @param listener <p>The listener to remove</p>
+     */
+    void removeConfigurationChangeListener(ConfigurationChangeListener listener);
+
 }
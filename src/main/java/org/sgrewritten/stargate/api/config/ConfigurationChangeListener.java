@@ -0,0 +1,18 @@
+package org.sgrewritten.stargate.api.config;
+
+import java.util.Set;
+
+/**
+ * A listener notified whenever the values of configuration options change
+ */
+@FunctionalInterface
+public interface ConfigurationChangeListener {
+
+    /**
+     * Called after the configuration has changed, once the new values can be read
+     *
+     * @param changedOptions <p>The configuration options which have a different value than before</p>
+     */
+    void onConfigurationChange(Set<ConfigurationOption> changedOptions);
+
+}
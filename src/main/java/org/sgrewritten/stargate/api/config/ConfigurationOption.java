@@ -249,7 +249,74 @@ public enum ConfigurationOption {
     /**
      * The folder to load gate files from
      */
-    GATE_FOLDER("gateFolder", "The folder to load gate files from", "gates", OptionDataType.STRING, false);
+    GATE_FOLDER("gateFolder", "The folder to load gate files from", "gates", OptionDataType.STRING, false),
+
+    /**
+     * Whether to load the portals of each world concurrently on startup, without blocking the main thread
+     */
+    PARALLEL_PORTAL_LOADING("parallelPortalLoading",
+            "Whether to load the portals of each world concurrently on startup, without blocking the main thread",
+            false, OptionDataType.BOOLEAN, true),
+
+    /**
+     * The maximum number of threads used for loading portals in parallel
+     */
+    PORTAL_LOADING_THREADS("portalLoadingThreads", "The maximum number of threads used for loading portals in parallel",
+            4, OptionDataType.INTEGER, true),
+
+    /**
+     * The amount of ticks to hold back portal position, flag and metadata changes for before writing them in a batch
+     */
+    STORAGE_WRITE_DELAY("storageWriteDelay", "The amount of ticks to hold back portal changes for before writing them to the database. 0 writes every change immediately",
+            10, OptionDataType.INTEGER, true),
+
+    /**
+     * The amount of connections to keep open to the SQLite database
+     */
+    SQLITE_POOL_SIZE("sqlitePoolSize", "The amount of connections to keep open to the SQLite database. 0 opens a new connection for every query",
+            4, OptionDataType.INTEGER, true),
+
+    /**
+     * Whether to validate loaded gates once their chunks load, instead of loading their chunks on startup
+     */
+    DEFER_PORTAL_VALIDATION("deferPortalValidation",
+            "Whether to validate the layout of a loaded portal once its chunks load, instead of loading its chunks on startup",
+            false, OptionDataType.BOOLEAN, true),
+
+    /**
+     * The amount of ticks to remember whether a player has a permission
+     */
+    PERMISSION_CACHE_TIME("permissionCacheTime",
+            "The amount of ticks to remember whether a player has a permission. Changes to permissions might only apply after this time. 0 disables caching",
+            0, OptionDataType.INTEGER, true),
+
+    /**
+     * The amount of milliseconds per tick to spend on queued work on the main thread
+     */
+    POPULATOR_TICK_BUDGET("populatorTickBudget",
+            "The amount of milliseconds per tick to spend on queued work on the main thread. Unused on Folia",
+            10, OptionDataType.INTEGER, true),
+
+    /**
+     * The amount of threads writing to storage in parallel
+     */
+    ASYNC_WORKER_THREADS("asyncWorkerThreads",
+            "The amount of threads writing to storage in parallel. Writes for the same network are always done in order",
+            4, OptionDataType.INTEGER, true),
+
+    /**
+     * Whether to send inter-server messages in the old json format
+     */
+    JSON_INTER_SERVER_MESSAGES("jsonInterServerMessages",
+            "Whether to send inter-server messages as json, which is needed while any server in the network runs an older version",
+            false, OptionDataType.BOOLEAN, true),
+
+    /**
+     * The file to regularly write every metric to, in the Prometheus text format
+     */
+    PROMETHEUS_METRICS_FILE("prometheusMetricsFile",
+            "The file in the plugin folder to write metrics to every 15 seconds, in the Prometheus text format. Leave empty to not write metrics",
+            "", OptionDataType.STRING, true);
 
     private final String configNode;
     private final String description;
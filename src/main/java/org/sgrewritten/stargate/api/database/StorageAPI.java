@@ -17,6 +17,8 @@ import org.sgrewritten.stargate.network.StorageType;
 import org.sgrewritten.stargate.network.portal.GlobalPortalId;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * A generic API for Stargate's storage methods
@@ -32,6 +34,26 @@ public interface StorageAPI {
      */
     void loadFromStorage(StargateAPI stargateAPI) throws StorageReadException;
 
+    /**
+     * Loads all portals from storage, reading the portals of each world concurrently using the given executor
+     *
+     * <p>Worlds are marked as loading in the registry until their portals have been registered. Registration of
+     * gates is still done on the region or main thread. By default, this loads synchronously using
+     * {@link #loadFromStorage(StargateAPI)}.</p>
+     *
+     * @param stargateAPI <p>The stargate API</p>
+     * @param executor    <p>The executor to read portals from storage with</p>
+     * @return <p>A future completed once all portals have been read, and their registration has been scheduled</p>
+     */
+    default CompletableFuture<Void> loadFromStorageAsync(StargateAPI stargateAPI, Executor executor) {
+        try {
+            loadFromStorage(stargateAPI);
+            return CompletableFuture.completedFuture(null);
+        } catch (StorageReadException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Saves the given portal to storage
      *
@@ -0,0 +1,17 @@
+package org.sgrewritten.stargate.api.gate;
+
+/**
+ * An action performed on the world coordinates of a block
+ */
+@FunctionalInterface
+public interface BlockPositionConsumer {
+
+    /**
+     * Performs this action on the given block coordinates
+     *
+     * @param x <p>The x coordinate of the block</p>
+     * @param y <p>The y coordinate of the block</p>
+     * @param z <p>The z coordinate of the block</p>
+     */
+    void accept(int x, int y, int z);
+}
@@ -49,6 +49,20 @@ public interface GateAPI {
      */
     List<BlockLocation> getLocations(GateStructureType structureType);
 
+    /**
+     * Performs the given action on the world coordinates of every block of the given structure type
+     *
+     * <p>Unlike {@link #getLocations(GateStructureType)}, implementations should not allocate anything per block.</p>
+     *
+     * @param structureType <p>The structure type to iterate the blocks of</p>
+     * @param action        <p>The action to perform on each block</p>
+     */
+    default void forEachLocation(GateStructureType structureType, BlockPositionConsumer action) {
+        for (BlockLocation blockLocation : getLocations(structureType)) {
+            action.accept(blockLocation.getX(), blockLocation.getY(), blockLocation.getZ());
+        }
+    }
+
     /**
      * Opens this gate
      */
@@ -118,6 +132,16 @@ public interface GateAPI {
      */
     boolean isValid() throws GateConflictException;
 
+    /**
+     * Check if the blocks of this gate still match its format
+     *
+     * <p>Unlike {@link #isValid()}, this does not check for conflicts with other gates, and can therefore be used to
+     * check a gate which has already been registered.</p>
+     *
+     * @return <p>True if the blocks of this gate match its format</p>
+     */
+    boolean hasValidStructure();
+
     /**
      * Calculates all portal positions for this gate
      *
@@ -10,6 +10,7 @@ import org.sgrewritten.stargate.api.network.RegistryAPI;
 import org.sgrewritten.stargate.exception.GateConflictException;
 import org.sgrewritten.stargate.exception.InvalidStructureException;
 import org.sgrewritten.stargate.exception.NoFormatFoundException;
+import org.sgrewritten.stargate.gate.BlockMaterialCache;
 import org.sgrewritten.stargate.gate.Gate;
 import org.sgrewritten.stargate.gate.GateFormat;
 
@@ -77,9 +78,18 @@ public class ImplicitGateBuilder implements GateBuilder {
     private Gate findMatchingGate(List<GateFormat> gateFormats, Location signLocation, BlockFace signFacing,
                                   boolean alwaysOn, RegistryAPI registry)
             throws NoFormatFoundException, GateConflictException {
-        Stargate.log(Level.FINE, "Amount of GateFormats: " + gateFormats.size());
+        if (Stargate.isLoggable(Level.FINE)) {
+            Stargate.log(Level.FINE, "Amount of GateFormats: %s", gateFormats.size());
+        }
+        BlockMaterialCache blocks = new BlockMaterialCache(signLocation.getWorld());
         for (GateFormat gateFormat : gateFormats) {
-            Stargate.log(Level.FINE, "--------- " + gateFormat.getFileName() + " ---------");
+            if (Stargate.isLoggable(Level.FINE)) {
+                Stargate.log(Level.FINE, "--------- %s ---------", gateFormat.getFileName());
+            }
+            //Only create gates for formats matching the blocks, as creating a gate checks every block more thoroughly
+            if (!gateFormat.getMatcher().matches(blocks, signLocation, signFacing)) {
+                continue;
+            }
             try {
                 return new Gate(gateFormat, signLocation, signFacing, alwaysOn, registry);
             } catch (InvalidStructureException ignored) {
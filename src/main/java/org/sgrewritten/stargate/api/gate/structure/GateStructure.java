@@ -63,6 +63,17 @@ public abstract class GateStructure {
      */
     public abstract List<BlockVector> getStructureTypePositions();
 
+    /**
+     * Checks if a block of the given material may be at the given position of this structure
+     *
+     * @param blockVector <p>The position of the block to check</p>
+     * @param material    <p>The material found in the built portal</p>
+     * @return <p>True if the material matches</p>
+     */
+    public boolean matchesMaterial(BlockVector blockVector, Material material) {
+        return isValidBlock(blockVector, material);
+    }
+
     /**
      * Checks if a block in the built portal matches the block in this structure
      *
@@ -8,19 +8,33 @@ import org.sgrewritten.stargate.api.network.portal.Portal;
 public interface BungeeManager {
 
     /**
-     * Updates a network according to a "network changed" message
+     * Updates a network according to a json "network changed" message
      *
      * @param message <p>The network change message to parse and handle</p>
      */
     void updateNetwork(String message);
 
     /**
-     * Handles a player teleport message
+     * Updates a network according to a "network changed" message, in either the binary or the json format
+     *
+     * @param message <p>The network change message to decode and handle</p>
+     */
+    void updateNetwork(byte[] message);
+
+    /**
+     * Handles a json player teleport message
      *
      * @param message <p>The player teleport message to parse and handle</p>
      */
     void playerConnect(String message);
 
+    /**
+     * Handles a player teleport message, in either the binary or the json format
+     *
+     * @param message <p>The player teleport message to decode and handle</p>
+     */
+    void playerConnect(byte[] message);
+
     /**
      * Handle the connection of a player using the legacy Stargate method
      *
@@ -30,6 +44,11 @@ public interface BungeeManager {
      */
     void legacyPlayerConnect(String message);
 
+    /**
+     * Sends every inter-server network of this server to the other servers, in one snapshot message per network
+     */
+    void sendNetworkSnapshots();
+
     /**
      * Gets a portal from the BungeeCord teleportation queue
      *
@@ -13,7 +13,9 @@ import org.sgrewritten.stargate.network.StorageType;
 import org.sgrewritten.stargate.network.portal.formatting.HighlightingStyle;
 
 import java.util.Collection;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * A description of a network
@@ -28,6 +30,22 @@ public interface Network {
      */
     Collection<Portal> getAllPortals();
 
+    /**
+     * Gets all portals belonging to this network, by their ids in sorted order
+     *
+     * <p>The map can be navigated from any id, so that the portals next to a portal can be found without going
+     * through every portal before it.</p>
+     *
+     * @return <p>All portals belonging to this network, by their ids in sorted order</p>
+     */
+    default NavigableMap<String, Portal> getSortedPortals() {
+        NavigableMap<String, Portal> portals = new TreeMap<>();
+        for (Portal portal : getAllPortals()) {
+            portals.put(portal.getId(), portal);
+        }
+        return portals;
+    }
+
     /**
      * Gets the portal with the given name
      *
@@ -7,6 +7,7 @@ import org.sgrewritten.stargate.exception.name.InvalidNameException;
 import org.sgrewritten.stargate.exception.name.NameLengthException;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.stream.Stream;
 
 public interface NetworkRegistry {
@@ -53,6 +54,13 @@ public interface NetworkRegistry {
      */
     boolean networkExists(String id);
 
+    /**
+     * Gets every stored network
+     *
+     * @return <p>An unmodifiable map of the stored networks by id</p>
+     */
+    Map<String, Network> getNetworkMap();
+
     /**
      * Clear all stored networks
      */
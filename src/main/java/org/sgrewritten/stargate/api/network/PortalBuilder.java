@@ -399,7 +399,7 @@ public class PortalBuilder {
         String[] lines = new String[]{this.portalName, destinationName == null ? "" : destinationName, network.getName(), flagsString};
         StargateCreatePortalEvent portalCreateEvent = new StargateCreatePortalEvent(eventTarget, portal, lines, !hasPermission, hasPermission ? "" : permissionManager.getDenyMessage(), cost);
         Bukkit.getPluginManager().callEvent(portalCreateEvent);
-        Stargate.log(Level.CONFIG, " player has permission = " + hasPermission);
+        Stargate.log(Level.CONFIG, " player has permission = %s", hasPermission);
 
         //If the create event has been denied, tell the user and abort
         if (portalCreateEvent.getDeny()) {
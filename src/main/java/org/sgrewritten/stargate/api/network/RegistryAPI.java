@@ -1,6 +1,7 @@
 package org.sgrewritten.stargate.api.network;
 
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.ApiStatus;
@@ -21,6 +22,7 @@ import org.sgrewritten.stargate.network.StorageType;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 
@@ -90,6 +92,82 @@ public interface RegistryAPI {
      */
     RealPortal getPortal(Location location);
 
+    /**
+     * Gets the portal with the given structure type at the given block coordinates
+     *
+     * <p>Does not allocate any objects, and should be preferred on hot paths such as event listeners.</p>
+     *
+     * @param world         <p>The world of the block</p>
+     * @param x             <p>The x coordinate of the block</p>
+     * @param y             <p>The y coordinate of the block</p>
+     * @param z             <p>The z coordinate of the block</p>
+     * @param structureType <p>The structure type to look for</p>
+     * @return <p>The found portal, or null if no portal was found</p>
+     */
+    RealPortal getPortal(World world, int x, int y, int z, GateStructureType structureType);
+
+    /**
+     * Gets the portal at the given block coordinates
+     *
+     * <p>Does not allocate any objects, and should be preferred on hot paths such as event listeners.</p>
+     *
+     * @param world <p>The world of the block</p>
+     * @param x     <p>The x coordinate of the block</p>
+     * @param y     <p>The y coordinate of the block</p>
+     * @param z     <p>The z coordinate of the block</p>
+     * @return <p>The found portal, or null if no portal was found</p>
+     */
+    RealPortal getPortal(World world, int x, int y, int z);
+
+    /**
+     * Quickly checks whether the given block might be part of, or adjacent to, any portal
+     *
+     * <p>Intended as an early rejection for hot event listeners, as most events happen far away from any portal. Might
+     * give false positives, but never false negatives.</p>
+     *
+     * @param world <p>The world of the block</p>
+     * @param x     <p>The x coordinate of the block</p>
+     * @param z     <p>The z coordinate of the block</p>
+     * @return <p>False if the block is guaranteed not to be part of or adjacent to a portal</p>
+     */
+    boolean hasPortalsNear(World world, int x, int z);
+
+    /**
+     * Marks whether the portals of the given world are still being loaded
+     *
+     * @param worldId   <p>The unique id of the world</p>
+     * @param isLoading <p>Whether the portals of the world are still being loaded</p>
+     */
+    void setWorldLoading(UUID worldId, boolean isLoading);
+
+    /**
+     * Checks whether the portals of the given world are still being loaded
+     *
+     * <p>Gates in a loading world are not yet registered, and should be treated as inert until they are.</p>
+     *
+     * @param worldId <p>The unique id of the world</p>
+     * @return <p>True if the portals of the world are still being loaded</p>
+     */
+    boolean isWorldLoading(UUID worldId);
+
+    /**
+     * Defers the validation of the given portal's gate until all of its chunks have been loaded
+     *
+     * <p>Validating a gate reads its blocks, which would force its chunks to load.</p>
+     *
+     * @param portal <p>The registered portal to defer the gate validation of</p>
+     * @return <p>False if all the chunks of the gate are already loaded, and the gate can be validated right away</p>
+     */
+    boolean deferGateValidation(RealPortal portal);
+
+    /**
+     * Marks the given chunk as loaded, and gets the portals which can now have their deferred gate validation done
+     *
+     * @param chunk <p>The chunk which was loaded</p>
+     * @return <p>The portals whose gates are now fully loaded, and should be validated</p>
+     */
+    @NotNull Set<RealPortal> pollGateValidations(StargateChunk chunk);
+
     /**
      * Checks if any of the given blocks belong to a portal
      *
@@ -239,6 +317,17 @@ public interface RegistryAPI {
      */
     @Nullable PortalPosition getPortalPosition(Location location);
 
+    /**
+     * Gets the portal position at the given block coordinates
+     *
+     * @param world <p>The world of the block</p>
+     * @param x     <p>The x coordinate of the block</p>
+     * @param y     <p>The y coordinate of the block</p>
+     * @param z     <p>The z coordinate of the block</p>
+     * @return <p>The portal position, or null if none was found</p>
+     */
+    @Nullable PortalPosition getPortalPosition(World world, int x, int y, int z);
+
     /**
      * Use {@link NetworkManager} instead. This does not save to database, and is not cross server compatible
      *
@@ -263,5 +352,12 @@ public interface RegistryAPI {
      */
     @NotNull Set<RealPortal> getPortalsInChunk(StargateChunk chunk);
 
+    /**
+     * Get all the portals in a world
+     * @param worldId <p>The unique id of the world to retrieve portals from</p>
+     * @return <p>A copy of the portals in the world</p>
+     */
+    @NotNull Set<RealPortal> getPortalsInWorld(UUID worldId);
+
     Stream<Portal> getAllPortals();
 }
@@ -3,6 +3,9 @@ package org.sgrewritten.stargate.api.network.portal;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
 
 /**
  * A class used to avoid memory leak from world unloading
@@ -13,6 +16,7 @@ public class BlockLocation {
     final int y;
     final int z;
     final String world;
+    final UUID worldId;
 
     /**
      * Instantiates a new block location
@@ -25,6 +29,35 @@ public class BlockLocation {
         z = location.getBlockZ();
         World worldObject = location.getWorld();
         this.world = worldObject == null ? "" : worldObject.getName();
+        this.worldId = worldObject == null ? null : worldObject.getUID();
+    }
+
+    /**
+     * @return <p>The x coordinate of this block location</p>
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * @return <p>The y coordinate of this block location</p>
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * @return <p>The z coordinate of this block location</p>
+     */
+    public int getZ() {
+        return z;
+    }
+
+    /**
+     * @return <p>The unique id of the world of this block location, or null if it had no world</p>
+     */
+    public @Nullable UUID getWorldId() {
+        return worldId;
     }
 
     /**
@@ -50,15 +50,14 @@ public interface RealPortal extends Portal, MetadataHolder {
     /**
      * Closes this portal
      *
-     * <p>Everytime most of the portals opens, there is going to be a scheduled event to close it after a specific time.
-     * If a player enters the portal before this, then it is going to close, but the scheduled close event is still
-     * going to be there. And if the portal gets activated again, it is going to close prematurely, because of this
-     * already scheduled event. Solution to avoid this is to assign an open-time for each scheduled close event and
-     * only close if the related open time matches with the most recent time the portal was opened.</p>
-     *
-     * @param relatedOpenTime <p>The time this portal was opened</p>
-     */
-    void close(long relatedOpenTime);
+     * @param relatedOpenTime <p>Ignored</p>
+     * @deprecated <p>A portal now cancels its own scheduled close whenever it is opened or closed, so the open time
+     * no longer needs to be matched. Use {@link #close(boolean)} instead.</p>
+     */
+    @Deprecated
+    default void close(long relatedOpenTime) {
+        close(false);
+    }
 
     /**
      * Gets the exit location of this portal
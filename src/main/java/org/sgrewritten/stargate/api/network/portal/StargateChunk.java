@@ -53,6 +53,14 @@ public class StargateChunk {
         return Bukkit.getWorld(worldName).getChunkAt(x,z);
     }
 
+    /**
+     * @return <p>True if the chunk this represents is loaded</p>
+     */
+    public boolean isLoaded(){
+        World world = Bukkit.getWorld(worldName);
+        return world != null && world.isChunkLoaded(x,z);
+    }
+
     @Override
     public boolean equals(Object other){
         if(other == this){
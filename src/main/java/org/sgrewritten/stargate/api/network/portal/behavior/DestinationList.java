@@ -0,0 +1,223 @@
+package org.sgrewritten.stargate.api.network.portal.behavior;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sgrewritten.stargate.api.network.portal.Portal;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * The destinations of a portal, navigated from one destination to the next without listing every destination
+ *
+ * <p>The candidates are sorted by id, so the destinations next to a destination are found by seeking to its id, and
+ * only the candidates passed on the way are checked for whether they are visible. Only listing every destination
+ * requires checking every candidate.</p>
+ */
+final class DestinationList {
+
+    private final NavigableMap<String, Portal> candidates;
+    private final Portal origin;
+    private final Predicate<Portal> isVisible;
+    private final Map<Portal, Boolean> checkedCandidates = new HashMap<>();
+    private List<Portal> allDestinations;
+
+    /**
+     * Instantiates a new destination list
+     *
+     * @param sortedPortals <p>The portals to choose destinations from, by their ids in sorted order</p>
+     * @param origin        <p>The portal the destinations are listed from, which is never a destination</p>
+     * @param isVisible     <p>A check for whether a candidate is visible</p>
+     */
+    DestinationList(NavigableMap<String, Portal> sortedPortals, Portal origin, Predicate<Portal> isVisible) {
+        this.candidates = sortedPortals;
+        this.origin = origin;
+        this.isVisible = isVisible;
+    }
+
+    /**
+     * Instantiates a new destination list of the given destinations, in the given order
+     *
+     * @param destinations <p>The destinations, which are all visible</p>
+     * @param origin       <p>The portal the destinations are listed from, which is never a destination</p>
+     * @return <p>A destination list of the given destinations</p>
+     */
+    static DestinationList of(List<Portal> destinations, Portal origin) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (Portal destination : destinations) {
+            if (destination != null) {
+                positions.putIfAbsent(destination.getId(), positions.size());
+            }
+        }
+        // Ids which are not destinations are sorted last, so that looking them up finds nothing
+        NavigableMap<String, Portal> orderedDestinations = new TreeMap<>(
+                Comparator.comparingInt(id -> positions.getOrDefault(id, Integer.MAX_VALUE)));
+        for (Portal destination : destinations) {
+            if (destination != null) {
+                orderedDestinations.putIfAbsent(destination.getId(), destination);
+            }
+        }
+        return new DestinationList(orderedDestinations, origin, destination -> true);
+    }
+
+    /**
+     * @return <p>True if there are no destinations</p>
+     */
+    boolean isEmpty() {
+        return getFirst() == null;
+    }
+
+    /**
+     * Checks whether the given portal is a destination
+     *
+     * @param portal <p>The portal to check</p>
+     * @return <p>True if the portal is a destination</p>
+     */
+    boolean contains(@Nullable Portal portal) {
+        return portal != null && candidates.get(portal.getId()) == portal && isDestination(portal);
+    }
+
+    /**
+     * @return <p>The first destination, or null if there are no destinations</p>
+     */
+    @Nullable Portal getFirst() {
+        return seek(candidates);
+    }
+
+    /**
+     * @return <p>The last destination, or null if there are no destinations</p>
+     */
+    @Nullable Portal getLast() {
+        return seek(candidates.descendingMap());
+    }
+
+    /**
+     * Gets the destination after the given portal
+     *
+     * @param portal <p>The portal to get the next destination of, which does not need to be a destination itself</p>
+     * @return <p>The next destination, or null if there is none</p>
+     */
+    @Nullable Portal getNext(@NotNull Portal portal) {
+        return seek(candidates.tailMap(portal.getId(), false));
+    }
+
+    /**
+     * Gets the destination before the given portal
+     *
+     * @param portal <p>The portal to get the previous destination of, which does not need to be a destination itself</p>
+     * @return <p>The previous destination, or null if there is none</p>
+     */
+    @Nullable Portal getPrevious(@NotNull Portal portal) {
+        return seek(candidates.headMap(portal.getId(), false).descendingMap());
+    }
+
+    /**
+     * @return <p>A view of the names of every destination, which becomes a copy once modified</p>
+     */
+    NameList getNames() {
+        return new NameList();
+    }
+
+    /**
+     * Gets the first destination among the given candidates
+     *
+     * @param sortedCandidates <p>The candidates to check, in the order to check them in</p>
+     * @return <p>The first destination, or null if none of the candidates is a destination</p>
+     */
+    private @Nullable Portal seek(NavigableMap<String, Portal> sortedCandidates) {
+        for (Portal candidate : sortedCandidates.values()) {
+            if (isDestination(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the given candidate is a destination, checking its visibility at most once
+     *
+     * @param candidate <p>The candidate to check</p>
+     * @return <p>True if the candidate is a destination</p>
+     */
+    private boolean isDestination(Portal candidate) {
+        return candidate != origin && checkedCandidates.computeIfAbsent(candidate, isVisible::test);
+    }
+
+    /**
+     * @return <p>Every destination, in order</p>
+     */
+    private List<Portal> getAllDestinations() {
+        if (allDestinations == null) {
+            List<Portal> destinations = new ArrayList<>();
+            for (Portal candidate : candidates.values()) {
+                if (isDestination(candidate)) {
+                    destinations.add(candidate);
+                }
+            }
+            allDestinations = destinations;
+        }
+        return allDestinations;
+    }
+
+    /**
+     * The names of the destinations in a destination list
+     *
+     * <p>Every destination is only listed once the names are read, and the names are copied once the view is
+     * modified.</p>
+     */
+    final class NameList extends AbstractList<String> {
+
+        private List<String> modifiedNames;
+
+        /**
+         * @return <p>Whether this view has been modified, and no longer matches the destination list</p>
+         */
+        boolean isModified() {
+            return modifiedNames != null;
+        }
+
+        @Override
+        public String get(int index) {
+            return modifiedNames == null ? getAllDestinations().get(index).getName() : modifiedNames.get(index);
+        }
+
+        @Override
+        public int size() {
+            return modifiedNames == null ? getAllDestinations().size() : modifiedNames.size();
+        }
+
+        @Override
+        public String set(int index, String element) {
+            return getModifiedNames().set(index, element);
+        }
+
+        @Override
+        public void add(int index, String element) {
+            getModifiedNames().add(index, element);
+        }
+
+        @Override
+        public String remove(int index) {
+            return getModifiedNames().remove(index);
+        }
+
+        private List<String> getModifiedNames() {
+            if (modifiedNames == null) {
+                List<Portal> destinations = getAllDestinations();
+                List<String> names = new ArrayList<>(destinations.size());
+                for (Portal destination : destinations) {
+                    names.add(destination.getName());
+                }
+                modifiedNames = names;
+            }
+            return modifiedNames;
+        }
+    }
+}
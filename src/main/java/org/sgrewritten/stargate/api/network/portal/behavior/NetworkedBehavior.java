@@ -26,20 +26,21 @@ import org.sgrewritten.stargate.api.network.portal.formatting.data.PortalLineDat
 import org.sgrewritten.stargate.api.network.portal.formatting.data.TextLineData;
 import org.sgrewritten.stargate.config.ConfigurationHelper;
 import org.sgrewritten.stargate.manager.StargatePermissionManager;
+import org.sgrewritten.stargate.network.portal.ExitChunkLoader;
 import org.sgrewritten.stargate.property.MetadataType;
 import org.sgrewritten.stargate.thread.task.StargateGlobalTask;
 import org.sgrewritten.stargate.thread.task.StargateQueuedAsyncTask;
 import org.sgrewritten.stargate.util.MessageUtils;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 
 public class NetworkedBehavior extends AbstractPortalBehavior {
-    private static final int NO_DESTINATION_SELECTED = -1;
-    private List<Portal> destinations;
-    private int selectedDestination = NO_DESTINATION_SELECTED;
+    private static final int DESTINATION_LINES = 3;
+    private DestinationList destinations;
+    private Portal selectedDestination;
+    private int selectedLine = 0;
     private long previousDestinationSelectionTime;
     private String loadedDestination;
 
@@ -64,16 +65,16 @@ public class NetworkedBehavior extends AbstractPortalBehavior {
             portal.close(true);
         }
 
-        setSelectedDestination(reloadSelectedDestination(destination));
+        setSelectedDestination(reloadSelectedDestination(destination), selectedLine);
     }
 
     /**
-     * Calculate the position of the portal that is selected, assuming the available destinations have changed.
+     * Checks whether the selected portal is still available, assuming the available destinations have changed.
      *
      * @param destination <p>The previously selected portal</p>
-     * @return <p> The position of the selected portal in the destinations list</p>
+     * @return <p>The selected portal, or null if it is no longer available</p>
      */
-    private int reloadSelectedDestination(Portal destination) {
+    private @Nullable Portal reloadSelectedDestination(Portal destination) {
         Player player;
         if (portal.getActivatorUUID() == null || portal.hasFlag(StargateFlag.ALWAYS_ON)) {
             player = null;
@@ -81,16 +82,15 @@ public class NetworkedBehavior extends AbstractPortalBehavior {
             player = Bukkit.getPlayer(portal.getActivatorUUID());
         }
         destinations = getDestinations(player);
-        if (destinations.contains(destination)) {
-            return destinations.indexOf(destination);
-        }
-        return NO_DESTINATION_SELECTED;
+        return destinations.contains(destination) ? destination : null;
     }
 
 
     /**
      * Gets the destinations available to the given player
      *
+     * <p>Whether the player can see a destination is only checked once the destination is needed.</p>
+     *
      * @param player <p>
      *               The player to get destinations for
      *               </p>
@@ -98,21 +98,13 @@ public class NetworkedBehavior extends AbstractPortalBehavior {
      * The destinations available to the player
      * </p>
      */
-    private List<Portal> getDestinations(@Nullable Player player) {
-        List<String> availablePortals;
+    private DestinationList getDestinations(@Nullable Player player) {
         Network network = portal.getNetwork();
         if (player == null) {
-            availablePortals = new ArrayList<>(network.getAllPortals().stream().map(Portal::getId).toList());
-            availablePortals.remove(portal.getId());
-        } else {
-            availablePortals = new ArrayList<>(network.getAvailablePortals(player, portal));
-        }
-        Collections.sort(availablePortals);
-        List<Portal> output = new ArrayList<>();
-        for (String name : availablePortals) {
-            output.add(network.getPortal(name));
+            return new DestinationList(network.getSortedPortals(), portal, destination -> true);
         }
-        return output;
+        return new DestinationList(network.getSortedPortals(), portal,
+                destination -> network.canSeePortal(destination, portal, player));
     }
 
 
@@ -144,7 +136,11 @@ public class NetworkedBehavior extends AbstractPortalBehavior {
             return;
         }
 
-        setSelectedDestination(selectNewDestination(event.getAction(), previouslyActivated));
+        selectNewDestination(event.getAction(), previouslyActivated);
+        if (!portal.hasFlag(StargateFlag.ALWAYS_ON) && getDestination() instanceof RealPortal destination) {
+            //Start loading the exit while the player decides whether to enter
+            ExitChunkLoader.load(destination.getExit());
+        }
         portal.updateState();
     }
 
@@ -153,46 +149,54 @@ public class NetworkedBehavior extends AbstractPortalBehavior {
      *
      * @param action              <p>The action performed on this portal's sign</p>
      * @param previouslyActivated <p>Whether this portal is currently active</p>
-     * @return <p>The index of the new destination</p>
      */
-    private int selectNewDestination(Action action, boolean previouslyActivated) {
+    private void selectNewDestination(Action action, boolean previouslyActivated) {
+        Portal destination = getDestination();
+        if (destination == null || (!previouslyActivated &&
+                !ConfigurationHelper.getBoolean(ConfigurationOption.REMEMBER_LAST_DESTINATION))) {
+            setSelectedDestination(destinations.getFirst(), 0);
+            return;
+        }
         if (!previouslyActivated) {
-            if (!ConfigurationHelper.getBoolean(ConfigurationOption.REMEMBER_LAST_DESTINATION)) {
-                return 0;
+            setSelectedDestination(destination, selectedLine);
+        } else if (action == Action.RIGHT_CLICK_BLOCK) {
+            Portal next = destinations.getNext(destination);
+            if (next == null) {
+                setSelectedDestination(destinations.getFirst(), 0);
             } else {
-                if (getSelectedDestination() == NO_DESTINATION_SELECTED) {
-                    setSelectedDestination(0);
-                }
-                return getSelectedDestination();
+                setSelectedDestination(next, (selectedLine + 1) % DESTINATION_LINES);
+            }
+        } else if (action == Action.LEFT_CLICK_BLOCK) {
+            Portal previous = destinations.getPrevious(destination);
+            if (previous == null) {
+                setSelectedDestination(destinations.getLast(), DESTINATION_LINES - 1);
+            } else {
+                setSelectedDestination(previous, (selectedLine + DESTINATION_LINES - 1) % DESTINATION_LINES);
             }
         }
-
-        if (action == Action.RIGHT_CLICK_BLOCK || action == Action.LEFT_CLICK_BLOCK) {
-            int step = (action == Action.RIGHT_CLICK_BLOCK) ? 1 : -1;
-            return getNextDestination(step, getSelectedDestination());
-        }
-        return getSelectedDestination();
     }
 
     /**
-     * Gets the next destination index
+     * Gets the line the given destination can be drawn on, so that the sign shows as many destinations as possible
      *
-     * <p>A method which allows selecting an index x steps away from a reference index
-     * without having to bother with index out of bounds stuff. If the index is out
-     * of bounds, it will just start counting from 0></p>
+     * <p>Only the destinations which would be drawn above the given destination are checked.</p>
      *
-     * @param step               <p>The amount of steps to move down the list of destinations</p>
-     * @param initialDestination <p>The currently selected destination</p>
-     * @return <p>The next destination index</p>
+     * @param destination <p>The destination to draw</p>
+     * @param line        <p>The line to draw the destination on, if there are enough destinations before it</p>
+     * @return <p>The line to draw the destination on</p>
      */
-    private int getNextDestination(int step, int initialDestination) {
-        int destinationLength = destinations.size();
-        // Avoid infinite recursion if this is the only gate available
-        if (destinationLength < 1) {
-            return -1;
+    private int getDrawableLine(@Nullable Portal destination, int line) {
+        if (destination == null) {
+            return 0;
+        }
+        Portal previous = destination;
+        for (int previousLines = 0; previousLines < line; previousLines++) {
+            previous = destinations.getPrevious(previous);
+            if (previous == null) {
+                return previousLines;
+            }
         }
-        int destination = initialDestination + destinationLength;
-        return (destination + step) % destinationLength;
+        return line;
     }
 
     /**
@@ -221,11 +225,16 @@ public class NetworkedBehavior extends AbstractPortalBehavior {
         }
 
         //Call the activate event to notify add-ons
-        StargateActivatePortalEvent event = new StargateActivatePortalEvent(portal, player, getPortalNames(destinations),
+        List<String> destinationNames = destinations.getNames();
+        StargateActivatePortalEvent event = new StargateActivatePortalEvent(portal, player, destinationNames,
                 this.getDestinationName());
         Bukkit.getPluginManager().callEvent(event);
 
-        this.destinations = getPortals(event.getDestinations());
+        // Keep checking destinations lazily unless an add-on has changed them
+        if (event.getDestinations() != destinationNames ||
+                (destinationNames instanceof DestinationList.NameList nameList && nameList.isModified())) {
+            this.destinations = DestinationList.of(getPortals(event.getDestinations()), portal);
+        }
         // TODO: Modify the destination based on event outcome
         return true;
     }
@@ -243,18 +252,12 @@ public class NetworkedBehavior extends AbstractPortalBehavior {
     }
 
     /**
-     * Gets a list of portal names from a list of portals
+     * Selects the given destination
      *
-     * @param portals <p>The list of portals to get the names of</p>
-     * @return <p>The names of the portals</p>
+     * @param selectedDestination <p>The destination to select, or null to select none</p>
+     * @param selectedLine        <p>The line of the sign to draw the destination on</p>
      */
-    private List<String> getPortalNames(List<Portal> portals) {
-        List<String> names = new ArrayList<>(portals.size());
-        portals.forEach(item -> names.add(item.getName()));
-        return names;
-    }
-
-    private void setSelectedDestination(int selectedDestination) {
+    private void setSelectedDestination(@Nullable Portal selectedDestination, int selectedLine) {
         if (portal.hasFlag(StargateFlag.ALWAYS_ON)) {
             final long currentTime = System.currentTimeMillis();
             this.previousDestinationSelectionTime = currentTime;
@@ -267,11 +270,11 @@ public class NetworkedBehavior extends AbstractPortalBehavior {
                     Portal destination = getDestination();
                     if (currentTime == previousDestinationSelectionTime && destination != null) {
                         /*
-                         * setSelectedDestination(int) can be called multiple times within the same millisecond, this avoids
+                         * setSelectedDestination(Portal, int) can be called multiple times within the same millisecond, this avoids
                          * duplicate unnecessary calls
                          */
                         previousDestinationSelectionTime = -1;
-                        new StargateQueuedAsyncTask() {
+                        new StargateQueuedAsyncTask(portal.getNetwork()) {
                             @Override
                             public void run() {
                                 portal.setMetadata(new JsonPrimitive(destination.getId()), MetadataType.DESTINATION.name());
@@ -282,30 +285,28 @@ public class NetworkedBehavior extends AbstractPortalBehavior {
             }.runDelayed(20);
         }
         this.selectedDestination = selectedDestination;
-    }
-
-    private int getSelectedDestination() {
-        return this.selectedDestination;
+        this.selectedLine = getDrawableLine(selectedDestination, selectedLine);
     }
 
     @Override
     public Portal getDestination() {
-        if (getSelectedDestination() == NO_DESTINATION_SELECTED || getSelectedDestination() >= destinations.size()) {
+        if (destinations == null || !destinations.contains(selectedDestination)) {
             return null;
         }
-        return destinations.get(getSelectedDestination());
+        return selectedDestination;
     }
 
     @Override
     public @NotNull LineData @NotNull [] getLines() {
         LineData[] lines = new LineData[4];
         lines[0] = new PortalLineData(portal, SignLineType.THIS_PORTAL);
-        if (!portal.isActive() || this.getSelectedDestination() == NO_DESTINATION_SELECTED) {
+        Portal destination = getDestination();
+        if (!portal.isActive() || destination == null) {
             lines[1] = new TextLineData(super.languageManager.getString(TranslatableMessage.RIGHT_CLICK), SignLineType.TEXT);
             lines[2] = new TextLineData(super.languageManager.getString(TranslatableMessage.TO_USE), SignLineType.TEXT);
             lines[3] = new NetworkLineData(portal.getNetwork());
         } else {
-            drawActiveSign(lines);
+            drawActiveSign(destination, lines);
         }
         return lines;
     }
@@ -313,34 +314,24 @@ public class NetworkedBehavior extends AbstractPortalBehavior {
     /**
      * Draws an active networked portal sign
      *
-     * @param lines <p>The sign lines to update</p>
-     */
-    private void drawActiveSign(LineData[] lines) {
-        int destinationIndex = getSelectedDestination() % 3;
-        int firstDestination = getSelectedDestination() - destinationIndex;
-        int maxLength = destinations.size();
-        for (int lineIndex = 0; lineIndex < 3; lineIndex++) {
-            int destination = lineIndex + firstDestination;
-            if (destination >= maxLength) {
-                lines[lineIndex + 1] = new TextLineData();
-                continue;
-            }
-            drawDestination(lineIndex, destination, destinationIndex, lines);
-        }
-    }
-
-    /**
-     * Draws one destination on this portal's sign
+     * <p>Only the destinations shown on the sign are checked.</p>
      *
-     * @param lineIndex        <p>The index of the line to draw</p>
-     * @param destination      <p>The line to draw the selectors at</p>
-     * @param destinationIndex <p>The modulo of the selected destination</p>
-     * @param lines            <p>The sign lines to update</p>
+     * @param destination <p>The selected destination</p>
+     * @param lines       <p>The sign lines to update</p>
      */
-    private void drawDestination(int lineIndex, int destination, int destinationIndex, LineData[] lines) {
-        boolean isSelectedPortal = (destinationIndex == lineIndex);
-        Portal destinationPortal = destinations.get(destination);
-        lines[lineIndex + 1] = new PortalLineData(destinationPortal, isSelectedPortal ? SignLineType.DESTINATION_PORTAL : SignLineType.PORTAL);
+    private void drawActiveSign(Portal destination, LineData[] lines) {
+        int destinationLine = getDrawableLine(destination, selectedLine);
+        lines[destinationLine + 1] = new PortalLineData(destination, SignLineType.DESTINATION_PORTAL);
+        Portal previous = destination;
+        for (int lineIndex = destinationLine - 1; lineIndex >= 0; lineIndex--) {
+            previous = destinations.getPrevious(previous);
+            lines[lineIndex + 1] = new PortalLineData(previous, SignLineType.PORTAL);
+        }
+        Portal next = destination;
+        for (int lineIndex = destinationLine + 1; lineIndex < DESTINATION_LINES; lineIndex++) {
+            next = next == null ? null : destinations.getNext(next);
+            lines[lineIndex + 1] = next == null ? new TextLineData() : new PortalLineData(next, SignLineType.PORTAL);
+        }
     }
 
     @Override
@@ -31,6 +31,11 @@ public final class AdventureStargateComponent implements StargateComponent {
         sign.line(index, text);
     }
 
+    @Override
+    public boolean isOnSignLine(int index, @NotNull Sign sign) {
+        return text.equals(sign.line(index));
+    }
+
     @Override
     public void sendMessage(Entity receiver) {
         receiver.sendMessage(text);
@@ -55,4 +60,14 @@ public final class AdventureStargateComponent implements StargateComponent {
     public String plainText() {
         return PlainTextComponentSerializer.plainText().serialize(text);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof AdventureStargateComponent otherComponent && text.equals(otherComponent.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
 }
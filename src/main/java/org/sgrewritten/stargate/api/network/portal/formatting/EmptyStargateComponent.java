@@ -11,6 +11,11 @@ final class EmptyStargateComponent implements StargateComponent {
         sign.setLine(index, "");
     }
 
+    @Override
+    public boolean isOnSignLine(int index, @NotNull Sign sign) {
+        return sign.getLine(index).isEmpty();
+    }
+
     @Override
     public void sendMessage(Entity receiver) {
         // empty component
@@ -28,4 +33,14 @@ final class EmptyStargateComponent implements StargateComponent {
     public String plainText() {
         return "";
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof EmptyStargateComponent;
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
 }
\ No newline at end of file
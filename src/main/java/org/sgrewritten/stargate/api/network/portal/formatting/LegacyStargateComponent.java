@@ -7,6 +7,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.sgrewritten.stargate.api.container.Holder;
 
+import java.util.Objects;
+
 public final class LegacyStargateComponent implements StargateComponent {
 
     private final String text;
@@ -30,6 +32,11 @@ public final class LegacyStargateComponent implements StargateComponent {
         }
     }
 
+    @Override
+    public boolean isOnSignLine(int index, @NotNull Sign sign) {
+        return text == null || text.equals(sign.getLine(index));
+    }
+
     @Override
     public void sendMessage(Entity receiver) {
         if (text != null && !text.isEmpty()) {
@@ -55,4 +62,14 @@ public final class LegacyStargateComponent implements StargateComponent {
         }
         return ChatColor.stripColor(text);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof LegacyStargateComponent otherComponent && Objects.equals(text, otherComponent.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(text);
+    }
 }
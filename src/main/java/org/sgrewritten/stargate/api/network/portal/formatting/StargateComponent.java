@@ -23,6 +23,14 @@ public sealed interface StargateComponent permits LegacyStargateComponent, Adven
      */
     void setSignLine(int index, @NotNull Sign sign);
 
+    /**
+     * Checks whether setting a line of the specified sign state to this component would leave it unchanged
+     * @param index <p>The index of the line to check</p>
+     * @param sign <p>The sign state to check</p>
+     * @return <p>True if the line already shows this component</p>
+     */
+    boolean isOnSignLine(int index, @NotNull Sign sign);
+
     /**
      *
      * @param receiver
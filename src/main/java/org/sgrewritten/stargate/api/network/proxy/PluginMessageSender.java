@@ -35,4 +35,11 @@ public interface PluginMessageSender {
      * @param network <p>The network of the portal</p>
      */
     void sendRenamePortal(String newName, String oldName, Network network);
+
+    /**
+     * Send every portal this server has in a network, replacing the portals other servers know of
+     *
+     * @param network <p>The network to send the portals of</p>
+     */
+    void sendNetworkSnapshot(Network network);
 }
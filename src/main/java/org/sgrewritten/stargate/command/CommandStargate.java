@@ -37,6 +37,8 @@ public class CommandStargate implements CommandExecutor {
                     return new CommandReload(languageManager).onCommand(commandSender, command, s, args);
                 case "trace":
                     return new CommandTrace(stargate).onCommand(commandSender, command, s, args);
+                case "stats":
+                    return new CommandStats(languageManager).onCommand(commandSender, command, s, args);
                 case "version":
                     break;
                 case "parityconfirm":
@@ -0,0 +1,102 @@
+package org.sgrewritten.stargate.command;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.sgrewritten.stargate.api.formatting.LanguageManager;
+import org.sgrewritten.stargate.api.formatting.TranslatableMessage;
+import org.sgrewritten.stargate.metrics.Counter;
+import org.sgrewritten.stargate.metrics.Gauge;
+import org.sgrewritten.stargate.metrics.LatencyRecorder;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
+import org.sgrewritten.stargate.property.CommandPermission;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * This command shows the performance metrics measured by the plugin
+ *
+ * <p>An optional filter only shows metrics whose name contains it, such as {@code /sg stats sql}. Latencies which
+ * were never recorded are left out.</p>
+ */
+public class CommandStats implements CommandExecutor {
+
+    private final LanguageManager languageManager;
+
+    public CommandStats(LanguageManager languageManager) {
+        this.languageManager = languageManager;
+    }
+
+    @Override
+    public boolean onCommand(@NotNull CommandSender commandSender, @NotNull Command command, @NotNull String s,
+                             @NotNull String[] args) {
+        if (args.length > 2) {
+            return false;
+        }
+        if (!commandSender.hasPermission(CommandPermission.STATS.getPermissionNode())) {
+            commandSender.sendMessage(languageManager.getErrorMessage(TranslatableMessage.DENY));
+            return true;
+        }
+        String filter = args.length > 1 ? args[1].toLowerCase(Locale.ROOT) : "";
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<MetricName, Counter> entry : StargateMetrics.getCounters().entrySet()) {
+            if (matches(entry.getKey(), filter)) {
+                Counter counter = entry.getValue();
+                lines.add(formatLine(entry.getKey(), String.format(Locale.ROOT, "%d (%.1f/s)", counter.getCount(),
+                        counter.getRate())));
+            }
+        }
+        for (Map.Entry<MetricName, Gauge> entry : StargateMetrics.getGauges().entrySet()) {
+            if (matches(entry.getKey(), filter)) {
+                lines.add(formatLine(entry.getKey(), String.valueOf(entry.getValue().getValue())));
+            }
+        }
+        for (Map.Entry<MetricName, LatencyRecorder> entry : StargateMetrics.getLatencies().entrySet()) {
+            LatencyRecorder latency = entry.getValue();
+            if (latency.getCount() > 0 && matches(entry.getKey(), filter)) {
+                lines.add(formatLine(entry.getKey(), String.format(Locale.ROOT, "n=%d avg=%s p50=%s p99=%s max=%s",
+                        latency.getCount(), formatLatency(latency.getAverageLatency()),
+                        formatLatency(latency.getMedianLatency()), formatLatency(latency.getPercentile99Latency()),
+                        formatLatency(latency.getMaxLatency()))));
+            }
+        }
+        commandSender.sendMessage(ChatColor.GOLD + "Stargate metrics" + (filter.isEmpty() ? "" : " matching '" + filter + "'"));
+        if (lines.isEmpty()) {
+            commandSender.sendMessage(ChatColor.GRAY + "No metrics found");
+        } else {
+            commandSender.sendMessage(lines.toArray(new String[0]));
+        }
+        return true;
+    }
+
+    private static boolean matches(MetricName name, String filter) {
+        return name.toString().contains(filter);
+    }
+
+    private static String formatLine(MetricName name, String value) {
+        return ChatColor.YELLOW + name.toString() + ChatColor.WHITE + ": " + value;
+    }
+
+    /**
+     * Formats the given latency in the most readable unit
+     *
+     * @param nanoseconds <p>The latency to format, in nanoseconds</p>
+     * @return <p>The formatted latency</p>
+     */
+    static String formatLatency(long nanoseconds) {
+        if (nanoseconds < 1_000) {
+            return nanoseconds + "ns";
+        } else if (nanoseconds < 1_000_000) {
+            return String.format(Locale.ROOT, "%.1fµs", nanoseconds / 1_000D);
+        } else if (nanoseconds < 1_000_000_000) {
+            return String.format(Locale.ROOT, "%.1fms", nanoseconds / 1_000_000D);
+        }
+        return String.format(Locale.ROOT, "%.2fs", nanoseconds / 1_000_000_000D);
+    }
+}
@@ -56,6 +56,9 @@ public class StargateTabCompleter implements TabCompleter {
         if (commandSender.hasPermission(CommandPermission.TRACE.getPermissionNode())) {
             commands.add("trace");
         }
+        if (commandSender.hasPermission(CommandPermission.STATS.getPermissionNode())) {
+            commands.add("stats");
+        }
         if (commandSender.hasPermission(CommandPermission.ABOUT.getPermissionNode())) {
             commands.add("about");
         }
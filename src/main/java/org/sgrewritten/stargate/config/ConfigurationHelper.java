@@ -1,17 +1,26 @@
 package org.sgrewritten.stargate.config;
 
+import org.bukkit.configuration.file.FileConfiguration;
 import org.jetbrains.annotations.NotNull;
 import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.api.config.ConfigurationChangeListener;
 import org.sgrewritten.stargate.api.config.ConfigurationOption;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Contains various methods for getting values of current settings
+ *
+ * <p>Values are read from an immutable snapshot of the configuration, which is replaced whenever the configuration
+ * is reloaded or changed through the plugin.</p>
  */
 public final class ConfigurationHelper {
 
+    private static final List<ConfigurationChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private static volatile ConfigurationSnapshot snapshot;
+
     private ConfigurationHelper() {
 
     }
@@ -23,11 +32,7 @@ public final class ConfigurationHelper {
      * @return <p>The value of the setting</p>
      */
     public static int getInteger(ConfigurationOption configurationOption) {
-        if (Stargate.getFileConfiguration().isSet(configurationOption.getConfigNode())) {
-            return Stargate.getFileConfiguration().getInt(configurationOption.getConfigNode());
-        } else {
-            return (int) configurationOption.getDefaultValue();
-        }
+        return getSnapshot().getInteger(configurationOption);
     }
 
     /**
@@ -37,11 +42,7 @@ public final class ConfigurationHelper {
      * @return <p>The value of the setting</p>
      */
     public static double getDouble(ConfigurationOption configurationOption) {
-        if (Stargate.getFileConfiguration().isSet(configurationOption.getConfigNode())) {
-            return Stargate.getFileConfiguration().getDouble(configurationOption.getConfigNode());
-        } else {
-            return (double) configurationOption.getDefaultValue();
-        }
+        return getSnapshot().getDouble(configurationOption);
     }
 
     /**
@@ -51,11 +52,7 @@ public final class ConfigurationHelper {
      * @return <p>The value of the setting</p>
      */
     public static String getString(ConfigurationOption configurationOption) {
-        if (Stargate.getFileConfiguration().isSet(configurationOption.getConfigNode())) {
-            return Stargate.getFileConfiguration().getString(configurationOption.getConfigNode());
-        } else {
-            return (String) configurationOption.getDefaultValue();
-        }
+        return getSnapshot().getString(configurationOption);
     }
 
     /**
@@ -65,27 +62,93 @@ public final class ConfigurationHelper {
      * @return <p>The value of the setting</p>
      */
     public static boolean getBoolean(ConfigurationOption configurationOption) {
-        if (Stargate.getFileConfiguration().isSet(configurationOption.getConfigNode())) {
-            return Stargate.getFileConfiguration().getBoolean(configurationOption.getConfigNode());
-        } else {
-            return (boolean) configurationOption.getDefaultValue();
-        }
+        return getSnapshot().getBoolean(configurationOption);
     }
 
     /**
      * @param configurationOption <p>The configuration option to get the data from</p>
      * @return <p>A list of strings from the configuration option</p>
      */
-    @SuppressWarnings("unchecked")
     public static @NotNull List<String> getStringList(ConfigurationOption configurationOption) {
-        if (Stargate.getFileConfiguration().isSet(configurationOption.getConfigNode())) {
-            return Stargate.getFileConfiguration().getStringList(configurationOption.getConfigNode());
-        } else {
-            if (configurationOption.getDefaultValue() == null) {
-                return new ArrayList<>();
+        return getSnapshot().getStringList(configurationOption);
+    }
+
+    /**
+     * Gets the enum constant named by a setting, ignoring case
+     *
+     * @param configurationOption <p>The setting to get</p>
+     * @param enumClass           <p>The class of the enum</p>
+     * @param <T>                 <p>The type of the enum</p>
+     * @return <p>The value of the setting</p>
+     * @throws IllegalArgumentException <p>If the setting does not name a constant of the enum</p>
+     */
+    public static <T extends Enum<T>> T getEnum(ConfigurationOption configurationOption, Class<T> enumClass) {
+        return getSnapshot().getEnum(configurationOption, enumClass);
+    }
+
+    /**
+     * Copies the current values of the configuration, and notifies listeners of any changed values
+     *
+     * <p>This needs to be run after the configuration is changed in place for the change to take effect.</p>
+     */
+    public static void refresh() {
+        ConfigurationSnapshot previousSnapshot;
+        ConfigurationSnapshot newSnapshot;
+        synchronized (ConfigurationHelper.class) {
+            previousSnapshot = snapshot;
+            newSnapshot = new ConfigurationSnapshot(Stargate.getFileConfiguration());
+            snapshot = newSnapshot;
+        }
+        if (previousSnapshot == null) {
+            return;
+        }
+        Set<ConfigurationOption> changedOptions = newSnapshot.getChangedOptions(previousSnapshot);
+        if (changedOptions.isEmpty()) {
+            return;
+        }
+        for (ConfigurationChangeListener listener : listeners) {
+            try {
+                listener.onConfigurationChange(changedOptions);
+            } catch (RuntimeException exception) {
+                Stargate.log(exception);
             }
-            return (List<String>) configurationOption.getDefaultValue();
         }
     }
 
+    /**
+     * Adds a listener notified whenever the values of configuration options change
+     *
+     * @param listener <p>The listener to add</p>
+     */
+    public static void addChangeListener(ConfigurationChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously added configuration change listener
+     *
+     * @param listener <p>The listener to remove</p>
+     */
+    public static void removeChangeListener(ConfigurationChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Gets the snapshot of the current configuration, copying the configuration if it has been replaced
+     *
+     * @return <p>The snapshot of the current configuration</p>
+     */
+    private static ConfigurationSnapshot getSnapshot() {
+        FileConfiguration configuration = Stargate.getFileConfiguration();
+        ConfigurationSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null && currentSnapshot.isSnapshotOf(configuration)) {
+            return currentSnapshot;
+        }
+        synchronized (ConfigurationHelper.class) {
+            if (snapshot == null || !snapshot.isSnapshotOf(configuration)) {
+                snapshot = new ConfigurationSnapshot(configuration);
+            }
+            return snapshot;
+        }
+    }
 }
@@ -0,0 +1,148 @@
+package org.sgrewritten.stargate.config;
+
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.util.NumberConversions;
+import org.jetbrains.annotations.NotNull;
+import org.sgrewritten.stargate.api.config.ConfigurationOption;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable copy of the values of every configuration option
+ *
+ * <p>The values are copied out of the file configuration once, so reading an option does not need to look it up in
+ * the configuration tree. A value which is not set in the configuration is replaced by the option's default value.</p>
+ */
+final class ConfigurationSnapshot {
+
+    private final FileConfiguration source;
+    private final Object[] values;
+    private final boolean[] isSet;
+    private final Map<ConfigurationOption, Enum<?>> parsedEnums = new ConcurrentHashMap<>();
+
+    /**
+     * Copies the values of every configuration option from the given configuration
+     *
+     * @param source <p>The configuration to copy the values from</p>
+     */
+    ConfigurationSnapshot(FileConfiguration source) {
+        this.source = source;
+        ConfigurationOption[] options = ConfigurationOption.values();
+        this.values = new Object[options.length];
+        this.isSet = new boolean[options.length];
+        for (ConfigurationOption option : options) {
+            String node = option.getConfigNode();
+            int index = option.ordinal();
+            isSet[index] = source.isSet(node);
+            if (!isSet[index]) {
+                values[index] = option.getDefaultValue();
+            } else if (source.isList(node)) {
+                values[index] = List.copyOf(source.getStringList(node));
+            } else {
+                values[index] = source.get(node);
+            }
+        }
+    }
+
+    /**
+     * @param configuration <p>A configuration</p>
+     * @return <p>True if this snapshot was copied from the given configuration</p>
+     */
+    boolean isSnapshotOf(FileConfiguration configuration) {
+        return source == configuration;
+    }
+
+    /**
+     * @param option <p>The setting to get</p>
+     * @return <p>The integer value of the setting</p>
+     */
+    int getInteger(ConfigurationOption option) {
+        int index = option.ordinal();
+        return isSet[index] ? NumberConversions.toInt(values[index]) : (int) values[index];
+    }
+
+    /**
+     * @param option <p>The setting to get</p>
+     * @return <p>The double value of the setting</p>
+     */
+    double getDouble(ConfigurationOption option) {
+        int index = option.ordinal();
+        return isSet[index] ? NumberConversions.toDouble(values[index]) : (double) values[index];
+    }
+
+    /**
+     * @param option <p>The setting to get</p>
+     * @return <p>The string value of the setting</p>
+     */
+    String getString(ConfigurationOption option) {
+        int index = option.ordinal();
+        Object value = values[index];
+        return isSet[index] ? String.valueOf(value) : (String) value;
+    }
+
+    /**
+     * @param option <p>The setting to get</p>
+     * @return <p>The boolean value of the setting</p>
+     */
+    boolean getBoolean(ConfigurationOption option) {
+        int index = option.ordinal();
+        Object value = values[index];
+        if (isSet[index]) {
+            return value instanceof Boolean booleanValue && booleanValue;
+        }
+        return (boolean) value;
+    }
+
+    /**
+     * @param option <p>The setting to get</p>
+     * @return <p>A new list of the string values of the setting</p>
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull List<String> getStringList(ConfigurationOption option) {
+        int index = option.ordinal();
+        Object value = values[index];
+        if (value instanceof List<?> list) {
+            return new ArrayList<>((List<String>) list);
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Gets the value of a setting as an enum constant, parsing the setting only once per snapshot
+     *
+     * @param option    <p>The setting to get</p>
+     * @param enumClass <p>The class of the enum</p>
+     * @param <T>       <p>The type of the enum</p>
+     * @return <p>The enum constant named by the setting, ignoring case</p>
+     * @throws IllegalArgumentException <p>If the setting does not name a constant of the enum</p>
+     */
+    <T extends Enum<T>> T getEnum(ConfigurationOption option, Class<T> enumClass) {
+        Enum<?> value = parsedEnums.computeIfAbsent(option,
+                key -> Enum.valueOf(enumClass, getString(key).toUpperCase(Locale.ROOT)));
+        return enumClass.cast(value);
+    }
+
+    /**
+     * Gets the options which have a different value in the given snapshot
+     *
+     * @param other <p>The snapshot to compare to</p>
+     * @return <p>The options with different values</p>
+     */
+    Set<ConfigurationOption> getChangedOptions(ConfigurationSnapshot other) {
+        Set<ConfigurationOption> changedOptions = EnumSet.noneOf(ConfigurationOption.class);
+        for (ConfigurationOption option : ConfigurationOption.values()) {
+            int index = option.ordinal();
+            if (isSet[index] != other.isSet[index] || !Objects.equals(values[index], other.values[index])) {
+                changedOptions.add(option);
+            }
+        }
+        return changedOptions;
+    }
+}
@@ -0,0 +1,250 @@
+package org.sgrewritten.stargate.container;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * An open-addressing hash map using primitive long keys
+ *
+ * <p>Uses linear probing and backward shift deletion, which means no tombstones are left behind and lookups never
+ * allocate or box the key. Null values are not supported, as null is used to represent an empty slot.</p>
+ *
+ * @param <V> <p>The type of the stored values</p>
+ */
+public class LongObjectHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Instantiates a new empty long object hash map
+     */
+    public LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new empty long object hash map
+     *
+     * @param expectedSize <p>The amount of entries expected to be stored without resizing</p>
+     */
+    public LongObjectHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Gets the value stored for the given key
+     *
+     * @param key <p>The key to look up</p>
+     * @return <p>The stored value, or null if no value is stored for the key</p>
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(long key) {
+        int index = mix(key) & mask;
+        Object value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                return (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a value is stored for the given key
+     *
+     * @param key <p>The key to check</p>
+     * @return <p>True if a value is stored for the key</p>
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Stores the given value for the given key
+     *
+     * @param key   <p>The key to store the value under</p>
+     * @param value <p>The value to store</p>
+     * @return <p>The value previously stored for the key, or null</p>
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+        int index = mix(key) & mask;
+        Object existing;
+        while ((existing = values[index]) != null) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return (V) existing;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(values.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the value stored for the given key, storing a computed value if none was present
+     *
+     * @param key             <p>The key to look up</p>
+     * @param mappingFunction <p>The function used to compute a missing value</p>
+     * @return <p>The stored or computed value</p>
+     */
+    public V computeIfAbsent(long key, LongFunction<V> mappingFunction) {
+        V value = get(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the value stored for the given key
+     *
+     * @param key <p>The key to remove</p>
+     * @return <p>The removed value, or null if no value was stored</p>
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V remove(long key) {
+        int index = mix(key) & mask;
+        Object value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                shiftBackFrom(index);
+                size--;
+                return (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * @return <p>The amount of stored entries</p>
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <p>True if no entries are stored</p>
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries from this map
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Iterates over all entries of this map without allocating
+     *
+     * @param consumer <p>The consumer to give every entry to</p>
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(LongObjectConsumer<? super V> consumer) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Fills the hole at the given index by moving subsequent entries of the same probe sequence backwards
+     *
+     * @param index <p>The index of the removed entry</p>
+     */
+    private void shiftBackFrom(int index) {
+        int hole = index;
+        int current = (hole + 1) & mask;
+        while (values[current] != null) {
+            int ideal = mix(keys[current]) & mask;
+            // Move the entry if its ideal slot does not lie cyclically within (hole, current]
+            if (((current - ideal) & mask) >= ((current - hole) & mask)) {
+                keys[hole] = keys[current];
+                values[hole] = values[current];
+                hole = current;
+            }
+            current = (current + 1) & mask;
+        }
+        values[hole] = null;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) {
+                continue;
+            }
+            int index = mix(oldKeys[i]) & mask;
+            while (values[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int minimumCapacity = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        int capacity = Integer.highestOneBit(Math.max(minimumCapacity, DEFAULT_CAPACITY) - 1) << 1;
+        return Math.max(capacity, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Spreads the bits of the given key, as packed block positions are highly clustered in their low bits
+     *
+     * @param key <p>The key to spread</p>
+     * @return <p>A well distributed hash of the key</p>
+     */
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * A consumer of primitive long keys and their values
+     *
+     * @param <V> <p>The type of the values</p>
+     */
+    @FunctionalInterface
+    public interface LongObjectConsumer<V> {
+
+        /**
+         * @param key   <p>The key of the entry</p>
+         * @param value <p>The value of the entry</p>
+         */
+        void accept(long key, V value);
+    }
+}
@@ -0,0 +1,168 @@
+package org.sgrewritten.stargate.container;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+/**
+ * A thread-safe hash map using primitive long keys, split into stripes which are locked separately
+ *
+ * <p>The caller picks the stripe of every key, so that keys which are usually accessed from the same thread end up in
+ * the same stripe. {@link #getRegionStripe(int, int)} picks stripes by region, so that the region threads of a
+ * regionized server mostly use different stripes.</p>
+ *
+ * <p>Reads are optimistic, and only take the read lock of their stripe if a write to the same stripe happened at the
+ * same time. This means reads from many threads neither block each other nor write to shared memory.</p>
+ *
+ * @param <V> <p>The type of the stored values</p>
+ */
+public class StripedLongObjectMap<V> {
+
+    private static final int STRIPE_BITS = 6;
+    private static final int STRIPE_MASK = (1 << STRIPE_BITS) - 1;
+    // The default size of a region section on Folia is 16 by 16 chunks
+    private static final int REGION_SHIFT = 4;
+
+    private final Stripe<V>[] stripes;
+
+    /**
+     * Instantiates a new empty striped long object map
+     */
+    @SuppressWarnings("unchecked")
+    public StripedLongObjectMap() {
+        stripes = new Stripe[STRIPE_MASK + 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    /**
+     * Gets the stripe of the region containing the given chunk
+     *
+     * @param chunkX <p>The x coordinate of the chunk</p>
+     * @param chunkZ <p>The z coordinate of the chunk</p>
+     * @return <p>The stripe to store the keys of the chunk in</p>
+     */
+    public static int getRegionStripe(int chunkX, int chunkZ) {
+        int hash = (chunkX >> REGION_SHIFT) * 0x9E3779B9 ^ (chunkZ >> REGION_SHIFT) * 0x85EBCA6B;
+        return (hash ^ (hash >>> 16)) & STRIPE_MASK;
+    }
+
+    /**
+     * Gets the value stored for the given key
+     *
+     * @param stripe <p>The stripe of the key</p>
+     * @param key    <p>The key to look up</p>
+     * @return <p>The stored value, or null if no value is stored for the key</p>
+     */
+    public @Nullable V get(int stripe, long key) {
+        Stripe<V> keyStripe = stripes[stripe & STRIPE_MASK];
+        long stamp = keyStripe.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                V value = keyStripe.map.get(key);
+                if (keyStripe.lock.validate(stamp)) {
+                    return value;
+                }
+            } catch (RuntimeException ignored) {
+                //The map was resized during the read, which is retried below
+            }
+        }
+        stamp = keyStripe.lock.readLock();
+        try {
+            return keyStripe.map.get(key);
+        } finally {
+            keyStripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Stores the given value for the given key
+     *
+     * @param stripe <p>The stripe of the key</p>
+     * @param key    <p>The key to store the value under</p>
+     * @param value  <p>The value to store</p>
+     * @return <p>The value previously stored for the key, or null</p>
+     */
+    public @Nullable V put(int stripe, long key, V value) {
+        Stripe<V> keyStripe = stripes[stripe & STRIPE_MASK];
+        long stamp = keyStripe.lock.writeLock();
+        try {
+            return keyStripe.map.put(key, value);
+        } finally {
+            keyStripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value stored for the given key
+     *
+     * @param stripe <p>The stripe of the key</p>
+     * @param key    <p>The key to remove</p>
+     * @return <p>The removed value, or null if no value was stored</p>
+     */
+    public @Nullable V remove(int stripe, long key) {
+        Stripe<V> keyStripe = stripes[stripe & STRIPE_MASK];
+        long stamp = keyStripe.lock.writeLock();
+        try {
+            return keyStripe.map.remove(key);
+        } finally {
+            keyStripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Runs the given writer on the map of the given stripe, while holding the write lock of the stripe
+     *
+     * @param stripe <p>The stripe to write to</p>
+     * @param writer <p>The writer to run</p>
+     * @param <R>    <p>The type of the result of the writer</p>
+     * @return <p>The result of the writer</p>
+     */
+    public <R> R write(int stripe, Function<LongObjectHashMap<V>, R> writer) {
+        Stripe<V> keyStripe = stripes[stripe & STRIPE_MASK];
+        long stamp = keyStripe.lock.writeLock();
+        try {
+            return writer.apply(keyStripe.map);
+        } finally {
+            keyStripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return <p>True if no value is stored in any stripe</p>
+     */
+    public boolean isEmpty() {
+        for (Stripe<V> stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                if (!stripe.map.isEmpty()) {
+                    return false;
+                }
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes every value stored in this map
+     */
+    public void clear() {
+        for (Stripe<V> stripe : stripes) {
+            long stamp = stripe.lock.writeLock();
+            try {
+                stripe.map.clear();
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    private static final class Stripe<V> {
+        private final StampedLock lock = new StampedLock();
+        private final LongObjectHashMap<V> map = new LongObjectHashMap<>(4);
+    }
+}
@@ -163,6 +163,13 @@ public class MySqlDatabase implements SQLDatabaseAPI {
         return builder.toString();
     }
 
+    @Override
+    public void close() {
+        if (hikariSource != null) {
+            hikariSource.close();
+        }
+    }
+
     @Override
     public DatabaseDriver getDriver() {
         return driver;
@@ -0,0 +1,212 @@
+package org.sgrewritten.stargate.database;
+
+import org.sgrewritten.stargate.api.network.portal.Portal;
+import org.sgrewritten.stargate.api.network.portal.PortalPosition;
+import org.sgrewritten.stargate.api.network.portal.RealPortal;
+import org.sgrewritten.stargate.network.StorageType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The pending storage changes of a single portal, coalesced so that only the final state of each value is written
+ *
+ * <p>Adding something which was removed earlier within the same set of changes is stored as a replacement, as the
+ * removed row might still exist in storage.</p>
+ */
+final class PortalChanges {
+
+    private final Portal portal;
+    private final StorageType storageType;
+    private final Map<PortalPosition, Change> positionChanges = new LinkedHashMap<>();
+    private final Map<PortalPosition, String> positionMetaData = new LinkedHashMap<>();
+    private final Map<Character, Change> flagChanges = new LinkedHashMap<>();
+    private boolean hasPortalMetaData = false;
+    private String portalMetaData;
+
+    /**
+     * Instantiates a new empty set of portal changes
+     *
+     * @param portal      <p>The portal the changes belong to</p>
+     * @param storageType <p>How the portal is stored</p>
+     */
+    PortalChanges(Portal portal, StorageType storageType) {
+        this.portal = portal;
+        this.storageType = storageType;
+    }
+
+    /**
+     * @return <p>The portal the changes belong to</p>
+     */
+    Portal getPortal() {
+        return portal;
+    }
+
+    /**
+     * @return <p>The portal the changes belong to, which is always a real portal if any positions have changed</p>
+     */
+    RealPortal getRealPortal() {
+        return (RealPortal) portal;
+    }
+
+    /**
+     * @return <p>How the portal is stored</p>
+     */
+    StorageType getStorageType() {
+        return storageType;
+    }
+
+    /**
+     * @return <p>The final change of each changed portal position</p>
+     */
+    Map<PortalPosition, Change> getPositionChanges() {
+        return positionChanges;
+    }
+
+    /**
+     * @return <p>The final metadata of each portal position with changed metadata</p>
+     */
+    Map<PortalPosition, String> getPositionMetaData() {
+        return positionMetaData;
+    }
+
+    /**
+     * @return <p>The final change of each changed flag</p>
+     */
+    Map<Character, Change> getFlagChanges() {
+        return flagChanges;
+    }
+
+    /**
+     * @return <p>Whether the metadata of the portal has changed</p>
+     */
+    boolean hasPortalMetaData() {
+        return hasPortalMetaData;
+    }
+
+    /**
+     * @return <p>The final metadata of the portal</p>
+     */
+    String getPortalMetaData() {
+        return portalMetaData;
+    }
+
+    /**
+     * @return <p>The amount of separate values changed</p>
+     */
+    int size() {
+        return positionChanges.size() + positionMetaData.size() + flagChanges.size() + (hasPortalMetaData ? 1 : 0);
+    }
+
+    /**
+     * Drops all changes to portal positions and flags, keeping any changed metadata
+     */
+    void clearPositionAndFlagChanges() {
+        positionChanges.clear();
+        flagChanges.clear();
+    }
+
+    /**
+     * @param portalPosition <p>The portal position added to the portal</p>
+     */
+    void addPortalPosition(PortalPosition portalPosition) {
+        recordPositionChange(portalPosition, Change.ADD);
+    }
+
+    /**
+     * @param portalPosition <p>The portal position removed from the portal</p>
+     */
+    void removePortalPosition(PortalPosition portalPosition) {
+        recordPositionChange(portalPosition, Change.REMOVE);
+        positionMetaData.remove(portalPosition);
+    }
+
+    /**
+     * @param portalPosition <p>The portal position to set the metadata of</p>
+     * @param data           <p>The new metadata</p>
+     */
+    void setPortalPositionMetaData(PortalPosition portalPosition, String data) {
+        positionMetaData.put(portalPosition, data);
+    }
+
+    /**
+     * @param flagChar <p>The character of the flag added to the portal</p>
+     */
+    void addFlag(Character flagChar) {
+        flagChanges.merge(flagChar, Change.ADD, Change::then);
+    }
+
+    /**
+     * @param flagChar <p>The character of the flag removed from the portal</p>
+     */
+    void removeFlag(Character flagChar) {
+        flagChanges.merge(flagChar, Change.REMOVE, Change::then);
+    }
+
+    /**
+     * @param data <p>The new metadata of the portal</p>
+     */
+    void setPortalMetaData(String data) {
+        hasPortalMetaData = true;
+        portalMetaData = data;
+    }
+
+    /**
+     * Records a change to the given portal position, keeping the given instance as it might have another type
+     *
+     * @param portalPosition <p>The changed portal position</p>
+     * @param change         <p>The change to the portal position</p>
+     */
+    private void recordPositionChange(PortalPosition portalPosition, Change change) {
+        Change previous = positionChanges.remove(portalPosition);
+        positionChanges.put(portalPosition, previous == null ? change : previous.then(change));
+    }
+
+    /**
+     * The final change to a stored row
+     */
+    enum Change {
+
+        /**
+         * The row should be inserted
+         */
+        ADD,
+
+        /**
+         * The row should be deleted
+         */
+        REMOVE,
+
+        /**
+         * The row should be deleted if present, and then inserted
+         */
+        REPLACE;
+
+        /**
+         * Combines this change with a later change to the same row
+         *
+         * @param later <p>The later change</p>
+         * @return <p>The combined change</p>
+         */
+        Change then(Change later) {
+            if (later == REMOVE) {
+                return REMOVE;
+            }
+            return this == ADD ? ADD : REPLACE;
+        }
+
+        /**
+         * @return <p>Whether applying this change requires deleting the row</p>
+         */
+        boolean deletes() {
+            return this != ADD;
+        }
+
+        /**
+         * @return <p>Whether applying this change requires inserting the row</p>
+         */
+        boolean inserts() {
+            return this != REMOVE;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package org.sgrewritten.stargate.database;
 
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.Nullable;
 import org.sgrewritten.stargate.Stargate;
 import org.sgrewritten.stargate.api.StargateAPI;
 import org.sgrewritten.stargate.api.config.ConfigurationOption;
@@ -17,6 +20,7 @@ import org.sgrewritten.stargate.api.network.portal.flag.PortalFlag;
 import org.sgrewritten.stargate.api.network.portal.flag.StargateFlag;
 import org.sgrewritten.stargate.config.ConfigurationHelper;
 import org.sgrewritten.stargate.config.TableNameConfiguration;
+import org.sgrewritten.stargate.container.LongObjectHashMap;
 import org.sgrewritten.stargate.database.property.StoredPropertiesAPI;
 import org.sgrewritten.stargate.database.property.StoredProperty;
 import org.sgrewritten.stargate.exception.*;
@@ -33,8 +37,11 @@ import org.sgrewritten.stargate.network.portal.GlobalPortalId;
 import org.sgrewritten.stargate.network.portal.StargatePortal;
 import org.sgrewritten.stargate.network.portal.VirtualPortal;
 import org.sgrewritten.stargate.network.portal.portaldata.PortalData;
+import org.sgrewritten.stargate.property.NonLegacyClass;
+import org.sgrewritten.stargate.thread.task.StargateGlobalTask;
 import org.sgrewritten.stargate.thread.task.StargateRegionTask;
 import org.sgrewritten.stargate.util.NetworkCreationHelper;
+import org.sgrewritten.stargate.util.VectorUtils;
 import org.sgrewritten.stargate.util.database.DatabaseHelper;
 import org.sgrewritten.stargate.util.database.PortalStorageHelper;
 import org.sgrewritten.stargate.util.portal.PortalCreationHelper;
@@ -45,6 +52,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import static javax.management.timer.Timer.ONE_WEEK;
@@ -58,7 +70,7 @@ public class SQLDatabase implements StorageAPI {
     private SQLDatabaseAPI database;
     private SQLQueryGenerator sqlQueryGenerator;
     private boolean useInterServerNetworks;
-    private final Set<String> invalidGateFormats = new HashSet<>();
+    private final Set<String> invalidGateFormats = ConcurrentHashMap.newKeySet();
 
     /**
      * Instantiates a new stargate registry
@@ -112,16 +124,58 @@ public class SQLDatabase implements StorageAPI {
                 Stargate.log(Level.FINER, "Loading portals from inter-server bungee database");
                 loadAllPortals(database, StorageType.INTER_SERVER, stargateAPI);
             }
-            if (invalidGateFormats.isEmpty()) {
-                propertiesDatabase.setProperty(StoredProperty.SCHEDULED_GATE_CLEARING, -1);
-            } else if (Long.parseLong(propertiesDatabase.getProperty(StoredProperty.SCHEDULED_GATE_CLEARING)) > System.currentTimeMillis()) {
-                propertiesDatabase.setProperty(StoredProperty.SCHEDULED_GATE_CLEARING, System.currentTimeMillis() + ONE_WEEK);
-            }
+            updateScheduledGateClearing();
         } catch (SQLException exception) {
             throw new StorageReadException(exception);
         }
     }
 
+    @Override
+    public CompletableFuture<Void> loadFromStorageAsync(StargateAPI stargateAPI, Executor executor) {
+        long startTime = System.nanoTime();
+        RegistryAPI registry = stargateAPI.getRegistry();
+        List<World> worlds = Bukkit.getWorlds();
+        List<CompletableFuture<Void>> loadingTasks = new ArrayList<>();
+        for (World world : worlds) {
+            UUID worldId = world.getUID();
+            registry.setWorldLoading(worldId, true);
+            loadingTasks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    loadPortalsInWorld(world, StorageType.LOCAL, stargateAPI, () -> registry.setWorldLoading(worldId, false));
+                } catch (StorageReadException | StorageWriteException e) {
+                    registry.setWorldLoading(worldId, false);
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+        if (useInterServerNetworks) {
+            // Inter-server portals are loaded as a whole, as the per-world query excludes virtual portals
+            loadingTasks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    loadAllPortals(database, StorageType.INTER_SERVER, stargateAPI);
+                } catch (SQLException e) {
+                    throw new CompletionException(new StorageReadException(e));
+                }
+            }, executor));
+        }
+        return CompletableFuture.allOf(loadingTasks.toArray(CompletableFuture[]::new)).thenRun(() -> {
+            updateScheduledGateClearing();
+            Stargate.log(Level.INFO, String.format("Read the portals of %d worlds in parallel in %d ms",
+                    worlds.size(), (System.nanoTime() - startTime) / 1_000_000));
+        });
+    }
+
+    /**
+     * Schedules clearing of any invalid gate formats encountered while loading, or cancels it if there are none
+     */
+    private void updateScheduledGateClearing() {
+        if (invalidGateFormats.isEmpty()) {
+            propertiesDatabase.setProperty(StoredProperty.SCHEDULED_GATE_CLEARING, -1);
+        } else if (Long.parseLong(propertiesDatabase.getProperty(StoredProperty.SCHEDULED_GATE_CLEARING)) > System.currentTimeMillis()) {
+            propertiesDatabase.setProperty(StoredProperty.SCHEDULED_GATE_CLEARING, System.currentTimeMillis() + ONE_WEEK);
+        }
+    }
+
     @Override
     public boolean savePortalToStorage(RealPortal portal) throws StorageWriteException {
         StorageType portalType = portal.getStorageType();
@@ -192,33 +246,191 @@ public class SQLDatabase implements StorageAPI {
         }
     }
 
+    /**
+     * Writes the given coalesced portal changes as JDBC batches within one transaction
+     *
+     * @param changes <p>The changes to write</p>
+     * @throws StorageWriteException <p>If unable to write the changes, in which case none of them are written</p>
+     */
+    void savePortalChanges(Collection<PortalChanges> changes) throws StorageWriteException {
+        Connection connection = null;
+        try {
+            connection = database.getConnection();
+            connection.setAutoCommit(false);
+            for (StorageType storageType : StorageType.values()) {
+                List<PortalChanges> changesOfType = changes.stream()
+                        .filter(portalChanges -> portalChanges.getStorageType() == storageType).toList();
+                if (!changesOfType.isEmpty()) {
+                    savePortalChanges(connection, changesOfType, storageType);
+                }
+            }
+            connection.commit();
+            connection.setAutoCommit(true);
+            connection.close();
+        } catch (SQLException exception) {
+            try {
+                if (connection != null) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                    connection.close();
+                }
+            } catch (SQLException e) {
+                throw new StorageWriteException(e);
+            }
+            throw new StorageWriteException(exception);
+        }
+    }
+
+    /**
+     * Adds the given portal changes to batches, and executes them in an order where deletions precede insertions
+     *
+     * @param connection  <p>The connection to execute the batches on</p>
+     * @param changes     <p>The changes to write</p>
+     * @param storageType <p>How the changed portals are stored</p>
+     * @throws SQLException <p>If unable to write the changes</p>
+     */
+    private void savePortalChanges(Connection connection, List<PortalChanges> changes, StorageType storageType) throws SQLException {
+        Set<String> knownFlags = changes.stream().anyMatch(portalChanges -> !portalChanges.getFlagChanges().isEmpty())
+                ? getKnownFlags(connection) : Set.of();
+        try (PreparedStatement removePositionStatement = sqlQueryGenerator.generateRemovePortalPositionStatement(connection, storageType);
+             PreparedStatement addPositionStatement = sqlQueryGenerator.generateAddPortalPositionStatement(connection, storageType);
+             PreparedStatement positionMetaStatement = sqlQueryGenerator.generateSetPortalPositionMeta(connection, storageType);
+             PreparedStatement portalMetaStatement = sqlQueryGenerator.generateSetPortalMetaStatement(connection, storageType);
+             PreparedStatement removeFlagStatement = sqlQueryGenerator.generateRemoveFlagStatement(connection, storageType);
+             PreparedStatement addFlagStatement = sqlQueryGenerator.generateAddPortalFlagRelationStatement(connection, storageType)) {
+            for (PortalChanges portalChanges : changes) {
+                Portal portal = portalChanges.getPortal();
+                for (Map.Entry<PortalPosition, PortalChanges.Change> positionChange : portalChanges.getPositionChanges().entrySet()) {
+                    PortalPosition portalPosition = positionChange.getKey();
+                    if (positionChange.getValue().deletes()) {
+                        removePositionStatement.setString(1, portal.getName());
+                        removePositionStatement.setString(2, portal.getNetwork().getId());
+                        setRelativePosition(removePositionStatement, 3, portalPosition);
+                        removePositionStatement.addBatch();
+                    }
+                    if (positionChange.getValue().inserts()) {
+                        PortalStorageHelper.setPortalPositionParameters(addPositionStatement, portalChanges.getRealPortal(), portalPosition);
+                        addPositionStatement.addBatch();
+                    }
+                }
+                for (Map.Entry<PortalPosition, String> positionMetaData : portalChanges.getPositionMetaData().entrySet()) {
+                    positionMetaStatement.setString(1, positionMetaData.getValue());
+                    positionMetaStatement.setString(2, portal.getName());
+                    positionMetaStatement.setString(3, portal.getNetwork().getId());
+                    setRelativePosition(positionMetaStatement, 4, positionMetaData.getKey());
+                    positionMetaStatement.addBatch();
+                }
+                if (portalChanges.hasPortalMetaData()) {
+                    portalMetaStatement.setString(1, portalChanges.getPortalMetaData());
+                    portalMetaStatement.setString(2, portal.getName());
+                    portalMetaStatement.setString(3, portal.getNetwork().getId());
+                    portalMetaStatement.addBatch();
+                }
+                for (Map.Entry<Character, PortalChanges.Change> flagChange : portalChanges.getFlagChanges().entrySet()) {
+                    String flagString = String.valueOf(flagChange.getKey());
+                    if (flagChange.getValue().deletes()) {
+                        removeFlagStatement.setString(1, portal.getName());
+                        removeFlagStatement.setString(2, portal.getNetwork().getName());
+                        removeFlagStatement.setString(3, flagString);
+                        removeFlagStatement.addBatch();
+                    }
+                    // Matches addFlag, which only stores the relation for flags missing from the flag table
+                    if (flagChange.getValue().inserts() && !knownFlags.contains(flagString)) {
+                        addFlagStatement.setString(1, portal.getName());
+                        addFlagStatement.setString(2, portal.getNetwork().getId());
+                        addFlagStatement.setString(3, flagString);
+                        addFlagStatement.addBatch();
+                    }
+                }
+            }
+            removePositionStatement.executeBatch();
+            addPositionStatement.executeBatch();
+            positionMetaStatement.executeBatch();
+            portalMetaStatement.executeBatch();
+            removeFlagStatement.executeBatch();
+            addFlagStatement.executeBatch();
+        }
+    }
+
+    /**
+     * Sets the x, y and negated z coordinates of the given portal position as three consecutive parameters
+     *
+     * @param statement      <p>The statement to set the parameters of</p>
+     * @param firstIndex     <p>The index of the first parameter</p>
+     * @param portalPosition <p>The portal position to get the coordinates of</p>
+     * @throws SQLException <p>If unable to set the parameters</p>
+     */
+    private static void setRelativePosition(PreparedStatement statement, int firstIndex, PortalPosition portalPosition) throws SQLException {
+        BlockVector positionLocation = portalPosition.getRelativePositionLocation();
+        statement.setInt(firstIndex, positionLocation.getBlockX());
+        statement.setInt(firstIndex + 1, positionLocation.getBlockY());
+        statement.setInt(firstIndex + 2, -positionLocation.getBlockZ());
+    }
+
+    /**
+     * Gets the characters of all flags stored in the flag table
+     *
+     * @param connection <p>The connection to use</p>
+     * @return <p>The characters of all stored flags</p>
+     * @throws SQLException <p>If unable to read the flag table</p>
+     */
+    private Set<String> getKnownFlags(Connection connection) throws SQLException {
+        Set<String> knownFlags = new HashSet<>();
+        try (PreparedStatement statement = sqlQueryGenerator.generateGetAllFlagsStatement(connection)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                knownFlags.add(resultSet.getString("character"));
+            }
+        }
+        return knownFlags;
+    }
+
     /**
      * Loads all portals from the given database of the given portal type into the given registry
      *
+     * <p>Portals, their flags and their positions are read using two bulk queries on a single connection, instead of
+     * one position query for each loaded portal.</p>
+     *
      * @param database    <p>The database to load from</p>
      * @param portalType  <p>The portal type to load</p>
      * @param stargateAPI <p>The stargate registry</p>
      * @throws SQLException <p>If an SQL error occurs</p>
      */
     private void loadAllPortals(SQLDatabaseAPI database, StorageType portalType, StargateAPI stargateAPI) throws SQLException {
+        long startTime = System.nanoTime();
         PortalLoadData portalLoadData;
+        Map<String, Map<String, List<PortalPosition>>> portalPositions;
         try (Connection connection = database.getConnection()) {
-            PreparedStatement statement = sqlQueryGenerator.generateGetAllPortalsStatement(connection, portalType);
-
-            ResultSet resultSet = statement.executeQuery();
-            portalLoadData = loadPortalsInQuery(resultSet, portalType);
-            statement.close();
+            try (PreparedStatement statement = sqlQueryGenerator.generateGetAllPortalsStatement(connection, portalType)) {
+                portalLoadData = loadPortalsInQuery(statement.executeQuery(), portalType);
+            }
+            try (PreparedStatement statement = sqlQueryGenerator.generateGetAllPortalPositionsStatement(connection, portalType)) {
+                portalPositions = loadPortalPositionsInQuery(statement.executeQuery());
+            }
         }
+        int queryCount = 2 + handleInvalidGateFormats(portalLoadData.invalidGates, portalType);
+        loadPortals(portalLoadData.loadedPortals, portalPositions, stargateAPI, null);
+        Stargate.log(Level.INFO, String.format("Read %d %s portals using %d queries in %d ms",
+                portalLoadData.loadedPortals.size(), portalType == StorageType.LOCAL ? "local" : "inter-server",
+                queryCount, (System.nanoTime() - startTime) / 1_000_000));
+    }
+
+    /**
+     * Removes the given invalid gate formats if their clearing is scheduled, or schedules them for clearing otherwise
+     *
+     * @param invalidGates <p>The file names of the invalid gate formats</p>
+     * @param portalType   <p>The type of the portals using the gate formats</p>
+     * @return <p>The amount of queries executed</p>
+     * @throws SQLException <p>If unable to remove the gate formats</p>
+     */
+    private int handleInvalidGateFormats(Collection<String> invalidGates, StorageType portalType) throws SQLException {
         String scheduledGateFormatClearing = propertiesDatabase.getProperty(StoredProperty.SCHEDULED_GATE_CLEARING);
         if (scheduledGateFormatClearing != null && Long.parseLong(scheduledGateFormatClearing) > System.currentTimeMillis()) {
-            removeGateFormats(portalLoadData.invalidGates, portalType);
-        } else {
-            invalidGateFormats.addAll(portalLoadData.invalidGates);
-        }
-
-        for (PortalData portalData : portalLoadData.loadedPortals) {
-            loadPortal(portalData, stargateAPI);
+            removeGateFormats(invalidGates, portalType);
+            return invalidGates.size();
         }
+        invalidGateFormats.addAll(invalidGates);
+        return 0;
     }
 
     private PortalLoadData loadPortalsInQuery(ResultSet resultSet, StorageType portalType) throws SQLException {
@@ -239,6 +451,23 @@ public class SQLDatabase implements StorageAPI {
         return new PortalLoadData(portalDataList, worldsToRemove, gateFormatsToRemove);
     }
 
+    /**
+     * Groups the portal positions in the given result set by network and portal name
+     *
+     * @param resultSet <p>The result set of a portal position query</p>
+     * @return <p>The loaded portal positions, by portal name, by network name</p>
+     * @throws SQLException <p>If unable to read the result set</p>
+     */
+    private Map<String, Map<String, List<PortalPosition>>> loadPortalPositionsInQuery(ResultSet resultSet) throws SQLException {
+        Map<String, Map<String, List<PortalPosition>>> portalPositions = new HashMap<>();
+        while (resultSet.next()) {
+            portalPositions.computeIfAbsent(resultSet.getString("networkName"), key -> new HashMap<>())
+                    .computeIfAbsent(resultSet.getString("portalName"), key -> new ArrayList<>())
+                    .add(PortalStorageHelper.loadPortalPosition(resultSet));
+        }
+        return portalPositions;
+    }
+
     private void removeGateFormats(Collection<String> gateFormatsToRemove, StorageType storageType) throws SQLException {
         try (Connection connection = database.getConnection()) {
             for (String gateFormat : gateFormatsToRemove) {
@@ -250,49 +479,138 @@ public class SQLDatabase implements StorageAPI {
     }
 
     /**
-     * Loads one portal from the given result set into the given registry
+     * Loads the given portals, registering the gates of all portals within the same chunk in one region task
      *
-     * @param stargateAPI <p>The stargate API</p>
-     * @throws SQLException <p>If an SQL error occurs</p>
+     * <p>Networks and virtual portals are resolved on the global thread (Folia) or on the main thread (paper), as
+     * creating, renaming and adding to networks is not safe from the threads portals of different worlds are read
+     * on.</p>
+     *
+     * @param portals         <p>The data of the portals to load</p>
+     * @param portalPositions <p>The portal positions of the portals, by portal name, by network name</p>
+     * @param stargateAPI     <p>The stargate API</p>
+     * @param onRegistered    <p>A callback to run once all gates have been registered, or null</p>
      */
-    private void loadPortal(PortalData portalData, StargateAPI stargateAPI) throws SQLException {
-        if (portalData == null) {
+    private void loadPortals(Collection<PortalData> portals, Map<String, Map<String, List<PortalPosition>>> portalPositions,
+                             StargateAPI stargateAPI, @Nullable Runnable onRegistered) {
+        if (!NonLegacyClass.REGIONIZED_SERVER.isImplemented() && Bukkit.isPrimaryThread()) {
+            registerPortals(portals, portalPositions, stargateAPI, onRegistered);
             return;
         }
+        new StargateGlobalTask() {
+            @Override
+            public void run() {
+                registerPortals(portals, portalPositions, stargateAPI, onRegistered);
+            }
+        }.runNow();
+    }
+
+    /**
+     * Resolves the networks of the given portals, and schedules the registration of their gates
+     *
+     * <p>Must run on the global thread (Folia) or on the main thread (paper).</p>
+     *
+     * @param portals         <p>The data of the portals to load</p>
+     * @param portalPositions <p>The portal positions of the portals, by portal name, by network name</p>
+     * @param stargateAPI     <p>The stargate API</p>
+     * @param onRegistered    <p>A callback to run once all gates have been registered, or null</p>
+     */
+    private void registerPortals(Collection<PortalData> portals, Map<String, Map<String, List<PortalPosition>>> portalPositions,
+                                 StargateAPI stargateAPI, @Nullable Runnable onRegistered) {
+        Map<UUID, LongObjectHashMap<List<PortalRegistration>>> regionBatches = new HashMap<>();
+        List<List<PortalRegistration>> batches = new ArrayList<>();
+        for (PortalData portalData : portals) {
+            PortalRegistration registration = loadPortal(portalData, portalPositions, stargateAPI);
+            if (registration == null) {
+                continue;
+            }
+            Location topLeft = portalData.gateData().topLeft();
+            long chunkKey = VectorUtils.packChunkPosition(topLeft.getBlockX() >> 4, topLeft.getBlockZ() >> 4);
+            regionBatches.computeIfAbsent(topLeft.getWorld().getUID(), key -> new LongObjectHashMap<>())
+                    .computeIfAbsent(chunkKey, key -> {
+                        List<PortalRegistration> batch = new ArrayList<>();
+                        batches.add(batch);
+                        return batch;
+                    }).add(registration);
+        }
+        Stargate.log(Level.FINE, "Registering the gates of %d portals in %d region batches", portals.size(),
+                batches.size());
+
+        if (batches.isEmpty() && onRegistered != null) {
+            onRegistered.run();
+        }
+        AtomicInteger remainingBatches = new AtomicInteger(batches.size());
+        for (List<PortalRegistration> batch : batches) {
+            new StargateRegionTask(batch.get(0).portalData().gateData().topLeft()) {
+                @Override
+                public void run() {
+                    try {
+                        for (PortalRegistration registration : batch) {
+                            registerPortalGate(registration, stargateAPI);
+                        }
+                    } finally {
+                        if (remainingBatches.decrementAndGet() == 0 && onRegistered != null) {
+                            onRegistered.run();
+                        }
+                    }
+                }
+            }.runNow();
+        }
+    }
+
+    /**
+     * Loads one portal, registering it directly if virtual
+     *
+     * @param portalData      <p>The data of the portal to load</p>
+     * @param portalPositions <p>The portal positions of all loaded portals, by portal name, by network name</p>
+     * @param stargateAPI     <p>The stargate API</p>
+     * @return <p>The registration of the portal's gate, or null if no gate needs to be registered</p>
+     */
+    private @Nullable PortalRegistration loadPortal(PortalData portalData, Map<String, Map<String, List<PortalPosition>>> portalPositions,
+                                                    StargateAPI stargateAPI) {
+        if (portalData == null) {
+            return null;
+        }
 
         Network network = getNetwork(portalData, stargateAPI.getRegistry(), stargateAPI.getNetworkManager());
         if (network == null) {
             Stargate.log(Level.WARNING, "Unable to get network " + portalData.networkName());
-            return;
+            return null;
         }
 
         //If the loaded portal is virtual, register it to the network, and not as a normal one
         if (registerVirtualPortal(portalData.portalType(), portalData, network)) {
-            return;
+            return null;
         }
 
         if (portalData.destination() == null || portalData.destination().trim().isEmpty()) {
             portalData.flags().add(StargateFlag.NETWORKED);
         }
 
-        final List<PortalPosition> portalPositions = getPortalPositions(portalData, portalData.flags().contains(PortalFlag.LEGACY_INTERSERVER) ? portalData.networkName() : network.getId());
+        return new PortalRegistration(portalData, network, getPortalPositions(portalPositions, network, portalData));
+    }
 
-        //Actually register the gate and its positions
-        new StargateRegionTask(portalData.gateData().topLeft()) {
-            @Override
-            public void run() {
-                try {
-                    registerPortalGate(portalData, network, stargateAPI, portalPositions);
-                } catch (TranslatableException e) {
-                    Stargate.log(e);
-                } catch (InvalidStructureException e) {
-                    Stargate.log(Level.WARNING, String.format(
-                            "The portal %s in %snetwork %s located at %s is in an invalid state, and could therefore not be recreated",
-                            portalData.name(), (portalData.portalType() == StorageType.INTER_SERVER ? "inter-server-" : ""), portalData.networkName(),
-                            portalData.gateData().topLeft()));
-                }
-            }
-        }.runNow();
+    /**
+     * Registers the gate of a loaded portal, logging any failure
+     *
+     * @param registration <p>The registration of the portal's gate</p>
+     * @param stargateAPI  <p>The stargate API</p>
+     */
+    private void registerPortalGate(PortalRegistration registration, StargateAPI stargateAPI) {
+        PortalData portalData = registration.portalData();
+        try {
+            registerPortalGate(portalData, registration.network(), stargateAPI, registration.portalPositions());
+        } catch (TranslatableException e) {
+            Stargate.log(e);
+        } catch (InvalidStructureException e) {
+            Stargate.log(Level.WARNING, String.format(
+                    "The portal %s in %snetwork %s located at %s is in an invalid state, and could therefore not be recreated",
+                    portalData.name(), (portalData.portalType() == StorageType.INTER_SERVER ? "inter-server-" : ""), portalData.networkName(),
+                    portalData.gateData().topLeft()));
+        } catch (RuntimeException e) {
+            Stargate.log(Level.WARNING, String.format("Unable to register the portal %s in network %s located at %s",
+                    portalData.name(), portalData.networkName(), portalData.gateData().topLeft()));
+            Stargate.log(e);
+        }
     }
 
     /**
@@ -311,7 +629,8 @@ public class SQLDatabase implements StorageAPI {
 
         gate.addPortalPositions(portalPositions);
         RealPortal portal = PortalCreationHelper.createPortal(network, portalData, gate, stargateAPI);
-        if (!PortalHelper.portalValidityCheck(portal, stargateAPI.getNetworkManager())) {
+        boolean deferValidation = ConfigurationHelper.getBoolean(ConfigurationOption.DEFER_PORTAL_VALIDATION);
+        if (!deferValidation && !PortalHelper.portalValidityCheck(portal, stargateAPI.getNetworkManager())) {
             return;
         }
         if (portal instanceof StargatePortal stargatePortal) {
@@ -322,7 +641,11 @@ public class SQLDatabase implements StorageAPI {
         StargatePortalLoadEvent event = new StargatePortalLoadEvent(portal);
         Bukkit.getPluginManager().callEvent(event);
 
-        Stargate.log(Level.FINEST, "Added as normal portal: " + network.getId() + ":" + portal.getName());
+        Stargate.log(Level.FINEST, "Added as normal portal: %s:%s", network.getId(), portal.getName());
+        //Validating the gate reads its blocks, so wait for its chunks to load instead of loading them
+        if (deferValidation) {
+            PortalHelper.registeredPortalValidityCheck(portal, stargateAPI);
+        }
     }
 
     /**
@@ -362,8 +685,8 @@ public class SQLDatabase implements StorageAPI {
         if (portalData.flags().contains(StargateFlag.LEGACY_INTERSERVER)) {
             targetNetwork = ConfigurationHelper.getString(ConfigurationOption.LEGACY_BUNGEE_NETWORK);
         }
-        Stargate.log(Level.FINEST,
-                "Trying to add portal " + portalData.name() + ", on network " + targetNetwork + ",storageType = " + storageType);
+        Stargate.log(Level.FINEST, "Trying to add portal %s, on network %s,storageType = %s", portalData.name(),
+                targetNetwork, storageType);
         try {
             boolean isForced = portalData.flags().contains(StargateFlag.DEFAULT_NETWORK);
             Network network = networkManager.createNetwork(targetNetwork, portalData.flags(), isForced);
@@ -384,25 +707,19 @@ public class SQLDatabase implements StorageAPI {
     /**
      * Gets all portal positions for the given portal
      *
-     * @param portalData <p>The portal data to use for the query</p>
-     * @param id
+     * <p>Positions are stored under the id of the portal's network, except for legacy inter-server portals, which
+     * store them under the name of the network they were created in.</p>
+     *
+     * @param portalPositions <p>The portal positions of all loaded portals, by portal name, by network name</p>
+     * @param network         <p>The network the portal belongs to</p>
+     * @param portalData      <p>The data of the portal to get positions for</p>
      * @return <p>The portal positions belonging to the portal</p>
-     * @throws SQLException <p>If the SQL query fails to successfully execute</p>
      */
-    private List<PortalPosition> getPortalPositions(PortalData portalData, String id) throws SQLException {
-        Connection connection = database.getConnection();
-        PreparedStatement statement = sqlQueryGenerator.generateGetPortalPositionsStatement(connection, portalData.portalType());
-        statement.setString(1, id);
-        statement.setString(2, portalData.name());
-
-        List<PortalPosition> portalPositions = new ArrayList<>();
-        ResultSet resultSet = statement.executeQuery();
-        while (resultSet.next()) {
-            portalPositions.add(PortalStorageHelper.loadPortalPosition(resultSet));
-        }
-        statement.close();
-        connection.close();
-        return portalPositions;
+    private List<PortalPosition> getPortalPositions(Map<String, Map<String, List<PortalPosition>>> portalPositions,
+                                                    Network network, PortalData portalData) {
+        String networkId = portalData.flags().contains(PortalFlag.LEGACY_INTERSERVER) ? portalData.networkName() : network.getId();
+        Map<String, List<PortalPosition>> networkPositions = portalPositions.getOrDefault(networkId, Map.of());
+        return new ArrayList<>(networkPositions.getOrDefault(portalData.name(), List.of()));
     }
 
     /**
@@ -432,7 +749,7 @@ public class SQLDatabase implements StorageAPI {
     }
 
     private void addFlag(PreparedStatement addFlagStatement, Portal portal, Character flagCharacter) throws SQLException {
-        Stargate.log(Level.FINER, "Adding flag " + flagCharacter + " to portal: " + portal);
+        Stargate.log(Level.FINER, "Adding flag %s to portal: %s", flagCharacter, portal);
         addFlagStatement.setString(1, portal.getName());
         addFlagStatement.setString(2, portal.getNetwork().getId());
         addFlagStatement.setString(3, String.valueOf(flagCharacter));
@@ -650,36 +967,53 @@ public class SQLDatabase implements StorageAPI {
 
     @Override
     public void loadPortalsInWorld(World world, StorageType storageType, StargateAPI stargateAPI) throws StorageReadException, StorageWriteException {
+        //Only redraw the networks which gained portals in the loaded world
+        loadPortalsInWorld(world, storageType, stargateAPI, () -> stargateAPI.getRegistry()
+                .getPortalsInWorld(world.getUID()).stream()
+                .map(Portal::getNetwork)
+                .distinct()
+                .forEach(Network::updatePortals));
+    }
+
+    /**
+     * Loads all portals in the given world
+     *
+     * @param world        <p>The world to load portals from</p>
+     * @param storageType  <p>The type of portals to load</p>
+     * @param stargateAPI  <p>The stargate API</p>
+     * @param onRegistered <p>A callback to run once all gates have been registered, or null</p>
+     * @throws StorageReadException  <p>If unable to read from storage</p>
+     * @throws StorageWriteException <p>If unable to remove invalid gate formats</p>
+     */
+    private void loadPortalsInWorld(World world, StorageType storageType, StargateAPI stargateAPI, @Nullable Runnable onRegistered)
+            throws StorageReadException, StorageWriteException {
         PortalLoadData portalLoadData;
+        Map<String, Map<String, List<PortalPosition>>> portalPositions;
         try (Connection connection = database.getConnection()) {
-            ResultSet resultSet = sqlQueryGenerator.generateLoadPortalsInWorldStatement(connection, world, storageType).executeQuery();
-            portalLoadData = loadPortalsInQuery(resultSet, storageType);
+            try (PreparedStatement statement = sqlQueryGenerator.generateLoadPortalsInWorldStatement(connection, world, storageType)) {
+                portalLoadData = loadPortalsInQuery(statement.executeQuery(), storageType);
+            }
+            try (PreparedStatement statement = sqlQueryGenerator.generateGetAllPortalPositionsInWorldStatement(connection, world, storageType)) {
+                portalPositions = loadPortalPositionsInQuery(statement.executeQuery());
+            }
         } catch (SQLException e) {
             throw new StorageReadException(e);
         }
 
-        String scheduledGateFormatClearing = propertiesDatabase.getProperty(StoredProperty.SCHEDULED_GATE_CLEARING);
-        if (scheduledGateFormatClearing != null && Long.parseLong(scheduledGateFormatClearing) > System.currentTimeMillis()) {
-            try {
-                removeGateFormats(portalLoadData.invalidGates, storageType);
-            } catch (SQLException e) {
-                throw new StorageWriteException(e);
-            }
-        } else {
-            invalidGateFormats.addAll(portalLoadData.invalidGates);
-        }
-
-        for (PortalData portalData : portalLoadData.loadedPortals) {
-            try {
-                loadPortal(portalData, stargateAPI);
-            } catch (SQLException e) {
-                throw new StorageReadException(e);
-            }
+        try {
+            handleInvalidGateFormats(portalLoadData.invalidGates, storageType);
+        } catch (SQLException e) {
+            throw new StorageWriteException(e);
         }
+        loadPortals(portalLoadData.loadedPortals, portalPositions, stargateAPI, onRegistered);
     }
 
     private record PortalLoadData(Collection<PortalData> loadedPortals, Collection<String> invalidWorlds,
                                   Collection<String> invalidGates) {
 
     }
+
+    private record PortalRegistration(PortalData portalData, Network network, List<PortalPosition> portalPositions) {
+
+    }
 }
@@ -21,4 +21,10 @@ public interface SQLDatabaseAPI {
      */
     DatabaseDriver getDriver();
 
+    /**
+     * Closes any connections kept open by this database
+     */
+    default void close() {
+    }
+
 }
@@ -105,6 +105,26 @@ public enum SQLQuery {
      */
     GET_INTER_PORTAL_POSITIONS,
 
+    /**
+     * The query for getting the portal positions of every portal
+     */
+    GET_ALL_PORTAL_POSITIONS,
+
+    /**
+     * The query for getting the inter-portal positions of every inter-portal
+     */
+    GET_ALL_INTER_PORTAL_POSITIONS,
+
+    /**
+     * The query for getting the portal positions of every portal in a world
+     */
+    GET_ALL_PORTAL_POSITIONS_IN_WORLD,
+
+    /**
+     * The query for getting the inter-portal positions of every inter-portal in a world
+     */
+    GET_ALL_INTER_PORTAL_POSITIONS_IN_WORLD,
+
     /**
      * The query for inserting a new portal position type
      */
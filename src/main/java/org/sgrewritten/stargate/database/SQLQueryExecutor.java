@@ -42,7 +42,7 @@ public class SQLQueryExecutor {
         PreparedStatement flagStatement = queryGenerator.generateAddPortalFlagRelationStatement(connection, type);
         for (StargateFlag flag : flags) {
             char flagCharacter = flag.getCharacterRepresentation();
-            Stargate.log(Level.FINER, "Adding flag " + flagCharacter + " to portal: " + globalPortalId);
+            Stargate.log(Level.FINER, "Adding flag %s to portal: %s", flagCharacter, globalPortalId);
             flagStatement.setString(1, globalPortalId.portalId());
             flagStatement.setString(2, globalPortalId.networkId());
             flagStatement.setString(3, String.valueOf(flagCharacter));
@@ -44,9 +44,9 @@ public class SQLQueryGenerator {
      */
     public PreparedStatement generateGetAllPortalsStatement(Connection connection, StorageType portalType) throws SQLException {
         if (portalType == StorageType.LOCAL) {
-            return prepareQuery(connection, getQuery(SQLQuery.GET_ALL_PORTALS));
+            return prepareQuery(connection, SQLQuery.GET_ALL_PORTALS);
         } else {
-            return prepareQuery(connection, getQuery(SQLQuery.GET_ALL_INTER_PORTALS));
+            return prepareQuery(connection, SQLQuery.GET_ALL_INTER_PORTALS);
         }
     }
 
@@ -58,7 +58,7 @@ public class SQLQueryGenerator {
      * @throws SQLException <p>If unable to prepare the statement</p>
      */
     public PreparedStatement generateGetAllFlagsStatement(Connection connection) throws SQLException {
-        return prepareQuery(connection, getQuery(SQLQuery.GET_ALL_PORTAL_FLAGS));
+        return prepareQuery(connection, SQLQuery.GET_ALL_PORTAL_FLAGS);
     }
 
     /**
@@ -69,7 +69,7 @@ public class SQLQueryGenerator {
      * @throws SQLException <p>If unable to prepare the statement</p>
      */
     public PreparedStatement generateUpdateLastKnownNameStatement(Connection connection) throws SQLException {
-        return prepareQuery(connection, getQuery(SQLQuery.REPLACE_LAST_KNOWN_NAME));
+        return prepareQuery(connection, SQLQuery.REPLACE_LAST_KNOWN_NAME);
     }
 
     /**
@@ -82,9 +82,9 @@ public class SQLQueryGenerator {
      */
     public PreparedStatement generateCreatePortalTableStatement(Connection connection, StorageType portalType) throws SQLException {
         if (portalType == StorageType.LOCAL) {
-            return prepareQuery(connection, getQuery(SQLQuery.CREATE_TABLE_PORTAL));
+            return prepareQuery(connection, SQLQuery.CREATE_TABLE_PORTAL);
         } else {
-            return prepareQuery(connection, getQuery(SQLQuery.CREATE_TABLE_INTER_PORTAL));
+            return prepareQuery(connection, SQLQuery.CREATE_TABLE_INTER_PORTAL);
         }
     }
 
@@ -96,7 +96,7 @@ public class SQLQueryGenerator {
      * @throws SQLException <p>If unable to prepare the statement</p>
      */
     public PreparedStatement generateCreatePortalPositionTypeTableStatement(Connection connection) throws SQLException {
-        return prepareQuery(connection, getQuery(SQLQuery.CREATE_TABLE_PORTAL_POSITION_TYPE));
+        return prepareQuery(connection, SQLQuery.CREATE_TABLE_PORTAL_POSITION_TYPE);
     }
 
     /**
@@ -107,7 +107,7 @@ public class SQLQueryGenerator {
      * @throws SQLException <p>If unable to prepare the statement</p>
      */
     public PreparedStatement generateAddPortalPositionTypeStatement(Connection connection) throws SQLException {
-        return prepareQuery(connection, getQuery(SQLQuery.INSERT_PORTAL_POSITION_TYPE));
+        return prepareQuery(connection, SQLQuery.INSERT_PORTAL_POSITION_TYPE);
     }
 
     /**
@@ -118,7 +118,7 @@ public class SQLQueryGenerator {
      * @throws SQLException <p>If unable to prepare the statement</p>
      */
     public PreparedStatement generateGetAllPortalPositionTypesStatement(Connection connection) throws SQLException {
-        return prepareQuery(connection, getQuery(SQLQuery.GET_ALL_PORTAL_POSITION_TYPES));
+        return prepareQuery(connection, SQLQuery.GET_ALL_PORTAL_POSITION_TYPES);
     }
 
     /**
@@ -131,9 +131,9 @@ public class SQLQueryGenerator {
      */
     public PreparedStatement generateCreatePortalPositionTableStatement(Connection connection, StorageType portalType) throws SQLException {
         if (portalType == StorageType.LOCAL) {
-            return prepareQuery(connection, getQuery(SQLQuery.CREATE_TABLE_PORTAL_POSITION));
+            return prepareQuery(connection, SQLQuery.CREATE_TABLE_PORTAL_POSITION);
         } else {
-            return prepareQuery(connection, getQuery(SQLQuery.CREATE_TABLE_INTER_PORTAL_POSITION));
+            return prepareQuery(connection, SQLQuery.CREATE_TABLE_INTER_PORTAL_POSITION);
         }
     }
 
@@ -154,9 +154,9 @@ public class SQLQueryGenerator {
         }
 
         if (portalType == StorageType.LOCAL) {
-            return prepareQuery(connection, getQuery(SQLQuery.CREATE_INDEX_PORTAL_POSITION));
+            return prepareQuery(connection, SQLQuery.CREATE_INDEX_PORTAL_POSITION);
         } else {
-            return prepareQuery(connection, getQuery(SQLQuery.CREATE_INDEX_INTER_PORTAL_POSITION));
+            return prepareQuery(connection, SQLQuery.CREATE_INDEX_INTER_PORTAL_POSITION);
         }
     }
 
@@ -171,9 +171,9 @@ public class SQLQueryGenerator {
      */
     public PreparedStatement generateAddPortalPositionStatement(Connection connection, StorageType portalType) throws SQLException {
         if (portalType == StorageType.LOCAL) {
-            return prepareQuery(connection, getQuery(SQLQuery.INSERT_PORTAL_POSITION));
+            return prepareQuery(connection, SQLQuery.INSERT_PORTAL_POSITION);
         } else {
-            return prepareQuery(connection, getQuery(SQLQuery.INSERT_INTER_PORTAL_POSITION));
+            return prepareQuery(connection, SQLQuery.INSERT_INTER_PORTAL_POSITION);
         }
     }
 
@@ -189,9 +189,9 @@ public class SQLQueryGenerator {
     public PreparedStatement generateRemovePortalPositionsStatement(Connection connection, StorageType portalType, Portal portal) throws SQLException {
         PreparedStatement removePositionsStatement;
         if (portalType == StorageType.LOCAL) {
-            removePositionsStatement = prepareQuery(connection, getQuery(SQLQuery.DELETE_PORTAL_POSITIONS));
+            removePositionsStatement = prepareQuery(connection, SQLQuery.DELETE_PORTAL_POSITIONS);
         } else {
-            removePositionsStatement = prepareQuery(connection, getQuery(SQLQuery.DELETE_INTER_PORTAL_POSITIONS));
+            removePositionsStatement = prepareQuery(connection, SQLQuery.DELETE_INTER_PORTAL_POSITIONS);
         }
         removePositionsStatement.setString(1, portal.getName());
         removePositionsStatement.setString(2, portal.getNetwork().getId());
@@ -201,9 +201,9 @@ public class SQLQueryGenerator {
     public PreparedStatement generateRemovePortalPositionStatement(Connection connection, StorageType portalType, Portal portal, PortalPosition portalPosition) throws SQLException {
         PreparedStatement removePositionsStatement;
         if (portalType == StorageType.LOCAL) {
-            removePositionsStatement = prepareQuery(connection, getQuery(SQLQuery.DELETE_PORTAL_POSITION));
+            removePositionsStatement = prepareQuery(connection, SQLQuery.DELETE_PORTAL_POSITION);
         } else {
-            removePositionsStatement = prepareQuery(connection, getQuery(SQLQuery.DELETE_INTER_PORTAL_POSITION));
+            removePositionsStatement = prepareQuery(connection, SQLQuery.DELETE_INTER_PORTAL_POSITION);
         }
         removePositionsStatement.setString(1, portal.getName());
         removePositionsStatement.setString(2, portal.getNetwork().getId());
@@ -214,6 +214,24 @@ public class SQLQueryGenerator {
         return removePositionsStatement;
     }
 
+    /**
+     * Gets a prepared statement for removing a position, without setting any parameters
+     *
+     * <p>Parameters are, in order: portal name, network id and the x, y and negated z coordinates of the position.</p>
+     *
+     * @param connection <p>The database connection to use</p>
+     * @param portalType <p>The type of the portal (used to determine which table to remove from)</p>
+     * @return <p>A prepared statement</p>
+     * @throws SQLException <p>If unable to prepare the statement</p>
+     */
+    public PreparedStatement generateRemovePortalPositionStatement(Connection connection, StorageType portalType) throws SQLException {
+        if (portalType == StorageType.LOCAL) {
+            return prepareQuery(connection, SQLQuery.DELETE_PORTAL_POSITION);
+        } else {
+            return prepareQuery(connection, SQLQuery.DELETE_INTER_PORTAL_POSITION);
+        }
+    }
+
     /**
      * Gets a prepared statement for getting all portal positions for one portal
      *
@@ -224,10 +242,47 @@ public class SQLQueryGenerator {
      */
     public PreparedStatement generateGetPortalPositionsStatement(Connection connection, StorageType portalType) throws SQLException {
         if (portalType == StorageType.LOCAL) {
-            return prepareQuery(connection, getQuery(SQLQuery.GET_PORTAL_POSITIONS));
+            return prepareQuery(connection, SQLQuery.GET_PORTAL_POSITIONS);
+        } else {
+            return prepareQuery(connection, SQLQuery.GET_INTER_PORTAL_POSITIONS);
+        }
+    }
+
+    /**
+     * Gets a prepared statement for getting the portal positions of every portal in a table
+     *
+     * @param connection <p>The database connection to use</p>
+     * @param portalType <p>The type of the portal (used to determine which table to select from)</p>
+     * @return <p>A prepared statement</p>
+     * @throws SQLException <p>If unable to prepare the statement</p>
+     */
+    public PreparedStatement generateGetAllPortalPositionsStatement(Connection connection, StorageType portalType) throws SQLException {
+        if (portalType == StorageType.LOCAL) {
+            return prepareQuery(connection, SQLQuery.GET_ALL_PORTAL_POSITIONS);
+        } else {
+            return prepareQuery(connection, SQLQuery.GET_ALL_INTER_PORTAL_POSITIONS);
+        }
+    }
+
+    /**
+     * Gets a prepared statement for getting the portal positions of every portal in a world
+     *
+     * @param connection  <p>The database connection to use</p>
+     * @param world       <p>The world to get portal positions from</p>
+     * @param storageType <p>The type of the portal (used to determine which table to select from)</p>
+     * @return <p>A prepared statement</p>
+     * @throws SQLException <p>If unable to prepare the statement</p>
+     */
+    public PreparedStatement generateGetAllPortalPositionsInWorldStatement(Connection connection, World world, StorageType storageType) throws SQLException {
+        PreparedStatement statement;
+        if (storageType == StorageType.LOCAL) {
+            statement = prepareQuery(connection, SQLQuery.GET_ALL_PORTAL_POSITIONS_IN_WORLD);
         } else {
-            return prepareQuery(connection, getQuery(SQLQuery.GET_INTER_PORTAL_POSITIONS));
+            statement = prepareQuery(connection, SQLQuery.GET_ALL_INTER_PORTAL_POSITIONS_IN_WORLD);
+            statement.setString(2, Stargate.getServerUUID());
         }
+        statement.setString(1, world.getUID().toString());
+        return statement;
     }
 
     /**
@@ -238,7 +293,7 @@ public class SQLQueryGenerator {
      * @throws SQLException <p>If unable to prepare the statement</p>
      */
     public PreparedStatement generateCreateFlagTableStatement(Connection connection) throws SQLException {
-        return prepareQuery(connection, getQuery(SQLQuery.CREATE_TABLE_PORTAL_FLAG));
+        return prepareQuery(connection, SQLQuery.CREATE_TABLE_PORTAL_FLAG);
     }
 
     /**
@@ -249,7 +304,7 @@ public class SQLQueryGenerator {
      * @throws SQLException <p>If unable to prepare the statement</p>
      */
     public PreparedStatement generateCreateServerInfoTableStatement(Connection connection) throws SQLException {
-        return prepareQuery(connection, getQuery(SQLQuery.CREATE_TABLE_SERVER_INFO));
+        return prepareQuery(connection, SQLQuery.CREATE_TABLE_SERVER_INFO);
     }
 
     /**
@@ -260,7 +315,7 @@ public class SQLQueryGenerator {
      * @throws SQLException <p>If unable to prepare the statement</p>
      */
     public PreparedStatement generateCreateLastKnownNameTableStatement(Connection connection) throws SQLException {
-        return prepareQuery(connection, getQuery(SQLQuery.CREATE_TABLE_LAST_KNOWN_NAME));
+        return prepareQuery(connection, SQLQuery.CREATE_TABLE_LAST_KNOWN_NAME);
     }
 
     /**
@@ -274,9 +329,9 @@ public class SQLQueryGenerator {
     public PreparedStatement generateCreateFlagRelationTableStatement(Connection connection,
                                                                       StorageType portalType) throws SQLException {
         if (portalType == StorageType.LOCAL) {
-            return prepareQuery(connection, getQuery(SQLQuery.CREATE_TABLE_PORTAL_FLAG_RELATION));
+            return prepareQuery(connection, SQLQuery.CREATE_TABLE_PORTAL_FLAG_RELATION);
         } else {
-            return prepareQuery(connection, getQuery(SQLQuery.CREATE_TABLE_INTER_PORTAL_FLAG_RELATION));
+            return prepareQuery(connection, SQLQuery.CREATE_TABLE_INTER_PORTAL_FLAG_RELATION);
         }
     }
 
@@ -291,9 +346,9 @@ public class SQLQueryGenerator {
     public PreparedStatement generateCreatePortalViewStatement(Connection connection,
                                                                StorageType portalType) throws SQLException {
         if (portalType == StorageType.LOCAL) {
-            return prepareQuery(connection, getQuery(SQLQuery.CREATE_VIEW_PORTAL));
+            return prepareQuery(connection, SQLQuery.CREATE_VIEW_PORTAL);
         } else {
-            return prepareQuery(connection, getQuery(SQLQuery.CREATE_VIEW_INTER_PORTAL));
+            return prepareQuery(connection, SQLQuery.CREATE_VIEW_INTER_PORTAL);
         }
     }
 
@@ -305,7 +360,7 @@ public class SQLQueryGenerator {
      * @throws SQLException <p>If unable to prepare the statement</p>
      */
     public PreparedStatement generateAddFlagStatement(Connection connection) throws SQLException {
-        return prepareQuery(connection, getQuery(SQLQuery.INSERT_PORTAL_FLAG));
+        return prepareQuery(connection, SQLQuery.INSERT_PORTAL_FLAG);
     }
 
     /**
@@ -319,9 +374,9 @@ public class SQLQueryGenerator {
     public PreparedStatement generateAddPortalFlagRelationStatement(Connection connection,
                                                                     StorageType portalType) throws SQLException {
         if (portalType == StorageType.LOCAL) {
-            return prepareQuery(connection, getQuery(SQLQuery.INSERT_PORTAL_FLAG_RELATION));
+            return prepareQuery(connection, SQLQuery.INSERT_PORTAL_FLAG_RELATION);
         } else {
-            return prepareQuery(connection, getQuery(SQLQuery.INSERT_INTER_PORTAL_FLAG_RELATION));
+            return prepareQuery(connection, SQLQuery.INSERT_INTER_PORTAL_FLAG_RELATION);
         }
     }
 
@@ -336,13 +391,13 @@ public class SQLQueryGenerator {
      */
     public PreparedStatement generateRemoveFlagsStatement(Connection connection,
                                                           StorageType portalType, Portal portal) throws SQLException {
-        String stringStatement;
+        SQLQuery query;
         if (portalType == StorageType.LOCAL) {
-            stringStatement = getQuery(SQLQuery.DELETE_PORTAL_FLAG_RELATIONS);
+            query = SQLQuery.DELETE_PORTAL_FLAG_RELATIONS;
         } else {
-            stringStatement = getQuery(SQLQuery.DELETE_INTER_PORTAL_FLAG_RELATIONS);
+            query = SQLQuery.DELETE_INTER_PORTAL_FLAG_RELATIONS;
         }
-        PreparedStatement removeFlagsStatement = prepareQuery(connection, stringStatement);
+        PreparedStatement removeFlagsStatement = prepareQuery(connection, query);
         removeFlagsStatement.setString(1, portal.getName());
         removeFlagsStatement.setString(2, portal.getNetwork().getId());
         return removeFlagsStatement;
@@ -360,20 +415,38 @@ public class SQLQueryGenerator {
      */
     public PreparedStatement generateRemoveFlagStatement(Connection connection,
                                                          StorageType portalType, Portal portal, Character flagChar) throws SQLException {
-        String stringStatement;
+        SQLQuery query;
         if (portalType == StorageType.LOCAL) {
-            stringStatement = getQuery(SQLQuery.DELETE_PORTAL_FLAG_RELATION);
+            query = SQLQuery.DELETE_PORTAL_FLAG_RELATION;
         } else {
-            stringStatement = getQuery(SQLQuery.DELETE_INTER_PORTAL_FLAG_RELATION);
+            query = SQLQuery.DELETE_INTER_PORTAL_FLAG_RELATION;
         }
 
-        PreparedStatement removeFlagsStatement = prepareQuery(connection, stringStatement);
+        PreparedStatement removeFlagsStatement = prepareQuery(connection, query);
         removeFlagsStatement.setString(1, portal.getName());
         removeFlagsStatement.setString(2, portal.getNetwork().getName());
         removeFlagsStatement.setString(3, String.valueOf(flagChar));
         return removeFlagsStatement;
     }
 
+    /**
+     * Gets a prepared statement for removing the relation between a portal and its flag, without setting any parameters
+     *
+     * <p>Parameters are, in order: portal name, network name and flag character.</p>
+     *
+     * @param connection <p>The database connection to use</p>
+     * @param portalType <p>The portal type to remove the flag from</p>
+     * @return <p>A prepared statement</p>
+     * @throws SQLException <p>If unable to prepare the statement</p>
+     */
+    public PreparedStatement generateRemoveFlagStatement(Connection connection, StorageType portalType) throws SQLException {
+        if (portalType == StorageType.LOCAL) {
+            return prepareQuery(connection, SQLQuery.DELETE_PORTAL_FLAG_RELATION);
+        } else {
+            return prepareQuery(connection, SQLQuery.DELETE_INTER_PORTAL_FLAG_RELATION);
+        }
+    }
+
     /**
      * Gets a prepared statement for adding a portal
      *
@@ -386,15 +459,12 @@ public class SQLQueryGenerator {
     public PreparedStatement generateAddPortalStatement(Connection connection, RealPortal portal,
                                                         StorageType portalType) throws SQLException {
         boolean isInterServer = (portalType == StorageType.INTER_SERVER);
-        String statementMessage;
+        PreparedStatement statement;
         if (isInterServer) {
-            statementMessage = getQuery(SQLQuery.INSERT_INTER_PORTAL);
+            statement = prepareQuery(connection, SQLQuery.INSERT_INTER_PORTAL);
         } else {
-            statementMessage = getQuery(SQLQuery.INSERT_PORTAL);
+            statement = prepareQuery(connection, SQLQuery.INSERT_PORTAL);
         }
-        statementMessage = tableNameConfiguration.replaceKnownTableNames(statementMessage);
-
-        PreparedStatement statement = connection.prepareStatement(statementMessage);
 
         statement.setString(1, portal.getNetwork().getId());
         statement.setString(2, portal.getName());
@@ -424,7 +494,6 @@ public class SQLQueryGenerator {
             statement.setString(12, portal.getMetadata());
         }
 
-        Stargate.log(Level.FINEST, "sql query: " + statementMessage);
         return statement;
     }
 
@@ -439,18 +508,14 @@ public class SQLQueryGenerator {
      */
     public PreparedStatement generateRemovePortalStatement(Connection connection, Portal portal,
                                                            StorageType portalType) throws SQLException {
-        String statementMessage;
+        PreparedStatement statement;
         if (portalType == StorageType.LOCAL) {
-            statementMessage = getQuery(SQLQuery.DELETE_PORTAL);
+            statement = prepareQuery(connection, SQLQuery.DELETE_PORTAL);
         } else {
-            statementMessage = getQuery(SQLQuery.DELETE_INTER_PORTAL);
+            statement = prepareQuery(connection, SQLQuery.DELETE_INTER_PORTAL);
         }
-        statementMessage = tableNameConfiguration.replaceKnownTableNames(statementMessage);
-
-        PreparedStatement statement = connection.prepareStatement(statementMessage);
         statement.setString(1, portal.getName());
         statement.setString(2, portal.getNetwork().getId());
-        Stargate.log(Level.FINEST, "sql query: " + statementMessage);
         return statement;
     }
 
@@ -464,10 +529,7 @@ public class SQLQueryGenerator {
      * @throws SQLException <p>If unable to prepare the statement</p>
      */
     public PreparedStatement generateUpdateServerInfoStatus(Connection connection, String serverUUID, String serverName) throws SQLException {
-        String statementString = getQuery(SQLQuery.REPLACE_SERVER_INFO);
-        String statementMessage = tableNameConfiguration.replaceKnownTableNames(statementString);
-        Stargate.log(Level.FINEST, statementMessage);
-        PreparedStatement statement = connection.prepareStatement(statementMessage);
+        PreparedStatement statement = prepareQuery(connection, SQLQuery.REPLACE_SERVER_INFO);
         statement.setString(1, serverUUID);
         statement.setString(2, serverName);
         return statement;
@@ -483,9 +545,9 @@ public class SQLQueryGenerator {
      */
     public PreparedStatement generateShowPortalPositionIndexesStatement(Connection connection, StorageType portalType) throws SQLException {
         if (portalType == StorageType.LOCAL) {
-            return prepareQuery(connection, getQuery(SQLQuery.SHOW_INDEX_PORTAL_POSITION));
+            return prepareQuery(connection, SQLQuery.SHOW_INDEX_PORTAL_POSITION);
         } else {
-            return prepareQuery(connection, getQuery(SQLQuery.SHOW_INDEX_INTER_PORTAL_POSITION));
+            return prepareQuery(connection, SQLQuery.SHOW_INDEX_INTER_PORTAL_POSITION);
         }
     }
 
@@ -515,15 +577,17 @@ public class SQLQueryGenerator {
     /**
      * Prepares the given query for execution
      *
+     * <p>The latency of every execution of the statement is recorded in the metric of its query.</p>
+     *
      * @param connection <p>The database connection to use</p>
-     * @param query      <p>The query to run</p>
+     * @param sqlQuery   <p>The query to run</p>
      * @return <p>The resulting prepared statement</p>
      * @throws SQLException <p>If unable to prepare the query for execution</p>
      */
-    private PreparedStatement prepareQuery(Connection connection, String query) throws SQLException {
-        query = tableNameConfiguration.replaceKnownTableNames(query);
+    private PreparedStatement prepareQuery(Connection connection, SQLQuery sqlQuery) throws SQLException {
+        String query = tableNameConfiguration.replaceKnownTableNames(getQuery(sqlQuery));
         Stargate.log(Level.FINEST, query);
-        return connection.prepareStatement(query);
+        return TimedStatementHandler.wrap(connection.prepareStatement(query), sqlQuery);
     }
 
     /**
@@ -538,9 +602,9 @@ public class SQLQueryGenerator {
     public PreparedStatement generateGetPortalStatement(Connection connection, Portal portal, StorageType portalType) throws SQLException {
         PreparedStatement statement;
         if (portalType == StorageType.LOCAL) {
-            statement = prepareQuery(connection, getQuery(SQLQuery.GET_PORTAL));
+            statement = prepareQuery(connection, SQLQuery.GET_PORTAL);
         } else {
-            statement = prepareQuery(connection, getQuery(SQLQuery.GET_INTER_PORTAL));
+            statement = prepareQuery(connection, SQLQuery.GET_INTER_PORTAL);
         }
         statement.setString(1, portal.getName());
         statement.setString(2, portal.getNetwork().getId());
@@ -558,9 +622,9 @@ public class SQLQueryGenerator {
     public PreparedStatement generateSetPortalMetaStatement(Connection connection, Portal portal, String meta, StorageType portalType) throws SQLException {
         PreparedStatement statement;
         if (portalType == StorageType.LOCAL) {
-            statement = prepareQuery(connection, getQuery(SQLQuery.SET_PORTAL_META));
+            statement = prepareQuery(connection, SQLQuery.SET_PORTAL_META);
         } else {
-            statement = prepareQuery(connection, getQuery(SQLQuery.SET_INTER_PORTAL_META));
+            statement = prepareQuery(connection, SQLQuery.SET_INTER_PORTAL_META);
         }
         statement.setString(1, meta);
         statement.setString(2, portal.getName());
@@ -568,6 +632,24 @@ public class SQLQueryGenerator {
         return statement;
     }
 
+    /**
+     * Gets a prepared statement for setting the metadata of a portal, without setting any parameters
+     *
+     * <p>Parameters are, in order: metadata, portal name and network id.</p>
+     *
+     * @param connection <p>A sql connection to the database</p>
+     * @param portalType <p>How the portal is being stored</p>
+     * @return <p>A prepared statement that can modify the metadata of a portal</p>
+     * @throws SQLException <p>If the syntax is incorrect or any other sql faults</p>
+     */
+    public PreparedStatement generateSetPortalMetaStatement(Connection connection, StorageType portalType) throws SQLException {
+        if (portalType == StorageType.LOCAL) {
+            return prepareQuery(connection, SQLQuery.SET_PORTAL_META);
+        } else {
+            return prepareQuery(connection, SQLQuery.SET_INTER_PORTAL_META);
+        }
+    }
+
     /**
      * @param connection     <p>A sql connection to the database</p>
      * @param portal         <p>The portal owning the portal position</p>
@@ -581,9 +663,9 @@ public class SQLQueryGenerator {
                                                            String meta, StorageType portalType) throws SQLException {
         PreparedStatement statement;
         if (portalType == StorageType.LOCAL) {
-            statement = prepareQuery(connection, getQuery(SQLQuery.SET_PORTAL_POSITION_META));
+            statement = prepareQuery(connection, SQLQuery.SET_PORTAL_POSITION_META);
         } else {
-            statement = prepareQuery(connection, getQuery(SQLQuery.SET_INTER_PORTAL_POSITION_META));
+            statement = prepareQuery(connection, SQLQuery.SET_INTER_PORTAL_POSITION_META);
         }
         statement.setString(1, meta);
         statement.setString(2, portal.getName());
@@ -595,6 +677,25 @@ public class SQLQueryGenerator {
         return statement;
     }
 
+    /**
+     * Gets a prepared statement for setting the metadata of a portal position, without setting any parameters
+     *
+     * <p>Parameters are, in order: metadata, portal name, network id and the x, y and negated z coordinates of the
+     * position.</p>
+     *
+     * @param connection <p>A sql connection to the database</p>
+     * @param portalType <p>How the portal is being stored</p>
+     * @return <p>A prepared statement able to set the metadata on a portal position</p>
+     * @throws SQLException <p>If the syntax is incorrect or any other sql faults</p>
+     */
+    public PreparedStatement generateSetPortalPositionMeta(Connection connection, StorageType portalType) throws SQLException {
+        if (portalType == StorageType.LOCAL) {
+            return prepareQuery(connection, SQLQuery.SET_PORTAL_POSITION_META);
+        } else {
+            return prepareQuery(connection, SQLQuery.SET_INTER_PORTAL_POSITION_META);
+        }
+    }
+
     /**
      * @param connection     <p>A sql connection to the database</p>
      * @param portal         <p>The portal owning the portal position</p>
@@ -607,9 +708,9 @@ public class SQLQueryGenerator {
                                                                 PortalPosition portalPosition, StorageType portalType) throws SQLException {
         PreparedStatement statement;
         if (portalType == StorageType.LOCAL) {
-            statement = prepareQuery(connection, getQuery(SQLQuery.GET_PORTAL_POSITION_META));
+            statement = prepareQuery(connection, SQLQuery.GET_PORTAL_POSITION_META);
         } else {
-            statement = prepareQuery(connection, getQuery(SQLQuery.GET_INTER_PORTAL_POSITION_META));
+            statement = prepareQuery(connection, SQLQuery.GET_INTER_PORTAL_POSITION_META);
         }
         statement.setString(1, portal.getName());
         statement.setString(2, portal.getNetwork().getId());
@@ -632,9 +733,9 @@ public class SQLQueryGenerator {
                                                                 StorageType portalType) throws SQLException {
         PreparedStatement statement;
         if (portalType == StorageType.LOCAL) {
-            statement = prepareQuery(connection, getQuery(SQLQuery.UPDATE_NETWORK_NAME));
+            statement = prepareQuery(connection, SQLQuery.UPDATE_NETWORK_NAME);
         } else {
-            statement = prepareQuery(connection, getQuery(SQLQuery.UPDATE_INTER_NETWORK_NAME));
+            statement = prepareQuery(connection, SQLQuery.UPDATE_INTER_NETWORK_NAME);
         }
         statement.setString(1, newName);
         statement.setString(2, networkName);
@@ -654,9 +755,9 @@ public class SQLQueryGenerator {
                                                                StorageType portalType) throws SQLException {
         PreparedStatement statement;
         if (portalType == StorageType.LOCAL) {
-            statement = prepareQuery(connection, getQuery(SQLQuery.UPDATE_PORTAL_NAME));
+            statement = prepareQuery(connection, SQLQuery.UPDATE_PORTAL_NAME);
         } else {
-            statement = prepareQuery(connection, getQuery(SQLQuery.UPDATE_INTER_PORTAL_NAME));
+            statement = prepareQuery(connection, SQLQuery.UPDATE_INTER_PORTAL_NAME);
         }
         statement.setString(1, newName);
         statement.setString(2, portalName);
@@ -675,9 +776,9 @@ public class SQLQueryGenerator {
                                                             StorageType portalType) throws SQLException {
         PreparedStatement statement;
         if (portalType == StorageType.LOCAL) {
-            statement = prepareQuery(connection, getQuery(SQLQuery.GET_ALL_PORTALS_OF_NETWORK));
+            statement = prepareQuery(connection, SQLQuery.GET_ALL_PORTALS_OF_NETWORK);
         } else {
-            statement = prepareQuery(connection, getQuery(SQLQuery.GET_ALL_INTER_PORTALS_OF_NETWORK));
+            statement = prepareQuery(connection, SQLQuery.GET_ALL_INTER_PORTALS_OF_NETWORK);
         }
         statement.setString(1, netName);
         return statement;
@@ -692,11 +793,11 @@ public class SQLQueryGenerator {
      */
     public PreparedStatement generateDeleteWorldStatement(Connection connection, String world, StorageType storageType) throws SQLException {
         if (storageType == StorageType.LOCAL) {
-            PreparedStatement statement = prepareQuery(connection, getQuery(SQLQuery.DELETE_WORLD));
+            PreparedStatement statement = prepareQuery(connection, SQLQuery.DELETE_WORLD);
             statement.setString(1, world);
             return statement;
         } else {
-            PreparedStatement statement = prepareQuery(connection, getQuery(SQLQuery.DELETE_INTER_WORLD));
+            PreparedStatement statement = prepareQuery(connection, SQLQuery.DELETE_INTER_WORLD);
             statement.setString(1, world);
             statement.setString(2, Stargate.getServerUUID());
             return statement;
@@ -713,10 +814,10 @@ public class SQLQueryGenerator {
     public PreparedStatement generateRemoveGateStatement(Connection connection, String gateFormat, StorageType storageType) throws SQLException {
         PreparedStatement statement;
         if (storageType == StorageType.LOCAL) {
-            statement = prepareQuery(connection, getQuery(SQLQuery.DELETE_GATE_FORMAT));
+            statement = prepareQuery(connection, SQLQuery.DELETE_GATE_FORMAT);
             statement.setString(1, gateFormat);
         } else {
-            statement = prepareQuery(connection, getQuery(SQLQuery.DELETE_INTER_GATE_FORMAT));
+            statement = prepareQuery(connection, SQLQuery.DELETE_INTER_GATE_FORMAT);
             statement.setString(1, gateFormat);
             statement.setString(2, Stargate.getServerUUID());
         }
@@ -726,9 +827,9 @@ public class SQLQueryGenerator {
     public PreparedStatement generateLoadPortalsInWorldStatement(Connection connection, World world, StorageType storageType) throws SQLException {
         PreparedStatement statement;
         if(storageType == StorageType.LOCAL){
-            statement = prepareQuery(connection, getQuery(SQLQuery.GET_ALL_PORTALS_IN_WORLD));
+            statement = prepareQuery(connection, SQLQuery.GET_ALL_PORTALS_IN_WORLD);
         } else {
-            statement = prepareQuery(connection, getQuery(SQLQuery.GET_ALL_INTER_PORTALS_IN_WORLD));
+            statement = prepareQuery(connection, SQLQuery.GET_ALL_INTER_PORTALS_IN_WORLD);
             statement.setString(2, Stargate.getServerUUID());
         }
         statement.setString(1, world.getUID().toString());
@@ -1,5 +1,10 @@
 package org.sgrewritten.stargate.database;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteDataSource;
+
 import java.io.File;
 import java.sql.Connection;
 import java.sql.DriverManager;
@@ -10,23 +15,43 @@ import java.util.logging.Logger;
 
 /**
  * Represents an SQLite database
+ *
+ * <p>The database either opens a new connection for every call, or keeps a pool of connections to a database in WAL
+ * mode, with the prepared statements of each connection cached.</p>
  */
 public class SQLiteDatabase implements SQLDatabaseAPI {
 
+    private static final int BUSY_TIMEOUT = 5000;
     private String url;
+    private final HikariDataSource dataSource;
 
     /**
-     * Instantiates a new SQL database
+     * Instantiates a new SQL database opening a new connection for every call
      *
      * @param databaseFile <p>The database file to load</p>
      * @throws SQLException <p>If unable to setup SQLite for the database file</p>
      */
     public SQLiteDatabase(File databaseFile) throws SQLException {
+        this(databaseFile, 0);
+    }
+
+    /**
+     * Instantiates a new SQL database
+     *
+     * @param databaseFile <p>The database file to load</p>
+     * @param poolSize     <p>The amount of connections to keep open, or 0 to open a new connection for every call</p>
+     * @throws SQLException <p>If unable to setup SQLite for the database file</p>
+     */
+    public SQLiteDatabase(File databaseFile, int poolSize) throws SQLException {
         setupSQLITE(databaseFile);
+        this.dataSource = poolSize > 0 ? setupPool(poolSize) : null;
     }
 
     @Override
     public Connection getConnection() throws SQLException {
+        if (dataSource != null) {
+            return dataSource.getConnection();
+        }
         Connection connection = DriverManager.getConnection(this.url);
         try (PreparedStatement statement = connection.prepareStatement("PRAGMA foreign_keys = ON;")) {
             statement.execute();
@@ -57,6 +82,40 @@ public class SQLiteDatabase implements SQLDatabaseAPI {
         DriverManager.registerDriver(new org.sqlite.JDBC());
     }
 
+    /**
+     * Sets up a pool of connections with cached prepared statements
+     *
+     * @param poolSize <p>The amount of connections to keep open</p>
+     * @return <p>A Hikari data source</p>
+     */
+    private HikariDataSource setupPool(int poolSize) {
+        SQLiteConfig sqliteConfig = new SQLiteConfig();
+        sqliteConfig.enforceForeignKeys(true);
+        sqliteConfig.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        sqliteConfig.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        sqliteConfig.setBusyTimeout(BUSY_TIMEOUT);
+        SQLiteDataSource sqliteDataSource = new SQLiteDataSource(sqliteConfig) {
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return StatementCache.wrap(super.getConnection(username, password));
+            }
+        };
+        sqliteDataSource.setUrl(this.url);
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setDataSource(sqliteDataSource);
+        hikariConfig.setPoolName("Stargate SQLite");
+        hikariConfig.setMaximumPoolSize(poolSize);
+        return new HikariDataSource(hikariConfig);
+    }
+
+    @Override
+    public void close() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
     @Override
     public DatabaseDriver getDriver() {
         return DatabaseDriver.SQLITE;
@@ -0,0 +1,162 @@
+package org.sgrewritten.stargate.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache of prepared statements bound to a single pooled connection
+ *
+ * <p>The queries Stargate runs are generated from a {@link SQLQuery} chosen by the {@link
+ * org.sgrewritten.stargate.network.StorageType}, with known table names filled in, so the query string identifies the
+ * query and storage type combination. Closing a cached statement only resets it, and the statement is kept prepared
+ * until the underlying connection is closed. If a query is prepared again while its cached statement is still in use,
+ * a separate, uncached statement is returned.</p>
+ */
+final class StatementCache implements InvocationHandler {
+
+    private final Connection connection;
+    private final Map<String, CachedStatement> statements = new HashMap<>();
+
+    private StatementCache(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Wraps the given connection, caching any statements prepared from it
+     *
+     * @param connection <p>The connection to wrap</p>
+     * @return <p>A connection with statement caching</p>
+     */
+    static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new StatementCache(connection));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("prepareStatement") && args != null && args.length == 1) {
+            return prepareStatement((String) args[0]);
+        }
+        if (method.getName().equals("close") && args == null) {
+            closeStatements();
+        }
+        return invokeOn(connection, method, args);
+    }
+
+    /**
+     * Gets the cached statement for the given query, preparing it if necessary
+     *
+     * @param query <p>The query to prepare</p>
+     * @return <p>A prepared statement for the query</p>
+     * @throws SQLException <p>If unable to prepare the query</p>
+     */
+    private synchronized PreparedStatement prepareStatement(String query) throws SQLException {
+        CachedStatement cachedStatement = statements.get(query);
+        if (cachedStatement == null) {
+            cachedStatement = new CachedStatement(connection.prepareStatement(query));
+            statements.put(query, cachedStatement);
+        } else if (cachedStatement.inUse) {
+            return connection.prepareStatement(query);
+        }
+        cachedStatement.inUse = true;
+        return cachedStatement.proxy;
+    }
+
+    /**
+     * Closes all cached statements
+     *
+     * @throws SQLException <p>If unable to close a statement</p>
+     */
+    private synchronized void closeStatements() throws SQLException {
+        try {
+            for (CachedStatement cachedStatement : statements.values()) {
+                cachedStatement.statement.close();
+            }
+        } finally {
+            statements.clear();
+        }
+    }
+
+    /**
+     * Invokes the given method on the given target, unwrapping any thrown exception
+     *
+     * @param target <p>The object to invoke the method on</p>
+     * @param method <p>The method to invoke</p>
+     * @param args   <p>The arguments to invoke the method with</p>
+     * @return <p>The result of the invocation</p>
+     * @throws Throwable <p>The exception thrown by the method</p>
+     */
+    private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * A prepared statement which is reset instead of closed
+     */
+    private static final class CachedStatement implements InvocationHandler {
+
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private ResultSet resultSet;
+        private boolean inUse = false;
+
+        private CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    reset();
+                    return null;
+                }
+                case "isClosed" -> {
+                    return !inUse || statement.isClosed();
+                }
+                default -> {
+                    Object result = invokeOn(statement, method, args);
+                    if (result instanceof ResultSet) {
+                        resultSet = (ResultSet) result;
+                    }
+                    return result;
+                }
+            }
+        }
+
+        /**
+         * Releases the statement so that it can be prepared again
+         *
+         * @throws SQLException <p>If unable to reset the statement</p>
+         */
+        private void reset() throws SQLException {
+            if (!inUse) {
+                return;
+            }
+            try {
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+            } finally {
+                resultSet = null;
+                inUse = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.sgrewritten.stargate.database;
+
+import org.sgrewritten.stargate.metrics.LatencyRecorder;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Records how long every execution of a prepared statement takes, in the latency metric of its query
+ *
+ * <p>The metric of a query is only created once the query is first prepared, so that queries which are never run on
+ * this server are not reported.</p>
+ */
+final class TimedStatementHandler implements InvocationHandler {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeBatch", "executeLargeUpdate", "executeLargeBatch");
+
+    private final PreparedStatement statement;
+    private final LatencyRecorder latency;
+
+    private TimedStatementHandler(PreparedStatement statement, LatencyRecorder latency) {
+        this.statement = statement;
+        this.latency = latency;
+    }
+
+    /**
+     * Wraps the given statement, so that its executions are recorded
+     *
+     * @param statement <p>The statement to wrap</p>
+     * @param query     <p>The query of the statement</p>
+     * @return <p>A statement recording the latency of its executions</p>
+     */
+    static PreparedStatement wrap(PreparedStatement statement, SQLQuery query) {
+        LatencyRecorder latency = StargateMetrics.getLatency(MetricName.of("sql_statement", "query",
+                query.name().toLowerCase(Locale.ROOT)));
+        return (PreparedStatement) Proxy.newProxyInstance(TimedStatementHandler.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, new TimedStatementHandler(statement, latency));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        boolean isExecution = EXECUTE_METHODS.contains(method.getName());
+        long startTime = isExecution ? System.nanoTime() : 0;
+        try {
+            return method.invoke(statement, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            if (isExecution) {
+                latency.recordSince(startTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,453 @@
+package org.sgrewritten.stargate.database;
+
+import org.bukkit.World;
+import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.api.StargateAPI;
+import org.sgrewritten.stargate.api.database.StorageAPI;
+import org.sgrewritten.stargate.api.network.Network;
+import org.sgrewritten.stargate.api.network.portal.Portal;
+import org.sgrewritten.stargate.api.network.portal.PortalPosition;
+import org.sgrewritten.stargate.api.network.portal.RealPortal;
+import org.sgrewritten.stargate.exception.UnimplementedFlagException;
+import org.sgrewritten.stargate.exception.database.StorageReadException;
+import org.sgrewritten.stargate.exception.database.StorageWriteException;
+import org.sgrewritten.stargate.exception.name.InvalidNameException;
+import org.sgrewritten.stargate.exception.name.NameLengthException;
+import org.sgrewritten.stargate.metrics.LatencyRecorder;
+import org.sgrewritten.stargate.network.NetworkType;
+import org.sgrewritten.stargate.network.StorageType;
+import org.sgrewritten.stargate.network.portal.GlobalPortalId;
+import org.sgrewritten.stargate.thread.task.StargateAsyncTask;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+
+/**
+ * A storage decorator which holds back changes to portal positions, flags and metadata, and writes them in batches
+ *
+ * <p>Changes are coalesced per portal, so that only the final state of each value is written when the changes are
+ * flushed. Flushing happens once the write delay has passed since the first held back change. Any other storage
+ * operation on a portal flushes the held back changes of that portal first, so that the order of operations seen by
+ * the storage is preserved.</p>
+ *
+ * <p>The queue of held back changes is only locked while it is changed or swapped out, never while writing, so that
+ * recording changes, reading held back values and reading the statistics never waits for the storage. Writes are
+ * serialized among themselves, and a batch being written stays readable until it has been written.</p>
+ */
+public class WriteBehindStorage implements StorageAPI {
+
+    private final StorageAPI storage;
+    private final long writeDelay;
+    private final Object queueLock = new Object();
+    private final Object writeLock = new Object();
+    private final Map<PendingKey, PortalChanges> pendingChanges = new LinkedHashMap<>();
+    private final Map<PendingKey, PortalChanges> writingChanges = new HashMap<>();
+    private boolean flushScheduled = false;
+    private int queueDepth = 0;
+    private int peakQueueDepth = 0;
+    private final LatencyRecorder flushLatency = new LatencyRecorder();
+
+    /**
+     * Instantiates a new write-behind storage
+     *
+     * @param storage    <p>The storage to write changes to</p>
+     * @param writeDelay <p>The amount of ticks to hold back changes for before writing them</p>
+     */
+    public WriteBehindStorage(StorageAPI storage, long writeDelay) {
+        this.storage = storage;
+        this.writeDelay = writeDelay;
+    }
+
+    /**
+     * @return <p>The storage changes are written to</p>
+     */
+    public StorageAPI getStorage() {
+        return storage;
+    }
+
+    /**
+     * Writes all held back changes to storage
+     *
+     * @throws StorageWriteException <p>If unable to write the changes</p>
+     */
+    public void flush() throws StorageWriteException {
+        synchronized (writeLock) {
+            Map<PendingKey, PortalChanges> changes;
+            int flushedChanges;
+            synchronized (queueLock) {
+                flushScheduled = false;
+                if (pendingChanges.isEmpty()) {
+                    return;
+                }
+                changes = new LinkedHashMap<>(pendingChanges);
+                flushedChanges = queueDepth;
+                pendingChanges.clear();
+                queueDepth = 0;
+                writingChanges.putAll(changes);
+            }
+            write(changes, flushedChanges);
+        }
+    }
+
+    /**
+     * @return <p>The amount of changes currently held back</p>
+     */
+    public int getQueueDepth() {
+        synchronized (queueLock) {
+            return queueDepth;
+        }
+    }
+
+    /**
+     * @return <p>The highest amount of changes held back at once</p>
+     */
+    public int getPeakQueueDepth() {
+        synchronized (queueLock) {
+            return peakQueueDepth;
+        }
+    }
+
+    /**
+     * @return <p>The amount of times changes have been written</p>
+     */
+    public long getFlushCount() {
+        return flushLatency.getCount();
+    }
+
+    /**
+     * @return <p>The recorder of how long writing held back changes takes</p>
+     */
+    public LatencyRecorder getFlushLatency() {
+        return flushLatency;
+    }
+
+    @Override
+    public void loadFromStorage(StargateAPI stargateAPI) throws StorageReadException {
+        flushAll();
+        storage.loadFromStorage(stargateAPI);
+    }
+
+    @Override
+    public CompletableFuture<Void> loadFromStorageAsync(StargateAPI stargateAPI, Executor executor) {
+        flushAll();
+        return storage.loadFromStorageAsync(stargateAPI, executor);
+    }
+
+    @Override
+    public boolean savePortalToStorage(RealPortal portal) throws StorageWriteException {
+        synchronized (writeLock) {
+            Map<PendingKey, PortalChanges> changes = takeChanges(portal);
+            boolean saved;
+            try {
+                // The portal row has to exist before anything referencing it is written
+                saved = storage.savePortalToStorage(portal);
+            } catch (StorageWriteException | RuntimeException e) {
+                release(changes);
+                throw e;
+            }
+            // Saving the portal stores its current positions and flags, so only held back metadata is left to write
+            int flushedChanges = 0;
+            for (PortalChanges portalChanges : changes.values()) {
+                portalChanges.clearPositionAndFlagChanges();
+                flushedChanges += portalChanges.size();
+            }
+            write(changes, flushedChanges);
+            return saved;
+        }
+    }
+
+    @Override
+    public void removePortalFromStorage(Portal portal) throws StorageWriteException {
+        synchronized (writeLock) {
+            // Any held back changes would be removed with the portal anyway
+            Map<PendingKey, PortalChanges> changes = takeChanges(portal);
+            try {
+                storage.removePortalFromStorage(portal);
+            } finally {
+                release(changes);
+            }
+        }
+    }
+
+    @Override
+    public void setPortalMetaData(Portal portal, String data, StorageType portalType) {
+        record(portal, portalType, changes -> changes.setPortalMetaData(data));
+    }
+
+    @Override
+    public String getPortalMetaData(Portal portal, StorageType portalType) throws StorageReadException {
+        PendingKey key = new PendingKey(portal, portalType);
+        synchronized (queueLock) {
+            for (PortalChanges changes : new PortalChanges[]{pendingChanges.get(key), writingChanges.get(key)}) {
+                if (changes != null && changes.hasPortalMetaData()) {
+                    return changes.getPortalMetaData();
+                }
+            }
+        }
+        return storage.getPortalMetaData(portal, portalType);
+    }
+
+    @Override
+    public void setPortalPositionMetaData(RealPortal portal, PortalPosition portalPosition, String data,
+                                          StorageType portalType) {
+        record(portal, portalType, changes -> changes.setPortalPositionMetaData(portalPosition, data));
+    }
+
+    @Override
+    public String getPortalPositionMetaData(Portal portal, PortalPosition portalPosition,
+                                            StorageType portalType) throws StorageReadException {
+        PendingKey key = new PendingKey(portal, portalType);
+        synchronized (queueLock) {
+            for (PortalChanges changes : new PortalChanges[]{pendingChanges.get(key), writingChanges.get(key)}) {
+                if (changes != null && changes.getPositionMetaData().containsKey(portalPosition)) {
+                    return changes.getPositionMetaData().get(portalPosition);
+                }
+            }
+        }
+        return storage.getPortalPositionMetaData(portal, portalPosition, portalType);
+    }
+
+    @Override
+    public Network createNetwork(String networkName, NetworkType type, StorageType storageType) throws InvalidNameException, NameLengthException, UnimplementedFlagException {
+        return storage.createNetwork(networkName, type, storageType);
+    }
+
+    @Override
+    public void startInterServerConnection() throws StorageWriteException {
+        synchronized (writeLock) {
+            storage.startInterServerConnection();
+        }
+    }
+
+    @Override
+    public void addFlagType(char flagChar) throws StorageWriteException {
+        synchronized (writeLock) {
+            storage.addFlagType(flagChar);
+        }
+    }
+
+    @Override
+    public void addPortalPositionType(String portalPositionTypeName) throws StorageWriteException {
+        synchronized (writeLock) {
+            storage.addPortalPositionType(portalPositionTypeName);
+        }
+    }
+
+    @Override
+    public void addFlag(Character flagChar, Portal portal, StorageType portalType) {
+        record(portal, portalType, changes -> changes.addFlag(flagChar));
+    }
+
+    @Override
+    public void removeFlag(Character flagChar, Portal portal, StorageType portalType) {
+        record(portal, portalType, changes -> changes.removeFlag(flagChar));
+    }
+
+    @Override
+    public void addPortalPosition(RealPortal portal, StorageType portalType, PortalPosition portalPosition) {
+        record(portal, portalType, changes -> changes.addPortalPosition(portalPosition));
+    }
+
+    @Override
+    public void removePortalPosition(RealPortal portal, StorageType portalType, PortalPosition portalPosition) {
+        record(portal, portalType, changes -> changes.removePortalPosition(portalPosition));
+    }
+
+    @Override
+    public void updateNetworkName(String newName, String networkName, StorageType portalType) throws StorageWriteException {
+        synchronized (writeLock) {
+            flush();
+            storage.updateNetworkName(newName, networkName, portalType);
+        }
+    }
+
+    @Override
+    public void updatePortalName(String newName, GlobalPortalId portalId, StorageType portalType) throws StorageWriteException {
+        synchronized (writeLock) {
+            flush();
+            storage.updatePortalName(newName, portalId, portalType);
+        }
+    }
+
+    @Override
+    public boolean netWorkExists(String netName, StorageType portalType) throws StorageReadException {
+        return storage.netWorkExists(netName, portalType);
+    }
+
+    @Override
+    public Set<String> getScheduledGatesClearing() {
+        return storage.getScheduledGatesClearing();
+    }
+
+    @Override
+    public void loadPortalsInWorld(World world, StorageType storageType, StargateAPI stargateAPI) throws StorageReadException, StorageWriteException {
+        flush();
+        storage.loadPortalsInWorld(world, storageType, stargateAPI);
+    }
+
+    /**
+     * Records a change to the given portal, and schedules a flush if none is scheduled
+     *
+     * @param portal      <p>The changed portal</p>
+     * @param storageType <p>How the portal is stored</p>
+     * @param change      <p>The change to record</p>
+     */
+    private void record(Portal portal, StorageType storageType, ChangeRecorder change) {
+        synchronized (queueLock) {
+            PortalChanges changes = pendingChanges.computeIfAbsent(new PendingKey(portal, storageType),
+                    key -> new PortalChanges(portal, storageType));
+            int previousSize = changes.size();
+            change.record(changes);
+            queueDepth += changes.size() - previousSize;
+            peakQueueDepth = Math.max(peakQueueDepth, queueDepth);
+            if (writeDelay > 0) {
+                if (!flushScheduled) {
+                    flushScheduled = true;
+                    new StargateAsyncTask() {
+                        @Override
+                        public void run() {
+                            flushAll();
+                        }
+                    }.runDelayed(writeDelay);
+                }
+                return;
+            }
+        }
+        flushAll();
+    }
+
+    /**
+     * Takes all held back changes of the given portal out of the queue
+     *
+     * <p>The taken changes stay readable until they are written or released, which must happen while still holding
+     * the write lock.</p>
+     *
+     * @param portal <p>The portal to take the changes of</p>
+     * @return <p>The taken changes</p>
+     */
+    private Map<PendingKey, PortalChanges> takeChanges(Portal portal) {
+        Map<PendingKey, PortalChanges> changes = new LinkedHashMap<>();
+        synchronized (queueLock) {
+            for (StorageType storageType : StorageType.values()) {
+                PendingKey key = new PendingKey(portal, storageType);
+                PortalChanges portalChanges = pendingChanges.remove(key);
+                if (portalChanges != null) {
+                    changes.put(key, portalChanges);
+                    queueDepth -= portalChanges.size();
+                }
+            }
+            writingChanges.putAll(changes);
+        }
+        return changes;
+    }
+
+    /**
+     * Writes all held back changes to storage, logging any failure
+     */
+    private void flushAll() {
+        try {
+            flush();
+        } catch (StorageWriteException e) {
+            Stargate.log(e);
+        }
+    }
+
+    /**
+     * Writes the given changes to storage, in one transaction if supported by the storage
+     *
+     * <p>Must be called while holding the write lock, and never while holding the queue lock.</p>
+     *
+     * @param changes        <p>The changes to write</p>
+     * @param flushedChanges <p>The amount of separate values changed</p>
+     * @throws StorageWriteException <p>If unable to write the changes</p>
+     */
+    private void write(Map<PendingKey, PortalChanges> changes, int flushedChanges) throws StorageWriteException {
+        if (flushedChanges == 0) {
+            release(changes);
+            return;
+        }
+        long startTime = System.nanoTime();
+        try {
+            if (storage instanceof SQLDatabase sqlDatabase) {
+                sqlDatabase.savePortalChanges(changes.values());
+            } else {
+                for (PortalChanges portalChanges : changes.values()) {
+                    writeSeparately(portalChanges);
+                }
+            }
+        } finally {
+            long latency = System.nanoTime() - startTime;
+            release(changes);
+            flushLatency.record(latency);
+            if (Stargate.isLoggable(Level.FINE)) {
+                Stargate.log(Level.FINE, "Wrote %d held back changes of %d portals in %d µs",
+                        flushedChanges, changes.size(), latency / 1000);
+            }
+        }
+    }
+
+    /**
+     * Stops exposing the given taken changes to readers without writing them
+     *
+     * @param changes <p>The changes to release</p>
+     */
+    private void release(Map<PendingKey, PortalChanges> changes) {
+        synchronized (queueLock) {
+            changes.forEach(writingChanges::remove);
+        }
+    }
+
+    /**
+     * Writes the given changes one by one, for storages without support for batched writes
+     *
+     * @param changes <p>The changes to write</p>
+     * @throws StorageWriteException <p>If unable to write the changes</p>
+     */
+    private void writeSeparately(PortalChanges changes) throws StorageWriteException {
+        Portal portal = changes.getPortal();
+        StorageType storageType = changes.getStorageType();
+        for (Map.Entry<PortalPosition, PortalChanges.Change> positionChange : changes.getPositionChanges().entrySet()) {
+            if (positionChange.getValue().deletes()) {
+                storage.removePortalPosition(changes.getRealPortal(), storageType, positionChange.getKey());
+            }
+            if (positionChange.getValue().inserts()) {
+                storage.addPortalPosition(changes.getRealPortal(), storageType, positionChange.getKey());
+            }
+        }
+        for (Map.Entry<PortalPosition, String> positionMetaData : changes.getPositionMetaData().entrySet()) {
+            storage.setPortalPositionMetaData(changes.getRealPortal(), positionMetaData.getKey(), positionMetaData.getValue(), storageType);
+        }
+        if (changes.hasPortalMetaData()) {
+            storage.setPortalMetaData(portal, changes.getPortalMetaData(), storageType);
+        }
+        for (Map.Entry<Character, PortalChanges.Change> flagChange : changes.getFlagChanges().entrySet()) {
+            if (flagChange.getValue().deletes()) {
+                storage.removeFlag(flagChange.getKey(), portal, storageType);
+            }
+            if (flagChange.getValue().inserts()) {
+                storage.addFlag(flagChange.getKey(), portal, storageType);
+            }
+        }
+    }
+
+    /**
+     * A function recording a change into the pending changes of a portal
+     */
+    @FunctionalInterface
+    private interface ChangeRecorder {
+
+        /**
+         * @param changes <p>The pending changes of the portal</p>
+         */
+        void record(PortalChanges changes);
+    }
+
+    private record PendingKey(Portal portal, StorageType storageType) {
+
+    }
+}
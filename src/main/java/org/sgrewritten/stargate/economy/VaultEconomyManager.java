@@ -48,7 +48,7 @@ public class VaultEconomyManager extends EconomyManager {
             Stargate.log(Level.FINE, "Skipping player payment");
             return true;
         } else {
-            Stargate.log(Level.FINE, "Charging player " + amount);
+            Stargate.log(Level.FINE, "Charging player %s", amount);
         }
 
         EconomyResponse response = economy.withdrawPlayer(offlinePlayer, amount);
@@ -70,7 +70,7 @@ public class VaultEconomyManager extends EconomyManager {
             Stargate.log(Level.FINE, "Skipping player payment");
             return true;
         } else {
-            Stargate.log(Level.FINE, "Depositing player " + amount);
+            Stargate.log(Level.FINE, "Depositing player %s", amount);
         }
 
         EconomyResponse response = economy.depositPlayer(player, amount);
@@ -0,0 +1,59 @@
+package org.sgrewritten.stargate.gate;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.sgrewritten.stargate.container.LongObjectHashMap;
+import org.sgrewritten.stargate.util.VectorUtils;
+
+/**
+ * A cache of the block materials read while looking for a gate
+ *
+ * <p>Every format tried for a sign reads many of the same blocks, so every block is only read from the world once.
+ * The cache is only valid while the blocks can not change, which is the case while a sign placement is handled.</p>
+ */
+public final class BlockMaterialCache {
+
+    private final World world;
+    private final LongObjectHashMap<Material> materials = new LongObjectHashMap<>(64);
+
+    /**
+     * Instantiates a new block material cache
+     *
+     * @param world <p>The world to read blocks from</p>
+     */
+    public BlockMaterialCache(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Gets the material of the block at the given position
+     *
+     * @param x <p>The x coordinate of the block</p>
+     * @param y <p>The y coordinate of the block</p>
+     * @param z <p>The z coordinate of the block</p>
+     * @return <p>The material of the block</p>
+     */
+    public Material getType(int x, int y, int z) {
+        long position = VectorUtils.packBlockPosition(x, y, z);
+        Material material = materials.get(position);
+        if (material == null) {
+            material = world.getBlockAt(x, y, z).getType();
+            materials.put(position, material);
+        }
+        return material;
+    }
+
+    /**
+     * @return <p>The world blocks are read from</p>
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * @return <p>The amount of blocks read from the world</p>
+     */
+    public int getReadBlocks() {
+        return materials.size();
+    }
+}
@@ -0,0 +1,100 @@
+package org.sgrewritten.stargate.gate;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.thread.task.StargateRegionTask;
+import org.sgrewritten.stargate.thread.task.TaskPriority;
+import org.sgrewritten.stargate.util.VectorUtils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Coalesces the rendering of signs and buttons into one task per chunk
+ *
+ * <p>Renders queued for the same chunk before its task runs are run by that task, and a render queued again for the
+ * same control replaces the previous one. A chunk is never split between regions on regionized servers, and on other
+ * servers a task per chunk keeps a redraw of many signs spread over several populator actions, so that it stays within
+ * the populator's tick budget.</p>
+ *
+ * <p>A chunk's task runs in the populator lane of the renders it was scheduled for. If an interactive render is
+ * queued while only a bulk task is scheduled for the chunk, an interactive task is scheduled as well, and whichever
+ * task runs first runs every queued render.</p>
+ */
+final class ControlRenderQueue {
+
+    private static final Map<ChunkKey, PendingRenders> pendingRenders = new HashMap<>();
+
+    private ControlRenderQueue() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Queues the given render for the chunk of the given location
+     *
+     * @param location  <p>The location of the rendered control</p>
+     * @param renderKey <p>A key identifying the rendered control</p>
+     * @param priority  <p>The priority of the render</p>
+     * @param render    <p>The render to run</p>
+     */
+    static void queue(Location location, Object renderKey, TaskPriority priority, Runnable render) {
+        World world = location.getWorld();
+        UUID worldId = world == null ? null : world.getUID();
+        long chunk = VectorUtils.packChunkPosition(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        ChunkKey chunkKey = new ChunkKey(worldId, chunk);
+        synchronized (pendingRenders) {
+            PendingRenders renders = pendingRenders.get(chunkKey);
+            if (renders == null) {
+                renders = new PendingRenders();
+                pendingRenders.put(chunkKey, renders);
+            }
+            renders.renders.put(renderKey, render);
+            if (priority == TaskPriority.INTERACTIVE) {
+                if (renders.isInteractiveScheduled) {
+                    return;
+                }
+                renders.isInteractiveScheduled = true;
+            } else if (renders.isScheduled) {
+                return;
+            }
+            renders.isScheduled = true;
+        }
+        new StargateRegionTask(location, priority) {
+            @Override
+            public void run() {
+                PendingRenders renders;
+                synchronized (pendingRenders) {
+                    renders = pendingRenders.remove(chunkKey);
+                }
+                if (renders == null) {
+                    return;
+                }
+                for (Runnable render : renders.renders.values()) {
+                    try {
+                        render.run();
+                    } catch (RuntimeException e) {
+                        //One failing render should not keep the other controls in the chunk from being rendered
+                        Stargate.log(e);
+                    }
+                }
+            }
+        }.runNow();
+    }
+
+    private record ChunkKey(UUID worldId, long chunk) {
+
+    }
+
+    /**
+     * The renders queued for a chunk, and which tasks have been scheduled to run them
+     */
+    private static final class PendingRenders {
+
+        private final Map<Object, Runnable> renders = new LinkedHashMap<>();
+        private boolean isScheduled = false;
+        private boolean isInteractiveScheduled = false;
+    }
+}
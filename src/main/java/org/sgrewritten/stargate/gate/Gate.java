@@ -20,6 +20,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.sgrewritten.stargate.Stargate;
 import org.sgrewritten.stargate.api.event.portal.StargateSignFormatPortalEvent;
+import org.sgrewritten.stargate.api.gate.BlockPositionConsumer;
 import org.sgrewritten.stargate.api.gate.GateAPI;
 import org.sgrewritten.stargate.api.gate.GateFormatAPI;
 import org.sgrewritten.stargate.api.gate.GateStructureType;
@@ -40,9 +41,13 @@ import org.sgrewritten.stargate.api.vectorlogic.VectorOperation;
 import org.sgrewritten.stargate.exception.GateConflictException;
 import org.sgrewritten.stargate.exception.InvalidStructureException;
 import org.sgrewritten.stargate.manager.BlockDropManager;
+import org.sgrewritten.stargate.metrics.Counter;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
 import org.sgrewritten.stargate.network.portal.portaldata.GateData;
 import org.sgrewritten.stargate.property.StargateConstant;
 import org.sgrewritten.stargate.thread.task.StargateRegionTask;
+import org.sgrewritten.stargate.thread.task.TaskPriority;
 import org.sgrewritten.stargate.util.ButtonHelper;
 import org.sgrewritten.stargate.util.VectorUtils;
 
@@ -56,6 +61,8 @@ import java.util.logging.Level;
  */
 public class Gate implements GateAPI {
 
+    private static final Counter signRedraws = StargateMetrics.getCounter(MetricName.of("sign_redraws"));
+    private static final Counter skippedSignRedraws = StargateMetrics.getCounter(MetricName.of("sign_redraws_skipped"));
     private final @NotNull GateFormatAPI format;
     private final VectorOperation converter;
     private Location topLeft;
@@ -65,6 +72,9 @@ public class Gate implements GateAPI {
     private boolean flipped;
     private final @NotNull RegistryAPI registry;
     private RealPortal portal;
+    private final Map<GateStructureType, int[]> structurePositions = new EnumMap<>(GateStructureType.class);
+    private final Map<GateStructureType, List<BlockLocation>> structureLocations = new EnumMap<>(GateStructureType.class);
+    private int[] controlPositions;
 
 
     /**
@@ -89,6 +99,9 @@ public class Gate implements GateAPI {
         if (matchesFormat(signLocation, alwaysOn)) {
             return;
         }
+        if (format instanceof GateFormat gateFormat && gateFormat.getMatcher().isSymmetric()) {
+            throw new InvalidStructureException("Format does not match with signlocation in world");
+        }
         converter.setFlipZAxis(true);
         flipped = true;
         if (matchesFormat(signLocation, alwaysOn)) {
@@ -112,6 +125,7 @@ public class Gate implements GateAPI {
         this.facing = gateData.facing();
         this.flipped = gateData.flipZ();
         this.registry = Preconditions.checkNotNull(registry);
+        computeWorldPositions();
     }
 
     @Override
@@ -136,6 +150,9 @@ public class Gate implements GateAPI {
     /**
      * Draws this gate's signs
      *
+     * <p>The sign is only updated if the lines formatted by the {@link StargateSignFormatPortalEvent} differ from the
+     * lines currently on the sign.</p>
+     *
      * @param lineData <p>The lines to draw on the sign</p>
      */
     private void drawSign(PortalPosition portalPosition, final LineData[] lineData) {
@@ -144,29 +161,64 @@ public class Gate implements GateAPI {
         }
         SignLine[] signLines = lineFormatter.formatLineData(lineData);
         Location signLocation = getLocation(portalPosition.getRelativePositionLocation());
-        new StargateRegionTask(signLocation) {
-            @Override
-            public void run() {
-                Stargate.log(Level.FINER, "Drawing sign at location " + signLocation);
-                BlockState signState = signLocation.getBlock().getState();
-                if (!(signState instanceof Sign sign)) {
-                    Stargate.log(Level.FINE, "Could not find sign at position " + signLocation);
-                    return;
+        //A sign of an active portal is redrawn because a player is using it, so they are waiting for it
+        TaskPriority priority = portal != null && portal.isActive() ? TaskPriority.INTERACTIVE : TaskPriority.BULK;
+        ControlRenderQueue.queue(signLocation, new RenderKey(this, portalPosition), priority, () -> {
+            if (Stargate.isLoggable(Level.FINER)) {
+                Stargate.log(Level.FINER, "Drawing sign at location %s", signLocation);
+            }
+            BlockState signState = signLocation.getBlock().getState();
+            if (!(signState instanceof Sign sign)) {
+                if (Stargate.isLoggable(Level.FINE)) {
+                    Stargate.log(Level.FINE, "Could not find sign at position %s", signLocation);
                 }
-                StargateSignFormatPortalEvent event = new StargateSignFormatPortalEvent(portal, signLines, portalPosition, signLocation);
-                Bukkit.getPluginManager().callEvent(event);
-                SignLine[] newSignLines = event.getLines();
-                setSignLines(sign, newSignLines);
+                return;
+            }
+            StargateSignFormatPortalEvent event = new StargateSignFormatPortalEvent(portal, signLines, portalPosition, signLocation);
+            Bukkit.getPluginManager().callEvent(event);
+            //Comparing against the sign itself also catches signs changed by anything else since they were drawn
+            if (setSignLines(sign, getComponents(event.getLines()))) {
                 sign.update();
+                signRedraws.increment();
+            } else {
+                if (Stargate.isLoggable(Level.FINEST)) {
+                    Stargate.log(Level.FINEST, "Skipping update of unchanged sign at %s", signLocation);
+                }
+                skippedSignRedraws.increment();
+            }
+        });
+    }
+
+    /**
+     * Sets the lines of the given sign state
+     *
+     * @param sign       <p>The sign state to modify</p>
+     * @param components <p>The components to show on each line</p>
+     * @return <p>True if any line was changed</p>
+     */
+    private boolean setSignLines(Sign sign, StargateComponent[] components) {
+        boolean changed = false;
+        for (int i = 0; i < 4; i++) {
+            if (!components[i].isOnSignLine(i, sign)) {
+                components[i].setSignLine(i, sign);
+                changed = true;
             }
-        }.runNow();
+        }
+        return changed;
     }
 
-    private void setSignLines(Sign sign, SignLine[] signLines) {
+    /**
+     * Combines each of the given sign lines into a single component
+     *
+     * @param signLines <p>The sign lines to combine</p>
+     * @return <p>The component of each line</p>
+     */
+    private static StargateComponent[] getComponents(SignLine[] signLines) {
+        StargateComponent[] components = new StargateComponent[4];
         for (int i = 0; i < 4; i++) {
-            StargateComponent line = StargateComponentCombiner.getComponent(signLines[i]);
-            line.setSignLine(i, sign);
+            components[i] = StargateComponentCombiner.getComponent(signLines[i]);
         }
+        return components;
     }
 
     /**
@@ -174,22 +226,21 @@ public class Gate implements GateAPI {
      */
     private void drawButton(PortalPosition portalPosition) {
         Location buttonLocation = getLocation(portalPosition.getRelativePositionLocation());
-        new StargateRegionTask(buttonLocation) {
-            @Override
-            public void run() {
-                Material blockType = buttonLocation.getBlock().getType();
-                if (ButtonHelper.isButton(blockType)) {
-                    return;
-                }
-                Material buttonMaterial = ButtonHelper.getButtonMaterial(buttonLocation);
-                Stargate.log(Level.FINEST, "buttonMaterial: " + buttonMaterial);
-                Directional buttonData = (Directional) Bukkit.createBlockData(buttonMaterial);
-                buttonData.setFacing(facing);
-
-                buttonLocation.getBlock().setBlockData(buttonData);
-                BlockDropManager.disableBlockDrops(buttonLocation.getBlock());
+        ControlRenderQueue.queue(buttonLocation, new RenderKey(this, portalPosition), TaskPriority.BULK, () -> {
+            Material blockType = buttonLocation.getBlock().getType();
+            if (ButtonHelper.isButton(blockType)) {
+                return;
             }
-        }.runNow();
+            Material buttonMaterial = ButtonHelper.getButtonMaterial(buttonLocation);
+            if (Stargate.isLoggable(Level.FINEST)) {
+                Stargate.log(Level.FINEST, "buttonMaterial: %s", buttonMaterial);
+            }
+            Directional buttonData = (Directional) Bukkit.createBlockData(buttonMaterial);
+            buttonData.setFacing(facing);
+
+            buttonLocation.getBlock().setBlockData(buttonData);
+            BlockDropManager.disableBlockDrops(buttonLocation.getBlock());
+        });
     }
 
     /**
@@ -198,14 +249,21 @@ public class Gate implements GateAPI {
      */
     private List<PortalPosition> getActivePortalPositions(PositionType type) {
         List<PortalPosition> output = new ArrayList<>();
-        Stargate.log(Level.FINEST, "Checking active portal positions");
+        boolean isLogged = Stargate.isLoggable(Level.FINEST);
+        if (isLogged) {
+            Stargate.log(Level.FINEST, "Checking active portal positions");
+        }
         for (PortalPosition portalPosition : getPortalPositions()) {
             if (portalPosition.getPositionType() != type || !portalPosition.isActive()) {
-                Stargate.log(Level.FINEST, type.name() + ":" + portalPosition.getPositionType() + ", " + portalPosition.isActive() + ", " + portalPosition.getRelativePositionLocation());
+                if (isLogged) {
+                    Stargate.log(Level.FINEST, type.name() + ":" + portalPosition.getPositionType() + ", " + portalPosition.isActive() + ", " + portalPosition.getRelativePositionLocation());
+                }
                 continue;
             }
             if (portalPosition.getPluginName().equals(StargateConstant.STARGATE_NAME)) {
-                Stargate.log(Level.FINEST, "Found, " + type.name() + " at " + portalPosition.getRelativePositionLocation());
+                if (isLogged) {
+                    Stargate.log(Level.FINEST, "Found, " + type.name() + " at " + portalPosition.getRelativePositionLocation());
+                }
                 output.add(portalPosition);
             }
         }
@@ -214,12 +272,15 @@ public class Gate implements GateAPI {
 
     @Override
     public List<BlockLocation> getLocations(GateStructureType structureType) {
-        List<BlockLocation> output = new ArrayList<>();
-        for (BlockVector structurePositionVector : getFormat().getStructure(structureType.getGateFormatEquivalent()).getStructureTypePositions()) {
-            Location structureLocation = getLocation(structurePositionVector);
-            output.add(new BlockLocation(structureLocation));
+        return structureLocations.get(structureType);
+    }
+
+    @Override
+    public void forEachLocation(GateStructureType structureType, BlockPositionConsumer action) {
+        int[] positions = structurePositions.get(structureType);
+        for (int i = 0; i < positions.length; i += 3) {
+            action.accept(positions[i], positions[i + 1], positions[i + 2]);
         }
-        return output;
     }
 
     @Override
@@ -282,16 +343,16 @@ public class Gate implements GateAPI {
      * @param material <p>The new material to use for the iris</p>
      */
     private void setIrisMaterial(Material material) {
-        List<BlockLocation> locations = getLocations(GateStructureType.IRIS);
+        World world = topLeft.getWorld();
         BlockData blockData = Bukkit.createBlockData(material);
 
         if (blockData instanceof Orientable orientation) {
             orientation.setAxis(converter.getIrisNormal());
         }
 
-        for (BlockLocation blockLocation : locations) {
-            Block block = blockLocation.getLocation().getBlock();
-            new StargateRegionTask(block.getLocation()) {
+        forEachLocation(GateStructureType.IRIS, (x, y, z) -> {
+            Block block = world.getBlockAt(x, y, z);
+            new StargateRegionTask(block.getLocation(), TaskPriority.INTERACTIVE) {
                 @Override
                 public void run() {
                     block.setBlockData(blockData);
@@ -307,7 +368,7 @@ public class Gate implements GateAPI {
                     }
                 }
             }.runNow();
-        }
+        });
     }
 
     @Override
@@ -318,9 +379,7 @@ public class Gate implements GateAPI {
     /**
      * Checks if the built stargate matches this gate's format
      *
-     * <p>This will try to match the format regardless of which control block the sign was placed on
-     * TODO: symmetric formats will be checked twice, make a way to determine if a format is symmetric to avoid this
-     * </p>
+     * <p>This will try to match the format regardless of which control block the sign was placed on</p>
      *
      * @param location <p>The location of a control-block</p>
      * @param alwaysOn <p>Whether the new portal is set as always-on</p>
@@ -336,6 +395,8 @@ public class Gate implements GateAPI {
              * hypothetical sign position in format space.
              */
             topLeft = location.clone().subtract(converter.performToRealSpaceOperation(controlBlock));
+            // Only the control blocks are needed until the format matches
+            controlPositions = toWorldPositions(controlBlocks);
             // Clear all portal positions
             portalPositions.clear();
             //Calculate all relevant portal positions
@@ -344,9 +405,14 @@ public class Gate implements GateAPI {
             } catch (InvalidStructureException e) {
                 continue;
             }
-            if (isValid()) {
-                return true;
+            if (!hasValidStructure()) {
+                continue;
             }
+            computeWorldPositions();
+            if (hasGateFrameConflict(registry) || hasGateControlConflict()) {
+                throw new GateConflictException();
+            }
+            return true;
         }
         return false;
     }
@@ -367,6 +433,11 @@ public class Gate implements GateAPI {
         return false;
     }
 
+    @Override
+    public boolean hasValidStructure() {
+        return getFormat().matches(converter, topLeft);
+    }
+
     @Override
     public void calculatePortalPositions(boolean alwaysOn) throws InvalidStructureException {
         //First find buttons and signs on the Stargate
@@ -405,18 +476,26 @@ public class Gate implements GateAPI {
      */
     private List<BlockVector> findExistingPortalPositions(boolean alwaysOn) {
         List<BlockVector> foundVectors = new ArrayList<>();
-        for (BlockVector blockVector : getFormat().getControlBlocks()) {
-            Material material = getLocation(blockVector).getBlock().getType();
+        World world = topLeft.getWorld();
+        List<BlockVector> controlBlocks = getFormat().getControlBlocks();
+        for (int i = 0; i < controlBlocks.size(); i++) {
+            BlockVector blockVector = controlBlocks.get(i);
+            Material material = world.getBlockAt(controlPositions[i * 3], controlPositions[i * 3 + 1],
+                    controlPositions[i * 3 + 2]).getType();
             if (!isControl(material)) {
                 continue;
             }
 
             if (Tag.WALL_SIGNS.isTagged(material)) {
                 portalPositions.add(new PortalPosition(PositionType.SIGN, blockVector, StargateConstant.STARGATE_NAME));
-                Stargate.log(Level.FINEST, "Adding a SIGN at " + blockVector);
+                if (Stargate.isLoggable(Level.FINEST)) {
+                    Stargate.log(Level.FINEST, "Adding a SIGN at %s", blockVector);
+                }
             } else if (!alwaysOn && ButtonHelper.isButton(material)) {
                 portalPositions.add(new PortalPosition(PositionType.BUTTON, blockVector, StargateConstant.STARGATE_NAME));
-                Stargate.log(Level.FINEST, "Adding a BUTTON at " + blockVector);
+                if (Stargate.isLoggable(Level.FINEST)) {
+                    Stargate.log(Level.FINEST, "Adding a BUTTON at %s", blockVector);
+                }
             }
             foundVectors.add(blockVector);
         }
@@ -439,10 +518,14 @@ public class Gate implements GateAPI {
      * @return <p>True if there is a conflict</p>
      */
     private boolean hasGateFrameConflict(RegistryAPI registry) {
-        List<BlockLocation> frameLocations = this.getLocations(GateStructureType.FRAME);
-        for (BlockLocation blockLocation : frameLocations) {
-            if (registry.getPortal(blockLocation, GateStructureType.values()) != null) {
-                return true;
+        World world = topLeft.getWorld();
+        int[] framePositions = structurePositions.get(GateStructureType.FRAME);
+        for (int i = 0; i < framePositions.length; i += 3) {
+            for (GateStructureType structureType : GateStructureType.values()) {
+                if (registry.getPortal(world, framePositions[i], framePositions[i + 1], framePositions[i + 2],
+                        structureType) != null) {
+                    return true;
+                }
             }
         }
         return false;
@@ -475,6 +558,45 @@ public class Gate implements GateAPI {
         setOpen(open);
     }
 
+    /**
+     * Computes the world coordinates of this gate's structure and control blocks
+     *
+     * <p>The coordinates are stored as consecutive x, y and z values, and only need to be computed again if the
+     * top-left location changes, which only happens while matching the format. While matching, they are only computed
+     * once the format matches.</p>
+     */
+    private void computeWorldPositions() {
+        World world = topLeft.getWorld();
+        for (GateStructureType structureType : GateStructureType.values()) {
+            int[] positions = toWorldPositions(getFormat().getStructure(structureType.getGateFormatEquivalent()).getStructureTypePositions());
+            List<BlockLocation> locations = new ArrayList<>(positions.length / 3);
+            for (int i = 0; i < positions.length; i += 3) {
+                locations.add(new BlockLocation(new Location(world, positions[i], positions[i + 1], positions[i + 2])));
+            }
+            structurePositions.put(structureType, positions);
+            structureLocations.put(structureType, Collections.unmodifiableList(locations));
+        }
+        controlPositions = toWorldPositions(getFormat().getControlBlocks());
+    }
+
+    /**
+     * Converts the given format space vectors to world coordinates
+     *
+     * @param vectors <p>The vectors to convert</p>
+     * @return <p>The x, y and z world coordinates of each vector in order</p>
+     */
+    private int[] toWorldPositions(List<BlockVector> vectors) {
+        int[] positions = new int[vectors.size() * 3];
+        int i = 0;
+        for (BlockVector vector : vectors) {
+            Location location = getLocation(vector);
+            positions[i++] = location.getBlockX();
+            positions[i++] = location.getBlockY();
+            positions[i++] = location.getBlockZ();
+        }
+        return positions;
+    }
+
     @Override
     public Location getTopLeft() {
         return this.topLeft;
@@ -483,13 +605,17 @@ public class Gate implements GateAPI {
     @Override
     public PortalPosition addPortalPosition(Location location, PositionType type, String pluginName) {
         BlockVector relativeBlockVector = this.getRelativeVector(location).toBlockVector();
-        Stargate.log(Level.FINEST, String.format("Adding portal position %s with relative position %s", type.toString(), relativeBlockVector));
+        if (Stargate.isLoggable(Level.FINEST)) {
+            Stargate.log(Level.FINEST, "Adding portal position %s with relative position %s", type, relativeBlockVector);
+        }
         return this.addPortalPosition(relativeBlockVector, type, pluginName);
     }
 
     @Override
     public void addPortalPosition(PortalPosition portalPosition) {
-        Stargate.log(Level.FINEST, String.format("Adding portal position %s with relative position %s", portalPosition.getPositionType(), portalPosition.getRelativePositionLocation()));
+        if (Stargate.isLoggable(Level.FINEST)) {
+            Stargate.log(Level.FINEST, "Adding portal position %s with relative position %s", portalPosition.getPositionType(), portalPosition.getRelativePositionLocation());
+        }
         this.portalPositions.add(portalPosition);
     }
 
@@ -554,4 +680,11 @@ public class Gate implements GateAPI {
     public RealPortal getPortal() {
         return this.portal;
     }
+
+    /**
+     * Identifies a control of a specific gate, as portal positions are only unique within a gate
+     */
+    private record RenderKey(Gate gate, PortalPosition portalPosition) {
+
+    }
 }
@@ -29,6 +29,7 @@ public class GateFormat implements GateFormatAPI {
     private final String name;
     private final boolean isIronDoorBlockable;
     private final BoundingBox boundingBox;
+    private final GateFormatMatcher matcher;
 
     /**
      * Instantiates a new gate format
@@ -50,6 +51,7 @@ public class GateFormat implements GateFormatAPI {
         this.isIronDoorBlockable = isIronDoorBlockable;
         this.controlMaterials = controlMaterials;
         this.boundingBox = calculateBoundingBox();
+        this.matcher = new GateFormatMatcher(portalParts);
     }
 
     private BoundingBox calculateBoundingBox() {
@@ -88,16 +90,28 @@ public class GateFormat implements GateFormatAPI {
      * @return <p>True if the stargate matches this format</p>
      */
     public boolean matches(VectorOperation converter, Location topLeft) {
+        boolean isLogged = Stargate.isLoggable(Level.FINER);
         for (Map.Entry<GateFormatStructureType, GateStructure> entry: portalParts.entrySet()) {
-            Stargate.log(Level.FINER, "---Validating " + entry.getKey());
+            if (isLogged) {
+                Stargate.log(Level.FINER, "---Validating %s", entry.getKey());
+            }
             if (!(entry.getValue().isValidState(converter, topLeft))) {
-                Stargate.log(Level.FINER, entry.getKey() + " returned negative");
+                if (isLogged) {
+                    Stargate.log(Level.FINER, "%s returned negative", entry.getKey());
+                }
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * @return <p>This format compiled for quickly checking whether a gate could be built around a sign</p>
+     */
+    public GateFormatMatcher getMatcher() {
+        return matcher;
+    }
+
     /**
      * Gets the locations of this gate format's control blocks
      *
@@ -0,0 +1,188 @@
+package org.sgrewritten.stargate.gate;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.BlockVector;
+import org.sgrewritten.stargate.api.gate.structure.GateFormatStructureType;
+import org.sgrewritten.stargate.api.gate.structure.GateStructure;
+import org.sgrewritten.stargate.api.vectorlogic.MatrixVectorOperation;
+import org.sgrewritten.stargate.exception.InvalidStructureException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A gate format compiled for quickly checking whether a gate could be built around a sign
+ *
+ * <p>Every block of the format is stored with the materials it may have, and the blocks allowing the fewest materials
+ * are checked first, so that a non-matching format is usually rejected after reading one or two blocks. The positions
+ * of the blocks are rotated for every sign facing when the format is loaded.</p>
+ *
+ * <p>A format which is the same when mirrored is only checked unmirrored, as the mirrored format placed on one control
+ * block covers the same blocks as the unmirrored format placed on the mirrored control block.</p>
+ */
+public final class GateFormatMatcher {
+
+    private static final BlockFace[] FACINGS = {BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST, BlockFace.NORTH};
+    private static final Material[] MATERIALS = Arrays.stream(Material.values())
+            .filter(material -> !material.isLegacy()).toArray(Material[]::new);
+
+    private final Set<?>[] cellMaterials;
+    private final int[][][] cellOffsets = new int[FACINGS.length * 2][][];
+    private final int[][][] controlOffsets = new int[FACINGS.length * 2][][];
+    private final boolean symmetric;
+
+    /**
+     * Compiles the given gate format structures
+     *
+     * @param structures <p>The structures of the gate format to compile</p>
+     */
+    GateFormatMatcher(Map<GateFormatStructureType, GateStructure> structures) {
+        List<Cell> cells = new ArrayList<>();
+        Map<BlockVector, Cell> cellsByPosition = new HashMap<>();
+        for (Map.Entry<GateFormatStructureType, GateStructure> entry : structures.entrySet()) {
+            for (BlockVector position : entry.getValue().getStructureTypePositions()) {
+                Cell cell = new Cell(position, entry.getKey(), getValidMaterials(entry.getValue(), position));
+                cells.add(cell);
+                cellsByPosition.put(position, cell);
+            }
+        }
+        cells.sort(Comparator.comparingInt((Cell cell) -> cell.materials().size())
+                .thenComparingInt(cell -> getCheckOrder(cell.type())));
+        this.cellMaterials = cells.stream().map(Cell::materials).toArray(Set<?>[]::new);
+        this.symmetric = isSymmetric(cellsByPosition);
+
+        List<BlockVector> controls = structures.get(GateFormatStructureType.CONTROL_BLOCK).getStructureTypePositions();
+        for (int i = 0; i < FACINGS.length; i++) {
+            for (int flip = 0; flip < 2; flip++) {
+                MatrixVectorOperation operation = createOperation(FACINGS[i]);
+                operation.setFlipZAxis(flip == 1);
+                cellOffsets[i * 2 + flip] = cells.stream()
+                        .map(cell -> toArray(operation.performToRealSpaceOperation(cell.position())))
+                        .toArray(int[][]::new);
+                controlOffsets[i * 2 + flip] = controls.stream()
+                        .map(control -> toArray(operation.performToRealSpaceOperation(control)))
+                        .toArray(int[][]::new);
+            }
+        }
+    }
+
+    /**
+     * @return <p>Whether the format is the same when mirrored</p>
+     */
+    public boolean isSymmetric() {
+        return symmetric;
+    }
+
+    /**
+     * Checks whether the blocks around the given sign match the format, with the sign on any of its control blocks
+     *
+     * <p>This only checks the materials of the blocks. A match still needs to be checked for conflicts with other
+     * gates, and for room for a button, by creating a {@link Gate}.</p>
+     *
+     * @param blocks       <p>The cache to read blocks from</p>
+     * @param signLocation <p>The location of the sign</p>
+     * @param signFacing   <p>The direction the sign is facing</p>
+     * @return <p>True if the blocks match the format</p>
+     */
+    public boolean matches(BlockMaterialCache blocks, Location signLocation, BlockFace signFacing) {
+        int facingIndex = Arrays.asList(FACINGS).indexOf(signFacing);
+        if (facingIndex == -1) {
+            return false;
+        }
+        for (int flip = 0; flip < (symmetric ? 1 : 2); flip++) {
+            int orientation = facingIndex * 2 + flip;
+            for (int[] control : controlOffsets[orientation]) {
+                int topLeftX = signLocation.getBlockX() - control[0];
+                int topLeftY = signLocation.getBlockY() - control[1];
+                int topLeftZ = signLocation.getBlockZ() - control[2];
+                if (matchesAt(blocks, cellOffsets[orientation], topLeftX, topLeftY, topLeftZ)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesAt(BlockMaterialCache blocks, int[][] offsets, int topLeftX, int topLeftY, int topLeftZ) {
+        for (int i = 0; i < offsets.length; i++) {
+            int[] offset = offsets[i];
+            Material material = blocks.getType(topLeftX + offset[0], topLeftY + offset[1], topLeftZ + offset[2]);
+            if (!cellMaterials[i].contains(material)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether every cell has a cell of the same type and materials at its position mirrored along the z-axis
+     *
+     * @param cellsByPosition <p>The cells of the format, by their position</p>
+     * @return <p>True if the format is the same when mirrored</p>
+     */
+    private static boolean isSymmetric(Map<BlockVector, Cell> cellsByPosition) {
+        int minZ = Integer.MAX_VALUE;
+        int maxZ = Integer.MIN_VALUE;
+        for (BlockVector position : cellsByPosition.keySet()) {
+            minZ = Math.min(minZ, position.getBlockZ());
+            maxZ = Math.max(maxZ, position.getBlockZ());
+        }
+        for (Cell cell : cellsByPosition.values()) {
+            BlockVector position = cell.position();
+            BlockVector mirrored = new BlockVector(position.getBlockX(), position.getBlockY(),
+                    minZ + maxZ - position.getBlockZ());
+            Cell mirroredCell = cellsByPosition.get(mirrored);
+            if (mirroredCell == null || mirroredCell.type() != cell.type() ||
+                    !mirroredCell.materials().equals(cell.materials())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Material> getValidMaterials(GateStructure structure, BlockVector position) {
+        Set<Material> materials = EnumSet.noneOf(Material.class);
+        for (Material material : MATERIALS) {
+            if (structure.matchesMaterial(position, material)) {
+                materials.add(material);
+            }
+        }
+        return materials;
+    }
+
+    /**
+     * Gets the order to check cells allowing the same amount of materials in, as frame blocks are the most likely to
+     * differ between formats
+     */
+    private static int getCheckOrder(GateFormatStructureType type) {
+        return switch (type) {
+            case FRAME -> 0;
+            case IRIS -> 1;
+            case CONTROL_BLOCK -> 2;
+        };
+    }
+
+    private static MatrixVectorOperation createOperation(BlockFace facing) {
+        try {
+            return new MatrixVectorOperation(facing);
+        } catch (InvalidStructureException e) {
+            throw new IllegalStateException("Unable to rotate towards " + facing, e);
+        }
+    }
+
+    private static int[] toArray(BlockVector vector) {
+        return new int[]{vector.getBlockX(), vector.getBlockY(), vector.getBlockZ()};
+    }
+
+    private record Cell(BlockVector position, GateFormatStructureType type, Set<Material> materials) {
+
+    }
+}
@@ -154,6 +154,10 @@ public class BlockEventListener implements Listener {
             event.setCancelled(true);
             return;
         }
+        // Gates of a world which is still being loaded are inert, and might conflict with any new portal
+        if (registry.isWorldLoading(event.getBlock().getWorld().getUID())) {
+            return;
+        }
         Player player = event.getPlayer();
         String portalName = event.getLine(0);
         String destinationName = event.getLine(1);
@@ -241,6 +245,10 @@ public class BlockEventListener implements Listener {
     public void onBlockFromTo(BlockFromToEvent event) {
         Block toBlock = event.getToBlock();
         Block fromBlock = event.getBlock();
+        if (!registry.hasPortalsNear(toBlock.getWorld(), toBlock.getX(), toBlock.getZ())
+                && !registry.hasPortalsNear(fromBlock.getWorld(), fromBlock.getX(), fromBlock.getZ())) {
+            return;
+        }
         if ((registry.getPortal(toBlock.getLocation(), GateStructureType.IRIS) != null) || (registry.getPortal(fromBlock.getLocation()) != null)) {
             event.setCancelled(true);
             return;
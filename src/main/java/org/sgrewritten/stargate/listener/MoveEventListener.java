@@ -139,6 +139,9 @@ public class MoveEventListener implements Listener {
         }
 
         if (portal == null) {
+            if (!registry.hasPortalsNear(toLocation.getWorld(), toLocation.getBlockX(), toLocation.getBlockZ())) {
+                return;
+            }
             portal = registry.getPortal(toLocation, GateStructureType.IRIS);
         }
         if (portal == null || !portal.isOpen()) {
@@ -148,8 +151,10 @@ public class MoveEventListener implements Listener {
         //Real velocity does not seem to work
         Vector newVelocity = toLocation.toVector().subtract(fromLocation.toVector());
         target.setVelocity(newVelocity);
-        Stargate.log(Level.FINER, "Trying to teleport entity, initial velocity: " + target.getVelocity() +
-                ", new velocity: " + newVelocity);
+        if (Stargate.isLoggable(Level.FINER)) {
+            Stargate.log(Level.FINER, "Trying to teleport entity, initial velocity: %s, new velocity: %s",
+                    target.getVelocity(), newVelocity);
+        }
         portal.doTeleport(target);
     }
 
@@ -201,11 +206,13 @@ public class MoveEventListener implements Listener {
                 boolean nearX = Math.abs(middle.getX() - toLocation.getX()) < margin;
                 boolean nearY = Math.abs(middle.getY() - toLocation.getY()) < yMargin;
                 boolean nearZ = Math.abs(middle.getZ() - toLocation.getZ()) < margin;
-                Stargate.log(Level.FINEST, "Hit-box detection:");
-                Stargate.log(Level.FINEST, "Over speed threshold: " + overSpeedThreshold);
-                Stargate.log(Level.FINEST, "Near X: " + nearX);
-                Stargate.log(Level.FINEST, "Near Y: " + nearY);
-                Stargate.log(Level.FINEST, "Near Z: " + nearZ);
+                if (Stargate.isLoggable(Level.FINEST)) {
+                    Stargate.log(Level.FINEST, "Hit-box detection:");
+                    Stargate.log(Level.FINEST, "Over speed threshold: " + overSpeedThreshold);
+                    Stargate.log(Level.FINEST, "Near X: " + nearX);
+                    Stargate.log(Level.FINEST, "Near Y: " + nearY);
+                    Stargate.log(Level.FINEST, "Near Z: " + nearZ);
+                }
                 //Trigger hit-box for great speeds, or if the player hits a sliver of a hit-box outside the Stargate
                 if (overSpeedThreshold || (((nearX && !followsZAxis) || (nearZ && followsZAxis)) && nearY)) {
                     Stargate.log(Level.FINEST, "Player is entering END_PORTAL Stargate");
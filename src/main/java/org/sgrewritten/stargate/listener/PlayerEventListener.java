@@ -10,8 +10,10 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.sgrewritten.stargate.Stargate;
@@ -28,6 +30,7 @@ import org.sgrewritten.stargate.colors.ColorConverter;
 import org.sgrewritten.stargate.config.ConfigurationHelper;
 import org.sgrewritten.stargate.exception.database.StorageWriteException;
 import org.sgrewritten.stargate.manager.BlockLoggingManager;
+import org.sgrewritten.stargate.manager.PermissionCache;
 import org.sgrewritten.stargate.manager.StargatePermissionManager;
 import org.sgrewritten.stargate.property.PluginChannel;
 import org.sgrewritten.stargate.thread.task.StargateGlobalTask;
@@ -125,7 +128,7 @@ public class PlayerEventListener implements Listener {
             loggingCompatibility.logPlayerInteractEvent(event);
             event.setUseInteractedBlock(Event.Result.DENY);
             if (portal.isOpenFor(player)) {
-                Stargate.log(Level.FINEST, "Player name=" + player.getName());
+                Stargate.log(Level.FINEST, "Player name=%s", player.getName());
                 portal.getBehavior().onSignClick(event);
                 return;
             }
@@ -207,6 +210,26 @@ public class PlayerEventListener implements Listener {
         }
     }
 
+    /**
+     * Drops the cached permissions of a leaving player
+     *
+     * @param event <p>The triggered player quit event</p>
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        PermissionCache.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Drops the cached permissions of a player changing world, as permissions might be given per world
+     *
+     * @param event <p>The triggered player changed world event</p>
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        PermissionCache.invalidate(event.getPlayer().getUniqueId());
+    }
+
     /**
      * A stupid cheat to get serverName. A client is needed to get this data, hence
      * this stupid solution
@@ -5,11 +5,14 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.event.server.ServiceRegisterEvent;
+import org.bukkit.event.server.ServiceUnregisterEvent;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.sgrewritten.stargate.Stargate;
 import org.sgrewritten.stargate.economy.StargateEconomyAPI;
 import org.sgrewritten.stargate.manager.BlockLoggingManager;
+import org.sgrewritten.stargate.manager.PermissionCache;
 
 import java.util.Objects;
 import java.util.logging.Level;
@@ -38,6 +41,7 @@ public class PluginEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPluginEnable(PluginEnableEvent event) {
+        PermissionCache.invalidateAll();
         if (isEconomyPlugin(event.getPlugin())) {
             economyManager.setupEconomy();
         }
@@ -53,6 +57,7 @@ public class PluginEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPluginDisable(PluginDisableEvent event) {
+        PermissionCache.invalidateAll();
         if (isEconomyPlugin(event.getPlugin())) {
             Stargate.log(Level.WARNING, "Vault plugin lost.");
         }
@@ -61,6 +66,26 @@ public class PluginEventListener implements Listener {
         }
     }
 
+    /**
+     * Listens for services being registered, such as permission or chat providers, and drops cached permissions
+     *
+     * @param event <p>The triggered service register event</p>
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onServiceRegister(ServiceRegisterEvent event) {
+        PermissionCache.invalidateAll();
+    }
+
+    /**
+     * Listens for services being unregistered, such as permission or chat providers, and drops cached permissions
+     *
+     * @param event <p>The triggered service unregister event</p>
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onServiceUnregister(ServiceUnregisterEvent event) {
+        PermissionCache.invalidateAll();
+    }
+
     private boolean isEconomyPlugin(Plugin plugin) {
         return plugin.getName().equals("Vault");
     }
@@ -24,6 +24,9 @@ import org.sgrewritten.stargate.Stargate;
 import org.sgrewritten.stargate.api.config.ConfigurationOption;
 import org.sgrewritten.stargate.api.manager.BungeeManager;
 import org.sgrewritten.stargate.config.ConfigurationHelper;
+import org.sgrewritten.stargate.metrics.Counter;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
 import org.sgrewritten.stargate.property.PluginChannel;
 
 import java.io.ByteArrayInputStream;
@@ -41,6 +44,7 @@ import java.util.logging.Level;
  */
 public class StargateBungeePluginMessageListener implements PluginMessageListener {
 
+    private static final Counter receivedMessages = StargateMetrics.getCounter(MetricName.of("bungee_messages", "direction", "in"));
     private final BungeeManager bungeeManager;
 
     /**
@@ -77,6 +81,7 @@ public class StargateBungeePluginMessageListener implements PluginMessageListene
         if (!usingBungee || !channel.equals(PluginChannel.BUNGEE.getChannel())) {
             return;
         }
+        receivedMessages.increment();
 
         try {
             DataInputStream in = new DataInputStream(new ByteArrayInputStream(message));
@@ -91,15 +96,18 @@ public class StargateBungeePluginMessageListener implements PluginMessageListene
                 case GET_SERVER:
                     Stargate.setServerName(in.readUTF());
                     Stargate.setKnowsServerName(!Stargate.getServerName().isEmpty());
+                    if (Stargate.knowsServerName()) {
+                        bungeeManager.sendNetworkSnapshots();
+                    }
                     break;
                 case PLAYER_CONNECT, PLUGIN_ENABLE, PLUGIN_DISABLE:
                     break;
                 case NETWORK_CHANGED:
-                    bungeeManager.updateNetwork(in.readUTF());
+                    bungeeManager.updateNetwork(readMessage(in));
                     break;
                 case PLAYER_TELEPORT:
-                    Stargate.log(Level.FINEST, "trying to read player join json msg");
-                    bungeeManager.playerConnect(in.readUTF());
+                    Stargate.log(Level.FINEST, "trying to read player join msg");
+                    bungeeManager.playerConnect(readMessage(in));
                     break;
                 case LEGACY_BUNGEE:
                     bungeeManager.legacyPlayerConnect(in.readUTF());
@@ -113,5 +121,18 @@ public class StargateBungeePluginMessageListener implements PluginMessageListene
             Stargate.log(e);
         }
     }
+
+    /**
+     * Reads a forwarded message without decoding it, as it may be either binary or json
+     *
+     * @param in <p>The stream to read the message from</p>
+     * @return <p>The bytes of the message</p>
+     * @throws IOException <p>If the message could not be read</p>
+     */
+    private static byte[] readMessage(DataInputStream in) throws IOException {
+        byte[] message = new byte[in.readUnsignedShort()];
+        in.readFully(message);
+        return message;
+    }
 }
 
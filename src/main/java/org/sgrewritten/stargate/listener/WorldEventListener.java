@@ -2,12 +2,18 @@ package org.sgrewritten.stargate.listener;
 
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
 import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.event.world.WorldUnloadEvent;
 import org.sgrewritten.stargate.api.StargateAPI;
+import org.sgrewritten.stargate.api.network.Network;
+import org.sgrewritten.stargate.api.network.RegistryAPI;
 import org.sgrewritten.stargate.api.network.portal.RealPortal;
+import org.sgrewritten.stargate.api.network.portal.StargateChunk;
+import org.sgrewritten.stargate.util.portal.PortalHelper;
 
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 public class WorldEventListener implements Listener {
 
@@ -19,19 +25,27 @@ public class WorldEventListener implements Listener {
 
     @EventHandler
     void onWordUnload(WorldUnloadEvent event) {
-        List<RealPortal> unloadedPortals = stargateAPI.getRegistry().getAllPortals()
-                .filter(portal -> portal instanceof RealPortal)
-                .map(portal -> (RealPortal) portal)
-                .filter(realPortal -> realPortal.getWorldUuid().equals(event.getWorld().getUID()))
-                .toList();
-        unloadedPortals.forEach(stargateAPI.getRegistry()::unregisterPortal);
-        unloadedPortals.forEach(portal -> portal.getNetwork().removePortal(portal));
-        stargateAPI.getRegistry().updateAllPortals();
+        RegistryAPI registry = stargateAPI.getRegistry();
+        Set<Network> changedNetworks = new HashSet<>();
+        for (RealPortal portal : registry.getPortalsInWorld(event.getWorld().getUID())) {
+            Network network = portal.getNetwork();
+            registry.unregisterPortal(portal);
+            network.removePortal(portal);
+            changedNetworks.add(network);
+        }
+        //Only the networks which lost portals need to have their signs redrawn
+        changedNetworks.forEach(Network::updatePortals);
     }
 
     @EventHandler
     void onWorldLoad(WorldLoadEvent event) {
+        //The networks gaining portals are redrawn once the world's portals have been registered
         stargateAPI.getNetworkManager().loadWorld(event.getWorld(), stargateAPI);
-        stargateAPI.getRegistry().updateAllPortals();
+    }
+
+    @EventHandler
+    void onChunkLoad(ChunkLoadEvent event) {
+        Set<RealPortal> loadedPortals = stargateAPI.getRegistry().pollGateValidations(new StargateChunk(event.getChunk()));
+        loadedPortals.forEach(portal -> PortalHelper.registeredPortalValidityCheck(portal, stargateAPI));
     }
 }
@@ -0,0 +1,151 @@
+package org.sgrewritten.stargate.manager;
+
+import net.milkbowl.vault.chat.Chat;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of permission decisions, shared by all permission managers
+ *
+ * <p>Decisions are cached by player and permission node for a configured amount of ticks. Permission plugins do not
+ * tell other plugins when a permission changes, so a change might only be seen once the cached decision expires.
+ * The cache is therefore disabled unless a cache time is configured, and is cleared whenever a plugin or service is
+ * enabled or disabled, as well as for a player changing world or leaving. The parent nodes of every checked
+ * permission node, and the vault chat provider, are resolved once regardless.</p>
+ */
+public final class PermissionCache {
+
+    private static final Map<UUID, Map<String, Decision>> decisions = new ConcurrentHashMap<>();
+    private static final Map<String, String[]> parentPermissions = new ConcurrentHashMap<>();
+    private static volatile long cacheTime = 0;
+    private static volatile Chat metadataProvider;
+    private static volatile boolean hasResolvedMetadataProvider = false;
+
+    private PermissionCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Sets the time a permission decision is cached for
+     *
+     * @param cacheTicks <p>The time to cache decisions for, in ticks, or 0 to disable caching</p>
+     */
+    public static void setCacheTime(long cacheTicks) {
+        cacheTime = Math.max(0, cacheTicks) * 50;
+        decisions.clear();
+    }
+
+    /**
+     * Gets the cached decision for the given player and permission node
+     *
+     * @param playerId   <p>The unique id of the player</p>
+     * @param permission <p>The permission node</p>
+     * @return <p>The cached decision, or null if no valid decision is cached</p>
+     */
+    static @Nullable Boolean getDecision(UUID playerId, String permission) {
+        if (cacheTime == 0) {
+            return null;
+        }
+        Map<String, Decision> playerDecisions = decisions.get(playerId);
+        if (playerDecisions == null) {
+            return null;
+        }
+        Decision decision = playerDecisions.get(permission);
+        if (decision == null || decision.expiryTime() < System.currentTimeMillis()) {
+            return null;
+        }
+        return decision.hasPermission();
+    }
+
+    /**
+     * Caches a decision for the given player and permission node
+     *
+     * @param playerId      <p>The unique id of the player</p>
+     * @param permission    <p>The permission node</p>
+     * @param hasPermission <p>Whether the player has the permission</p>
+     */
+    static void putDecision(UUID playerId, String permission, boolean hasPermission) {
+        long time = cacheTime;
+        if (time == 0) {
+            return;
+        }
+        decisions.computeIfAbsent(playerId, key -> new ConcurrentHashMap<>())
+                .put(permission, new Decision(hasPermission, System.currentTimeMillis() + time));
+    }
+
+    /**
+     * Drops all cached decisions for the given player
+     *
+     * @param playerId <p>The unique id of the player</p>
+     */
+    public static void invalidate(UUID playerId) {
+        decisions.remove(playerId);
+    }
+
+    /**
+     * Drops all cached decisions, and resolves the vault chat provider again once needed
+     */
+    public static void invalidateAll() {
+        decisions.clear();
+        hasResolvedMetadataProvider = false;
+    }
+
+    /**
+     * Gets the parent nodes of the given permission node, from the closest to the root
+     *
+     * @param permission <p>The permission node to get the parents of</p>
+     * @return <p>The parent nodes of the permission node</p>
+     */
+    static String[] getParentPermissions(String permission) {
+        return parentPermissions.computeIfAbsent(permission, PermissionCache::computeParentPermissions);
+    }
+
+    /**
+     * Gets the vault chat metadata provider
+     *
+     * @return <p>The metadata provider, or null if none is available</p>
+     */
+    static @Nullable Chat getMetadataProvider() {
+        if (!hasResolvedMetadataProvider) {
+            metadataProvider = resolveMetadataProvider();
+            hasResolvedMetadataProvider = true;
+        }
+        return metadataProvider;
+    }
+
+    private static @Nullable Chat resolveMetadataProvider() {
+        if (Bukkit.getPluginManager().getPlugin("Vault") == null) {
+            return null;
+        }
+        RegisteredServiceProvider<Chat> registeredServiceProvider = Bukkit.getServicesManager().getRegistration(Chat.class);
+        if (registeredServiceProvider == null) {
+            return null;
+        }
+        return registeredServiceProvider.getProvider();
+    }
+
+    private static String[] computeParentPermissions(String permission) {
+        int parentCount = 0;
+        for (int i = 0; i < permission.length(); i++) {
+            if (permission.charAt(i) == '.') {
+                parentCount++;
+            }
+        }
+        String[] parents = new String[parentCount];
+        String parent = permission;
+        for (int i = 0; i < parentCount; i++) {
+            parent = parent.substring(0, parent.lastIndexOf('.'));
+            parents[i] = parent;
+        }
+        return parents;
+    }
+
+    private record Decision(boolean hasPermission, long expiryTime) {
+
+    }
+}
@@ -1,10 +1,9 @@
 package org.sgrewritten.stargate.manager;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.sgrewritten.stargate.Stargate;
 import org.sgrewritten.stargate.api.config.ConfigurationOption;
 import org.sgrewritten.stargate.api.formatting.LanguageManager;
@@ -22,14 +21,17 @@ import org.sgrewritten.stargate.exception.name.NameConflictException;
 import org.sgrewritten.stargate.exception.name.NameLengthException;
 import org.sgrewritten.stargate.network.StorageType;
 import org.sgrewritten.stargate.network.portal.VirtualPortal;
-import org.sgrewritten.stargate.property.StargateProtocolProperty;
+import org.sgrewritten.stargate.network.proxy.InterServerMessage;
+import org.sgrewritten.stargate.network.proxy.InterServerMessageCodec;
 import org.sgrewritten.stargate.property.StargateProtocolRequestType;
 import org.sgrewritten.stargate.util.BungeeHelper;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
 import java.util.logging.Level;
 
 public class StargateBungeeManager implements BungeeManager {
@@ -53,89 +55,167 @@ public class StargateBungeeManager implements BungeeManager {
     @Override
     public void updateNetwork(String message) {
         Stargate.log(Level.FINEST, message);
-        // Yes, a depricated method, needs to be there as spigot 1.16.5 does not support the new method
-        JsonObject json = (JsonObject) new JsonParser().parse(message);
+        try {
+            updateNetwork(InterServerMessageCodec.decodeJson(message));
+        } catch (IOException e) {
+            Stargate.log(e);
+        }
+    }
 
-        String requestTypeString = json.get(StargateProtocolProperty.REQUEST_TYPE.toString()).getAsString();
-        StargateProtocolRequestType requestType = StargateProtocolRequestType.valueOf(requestTypeString);
-        switch (requestType) {
-            case PORTAL_ADD, PORTAL_REMOVE -> portalAddOrRemove(json, requestType);
+    @Override
+    public void updateNetwork(byte[] message) {
+        try {
+            updateNetwork(InterServerMessageCodec.decode(message));
+        } catch (IOException e) {
+            Stargate.log(e);
+        }
+    }
+
+    private void updateNetwork(InterServerMessage message) {
+        switch (message.requestType()) {
+            case PORTAL_ADD, PORTAL_REMOVE -> portalAddOrRemove(message);
+            case NETWORK_SNAPSHOT, PORTAL_BATCH -> applyPortalList(message);
             case NETWORK_RENAME -> {
-                String oldId = json.get(StargateProtocolProperty.NETWORK.toString()).getAsString();
-                String newId = json.get(StargateProtocolProperty.NEW_NETWORK_NAME.toString()).getAsString();
                 try {
-                    registry.renameNetwork(newId, oldId, StorageType.INTER_SERVER);
+                    registry.renameNetwork(message.newName(), message.network(), StorageType.INTER_SERVER);
                 } catch (InvalidNameException | UnimplementedFlagException | NameLengthException e) {
                     Stargate.log(e);
                 }
             }
             case PORTAL_RENAME -> {
-                String oldName = json.get(StargateProtocolProperty.PORTAL.toString()).getAsString();
-                String newName = json.get(StargateProtocolProperty.NEW_PORTAL_NAME.toString()).getAsString();
-                String networkId = json.get(StargateProtocolProperty.NETWORK.toString()).getAsString();
-                Network network = registry.getNetwork(networkId, StorageType.INTER_SERVER);
+                Network network = registry.getNetwork(message.network(), StorageType.INTER_SERVER);
                 if (network == null) {
                     Stargate.log(Level.WARNING, "Could not rename cross server portal, as network did not exist");
                     return;
                 }
                 try {
-                    network.renamePortal(newName, oldName);
+                    network.renamePortal(message.newName(), message.portal());
                 } catch (InvalidNameException e) {
                     Stargate.log(e);
                 }
             }
+            default -> Stargate.log(Level.WARNING, "Received a " + message.requestType() +
+                    " message on the network update channel");
         }
     }
 
-    private void portalAddOrRemove(JsonObject json, StargateProtocolRequestType requestType) {
+    private void portalAddOrRemove(InterServerMessage message) {
+        Network targetNetwork = getOrCreateNetwork(message.network(), PortalFlag.parseFlags(message.flags()));
+        if (targetNetwork != null && applyPortalChange(targetNetwork, message)) {
+            targetNetwork.updatePortals();
+        }
+    }
 
-        String portalName = json.get(StargateProtocolProperty.PORTAL.toString()).getAsString();
-        String network = json.get(StargateProtocolProperty.NETWORK.toString()).getAsString();
-        String server = json.get(StargateProtocolProperty.SERVER.toString()).getAsString();
-        String flagString = json.get(StargateProtocolProperty.PORTAL_FLAG.toString()).getAsString();
-        Set<PortalFlag> flags = PortalFlag.parseFlags(flagString);
-        UUID ownerUUID = UUID.fromString(json.get(StargateProtocolProperty.OWNER.toString()).getAsString());
+    /**
+     * Applies every portal change in a snapshot or batch message, and then updates the network once
+     *
+     * <p>A snapshot first removes every portal the sending server had in the network, so that portals removed while
+     * the servers were not connected are removed here as well.</p>
+     *
+     * @param message <p>The snapshot or batch message to apply</p>
+     */
+    private void applyPortalList(InterServerMessage message) {
+        List<InterServerMessage> portals = message.portals();
+        Network targetNetwork = registry.getNetwork(message.network(), StorageType.INTER_SERVER);
+        if (targetNetwork == null) {
+            if (portals.isEmpty()) {
+                return;
+            }
+            targetNetwork = getOrCreateNetwork(message.network(), PortalFlag.parseFlags(portals.get(0).flags()));
+            if (targetNetwork == null) {
+                return;
+            }
+        }
+        if (message.requestType() == StargateProtocolRequestType.NETWORK_SNAPSHOT) {
+            for (Portal portal : new ArrayList<>(targetNetwork.getAllPortals())) {
+                if (portal instanceof VirtualPortal virtualPortal && virtualPortal.getServer().equals(message.server())) {
+                    targetNetwork.removePortal(virtualPortal);
+                }
+            }
+        }
+        for (InterServerMessage portal : portals) {
+            applyPortalChange(targetNetwork, portal);
+        }
+        Stargate.log(Level.FINE, "Applied %s of %d portals from server %s in inter-server network %s",
+                message.requestType(), portals.size(), message.server(), message.network());
+        targetNetwork.updatePortals();
+    }
 
+    private @Nullable Network getOrCreateNetwork(String network, Set<PortalFlag> flags) {
         try {
             networkManager.createNetwork(network, flags, false);
         } catch (NameConflictException ignored) {
         } catch (InvalidNameException | NameLengthException | UnimplementedFlagException e) {
             Stargate.log(e);
         }
+        Network targetNetwork = registry.getNetwork(network, StorageType.INTER_SERVER);
+        if (targetNetwork == null) {
+            Stargate.log(Level.WARNING, "Unable to get inter-server network " + network);
+        }
+        return targetNetwork;
+    }
+
+    /**
+     * Adds or removes a virtual portal, without updating the network
+     *
+     * @param targetNetwork <p>The network to add the portal to, or remove the portal from</p>
+     * @param message       <p>The portal add or remove message to apply</p>
+     * @return <p>True if the network was changed</p>
+     */
+    private boolean applyPortalChange(Network targetNetwork, InterServerMessage message) {
+        String portalName = message.portal();
+        Set<PortalFlag> flags = PortalFlag.parseFlags(message.flags());
+        VirtualPortal portal = new VirtualPortal(message.server(), portalName, targetNetwork, flags, message.owner());
         try {
-            Network targetNetwork = registry.getNetwork(network, StorageType.INTER_SERVER);
-            if (targetNetwork == null) {
-                Stargate.log(Level.WARNING, "Unable to get inter-server network " + network);
-                return;
-            }
-            VirtualPortal portal = new VirtualPortal(server, portalName, targetNetwork, flags, ownerUUID);
-            switch (requestType) {
+            switch (message.requestType()) {
                 case PORTAL_ADD -> {
                     targetNetwork.addPortal(portal);
-                    Stargate.log(Level.FINE, String.format("Adding virtual portal %s in inter-server network %s", portalName, network));
+                    Stargate.log(Level.FINE, "Adding virtual portal %s in inter-server network %s", portalName,
+                            targetNetwork.getId());
                 }
                 case PORTAL_REMOVE -> {
-                    Stargate.log(Level.FINE, String.format("Removing virtual portal %s in inter-server network %s", portalName, network));
+                    Stargate.log(Level.FINE, "Removing virtual portal %s in inter-server network %s", portalName,
+                            targetNetwork.getId());
                     targetNetwork.removePortal(portal);
                 }
                 default -> throw new UnsupportedOperationException();
-
             }
-            targetNetwork.updatePortals();
+            return true;
         } catch (NameConflictException exception) {
             Stargate.log(Level.FINE, exception);
+            return false;
         }
     }
 
+    @Override
+    public void sendNetworkSnapshots() {
+        registry.getNetworkRegistry(StorageType.INTER_SERVER).stream()
+                .forEach(network -> network.getPluginMessageSender().sendNetworkSnapshot(network));
+    }
+
     @Override
     public void playerConnect(String message) {
         Stargate.log(Level.FINEST, message);
+        try {
+            playerConnect(InterServerMessageCodec.decodeJson(message));
+        } catch (IOException e) {
+            Stargate.log(e);
+        }
+    }
+
+    @Override
+    public void playerConnect(byte[] message) {
+        try {
+            playerConnect(InterServerMessageCodec.decode(message));
+        } catch (IOException e) {
+            Stargate.log(e);
+        }
+    }
 
-        // Yes, a depricated method, needs to be there as spigot 1.16.5 does not support the new method
-        JsonObject json = (JsonObject) new JsonParser().parse(message);
-        String playerName = json.get(StargateProtocolProperty.PLAYER.toString()).getAsString();
-        String portalName = json.get(StargateProtocolProperty.PORTAL.toString()).getAsString();
-        String networkName = json.get(StargateProtocolProperty.NETWORK.toString()).getAsString();
+    private void playerConnect(InterServerMessage message) {
+        String playerName = message.player();
+        String portalName = message.portal();
+        String networkName = message.network();
 
         Player player = Bukkit.getServer().getPlayer(playerName);
         if (player == null) {
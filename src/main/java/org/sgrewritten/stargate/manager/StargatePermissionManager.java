@@ -1,10 +1,8 @@
 package org.sgrewritten.stargate.manager;
 
 import net.milkbowl.vault.chat.Chat;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.plugin.RegisteredServiceProvider;
 import org.sgrewritten.stargate.Stargate;
 import org.sgrewritten.stargate.api.config.ConfigurationOption;
 import org.sgrewritten.stargate.api.formatting.LanguageManager;
@@ -59,9 +57,10 @@ public class StargatePermissionManager implements PermissionManager {
      */
     public StargatePermissionManager(Entity target, LanguageManager languageManager) {
         this.target = target;
-        canProcessMetaData = setupMetadataProvider();
+        metadataProvider = PermissionCache.getMetadataProvider();
+        canProcessMetaData = metadataProvider != null;
         this.languageManager = languageManager;
-        Stargate.log(Level.CONFIG, "Checking permissions for entity " + target);
+        Stargate.log(Level.CONFIG, () -> "Checking permissions for entity " + target);
     }
 
     @Override
@@ -79,23 +78,6 @@ public class StargatePermissionManager implements PermissionManager {
         return disallowed;
     }
 
-    /**
-     * Tries to set up the vault chat metadata provider
-     *
-     * @return <p>True if successful</p>
-     */
-    private boolean setupMetadataProvider() {
-        if (Bukkit.getPluginManager().getPlugin("Vault") == null) {
-            return false;
-        }
-        RegisteredServiceProvider<Chat> registeredServiceProvider = Bukkit.getServicesManager().getRegistration(Chat.class);
-        if (registeredServiceProvider == null) {
-            return false;
-        }
-        metadataProvider = registeredServiceProvider.getProvider();
-        return true;
-    }
-
     /**
      * Checks whether the given entity has the given permission nodes
      *
@@ -105,9 +87,8 @@ public class StargatePermissionManager implements PermissionManager {
      */
     private boolean hasPermissions(Entity entity, List<String> permissions) {
         for (String permission : permissions) {
-            String message = " Checking permission '%s'. returned %s";
             boolean hasPermission = hasPermission(entity, permission);
-            Stargate.log(Level.CONFIG, String.format(message, permission, hasPermission));
+            Stargate.log(Level.CONFIG, () -> String.format(" Checking permission '%s'. returned %s", permission, hasPermission));
             if (!hasPermission) {
                 denyMessage = determineTranslatableMessageFromPermission(permission);
                 return false;
@@ -119,6 +100,9 @@ public class StargatePermissionManager implements PermissionManager {
     /**
      * Checks whether the given entity has the given permission node
      *
+     * <p>An entity with a parent node of the permission has the permission, unless the permission is explicitly set.
+     * Decisions for players are cached by the {@link PermissionCache}.</p>
+     *
      * @param entity     <p>The entity to check</p>
      * @param permission <p>The permission required</p>
      * @return <p>True if the entity has the given permission</p>
@@ -128,32 +112,26 @@ public class StargatePermissionManager implements PermissionManager {
         if (permission == null) {
             return true;
         }
-        boolean hasGivenPermission = entity.hasPermission(permission);
-
-        String parentPermission = getParentPermission(permission);
-        if (parentPermission == null) {
-            return hasGivenPermission;
+        boolean isPlayer = entity instanceof Player;
+        if (isPlayer) {
+            Boolean cachedDecision = PermissionCache.getDecision(entity.getUniqueId(), permission);
+            if (cachedDecision != null) {
+                return cachedDecision;
+            }
         }
 
-        //If the entity has the parent permission, allow unless explicitly defined
-        if (hasPermission(entity, parentPermission) && !entity.isPermissionSet(permission)) {
-            return true;
+        //Check from the root node down, as a node inherits the decision of its parent unless explicitly set
+        String[] parentPermissions = PermissionCache.getParentPermissions(permission);
+        boolean hasNodePermission = false;
+        for (int i = parentPermissions.length - 1; i >= -1; i--) {
+            String node = i < 0 ? permission : parentPermissions[i];
+            boolean hasGivenPermission = entity.hasPermission(node);
+            hasNodePermission = (hasNodePermission && !entity.isPermissionSet(node)) || hasGivenPermission;
         }
-        return hasGivenPermission;
-    }
-
-    /**
-     * Gets the parent node of a given permission node
-     *
-     * @param permissionNode <p>The permission node to get the parent of</p>
-     * @return <p>The permission's parent node</p>
-     */
-    private String getParentPermission(String permissionNode) {
-        //Return null if no parent exists
-        if (!permissionNode.contains(".")) {
-            return null;
+        if (isPlayer) {
+            PermissionCache.putDecision(entity.getUniqueId(), permission, hasNodePermission);
         }
-        return permissionNode.substring(0, permissionNode.lastIndexOf("."));
+        return hasNodePermission;
     }
 
     @Override
@@ -270,17 +248,18 @@ public class StargatePermissionManager implements PermissionManager {
         if (maxGates == -1) {
             maxGates = ConfigurationHelper.getInteger(ConfigurationOption.GATE_LIMIT);
         }
+        int gateLimit = maxGates;
 
         if (maxGates > -1 && !target.hasPermission(BypassPermission.GATE_LIMIT.getPermissionString())) {
             int existingGatesInNetwork = network.size();
 
             if (existingGatesInNetwork >= maxGates) {
                 denyMessage = languageManager.getErrorMessage(TranslatableMessage.NET_FULL);
-                Stargate.log(Level.CONFIG, String.format(" Network is full, maxGates = %s", maxGates));
+                Stargate.log(Level.CONFIG, () -> String.format(" Network is full, maxGates = %s", gateLimit));
                 return true;
             }
         }
-        Stargate.log(Level.CONFIG, String.format(" Network is not full, maxGates = %s", maxGates));
+        Stargate.log(Level.CONFIG, () -> String.format(" Network is not full, maxGates = %s", gateLimit));
         return false;
     }
 
@@ -300,7 +279,7 @@ public class StargatePermissionManager implements PermissionManager {
                 metaString, true)
                 && metadataProvider.getGroupInfoBoolean(target.getWorld().getName(), group, metaString, true));
 
-        Stargate.log(Level.CONFIG, String.format(" Checking 'can-followthrough' meta. Returned %s", canFollowThrough));
+        Stargate.log(Level.CONFIG, () -> String.format(" Checking 'can-followthrough' meta. Returned %s", canFollowThrough));
         if (!canFollowThrough) {
             denyMessage = languageManager.getErrorMessage(TranslatableMessage.TELEPORTATION_OCCUPIED);
         }
@@ -0,0 +1,58 @@
+package org.sgrewritten.stargate.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, lock-free count of events
+ *
+ * <p>Counting is spread over several cells when many threads count at once, so counting from region threads does not
+ * make them contend with each other. The rate of events is measured whenever the counter is sampled.</p>
+ */
+public class Counter implements CounterMBean {
+
+    private final LongAdder count = new LongAdder();
+    private long lastSampleCount = 0;
+    private long lastSampleTime = System.nanoTime();
+    private volatile double rate = 0;
+
+    /**
+     * Counts one event
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Counts the given amount of events
+     *
+     * @param amount <p>The amount of events to count</p>
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Measures the rate of events since the last sample
+     */
+    synchronized void sample() {
+        long now = System.nanoTime();
+        long currentCount = count.sum();
+        long elapsed = now - lastSampleTime;
+        if (elapsed <= 0) {
+            return;
+        }
+        rate = (currentCount - lastSampleCount) * 1_000_000_000D / elapsed;
+        lastSampleCount = currentCount;
+        lastSampleTime = now;
+    }
+}
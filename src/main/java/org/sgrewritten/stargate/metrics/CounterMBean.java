@@ -0,0 +1,17 @@
+package org.sgrewritten.stargate.metrics;
+
+/**
+ * The management interface of a {@link Counter}, as exposed through JMX
+ */
+public interface CounterMBean {
+
+    /**
+     * @return <p>The amount of counted events</p>
+     */
+    long getCount();
+
+    /**
+     * @return <p>The amount of events per second, measured over the last sample period</p>
+     */
+    double getRate();
+}
@@ -0,0 +1,25 @@
+package org.sgrewritten.stargate.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A value which is read whenever it is reported, such as the depth of a queue
+ */
+public class Gauge implements GaugeMBean {
+
+    private final LongSupplier supplier;
+
+    /**
+     * Instantiates a new gauge
+     *
+     * @param supplier <p>The supplier of the current value</p>
+     */
+    public Gauge(LongSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public long getValue() {
+        return supplier.getAsLong();
+    }
+}
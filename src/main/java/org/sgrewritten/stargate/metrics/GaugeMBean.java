@@ -0,0 +1,12 @@
+package org.sgrewritten.stargate.metrics;
+
+/**
+ * The management interface of a {@link Gauge}, as exposed through JMX
+ */
+public interface GaugeMBean {
+
+    /**
+     * @return <p>The current value of the gauge</p>
+     */
+    long getValue();
+}
@@ -0,0 +1,149 @@
+package org.sgrewritten.stargate.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, lock-free histogram of how long some operation takes
+ *
+ * <p>Latencies are counted in buckets with a fixed relative precision, like an HDR histogram: every power of two is
+ * split into {@value #SUB_BUCKETS} buckets, so a percentile is never off by more than about 6%, whether the
+ * operation takes microseconds or seconds. Recording a latency is a few atomic additions, and never blocks.</p>
+ */
+public class LatencyRecorder implements LatencyRecorderMBean {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Latencies above 2^41 nanoseconds (about 36 minutes) are counted in the last bucket
+    private static final int MAXIMUM_EXPONENT = 40;
+    private static final long MAXIMUM_LATENCY = (1L << (MAXIMUM_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = (MAXIMUM_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private volatile long lastLatency = 0;
+
+    /**
+     * Records one occurrence of the operation
+     *
+     * @param latency <p>The time the operation took, in nanoseconds</p>
+     */
+    public void record(long latency) {
+        long clampedLatency = Math.max(0, latency);
+        buckets.incrementAndGet(getBucket(clampedLatency));
+        count.increment();
+        totalLatency.add(clampedLatency);
+        lastLatency = clampedLatency;
+        long max = maxLatency.get();
+        while (clampedLatency > max && !maxLatency.compareAndSet(max, clampedLatency)) {
+            max = maxLatency.get();
+        }
+    }
+
+    /**
+     * Records one occurrence of the operation which started at the given time
+     *
+     * @param startTime <p>The {@link System#nanoTime()} at which the operation started</p>
+     */
+    public void recordSince(long startTime) {
+        record(System.nanoTime() - startTime);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getLastLatency() {
+        return lastLatency;
+    }
+
+    @Override
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+
+    @Override
+    public long getTotalLatency() {
+        return totalLatency.sum();
+    }
+
+    @Override
+    public long getAverageLatency() {
+        long recorded = getCount();
+        return recorded == 0 ? 0 : getTotalLatency() / recorded;
+    }
+
+    @Override
+    public long getMedianLatency() {
+        return getPercentile(50);
+    }
+
+    @Override
+    public long getPercentile99Latency() {
+        return getPercentile(99);
+    }
+
+    /**
+     * Gets the latency which the given percentage of the recorded occurrences did not exceed
+     *
+     * <p>Occurrences recorded while the percentile is computed might or might not be included.</p>
+     *
+     * @param percentile <p>The percentile to get, between 0 and 100</p>
+     * @return <p>The latency at the given percentile, in nanoseconds, or 0 if nothing was recorded</p>
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(recorded * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(getBucketMiddle(i), getMaxLatency());
+            }
+        }
+        return getMaxLatency();
+    }
+
+    /**
+     * Gets the bucket counting the given latency
+     *
+     * @param latency <p>A latency of at least 0</p>
+     * @return <p>The index of the bucket</p>
+     */
+    static int getBucket(long latency) {
+        long value = Math.min(latency, MAXIMUM_LATENCY);
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Gets the middle of the range of latencies counted in the given bucket
+     *
+     * @param bucket <p>The index of the bucket</p>
+     * @return <p>The latency in the middle of the bucket</p>
+     */
+    static long getBucketMiddle(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + ((1L << shift) >>> 1);
+    }
+}
@@ -0,0 +1,42 @@
+package org.sgrewritten.stargate.metrics;
+
+/**
+ * The management interface of a {@link LatencyRecorder}, as exposed through JMX
+ */
+public interface LatencyRecorderMBean {
+
+    /**
+     * @return <p>The amount of recorded occurrences</p>
+     */
+    long getCount();
+
+    /**
+     * @return <p>The latency of the last recorded occurrence, in nanoseconds</p>
+     */
+    long getLastLatency();
+
+    /**
+     * @return <p>The highest recorded latency, in nanoseconds</p>
+     */
+    long getMaxLatency();
+
+    /**
+     * @return <p>The sum of all recorded latencies, in nanoseconds</p>
+     */
+    long getTotalLatency();
+
+    /**
+     * @return <p>The average recorded latency, in nanoseconds</p>
+     */
+    long getAverageLatency();
+
+    /**
+     * @return <p>The median recorded latency, in nanoseconds</p>
+     */
+    long getMedianLatency();
+
+    /**
+     * @return <p>The latency which 99% of the recorded occurrences did not exceed, in nanoseconds</p>
+     */
+    long getPercentile99Latency();
+}
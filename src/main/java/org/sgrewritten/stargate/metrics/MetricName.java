@@ -0,0 +1,70 @@
+package org.sgrewritten.stargate.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * The name of a metric, with an optional label telling apart metrics of the same kind
+ *
+ * <p>Names and label keys should be lowercase words separated by underscores, so that they can be used as is in
+ * every exported format.</p>
+ *
+ * @param name       <p>The name of the metric</p>
+ * @param labelKey   <p>The key of the label, or null</p>
+ * @param labelValue <p>The value of the label, or null</p>
+ */
+public record MetricName(@NotNull String name, @Nullable String labelKey,
+                         @Nullable String labelValue) implements Comparable<MetricName> {
+
+    private static final Comparator<MetricName> COMPARATOR = Comparator.comparing(MetricName::name)
+            .thenComparing(MetricName::labelValue, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    public MetricName {
+        Objects.requireNonNull(name);
+        if ((labelKey == null) != (labelValue == null)) {
+            throw new IllegalArgumentException("A label needs both a key and a value");
+        }
+    }
+
+    /**
+     * Gets the name of a metric without a label
+     *
+     * @param name <p>The name of the metric</p>
+     * @return <p>The metric name</p>
+     */
+    public static MetricName of(String name) {
+        return new MetricName(name, null, null);
+    }
+
+    /**
+     * Gets the name of a labelled metric
+     *
+     * @param name       <p>The name of the metric</p>
+     * @param labelKey   <p>The key of the label</p>
+     * @param labelValue <p>The value of the label</p>
+     * @return <p>The metric name</p>
+     */
+    public static MetricName of(String name, String labelKey, String labelValue) {
+        return new MetricName(name, labelKey, labelValue);
+    }
+
+    /**
+     * @return <p>Whether this name has a label</p>
+     */
+    public boolean hasLabel() {
+        return labelKey != null;
+    }
+
+    @Override
+    public int compareTo(@NotNull MetricName other) {
+        return COMPARATOR.compare(this, other);
+    }
+
+    @Override
+    public String toString() {
+        return hasLabel() ? name + "{" + labelKey + "=" + labelValue + "}" : name;
+    }
+}
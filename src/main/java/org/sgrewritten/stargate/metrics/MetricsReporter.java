@@ -0,0 +1,97 @@
+package org.sgrewritten.stargate.metrics;
+
+import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.api.config.ConfigurationOption;
+import org.sgrewritten.stargate.config.ConfigurationHelper;
+import org.sgrewritten.stargate.thread.task.StargateAsyncTask;
+import org.sgrewritten.stargate.thread.task.StargateGlobalTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Samples the rates of every counter once a second, and regularly writes every metric to the configured Prometheus
+ * metrics file
+ *
+ * <p>The file is replaced atomically where the file system allows it, so that a collector reading it, such as the
+ * textfile collector of the node exporter, never sees a partially written file.</p>
+ */
+public class MetricsReporter implements Runnable {
+
+    private static final long SAMPLE_PERIOD = 20;
+    private static final int SAMPLES_PER_WRITE = 15;
+    private final File dataFolder;
+    private int samplesSinceWrite = 0;
+
+    /**
+     * Instantiates a new metrics reporter
+     *
+     * @param dataFolder <p>The folder the Prometheus metrics file is relative to</p>
+     */
+    public MetricsReporter(File dataFolder) {
+        this.dataFolder = dataFolder;
+    }
+
+    /**
+     * Starts sampling and writing metrics on the global thread (Folia) or on the main thread (paper)
+     */
+    public void start() {
+        new StargateGlobalTask() {
+            @Override
+            public void run() {
+                MetricsReporter.this.run();
+            }
+        }.runTaskTimer(SAMPLE_PERIOD, SAMPLE_PERIOD);
+    }
+
+    @Override
+    public void run() {
+        StargateMetrics.sampleRates();
+        if (++samplesSinceWrite < SAMPLES_PER_WRITE) {
+            return;
+        }
+        samplesSinceWrite = 0;
+        String fileName = ConfigurationHelper.getString(ConfigurationOption.PROMETHEUS_METRICS_FILE);
+        if (fileName == null || fileName.isBlank()) {
+            return;
+        }
+        File file = new File(dataFolder, fileName);
+        String metrics = PrometheusFormatter.format();
+        new StargateAsyncTask() {
+            @Override
+            public void run() {
+                try {
+                    write(file, metrics);
+                } catch (IOException e) {
+                    Stargate.log(e);
+                }
+            }
+        }.runNow();
+    }
+
+    /**
+     * Replaces the contents of the given file with the given metrics
+     *
+     * @param file    <p>The file to write to</p>
+     * @param metrics <p>The formatted metrics</p>
+     * @throws IOException <p>If unable to write the file</p>
+     */
+    static void write(File file, String metrics) throws IOException {
+        Path target = file.toPath();
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.writeString(temporary, metrics, StandardCharsets.UTF_8);
+        try {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.sgrewritten.stargate.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Formats every metric in the Prometheus text exposition format
+ *
+ * <p>Counters are exported with a {@code _total} suffix, and latencies as summaries in seconds, with their median,
+ * 90th and 99th percentile.</p>
+ */
+public final class PrometheusFormatter {
+
+    private static final String PREFIX = "stargate_";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000D;
+
+    private PrometheusFormatter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @return <p>Every metric, in the Prometheus text exposition format</p>
+     */
+    public static String format() {
+        StringBuilder builder = new StringBuilder();
+        String family = null;
+        for (Map.Entry<MetricName, Counter> entry : StargateMetrics.getCounters().entrySet()) {
+            String name = PREFIX + entry.getKey().name() + "_total";
+            family = appendType(builder, family, name, "counter");
+            appendSample(builder, name, entry.getKey(), null, entry.getValue().getCount());
+        }
+        for (Map.Entry<MetricName, Gauge> entry : StargateMetrics.getGauges().entrySet()) {
+            String name = PREFIX + entry.getKey().name();
+            family = appendType(builder, family, name, "gauge");
+            appendSample(builder, name, entry.getKey(), null, entry.getValue().getValue());
+        }
+        for (Map.Entry<MetricName, LatencyRecorder> entry : StargateMetrics.getLatencies().entrySet()) {
+            String name = PREFIX + entry.getKey().name() + "_seconds";
+            family = appendType(builder, family, name, "summary");
+            LatencyRecorder latency = entry.getValue();
+            for (double quantile : QUANTILES) {
+                appendSample(builder, name, entry.getKey(), "quantile=\"" + quantile + "\"",
+                        latency.getPercentile(quantile * 100) / NANOSECONDS_PER_SECOND);
+            }
+            appendSample(builder, name + "_sum", entry.getKey(), null,
+                    latency.getTotalLatency() / NANOSECONDS_PER_SECOND);
+            appendSample(builder, name + "_count", entry.getKey(), null, latency.getCount());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends the type of the given metric family, unless the previous metric was of the same family
+     *
+     * @param builder        <p>The builder to append to</p>
+     * @param previousFamily <p>The family of the previous metric</p>
+     * @param family         <p>The family of the metric to append</p>
+     * @param type           <p>The Prometheus type of the family</p>
+     * @return <p>The family of the metric to append</p>
+     */
+    private static String appendType(StringBuilder builder, String previousFamily, String family, String type) {
+        if (!family.equals(previousFamily)) {
+            builder.append("# TYPE ").append(family).append(' ').append(type).append('\n');
+        }
+        return family;
+    }
+
+    private static void appendSample(StringBuilder builder, String name, MetricName metricName, String extraLabel,
+                                     Number value) {
+        builder.append(name);
+        if (metricName.hasLabel() || extraLabel != null) {
+            builder.append('{');
+            if (metricName.hasLabel()) {
+                builder.append(metricName.labelKey()).append("=\"").append(escape(metricName.labelValue()))
+                        .append('"');
+                if (extraLabel != null) {
+                    builder.append(',');
+                }
+            }
+            if (extraLabel != null) {
+                builder.append(extraLabel);
+            }
+            builder.append('}');
+        }
+        builder.append(' ');
+        if (value instanceof Double doubleValue) {
+            builder.append(String.format(Locale.ROOT, "%.9f", doubleValue));
+        } else {
+            builder.append(value);
+        }
+        builder.append('\n');
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,202 @@
+package org.sgrewritten.stargate.metrics;
+
+import org.sgrewritten.stargate.Stargate;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+
+/**
+ * The registry of every metric measured by Stargate
+ *
+ * <p>Metrics are created on first use and live as long as the server, so hot code keeps a reference to its metric
+ * instead of looking it up every time. While JMX is enabled, every metric is also registered as an MBean in the
+ * {@value #JMX_DOMAIN} domain.</p>
+ */
+public final class StargateMetrics {
+
+    private static final String JMX_DOMAIN = "org.sgrewritten.stargate";
+    private static final Map<MetricName, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<MetricName, LatencyRecorder> latencies = new ConcurrentHashMap<>();
+    private static final Map<MetricName, Gauge> gauges = new ConcurrentHashMap<>();
+    private static MBeanServer mBeanServer = null;
+
+    private StargateMetrics() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Gets the counter with the given name, creating it if necessary
+     *
+     * @param name <p>The name of the counter</p>
+     * @return <p>The counter</p>
+     */
+    public static Counter getCounter(MetricName name) {
+        Counter counter = counters.get(name);
+        if (counter != null) {
+            return counter;
+        }
+        Counter createdCounter = new Counter();
+        counter = counters.putIfAbsent(name, createdCounter);
+        if (counter != null) {
+            return counter;
+        }
+        registerMBean("Counter", name, createdCounter);
+        return createdCounter;
+    }
+
+    /**
+     * Gets the latency recorder with the given name, creating it if necessary
+     *
+     * @param name <p>The name of the latency recorder</p>
+     * @return <p>The latency recorder</p>
+     */
+    public static LatencyRecorder getLatency(MetricName name) {
+        LatencyRecorder latency = latencies.get(name);
+        if (latency != null) {
+            return latency;
+        }
+        LatencyRecorder createdLatency = new LatencyRecorder();
+        latency = latencies.putIfAbsent(name, createdLatency);
+        if (latency != null) {
+            return latency;
+        }
+        registerMBean("Latency", name, createdLatency);
+        return createdLatency;
+    }
+
+    /**
+     * Registers a counter owned by something else, replacing any counter with the same name
+     *
+     * @param name    <p>The name of the counter</p>
+     * @param counter <p>The counter to register</p>
+     */
+    public static void registerCounter(MetricName name, Counter counter) {
+        if (counters.put(name, counter) != counter) {
+            registerMBean("Counter", name, counter);
+        }
+    }
+
+    /**
+     * Registers a latency recorder owned by something else, replacing any latency recorder with the same name
+     *
+     * @param name    <p>The name of the latency recorder</p>
+     * @param latency <p>The latency recorder to register</p>
+     */
+    public static void registerLatency(MetricName name, LatencyRecorder latency) {
+        if (latencies.put(name, latency) != latency) {
+            registerMBean("Latency", name, latency);
+        }
+    }
+
+    /**
+     * Registers a gauge, replacing any gauge with the same name
+     *
+     * @param name     <p>The name of the gauge</p>
+     * @param supplier <p>The supplier of the current value of the gauge</p>
+     */
+    public static void registerGauge(MetricName name, LongSupplier supplier) {
+        Gauge gauge = new Gauge(supplier);
+        gauges.put(name, gauge);
+        registerMBean("Gauge", name, gauge);
+    }
+
+    /**
+     * @return <p>Every counter, sorted by name</p>
+     */
+    public static SortedMap<MetricName, Counter> getCounters() {
+        return new TreeMap<>(counters);
+    }
+
+    /**
+     * @return <p>Every latency recorder, sorted by name</p>
+     */
+    public static SortedMap<MetricName, LatencyRecorder> getLatencies() {
+        return new TreeMap<>(latencies);
+    }
+
+    /**
+     * @return <p>Every gauge, sorted by name</p>
+     */
+    public static SortedMap<MetricName, Gauge> getGauges() {
+        return new TreeMap<>(gauges);
+    }
+
+    /**
+     * Measures the rate of every counter since the last sample
+     */
+    public static void sampleRates() {
+        counters.values().forEach(Counter::sample);
+    }
+
+    /**
+     * Registers every metric, and every metric created from now on, as an MBean on the platform MBean server
+     */
+    public static void registerMBeans() {
+        synchronized (StargateMetrics.class) {
+            if (mBeanServer != null) {
+                return;
+            }
+            mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        }
+        counters.forEach((name, counter) -> registerMBean("Counter", name, counter));
+        latencies.forEach((name, latency) -> registerMBean("Latency", name, latency));
+        gauges.forEach((name, gauge) -> registerMBean("Gauge", name, gauge));
+    }
+
+    /**
+     * Unregisters every MBean registered by {@link #registerMBeans()}
+     */
+    public static synchronized void unregisterMBeans() {
+        if (mBeanServer == null) {
+            return;
+        }
+        try {
+            for (ObjectName objectName : mBeanServer.queryNames(new ObjectName(JMX_DOMAIN + ":*"), null)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (InstanceNotFoundException ignored) {
+            //Already unregistered by someone else
+        } catch (JMException e) {
+            Stargate.log(Level.WARNING, "Unable to unregister the metrics MBeans: " + e.getMessage());
+        }
+        mBeanServer = null;
+    }
+
+    /**
+     * Registers the given metric as an MBean, if JMX is enabled, replacing any MBean with the same name
+     *
+     * @param type   <p>The type of the metric</p>
+     * @param name   <p>The name of the metric</p>
+     * @param metric <p>The metric, which implements its standard MBean interface</p>
+     */
+    private static synchronized void registerMBean(String type, MetricName name, Object metric) {
+        if (mBeanServer == null) {
+            return;
+        }
+        try {
+            String objectName = JMX_DOMAIN + ":type=" + type + ",name=" + name.name();
+            if (name.hasLabel()) {
+                objectName += "," + name.labelKey() + "=" + ObjectName.quote(name.labelValue());
+            }
+            ObjectName mBeanName = new ObjectName(objectName);
+            if (mBeanServer.isRegistered(mBeanName)) {
+                mBeanServer.unregisterMBean(mBeanName);
+            }
+            mBeanServer.registerMBean(metric, mBeanName);
+        } catch (InstanceAlreadyExistsException ignored) {
+            //Registered by another thread in the meantime
+        } catch (JMException e) {
+            Stargate.log(Level.WARNING, "Unable to register the MBean of metric " + name + ": " + e.getMessage());
+        }
+    }
+}
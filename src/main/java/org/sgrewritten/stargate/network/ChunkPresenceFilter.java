@@ -0,0 +1,105 @@
+package org.sgrewritten.stargate.network;
+
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+import org.sgrewritten.stargate.container.StripedLongObjectMap;
+import org.sgrewritten.stargate.util.VectorUtils;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A per-world filter of chunks which contain, or are adjacent to, a registered portal block
+ *
+ * <p>Every registered block marks its own chunk, and any chunk containing one of its horizontal neighbours. This means
+ * a block which is not in a marked chunk can neither be part of, nor touch, any portal. The filter is reference
+ * counted, so that a chunk stays marked until every block marking it has been removed.</p>
+ *
+ * <p>The filter is thread-safe in the same way as {@link WorldBlockIndex}: checks never lock, and marks are striped by
+ * region.</p>
+ */
+public class ChunkPresenceFilter {
+
+    private final Map<UUID, StripedLongObjectMap<int[]>> worldChunkCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether the given block might be part of, or adjacent to, a portal
+     *
+     * <p>Might give false positives, but never false negatives.</p>
+     *
+     * @param world <p>The world of the block</p>
+     * @param x     <p>The x coordinate of the block</p>
+     * @param z     <p>The z coordinate of the block</p>
+     * @return <p>False if the block is guaranteed not to be part of or adjacent to a portal</p>
+     */
+    public boolean mightContain(@Nullable World world, int x, int z) {
+        if (world == null) {
+            return false;
+        }
+        StripedLongObjectMap<int[]> chunkCounts = worldChunkCounts.get(world.getUID());
+        return chunkCounts != null && chunkCounts.get(StripedLongObjectMap.getRegionStripe(x >> 4, z >> 4),
+                VectorUtils.packChunkPosition(x >> 4, z >> 4)) != null;
+    }
+
+    /**
+     * Marks the chunks touched by the given block
+     *
+     * @param worldId <p>The unique id of the world of the block</p>
+     * @param x       <p>The x coordinate of the block</p>
+     * @param z       <p>The z coordinate of the block</p>
+     */
+    public void add(@Nullable UUID worldId, int x, int z) {
+        if (worldId == null) {
+            return;
+        }
+        worldChunkCounts.compute(worldId, (key, chunkCounts) -> {
+            if (chunkCounts == null) {
+                chunkCounts = new StripedLongObjectMap<>();
+            }
+            for (int chunkX = (x - 1) >> 4; chunkX <= (x + 1) >> 4; chunkX++) {
+                for (int chunkZ = (z - 1) >> 4; chunkZ <= (z + 1) >> 4; chunkZ++) {
+                    long chunkKey = VectorUtils.packChunkPosition(chunkX, chunkZ);
+                    chunkCounts.write(StripedLongObjectMap.getRegionStripe(chunkX, chunkZ),
+                            counts -> counts.computeIfAbsent(chunkKey, ignored -> new int[1])[0]++);
+                }
+            }
+            return chunkCounts;
+        });
+    }
+
+    /**
+     * Removes the marks previously added for the given block
+     *
+     * @param worldId <p>The unique id of the world of the block</p>
+     * @param x       <p>The x coordinate of the block</p>
+     * @param z       <p>The z coordinate of the block</p>
+     */
+    public void remove(@Nullable UUID worldId, int x, int z) {
+        if (worldId == null) {
+            return;
+        }
+        worldChunkCounts.computeIfPresent(worldId, (key, chunkCounts) -> {
+            for (int chunkX = (x - 1) >> 4; chunkX <= (x + 1) >> 4; chunkX++) {
+                for (int chunkZ = (z - 1) >> 4; chunkZ <= (z + 1) >> 4; chunkZ++) {
+                    long chunkKey = VectorUtils.packChunkPosition(chunkX, chunkZ);
+                    chunkCounts.write(StripedLongObjectMap.getRegionStripe(chunkX, chunkZ), counts -> {
+                        int[] count = counts.get(chunkKey);
+                        if (count != null && --count[0] <= 0) {
+                            counts.remove(chunkKey);
+                        }
+                        return count;
+                    });
+                }
+            }
+            return chunkCounts.isEmpty() ? null : chunkCounts;
+        });
+    }
+
+    /**
+     * Removes every mark from this filter
+     */
+    public void clear() {
+        worldChunkCounts.clear();
+    }
+}
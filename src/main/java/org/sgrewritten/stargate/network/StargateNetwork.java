@@ -27,22 +27,29 @@ import org.sgrewritten.stargate.util.NameHelper;
 import org.sgrewritten.stargate.util.NetworkCreationHelper;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.logging.Level;
 
 /**
  * A network of portals
+ *
+ * <p>The portals of a network are kept in concurrent maps, as portals are looked up, added and removed from every
+ * region thread on regionized servers. Iterating over the portals never fails, but might miss concurrent changes.</p>
  */
 public class StargateNetwork implements Network {
     private final PluginMessageSender messageSender;
     private final StorageType storageType;
 
     private Map<String, Portal> nameToPortalMap;
+    private NavigableMap<String, Portal> sortedPortals;
     private String name;
     private String id;
     private RegistryAPI registry;
@@ -75,7 +82,8 @@ public class StargateNetwork implements Network {
         Objects.requireNonNull(name);
         this.networkType = Objects.requireNonNull(type);
         setID(name, type);
-        nameToPortalMap = new HashMap<>();
+        nameToPortalMap = new ConcurrentHashMap<>();
+        sortedPortals = new ConcurrentSkipListMap<>();
     }
 
     private void setID(String name, NetworkType type) throws InvalidNameException, NameLengthException,
@@ -112,12 +120,16 @@ public class StargateNetwork implements Network {
     }
 
     private void loadAsPersonalNetwork(String uuidString) throws InvalidNameException {
-        Stargate.log(Level.FINER, "Initialized personal network with UUID " + uuidString);
+        if (Stargate.isLoggable(Level.FINER)) {
+            Stargate.log(Level.FINER, "Initialized personal network with UUID %s", uuidString);
+        }
         String possiblePlayerName = Bukkit.getOfflinePlayer(UUID.fromString(uuidString)).getName();
         if (possiblePlayerName == null) {
             throw new InvalidNameException("The personal network of the uuid '" + uuidString + "' has no valid player name.");
         }
-        Stargate.log(Level.FINER, "Matching player name: " + possiblePlayerName);
+        if (Stargate.isLoggable(Level.FINER)) {
+            Stargate.log(Level.FINER, "Matching player name: %s", possiblePlayerName);
+        }
         if (NetworkCreationHelper.getDefaultNamesTaken().contains(possiblePlayerName.toLowerCase()) ||
                 NetworkCreationHelper.getBannedNames().contains(possiblePlayerName.toLowerCase())) {
             possiblePlayerName = uuidString.split("-")[0];
@@ -136,6 +148,11 @@ public class StargateNetwork implements Network {
         return nameToPortalMap.values();
     }
 
+    @Override
+    public NavigableMap<String, Portal> getSortedPortals() {
+        return Collections.unmodifiableNavigableMap(sortedPortals);
+    }
+
     @Override
     public Portal getPortal(String name) {
         if (name == null) {
@@ -147,18 +164,26 @@ public class StargateNetwork implements Network {
     @Override
     public void removePortal(Portal portal) {
         nameToPortalMap.remove(portal.getId());
+        sortedPortals.remove(portal.getId());
     }
 
     @Override
     public void addPortal(Portal portal) throws NameConflictException {
-        if (isPortalNameTaken(portal.getName())) {
+        //Claiming the name first makes sure two threads can not add portals of the same name
+        if (nameToPortalMap.putIfAbsent(portal.getId(), portal) != null) {
             throw new NameConflictException("portal of name '" + portal.getName() + "' already exist in network '" +
                     this.getId() + "'");
         }
         if (portal instanceof RealPortal realPortal) {
-            registry.registerPortal(realPortal);
+            try {
+                registry.registerPortal(realPortal);
+            } catch (RuntimeException e) {
+                //The portal was never added, so its name must not stay taken
+                nameToPortalMap.remove(portal.getId(), portal);
+                throw e;
+            }
         }
-        nameToPortalMap.put(portal.getId(), portal);
+        sortedPortals.put(portal.getId(), portal);
     }
 
     @Override
@@ -212,17 +237,35 @@ public class StargateNetwork implements Network {
             portal.destroy();
         }
         nameToPortalMap.clear();
+        sortedPortals.clear();
     }
 
     @Override
     public String getName() {
-        if (getType() == NetworkType.PERSONAL && registry != null &&
-                (registry.networkExists(NameHelper.getNormalizedName(name), this.getStorageType()))) {
-            return id.split("-")[0];
+        if (getType() == NetworkType.PERSONAL && registry != null) {
+            return getPersonalNetworkName(name, id, registry.getNetworkRegistry(this.getStorageType()).getNetworkMap());
         }
         return name;
     }
 
+    /**
+     * Gets the name of a personal network
+     *
+     * <p>A personal network is named after its player, unless another network has the same name as the player, in
+     * which case the first part of the player's uuid is used instead.</p>
+     *
+     * @param playerName <p>The name of the player owning the personal network</p>
+     * @param id         <p>The id of the personal network, which is the player's uuid</p>
+     * @param networkMap <p>The networks to check for conflicts, by id</p>
+     * @return <p>The name of the personal network</p>
+     */
+    static String getPersonalNetworkName(String playerName, String id, Map<String, Network> networkMap) {
+        if (networkMap.containsKey(NameHelper.getNormalizedName(playerName))) {
+            return id.split("-")[0];
+        }
+        return playerName;
+    }
+
     @Override
     public int size() {
         return this.getAllPortals().size();
@@ -259,8 +302,10 @@ public class StargateNetwork implements Network {
         if (portal == null) {
             throw new InvalidNameException("Name does not exist, can not rename: " + oldName);
         }
+        sortedPortals.remove(oldName);
         portal.setName(NameHelper.getNormalizedName(newName));
         nameToPortalMap.put(portal.getName(), portal);
+        sortedPortals.put(portal.getName(), portal);
     }
 
 
@@ -36,6 +36,9 @@ import org.sgrewritten.stargate.util.NetworkCreationHelper;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 public class StargateNetworkManager implements NetworkManager {
@@ -167,7 +170,7 @@ public class StargateNetworkManager implements NetworkManager {
                 if (network != null && network.getType() != type) {
                     String newId = registry.getValidNewName(network);
                     registry.renameNetwork(newId, network.getId(), network.getStorageType());
-                    new StargateQueuedAsyncTask() {
+                    new StargateQueuedAsyncTask(network) {
                         @Override
                         public void run() {
                             try {
@@ -209,6 +212,10 @@ public class StargateNetworkManager implements NetworkManager {
 
     @Override
     public void loadPortals(StargateAPI stargateAPI) {
+        if (ConfigurationHelper.getBoolean(ConfigurationOption.PARALLEL_PORTAL_LOADING)) {
+            loadPortalsInParallel(stargateAPI);
+            return;
+        }
         try {
             storageAPI.loadFromStorage(stargateAPI);
         } catch (StorageReadException e) {
@@ -230,6 +237,38 @@ public class StargateNetworkManager implements NetworkManager {
         }.runDelayed(20);
     }
 
+    /**
+     * Loads all portals from storage without blocking the calling thread
+     *
+     * <p>The portals of each world are read on a bounded pool of threads, and only their registration is done on the
+     * region or main thread.</p>
+     *
+     * @param stargateAPI <p>The stargate api</p>
+     */
+    private void loadPortalsInParallel(StargateAPI stargateAPI) {
+        int threadCount = Math.max(1, Math.min(ConfigurationHelper.getInteger(ConfigurationOption.PORTAL_LOADING_THREADS),
+                Bukkit.getWorlds().size()));
+        AtomicInteger threadId = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "Stargate portal loader " + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        storageAPI.loadFromStorageAsync(stargateAPI, executor).whenComplete((ignored, throwable) -> {
+            executor.shutdown();
+            if (throwable != null) {
+                Stargate.log(throwable);
+            }
+            // See the note in loadPortals on why this delay is necessary
+            new StargateGlobalTask() {
+                @Override
+                public void run() {
+                    registry.updateAllPortals();
+                }
+            }.runDelayed(20);
+        });
+    }
+
     @Override
     public void rename(Portal portal, String newName) throws NameConflictException {
         Network network = portal.getNetwork();
@@ -252,7 +291,7 @@ public class StargateNetworkManager implements NetworkManager {
     @Override
     public void savePortal(RealPortal portal, Network network) throws NameConflictException {
         network.addPortal(portal);
-        new StargateQueuedAsyncTask() {
+        new StargateQueuedAsyncTask(network) {
             @Override
             public void run() {
                 try {
@@ -273,7 +312,7 @@ public class StargateNetworkManager implements NetworkManager {
         portal.destroy();
         registry.unregisterPortal(portal);
         network.updatePortals();
-        new StargateQueuedAsyncTask() {
+        new StargateQueuedAsyncTask(network) {
             @Override
             public void run() {
                 try {
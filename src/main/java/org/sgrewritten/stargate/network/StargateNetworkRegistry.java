@@ -8,18 +8,28 @@ import org.sgrewritten.stargate.exception.name.InvalidNameException;
 import org.sgrewritten.stargate.exception.name.NameLengthException;
 import org.sgrewritten.stargate.util.NameHelper;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.stream.Stream;
 
+/**
+ * A registry of networks
+ *
+ * <p>Networks are looked up from every region thread on regionized servers, but are rarely created or renamed. The
+ * maps of networks are therefore copied on write: a change is made to copies of the maps while holding the lock of
+ * the registry, and the copies are then published at once. Lookups never lock, and always see either every map
+ * before a change, or every map after it.</p>
+ */
 public class StargateNetworkRegistry implements NetworkRegistry {
-    private final Map<String, Network> networkMap = new HashMap<>();
-    private final Map<String, Network> networkNameMap = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
     private final Map<String, String> personalNetworkNameConflicts = new HashMap<>();
 
     @Override
-    public void renameNetwork(String newId, String oldId) throws InvalidNameException, UnimplementedFlagException, NameLengthException {
+    public synchronized void renameNetwork(String newId, String oldId) throws InvalidNameException, UnimplementedFlagException, NameLengthException {
+        Map<String, Network> networkMap = new HashMap<>(snapshot.networkMap());
+        Map<String, Network> networkNameMap = new HashMap<>(snapshot.networkNameMap());
         Network network = networkMap.remove(oldId);
         networkNameMap.remove(oldId);
         if (network == null) {
@@ -28,44 +38,58 @@ public class StargateNetworkRegistry implements NetworkRegistry {
         network.setID(NameHelper.getNormalizedName(newId));
         networkMap.put(network.getId(), network);
         networkNameMap.put(NameHelper.getNormalizedName(network.getName()), network);
+        publish(networkMap, networkNameMap);
     }
 
     @Override
-    public void unregisterNetwork(Network network) {
+    public synchronized void unregisterNetwork(Network network) {
+        Map<String, Network> networkMap = new HashMap<>(snapshot.networkMap());
+        Map<String, Network> networkNameMap = new HashMap<>(snapshot.networkNameMap());
         networkMap.remove(network.getId());
         String networkName = NameHelper.getNormalizedName(network.getName());
         networkNameMap.remove(networkName);
-        String personalNetworkName = personalNetworkNameConflicts.get(networkName);
+        String personalNetworkName = personalNetworkNameConflicts.remove(networkName);
         if (personalNetworkName != null) {
-            updateName(personalNetworkName);
-            personalNetworkNameConflicts.remove(networkName);
+            updateName(personalNetworkName, networkName, networkMap, networkNameMap);
         }
+        publish(networkMap, networkNameMap);
     }
 
     @Override
-    public void registerNetwork(Network network) {
+    public synchronized void registerNetwork(Network network) {
+        Map<String, Network> networkMap = new HashMap<>(snapshot.networkMap());
+        Map<String, Network> networkNameMap = new HashMap<>(snapshot.networkNameMap());
         networkMap.put(network.getId(), network);
         if (networkNameMap.containsKey(network.getName())) {
-            String newName = updateName(network.getName());
+            String newName = updateName(network.getName(), network.getName(), networkMap, networkNameMap);
             personalNetworkNameConflicts.put(network.getName(), newName);
         }
         networkNameMap.put(NameHelper.getNormalizedName(network.getName()), network);
+        publish(networkMap, networkNameMap);
     }
 
     /**
      * Update the name for the conflicting already registered network
      *
-     * @param name <p>The name of the networks that have conflicting names</p>
+     * <p>The name of a personal network depends on which networks exist, so it is computed from the copies of the maps
+     * being changed, as the registry still shows the networks from before the change.</p>
+     *
+     * @param name                <p>The name the conflicting network is currently registered under</p>
+     * @param personalNetworkName <p>The name of the personal network, when it has no conflicts</p>
+     * @param networkMap          <p>The changed copy of the map of networks by id</p>
+     * @param networkNameMap      <p>The copy of the map of networks by name to update</p>
      * @return <p>The new name to apply to the conflicting network</p>
      */
-    private String updateName(String name) {
+    private String updateName(String name, String personalNetworkName, Map<String, Network> networkMap,
+                              Map<String, Network> networkNameMap) {
         // Name conflicts with a personal network (i.e. the name of the personal network will change)
         String normalizedName = NameHelper.getNormalizedName(name);
         Network network = networkNameMap.get(normalizedName);
         if (network != null && network.getType() == NetworkType.PERSONAL) {
+            String newName = StargateNetwork.getPersonalNetworkName(personalNetworkName, network.getId(), networkMap);
             networkNameMap.remove(normalizedName);
-            networkNameMap.put(NameHelper.getNormalizedName(network.getName()), network);
-            return NameHelper.getNormalizedName(network.getName());
+            networkNameMap.put(NameHelper.getNormalizedName(newName), network);
+            return NameHelper.getNormalizedName(newName);
         }
         return normalizedName;
     }
@@ -78,45 +102,44 @@ public class StargateNetworkRegistry implements NetworkRegistry {
     @Override
     public Network getNetwork(String name) {
         String cleanName = NameHelper.getNormalizedName(NameHelper.getTrimmedName(name));
-        return networkMap.get(cleanName);
+        return snapshot.networkMap().get(cleanName);
     }
 
     @Override
-    public void clear() {
-        networkMap.clear();
-        networkNameMap.clear();
+    public synchronized void clear() {
+        publish(Map.of(), Map.of());
     }
 
     @Override
     public void updatePortals() {
-        for (Network network : networkMap.values()) {
+        for (Network network : snapshot.networkMap().values()) {
             network.updatePortals();
         }
     }
 
     @Override
     public Stream<Network> stream() {
-        return networkMap.values().stream();
+        return snapshot.networkMap().values().stream();
     }
 
     @Override
     public Iterator<Network> iterator() {
-        return networkMap.values().iterator();
+        return snapshot.networkMap().values().iterator();
     }
 
     @Override
     public boolean networkNameExists(String name) {
-        return networkNameMap.containsKey(NameHelper.getTrimmedName(NameHelper.getNormalizedName(name)));
+        return snapshot.networkNameMap().containsKey(NameHelper.getTrimmedName(NameHelper.getNormalizedName(name)));
     }
 
     @Override
     public Network getFromName(String name) {
-        return networkNameMap.get(NameHelper.getNormalizedName(name));
+        return snapshot.networkNameMap().get(NameHelper.getNormalizedName(name));
     }
 
     @Override
     public void closeAllPortals() {
-        for (Network network : networkMap.values()) {
+        for (Network network : snapshot.networkMap().values()) {
             for (Portal portal : network.getAllPortals()) {
                 portal.close(true);
             }
@@ -125,7 +148,26 @@ public class StargateNetworkRegistry implements NetworkRegistry {
 
     @Override
     public int size() {
-        return networkMap.size();
+        return snapshot.networkMap().size();
+    }
+
+    @Override
+    public Map<String, Network> getNetworkMap() {
+        return snapshot.networkMap();
+    }
+
+    private void publish(Map<String, Network> networkMap, Map<String, Network> networkNameMap) {
+        this.snapshot = new Snapshot(Collections.unmodifiableMap(networkMap), Collections.unmodifiableMap(networkNameMap));
+    }
+
+    /**
+     * The maps of networks at one point in time
+     *
+     * @param networkMap     <p>The networks by id</p>
+     * @param networkNameMap <p>The networks by normalized name</p>
+     */
+    private record Snapshot(Map<String, Network> networkMap, Map<String, Network> networkNameMap) {
+
     }
 
 }
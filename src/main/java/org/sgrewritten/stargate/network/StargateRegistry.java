@@ -1,6 +1,5 @@
 package org.sgrewritten.stargate.network;
 
-import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.block.Block;
@@ -23,18 +22,25 @@ import org.sgrewritten.stargate.exception.database.StorageReadException;
 import org.sgrewritten.stargate.exception.database.StorageWriteException;
 import org.sgrewritten.stargate.exception.name.InvalidNameException;
 import org.sgrewritten.stargate.exception.name.NameLengthException;
+import org.sgrewritten.stargate.metrics.Counter;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
 import org.sgrewritten.stargate.property.StargateConstant;
 import org.sgrewritten.stargate.thread.task.StargateQueuedAsyncTask;
 import org.sgrewritten.stargate.util.ExceptionHelper;
-import org.sgrewritten.stargate.util.VectorUtils;
+import org.sgrewritten.stargate.util.portal.SpawnLocationCache;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.stream.Stream;
 
 /**
  * Registry of all portals and networks
  *
+ * <p>The registry is thread-safe, as portals are registered and looked up from every region thread on regionized
+ * servers. Block lookups go through region striped indexes which never lock, and every other map is concurrent.</p>
+ *
  * @author Thorin (idea from EpicKnarvik)
  */
 public class StargateRegistry implements RegistryAPI {
@@ -43,10 +49,19 @@ public class StargateRegistry implements RegistryAPI {
     private final BlockHandlerResolver blockHandlerResolver;
     private final NetworkRegistry networkRegistry = new StargateNetworkRegistry();
     private final NetworkRegistry bungeeNetworkRegistry = new StargateNetworkRegistry();
-    private final Map<GateStructureType, Map<BlockLocation, RealPortal>> portalFromStructureTypeMap = new EnumMap<>(GateStructureType.class);
-    private final Map<BlockLocation, PortalPosition> portalPositionMap = new HashMap<>();
-    private final Map<String, Map<BlockLocation, PortalPosition>> portalPositionPluginNameMap = new HashMap<>();
-    private final Map<StargateChunk, Set<RealPortal>> chunkPortalMap = new HashMap<>();
+    private static final GateStructureType[] STRUCTURE_TYPES = GateStructureType.values();
+    private static final Counter lookups = StargateMetrics.getCounter(MetricName.of("registry_lookups"));
+    private static final int[][] ADJACENT_OFFSETS = {{1, 0, 0}, {0, 1, 0}, {0, 0, 1}, {-1, 0, 0}, {0, -1, 0}, {0, 0, -1}};
+    private final Map<GateStructureType, WorldBlockIndex<RealPortal>> portalFromStructureTypeMap = new EnumMap<>(GateStructureType.class);
+    private final Map<BlockLocation, PortalPosition> portalPositionMap = new ConcurrentHashMap<>();
+    private final WorldBlockIndex<PortalPosition> portalPositionIndex = new WorldBlockIndex<>();
+    private final ChunkPresenceFilter chunkPresenceFilter = new ChunkPresenceFilter();
+    private final Set<UUID> loadingWorlds = ConcurrentHashMap.newKeySet();
+    private final Map<String, Map<BlockLocation, PortalPosition>> portalPositionPluginNameMap = new ConcurrentHashMap<>();
+    private final Map<StargateChunk, Set<RealPortal>> chunkPortalMap = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<RealPortal>> worldPortalMap = new ConcurrentHashMap<>();
+    private final Map<StargateChunk, Set<RealPortal>> unvalidatedChunkPortalMap = new HashMap<>();
+    private final Map<RealPortal, Set<StargateChunk>> unvalidatedPortalChunkMap = new HashMap<>();
 
     /**
      * Instantiates a new Stargate registry
@@ -56,6 +71,9 @@ public class StargateRegistry implements RegistryAPI {
     public StargateRegistry(StorageAPI storageAPI, BlockHandlerResolver blockHandlerResolver) {
         this.storageAPI = storageAPI;
         this.blockHandlerResolver = blockHandlerResolver;
+        for (GateStructureType structureType : STRUCTURE_TYPES) {
+            portalFromStructureTypeMap.put(structureType, new WorldBlockIndex<>());
+        }
     }
 
     @Override
@@ -63,9 +81,11 @@ public class StargateRegistry implements RegistryAPI {
         if (!(portal instanceof RealPortal realPortal)) {
             return;
         }
-        for (GateStructureType formatType : GateStructureType.values()) {
+        for (GateStructureType formatType : STRUCTURE_TYPES) {
             for (BlockLocation loc : realPortal.getGate().getLocations(formatType)) {
-                Stargate.log(Level.FINEST, "Unregistering type: " + formatType + " location, at: " + loc);
+                if (Stargate.isLoggable(Level.FINEST)) {
+                    Stargate.log(Level.FINEST, "Unregistering type: %s location, at: %s", formatType, loc);
+                }
                 this.unRegisterLocation(formatType, loc);
             }
         }
@@ -74,37 +94,42 @@ public class StargateRegistry implements RegistryAPI {
         for (PortalPosition portalPosition : portalPositions) {
             Location location = gate.getLocation(portalPosition.getRelativePositionLocation());
             if (!portalPosition.getPluginName().equals("Stargate")) {
-                Stargate.log(Level.FINEST, "Unregistering non-Stargate portal position on location " + location.toString());
+                if (Stargate.isLoggable(Level.FINEST)) {
+                    Stargate.log(Level.FINEST, "Unregistering non-Stargate portal position on location %s", location);
+                }
                 blockHandlerResolver.registerRemoval(this, location, realPortal);
             }
-            Stargate.log(Level.FINEST, "Unregistering portal position on location " + location.toString());
+            if (Stargate.isLoggable(Level.FINEST)) {
+                Stargate.log(Level.FINEST, "Unregistering portal position on location %s", location);
+            }
             this.removePortalPosition(location);
         }
         Set<StargateChunk> chunks = getPortalChunks(realPortal);
         chunks.forEach(chunk -> this.unregisterPortalChunk(chunk, realPortal));
+        unregisterPortalWorld(realPortal);
+        removeGateValidation(realPortal);
+        SpawnLocationCache.invalidate(realPortal);
     }
 
     private void unregisterPortalChunk(StargateChunk chunk, RealPortal realPortal) {
-        Set<RealPortal> portals = chunkPortalMap.get(chunk);
-        if (portals == null) {
-            return;
-        }
-        if (portals.isEmpty()) {
-            chunkPortalMap.remove(chunk);
-            return;
-        }
-        portals.remove(realPortal);
+        chunkPortalMap.computeIfPresent(chunk, (key, portals) -> {
+            portals.remove(realPortal);
+            return portals.isEmpty() ? null : portals;
+        });
     }
 
     @Override
     public void registerPortal(@NotNull RealPortal portal) {
         GateAPI gate = portal.getGate();
-        for (GateStructureType key : GateStructureType.values()) {
+        for (GateStructureType key : STRUCTURE_TYPES) {
             List<BlockLocation> locations = gate.getLocations(key);
             if (locations == null) {
                 continue;
             }
-            this.registerLocations(key, generateLocationMap(locations, portal));
+            WorldBlockIndex<RealPortal> index = portalFromStructureTypeMap.get(key);
+            for (BlockLocation location : locations) {
+                putInIndex(index, location, portal);
+            }
         }
         for (PortalPosition portalPosition : gate.getPortalPositions()) {
             Location location = gate.getLocation(portalPosition.getRelativePositionLocation());
@@ -112,11 +137,31 @@ public class StargateRegistry implements RegistryAPI {
         }
         Set<StargateChunk> chunks = getPortalChunks(portal);
         chunks.forEach(chunk -> registerPortalChunk(chunk, portal));
+        worldPortalMap.compute(portal.getWorldUuid(), (worldId, portals) -> {
+            if (portals == null) {
+                portals = ConcurrentHashMap.newKeySet();
+            }
+            portals.add(portal);
+            return portals;
+        });
+    }
+
+    private void unregisterPortalWorld(RealPortal portal) {
+        worldPortalMap.computeIfPresent(portal.getWorldUuid(), (worldId, portals) -> {
+            portals.remove(portal);
+            return portals.isEmpty() ? null : portals;
+        });
     }
 
     private void registerPortalChunk(StargateChunk chunk, RealPortal portal) {
-        chunkPortalMap.putIfAbsent(chunk, new HashSet<>());
-        chunkPortalMap.get(chunk).add(portal);
+        //Adding while holding the chunk's entry makes sure the set is not removed at the same time
+        chunkPortalMap.compute(chunk, (key, portals) -> {
+            if (portals == null) {
+                portals = ConcurrentHashMap.newKeySet();
+            }
+            portals.add(portal);
+            return portals;
+        });
     }
 
     @Override
@@ -134,21 +179,6 @@ public class StargateRegistry implements RegistryAPI {
         return getNetworkRegistry(storageType).getNetwork(id);
     }
 
-    /**
-     * Gets a map between the given block locations and the given portal
-     *
-     * @param locations <p>The locations related to the portal</p>
-     * @param portal    <p>The portal with blocks at the given locations</p>
-     * @return <p>The resulting location to portal mapping</p>
-     */
-    private Map<BlockLocation, RealPortal> generateLocationMap(List<BlockLocation> locations, RealPortal portal) {
-        Map<BlockLocation, RealPortal> output = new HashMap<>();
-        for (BlockLocation location : locations) {
-            output.put(location, portal);
-        }
-        return output;
-    }
-
     @Override
     public void updateAllPortals() {
         bungeeNetworkRegistry.updatePortals();
@@ -157,16 +187,15 @@ public class StargateRegistry implements RegistryAPI {
 
     @Override
     public RealPortal getPortal(BlockLocation blockLocation, GateStructureType structureType) {
-        if (!(portalFromStructureTypeMap.containsKey(structureType))) {
-            return null;
-        }
+        lookups.increment();
         return portalFromStructureTypeMap.get(structureType).get(blockLocation);
     }
 
     @Override
     public RealPortal getPortal(BlockLocation blockLocation, GateStructureType[] structureTypes) {
+        lookups.increment();
         for (GateStructureType key : structureTypes) {
-            RealPortal portal = getPortal(blockLocation, key);
+            RealPortal portal = portalFromStructureTypeMap.get(key).get(blockLocation);
             if (portal != null) {
                 return portal;
             }
@@ -176,21 +205,47 @@ public class StargateRegistry implements RegistryAPI {
 
     @Override
     public RealPortal getPortal(Location location, GateStructureType structureType) {
-        return getPortal(new BlockLocation(location), structureType);
+        return getPortal(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ(), structureType);
     }
 
     @Override
     public RealPortal getPortal(Location location, GateStructureType[] structureTypes) {
-        return getPortal(new BlockLocation(location), structureTypes);
+        lookups.increment();
+        for (GateStructureType key : structureTypes) {
+            RealPortal portal = portalFromStructureTypeMap.get(key).get(location.getWorld(), location.getBlockX(),
+                    location.getBlockY(), location.getBlockZ());
+            if (portal != null) {
+                return portal;
+            }
+        }
+        return null;
     }
 
     @Override
     public RealPortal getPortal(Location location) {
-        PortalPosition portalPosition = this.getPortalPosition(location);
+        return getPortal(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    @Override
+    public RealPortal getPortal(World world, int x, int y, int z, GateStructureType structureType) {
+        lookups.increment();
+        return portalFromStructureTypeMap.get(structureType).get(world, x, y, z);
+    }
+
+    @Override
+    public RealPortal getPortal(World world, int x, int y, int z) {
+        lookups.increment();
+        PortalPosition portalPosition = portalPositionIndex.get(world, x, y, z);
         if (portalPosition != null) {
             return portalPosition.getPortal();
         }
-        return getPortal(location, GateStructureType.values());
+        for (GateStructureType key : STRUCTURE_TYPES) {
+            RealPortal portal = portalFromStructureTypeMap.get(key).get(world, x, y, z);
+            if (portal != null) {
+                return portal;
+            }
+        }
+        return null;
     }
 
 
@@ -213,9 +268,15 @@ public class StargateRegistry implements RegistryAPI {
     @Override
     public List<RealPortal> getPortalsFromTouchingBlock(Location location, GateStructureType structureType) {
         List<RealPortal> portals = new ArrayList<>();
-        for (BlockVector adjacentVector : VectorUtils.getAdjacentRelativePositions()) {
-            Location adjacentLocation = location.clone().add(adjacentVector);
-            RealPortal portal = getPortal(adjacentLocation, structureType);
+        World world = location.getWorld();
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+        if (!hasPortalsNear(world, x, z)) {
+            return portals;
+        }
+        for (int[] offset : ADJACENT_OFFSETS) {
+            RealPortal portal = getPortal(world, x + offset[0], y + offset[1], z + offset[2], structureType);
             if (portal != null) {
                 portals.add(portal);
             }
@@ -226,23 +287,131 @@ public class StargateRegistry implements RegistryAPI {
 
     @Override
     public void registerLocations(GateStructureType structureType, Map<BlockLocation, RealPortal> locationsMap) {
-        portalFromStructureTypeMap.putIfAbsent(structureType, new HashMap<>());
-        portalFromStructureTypeMap.get(structureType).putAll(locationsMap);
+        WorldBlockIndex<RealPortal> index = portalFromStructureTypeMap.get(structureType);
+        locationsMap.forEach((location, portal) -> putInIndex(index, location, portal));
     }
 
     @Override
     public void registerLocation(GateStructureType structureType, BlockLocation location, RealPortal portal) {
-        portalFromStructureTypeMap.putIfAbsent(structureType, new HashMap<>());
-        portalFromStructureTypeMap.get(structureType).put(location, portal);
+        putInIndex(portalFromStructureTypeMap.get(structureType), location, portal);
     }
 
     @Override
     public void unRegisterLocation(GateStructureType structureType, BlockLocation blockLocation) {
-        Map<BlockLocation, RealPortal> map = portalFromStructureTypeMap.get(structureType);
-        if (map != null && map.get(blockLocation) != null) {
-            Stargate.log(Level.FINER, "Unregistering portal " + map.get(blockLocation).getName() +
-                    " with structType " + structureType + " at location " + blockLocation.toString());
-            map.remove(blockLocation);
+        RealPortal removed = removeFromIndex(portalFromStructureTypeMap.get(structureType), blockLocation);
+        if (removed != null && Stargate.isLoggable(Level.FINER)) {
+            Stargate.log(Level.FINER, "Unregistering portal %s with structType %s at location %s", removed.getName(),
+                    structureType, blockLocation);
+        }
+    }
+
+    /**
+     * Stores a value in the given index, and marks its chunk as containing a portal block
+     *
+     * @param index         <p>The index to store the value in</p>
+     * @param blockLocation <p>The location to store the value at</p>
+     * @param value         <p>The value to store</p>
+     * @param <V>           <p>The type of the indexed values</p>
+     */
+    private <V> void putInIndex(WorldBlockIndex<V> index, BlockLocation blockLocation, V value) {
+        if (index.put(blockLocation, value) == null) {
+            chunkPresenceFilter.add(blockLocation.getWorldId(), blockLocation.getX(), blockLocation.getZ());
+        }
+    }
+
+    /**
+     * Removes a value from the given index, and unmarks its chunk if it was present
+     *
+     * @param index         <p>The index to remove the value from</p>
+     * @param blockLocation <p>The location of the value to remove</p>
+     * @param <V>           <p>The type of the indexed values</p>
+     * @return <p>The removed value, or null if nothing was stored</p>
+     */
+    private <V> V removeFromIndex(WorldBlockIndex<V> index, BlockLocation blockLocation) {
+        V removed = index.remove(blockLocation);
+        if (removed != null) {
+            chunkPresenceFilter.remove(blockLocation.getWorldId(), blockLocation.getX(), blockLocation.getZ());
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean hasPortalsNear(World world, int x, int z) {
+        return chunkPresenceFilter.mightContain(world, x, z);
+    }
+
+    @Override
+    public void setWorldLoading(UUID worldId, boolean isLoading) {
+        if (isLoading) {
+            loadingWorlds.add(worldId);
+        } else {
+            loadingWorlds.remove(worldId);
+        }
+    }
+
+    @Override
+    public boolean isWorldLoading(UUID worldId) {
+        return loadingWorlds.contains(worldId);
+    }
+
+    @Override
+    public boolean deferGateValidation(RealPortal portal) {
+        Set<StargateChunk> unloadedChunks = new HashSet<>();
+        for (StargateChunk chunk : getPortalChunks(portal)) {
+            if (!chunk.isLoaded()) {
+                unloadedChunks.add(chunk);
+            }
+        }
+        if (unloadedChunks.isEmpty()) {
+            return false;
+        }
+        synchronized (unvalidatedPortalChunkMap) {
+            unvalidatedPortalChunkMap.put(portal, unloadedChunks);
+            for (StargateChunk chunk : unloadedChunks) {
+                unvalidatedChunkPortalMap.computeIfAbsent(chunk, key -> new HashSet<>()).add(portal);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public @NotNull Set<RealPortal> pollGateValidations(StargateChunk chunk) {
+        Set<RealPortal> loadedPortals = new HashSet<>();
+        synchronized (unvalidatedPortalChunkMap) {
+            Set<RealPortal> portals = unvalidatedChunkPortalMap.remove(chunk);
+            if (portals == null) {
+                return loadedPortals;
+            }
+            for (RealPortal portal : portals) {
+                Set<StargateChunk> unloadedChunks = unvalidatedPortalChunkMap.get(portal);
+                unloadedChunks.remove(chunk);
+                if (unloadedChunks.isEmpty()) {
+                    unvalidatedPortalChunkMap.remove(portal);
+                    loadedPortals.add(portal);
+                }
+            }
+        }
+        return loadedPortals;
+    }
+
+    /**
+     * Stops waiting for the chunks of the given portal to load, if its gate validation was deferred
+     *
+     * @param portal <p>The portal to stop waiting for</p>
+     */
+    private void removeGateValidation(RealPortal portal) {
+        synchronized (unvalidatedPortalChunkMap) {
+            Set<StargateChunk> unloadedChunks = unvalidatedPortalChunkMap.remove(portal);
+            if (unloadedChunks == null) {
+                return;
+            }
+            for (StargateChunk chunk : unloadedChunks) {
+                Set<RealPortal> portals = unvalidatedChunkPortalMap.get(chunk);
+                portals.remove(portal);
+                if (portals.isEmpty()) {
+                    unvalidatedChunkPortalMap.remove(chunk);
+                }
+            }
         }
     }
 
@@ -250,10 +419,16 @@ public class StargateRegistry implements RegistryAPI {
      * Clear this registry
      */
     public void clear() {
-        portalFromStructureTypeMap.clear();
+        portalFromStructureTypeMap.values().forEach(WorldBlockIndex::clear);
         portalPositionMap.clear();
+        portalPositionIndex.clear();
+        chunkPresenceFilter.clear();
         portalPositionPluginNameMap.clear();
-        portalFromStructureTypeMap.clear();
+        worldPortalMap.clear();
+        synchronized (unvalidatedPortalChunkMap) {
+            unvalidatedChunkPortalMap.clear();
+            unvalidatedPortalChunkMap.clear();
+        }
         networkRegistry.clear();
         bungeeNetworkRegistry.clear();
     }
@@ -295,15 +470,14 @@ public class StargateRegistry implements RegistryAPI {
 
     @Override
     public Map<BlockLocation, PortalPosition> getPortalPositionsOwnedByPlugin(Plugin plugin) {
-        this.portalPositionPluginNameMap.putIfAbsent(plugin.getName(), new HashMap<>());
-        return this.portalPositionPluginNameMap.get(plugin.getName());
+        return this.portalPositionPluginNameMap.computeIfAbsent(plugin.getName(), name -> new ConcurrentHashMap<>());
     }
 
     @Override
     public PortalPosition savePortalPosition(RealPortal portal, Location location, PositionType type, Plugin plugin) {
         BlockVector relativeVector = portal.getGate().getRelativeVector(location).toBlockVector();
         PortalPosition portalPosition = new PortalPosition(type, relativeVector, plugin.getName());
-        new StargateQueuedAsyncTask() {
+        new StargateQueuedAsyncTask(portal.getNetwork()) {
             @Override
             public void run() {
                 try {
@@ -319,15 +493,19 @@ public class StargateRegistry implements RegistryAPI {
     @Override
     public void removePortalPosition(Location location) {
         BlockLocation blockLocation = new BlockLocation(location);
-        PortalPosition portalPosition = portalPositionMap.get(blockLocation);
+        PortalPosition portalPosition = portalPositionIndex.get(blockLocation);
         if (portalPosition == null) {
             return;
         }
         portalPositionMap.remove(blockLocation);
-        portalPositionPluginNameMap.get(portalPosition.getPluginName()).remove(blockLocation);
+        removeFromIndex(portalPositionIndex, blockLocation);
+        Map<BlockLocation, PortalPosition> pluginPortalPositions = portalPositionPluginNameMap.get(portalPosition.getPluginName());
+        if (pluginPortalPositions != null) {
+            pluginPortalPositions.remove(blockLocation);
+        }
         RealPortal portal = portalPosition.getPortal();
         portal.getGate().removePortalPosition(portalPosition);
-        new StargateQueuedAsyncTask() {
+        new StargateQueuedAsyncTask(portal.getNetwork()) {
             @Override
             public void run() {
                 try {
@@ -341,18 +519,26 @@ public class StargateRegistry implements RegistryAPI {
 
     @Override
     public void registerPortalPosition(PortalPosition portalPosition, Location location, RealPortal portal) {
-        Stargate.log(Level.FINEST, String.format("Registering portal position at %s for portal %s", location.toString(), portal.getName()));
+        if (Stargate.isLoggable(Level.FINEST)) {
+            Stargate.log(Level.FINEST, "Registering portal position at %s for portal %s", location, portal.getName());
+        }
         BlockLocation blockLocation = new BlockLocation(location);
         portalPositionMap.put(blockLocation, portalPosition);
-        portalPositionPluginNameMap.putIfAbsent(portalPosition.getPluginName(), new HashMap<>());
-        portalPositionPluginNameMap.get(portalPosition.getPluginName()).put(blockLocation, portalPosition);
+        putInIndex(portalPositionIndex, blockLocation, portalPosition);
+        portalPositionPluginNameMap.computeIfAbsent(portalPosition.getPluginName(), name -> new ConcurrentHashMap<>())
+                .put(blockLocation, portalPosition);
         portalPosition.assignPortal(portal);
         portal.getGate().addPortalPosition(portalPosition);
     }
 
     @Override
     public PortalPosition getPortalPosition(Location location) {
-        return portalPositionMap.get(new BlockLocation(location));
+        return getPortalPosition(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    @Override
+    public PortalPosition getPortalPosition(World world, int x, int y, int z) {
+        return portalPositionIndex.get(world, x, y, z);
     }
 
     @Override
@@ -375,24 +561,36 @@ public class StargateRegistry implements RegistryAPI {
         return output;
     }
 
+    @Override
+    public @NotNull Set<RealPortal> getPortalsInWorld(UUID worldId) {
+        Set<RealPortal> portals = worldPortalMap.get(worldId);
+        if (portals == null) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(portals);
+    }
+
     private @NotNull Set<StargateChunk> getPortalChunks(RealPortal portal) {
         GateAPI gate = portal.getGate();
         BoundingBox boundingBox = gate.getFormat().getBoundingBox();
         BlockVector corner1 = new BlockVector(boundingBox.getMaxX(), boundingBox.getMaxY(), boundingBox.getMaxZ());
         BlockVector corner2 = new BlockVector(boundingBox.getMinX(), boundingBox.getMinY(), boundingBox.getMinZ());
 
+        //Chunk coordinates are calculated from block coordinates, as getting the chunk would load it
         Location corner1Location = gate.getLocation(corner1);
         Location corner2Location = gate.getLocation(corner2);
-        Chunk corner1Chunk = corner1Location.getChunk();
-        Chunk corner2Chunk = corner2Location.getChunk();
+        int corner1ChunkX = corner1Location.getBlockX() >> 4;
+        int corner1ChunkZ = corner1Location.getBlockZ() >> 4;
+        int corner2ChunkX = corner2Location.getBlockX() >> 4;
+        int corner2ChunkZ = corner2Location.getBlockZ() >> 4;
         World world = corner1Location.getWorld();
 
-        int xMod = corner1Chunk.getX() < corner2Chunk.getX() ? 1 : -1;
-        int zMod = corner1Chunk.getZ() < corner2Chunk.getZ() ? 1 : -1;
+        int xMod = corner1ChunkX < corner2ChunkX ? 1 : -1;
+        int zMod = corner1ChunkZ < corner2ChunkZ ? 1 : -1;
 
         Set<StargateChunk> chunks = new HashSet<>();
-        for (int x = corner1Chunk.getX(); !shouldStop(corner2Chunk.getX(), x, xMod); x += xMod) {
-            for (int z = corner1Chunk.getZ(); !shouldStop(corner2Chunk.getZ(), z, zMod); z += zMod) {
+        for (int x = corner1ChunkX; !shouldStop(corner2ChunkX, x, xMod); x += xMod) {
+            for (int z = corner1ChunkZ; !shouldStop(corner2ChunkZ, z, zMod); z += zMod) {
                 chunks.add(new StargateChunk(x, z, world));
             }
         }
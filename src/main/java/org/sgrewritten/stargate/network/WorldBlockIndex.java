@@ -0,0 +1,147 @@
+package org.sgrewritten.stargate.network;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+import org.sgrewritten.stargate.api.network.portal.BlockLocation;
+import org.sgrewritten.stargate.container.StripedLongObjectMap;
+import org.sgrewritten.stargate.util.VectorUtils;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A per-world index of values stored at block positions
+ *
+ * <p>Positions are packed into a single long per world, which means lookups neither allocate nor hash the name of
+ * the world.</p>
+ *
+ * <p>The index is thread-safe. Lookups never lock, and every world is split into stripes by region, so that a write
+ * only makes concurrent lookups in the same region retry. Writes to the same world are serialized, which is cheap as
+ * portals are rarely created or destroyed compared to how often blocks are looked up.</p>
+ *
+ * @param <V> <p>The type of the indexed values</p>
+ */
+public class WorldBlockIndex<V> {
+
+    private final Map<UUID, StripedLongObjectMap<V>> worldIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the value stored at the given block position
+     *
+     * @param world <p>The world of the block</p>
+     * @param x     <p>The x coordinate of the block</p>
+     * @param y     <p>The y coordinate of the block</p>
+     * @param z     <p>The z coordinate of the block</p>
+     * @return <p>The stored value, or null if nothing is stored at the position</p>
+     */
+    public @Nullable V get(@Nullable World world, int x, int y, int z) {
+        if (world == null) {
+            return null;
+        }
+        return get(world.getUID(), x, y, z);
+    }
+
+    /**
+     * Gets the value stored at the given block position
+     *
+     * @param worldId <p>The unique id of the world of the block</p>
+     * @param x       <p>The x coordinate of the block</p>
+     * @param y       <p>The y coordinate of the block</p>
+     * @param z       <p>The z coordinate of the block</p>
+     * @return <p>The stored value, or null if nothing is stored at the position</p>
+     */
+    public @Nullable V get(@Nullable UUID worldId, int x, int y, int z) {
+        if (worldId == null) {
+            return null;
+        }
+        StripedLongObjectMap<V> worldIndex = worldIndexes.get(worldId);
+        if (worldIndex == null) {
+            return null;
+        }
+        return worldIndex.get(getStripe(x, z), VectorUtils.packBlockPosition(x, y, z));
+    }
+
+    /**
+     * Gets the value stored at the given location
+     *
+     * @param location <p>The location to look up</p>
+     * @return <p>The stored value, or null if nothing is stored at the location</p>
+     */
+    public @Nullable V get(Location location) {
+        return get(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Gets the value stored at the given block location
+     *
+     * @param blockLocation <p>The block location to look up</p>
+     * @return <p>The stored value, or null if nothing is stored at the block location</p>
+     */
+    public @Nullable V get(BlockLocation blockLocation) {
+        return get(blockLocation.getWorldId(), blockLocation.getX(), blockLocation.getY(), blockLocation.getZ());
+    }
+
+    /**
+     * Stores a value at the given block location
+     *
+     * @param blockLocation <p>The block location to store the value at</p>
+     * @param value         <p>The value to store</p>
+     * @return <p>The value previously stored at the block location, or null</p>
+     */
+    public @Nullable V put(BlockLocation blockLocation, V value) {
+        if (blockLocation.getWorldId() == null) {
+            return null;
+        }
+        //Writing while holding the world's entry makes sure the world is not removed at the same time
+        @SuppressWarnings("unchecked")
+        V[] previous = (V[]) new Object[1];
+        worldIndexes.compute(blockLocation.getWorldId(), (worldId, worldIndex) -> {
+            if (worldIndex == null) {
+                worldIndex = new StripedLongObjectMap<>();
+            }
+            previous[0] = worldIndex.put(getStripe(blockLocation), pack(blockLocation), value);
+            return worldIndex;
+        });
+        return previous[0];
+    }
+
+    /**
+     * Removes the value stored at the given block location
+     *
+     * @param blockLocation <p>The block location to remove the value from</p>
+     * @return <p>The removed value, or null if nothing was stored</p>
+     */
+    public @Nullable V remove(BlockLocation blockLocation) {
+        if (blockLocation.getWorldId() == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        V[] removed = (V[]) new Object[1];
+        worldIndexes.computeIfPresent(blockLocation.getWorldId(), (worldId, worldIndex) -> {
+            removed[0] = worldIndex.remove(getStripe(blockLocation), pack(blockLocation));
+            return worldIndex.isEmpty() ? null : worldIndex;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Removes every value stored in this index
+     */
+    public void clear() {
+        worldIndexes.clear();
+    }
+
+    private static long pack(BlockLocation blockLocation) {
+        return VectorUtils.packBlockPosition(blockLocation.getX(), blockLocation.getY(), blockLocation.getZ());
+    }
+
+    private static int getStripe(BlockLocation blockLocation) {
+        return getStripe(blockLocation.getX(), blockLocation.getZ());
+    }
+
+    private static int getStripe(int x, int z) {
+        return StripedLongObjectMap.getRegionStripe(x >> 4, z >> 4);
+    }
+}
@@ -0,0 +1,162 @@
+package org.sgrewritten.stargate.network.portal;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.metrics.LatencyRecorder;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
+import org.sgrewritten.stargate.property.NonLegacyMethod;
+import org.sgrewritten.stargate.thread.task.StargateRegionTask;
+import org.sgrewritten.stargate.thread.task.TaskPriority;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads the chunks of teleportation exits without blocking the teleporting thread
+ *
+ * <p>Chunks are loaded through Paper's asynchronous chunk API where available, and otherwise in a region task. A loaded
+ * exit chunk is kept loaded by a plugin chunk ticket, which expires unless the exit is requested again, so that
+ * popular destinations stay loaded while rarely used ones are left to the server.</p>
+ */
+public final class ExitChunkLoader {
+
+    private static final long TICKET_DURATION = 600;
+    private static final long TICKET_DURATION_MILLIS = TICKET_DURATION * 50;
+    private static final Map<ChunkKey, Long> ticketExpiries = new HashMap<>();
+    private static final LatencyRecorder chunkWait = StargateMetrics.getLatency(MetricName.of("exit_chunk_wait"));
+
+    static {
+        StargateMetrics.registerGauge(MetricName.of("exit_chunk_tickets"), ExitChunkLoader::getTicketCount);
+    }
+
+    private ExitChunkLoader() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Starts loading the chunk of the given exit, if not already loaded
+     *
+     * <p>The returned future completes on a thread which owns the chunk, or on the calling thread if the chunk was
+     * already loaded.</p>
+     *
+     * @param exit <p>The exit to load the chunk of</p>
+     * @return <p>A future completing once the chunk is loaded</p>
+     */
+    public static CompletableFuture<Void> load(Location exit) {
+        World world = Objects.requireNonNull(exit.getWorld());
+        int chunkX = exit.getBlockX() >> 4;
+        int chunkZ = exit.getBlockZ() >> 4;
+        long startTime = System.nanoTime();
+        CompletableFuture<?> future;
+        if (world.isChunkLoaded(chunkX, chunkZ)) {
+            future = CompletableFuture.completedFuture(null);
+        } else if (NonLegacyMethod.GET_CHUNK_AT_ASYNC.isImplemented()) {
+            future = world.getChunkAtAsync(chunkX, chunkZ);
+        } else {
+            CompletableFuture<Void> loadFuture = new CompletableFuture<>();
+            new StargateRegionTask(exit, TaskPriority.INTERACTIVE) {
+                @Override
+                public void run() {
+                    world.getChunkAt(chunkX, chunkZ);
+                    loadFuture.complete(null);
+                }
+            }.runNow();
+            future = loadFuture;
+        }
+        return future.thenRun(() -> {
+            chunkWait.recordSince(startTime);
+            keepLoaded(exit, new ChunkKey(world.getUID(), chunkX, chunkZ));
+        });
+    }
+
+    /**
+     * @return <p>The time spent waiting for exit chunks to load</p>
+     */
+    public static LatencyRecorder getChunkWait() {
+        return chunkWait;
+    }
+
+    /**
+     * @return <p>The amount of exit chunks currently kept loaded by a chunk ticket</p>
+     */
+    public static int getTicketCount() {
+        synchronized (ticketExpiries) {
+            return ticketExpiries.size();
+        }
+    }
+
+    /**
+     * Forgets every chunk ticket
+     *
+     * <p>The tasks removing the tickets are cancelled when the plugin is disabled, and the server removes the tickets
+     * of a disabled plugin, so the tickets must be forgotten as well for the chunks to get a ticket again once the
+     * plugin is enabled again.</p>
+     */
+    public static void clearTickets() {
+        synchronized (ticketExpiries) {
+            ticketExpiries.clear();
+        }
+    }
+
+    /**
+     * Keeps the given chunk loaded, renewing its ticket if it already has one
+     *
+     * @param location <p>A location in the chunk</p>
+     * @param chunkKey <p>The key of the chunk</p>
+     */
+    private static void keepLoaded(Location location, ChunkKey chunkKey) {
+        synchronized (ticketExpiries) {
+            Long previousExpiry = ticketExpiries.put(chunkKey, System.currentTimeMillis() + TICKET_DURATION_MILLIS);
+            if (previousExpiry != null) {
+                return;
+            }
+        }
+        new StargateRegionTask(location) {
+            @Override
+            public void run() {
+                Objects.requireNonNull(location.getWorld()).addPluginChunkTicket(chunkKey.x(), chunkKey.z(),
+                        Stargate.getInstance());
+            }
+        }.runNow();
+        scheduleExpiry(location, chunkKey, TICKET_DURATION);
+    }
+
+    /**
+     * Schedules the removal of a chunk ticket, unless it has been renewed by then
+     *
+     * @param location <p>A location in the chunk</p>
+     * @param chunkKey <p>The key of the chunk</p>
+     * @param delay    <p>The delay until the ticket should be checked, in ticks</p>
+     */
+    private static void scheduleExpiry(Location location, ChunkKey chunkKey, long delay) {
+        new StargateRegionTask(location) {
+            @Override
+            public void run() {
+                long remainingTime;
+                synchronized (ticketExpiries) {
+                    Long expiry = ticketExpiries.get(chunkKey);
+                    //A forgotten ticket has expired
+                    remainingTime = expiry == null ? 0 : expiry - System.currentTimeMillis();
+                    if (remainingTime <= 0) {
+                        ticketExpiries.remove(chunkKey);
+                    }
+                }
+                if (remainingTime > 0) {
+                    scheduleExpiry(location, chunkKey, Math.max(1, remainingTime / 50));
+                    return;
+                }
+                Objects.requireNonNull(location.getWorld()).removePluginChunkTicket(chunkKey.x(), chunkKey.z(),
+                        Stargate.getInstance());
+            }
+        }.runDelayed(delay);
+    }
+
+    private record ChunkKey(UUID worldId, int x, int z) {
+
+    }
+}
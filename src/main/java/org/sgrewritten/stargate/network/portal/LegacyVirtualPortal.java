@@ -50,7 +50,7 @@ public class LegacyVirtualPortal extends VirtualPortal {
             msgData.writeUTF(PluginChannel.LEGACY_BUNGEE.getChannel());
             String msg = BungeeHelper.generateLegacyTeleportMessage(player.getName(), this);
             msgData.writeUTF(msg);
-            Stargate.log(Level.FINEST, "Sending plugin message: " + bao);
+            Stargate.log(Level.FINEST, "Sending plugin message: %s", bao);
             player.sendPluginMessage(plugin, PluginChannel.BUNGEE.getChannel(), bao.toByteArray());
         } catch (IOException e) {
             Stargate.log(Level.WARNING, "[Stargate] Error sending BungeeCord teleport packet");
@@ -63,7 +63,7 @@ public class LegacyVirtualPortal extends VirtualPortal {
             DataOutputStream msgData = new DataOutputStream(bao);
             msgData.writeUTF(PluginChannel.PLAYER_CONNECT.getChannel());
             msgData.writeUTF(server);
-            Stargate.log(Level.FINEST, "Sending plugin message: " + bao);
+            Stargate.log(Level.FINEST, "Sending plugin message: %s", bao);
             player.sendPluginMessage(plugin, PluginChannel.BUNGEE.getChannel(), bao.toByteArray());
         } catch (IOException e) {
             Stargate.log(Level.WARNING, "[Stargate] Error sending BungeeCord connect packet");
@@ -45,6 +45,7 @@ import org.sgrewritten.stargate.network.portal.formatting.LineColorFormatter;
 import org.sgrewritten.stargate.network.portal.formatting.NoLineColorFormatter;
 import org.sgrewritten.stargate.property.NonLegacyClass;
 import org.sgrewritten.stargate.property.StargateConstant;
+import org.sgrewritten.stargate.thread.TimingWheel;
 import org.sgrewritten.stargate.thread.task.StargateGlobalTask;
 import org.sgrewritten.stargate.thread.task.StargateRegionTask;
 import org.sgrewritten.stargate.util.EconomyHelper;
@@ -76,11 +77,9 @@ public class StargatePortal implements RealPortal {
     protected String name;
     protected UUID openFor;
     protected Portal overriddenDestination = null;
-    private long openTime = -1;
     private UUID ownerUUID;
     private final GateAPI gate;
     private final Set<PortalFlag> flags;
-    protected long activatedTime;
     protected UUID activator;
     protected boolean isDestroyed = false;
     protected final LanguageManager languageManager;
@@ -90,6 +89,8 @@ public class StargatePortal implements RealPortal {
     private boolean savedToStorage = false;
     private PortalBehavior behavior;
     private boolean active = false;
+    private final TimingWheel.Timeout closeTimeout = new TimingWheel.Timeout(() -> close(false));
+    private final TimingWheel.Timeout deactivateTimeout = new TimingWheel.Timeout(this::deactivate);
 
     /**
      * Instantiates a new abstract portal
@@ -128,11 +129,13 @@ public class StargatePortal implements RealPortal {
         }
         gate.getPortalPositions().stream().filter(portalPosition -> portalPosition.getPositionType() == PositionType.BUTTON)
                 .forEach(portalPosition -> gate.redrawPosition(portalPosition, null));
-        StringBuilder msg = new StringBuilder("Selected with flags ");
-        for (PortalFlag flag : flags) {
-            msg.append(flag.getCharacterRepresentation());
+        if (Stargate.isLoggable(Level.FINER)) {
+            StringBuilder msg = new StringBuilder("Selected with flags ");
+            for (PortalFlag flag : flags) {
+                msg.append(flag.getCharacterRepresentation());
+            }
+            Stargate.log(Level.FINER, msg.toString());
         }
-        Stargate.log(Level.FINER, msg.toString());
 
         StargatePortal.portalCount++;
         StargatePortal.allUsedFlags.addAll(flags);
@@ -183,15 +186,10 @@ public class StargatePortal implements RealPortal {
         if (hasFlag(StargateFlag.ALWAYS_ON)) {
             return;
         }
-        final long openTimeForAction = System.currentTimeMillis();
-        this.openTime = openTimeForAction;
-
-        new StargateGlobalTask() {
-            @Override
-            public void run() {
-                close(openTimeForAction);
-            }
-        }.runDelayed(OPEN_DELAY);
+        StargateGlobalTask.getTimingWheel().schedule(closeTimeout, OPEN_DELAY);
+        if (destination instanceof RealPortal realDestination) {
+            ExitChunkLoader.load(realDestination.getExit());
+        }
         if (destination != null) {
             destination.open(actor);
         }
@@ -214,11 +212,14 @@ public class StargatePortal implements RealPortal {
         StargateClosePortalEvent closeEvent = new StargateClosePortalEvent(this, forceClose);
         Bukkit.getPluginManager().callEvent(closeEvent);
         if (closeEvent.isCancelled()) {
-            Stargate.log(Level.FINE, "Closing event for portal " + getName() + " in network " + getNetwork().getName() + " was canceled");
+            if (Stargate.isLoggable(Level.FINE)) {
+                Stargate.log(Level.FINE, "Closing event for portal %s in network %s was canceled", getName(), getNetwork().getName());
+            }
             return;
         }
 
         Stargate.log(Level.FINE, "Closing the portal");
+        StargateGlobalTask.getTimingWheel().cancel(closeTimeout);
         redrawSigns();
         getGate().close();
         openFor = null;
@@ -226,7 +227,9 @@ public class StargatePortal implements RealPortal {
 
     @Override
     public boolean isOpenFor(Entity target) {
-        Stargate.log(Level.FINE, String.format("isOpenForUUID = %s", (openFor == null) ? "null" : openFor.toString()));
+        if (Stargate.isLoggable(Level.FINE)) {
+            Stargate.log(Level.FINE, "isOpenForUUID = %s", openFor);
+        }
         return ((openFor == null) || (target.getUniqueId() == openFor));
     }
 
@@ -443,17 +446,11 @@ public class StargatePortal implements RealPortal {
     @Override
     public void destroy() {
         this.isDestroyed = true;
+        StargateGlobalTask.getTimingWheel().cancel(deactivateTimeout);
         behavior.onDestroy();
         this.close(true);
     }
 
-    @Override
-    public void close(long relatedOpenTime) {
-        if (relatedOpenTime == openTime) {
-            close(false);
-        }
-    }
-
     @Override
     public Location getExit() {
         return gate.getExit();
@@ -479,17 +476,10 @@ public class StargatePortal implements RealPortal {
         } else {
             this.activator = null;
         }
-        long activationTime = System.currentTimeMillis();
-        this.activatedTime = activationTime;
         this.active = true;
 
-        //Schedule for deactivation
-        new StargateGlobalTask() {
-            @Override
-            public void run() {
-                deactivate(activationTime);
-            }
-        }.runDelayed(ACTIVE_DELAY);
+        //Schedule for deactivation, replacing any earlier deactivation
+        StargateGlobalTask.getTimingWheel().schedule(deactivateTimeout, ACTIVE_DELAY);
     }
 
     @Override
@@ -503,26 +493,12 @@ public class StargatePortal implements RealPortal {
     }
 
 
-    /**
-     * De-activates this portal if necessary
-     *
-     * <p>The activated time must match to make sure to skip de-activation requests except for the one cancelling the
-     * newest portal activation.</p>
-     *
-     * @param activatedTime <p>The time this portal was activated</p>
-     */
-    protected void deactivate(long activatedTime) {
-        if (activatedTime != this.activatedTime) {
-            return;
-        }
-        deactivate();
-    }
-
     @Override
     public void deactivate() {
         if (this.isDestroyed) {
             return;
         }
+        StargateGlobalTask.getTimingWheel().cancel(deactivateTimeout);
         //Call the deactivate event to notify add-ons
         StargateDeactivatePortalEvent event = new StargateDeactivatePortalEvent(this);
         Bukkit.getPluginManager().callEvent(event);
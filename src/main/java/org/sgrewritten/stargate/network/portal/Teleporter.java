@@ -22,6 +22,10 @@ import org.sgrewritten.stargate.api.network.portal.flag.StargateFlag;
 import org.sgrewritten.stargate.config.ConfigurationHelper;
 import org.sgrewritten.stargate.economy.StargateEconomyAPI;
 import org.sgrewritten.stargate.manager.StargatePermissionManager;
+import org.sgrewritten.stargate.metrics.Counter;
+import org.sgrewritten.stargate.metrics.LatencyRecorder;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
 import org.sgrewritten.stargate.property.NonLegacyClass;
 import org.sgrewritten.stargate.property.NonLegacyMethod;
 import org.sgrewritten.stargate.thread.task.StargateEntityTask;
@@ -30,6 +34,7 @@ import org.sgrewritten.stargate.util.VectorUtils;
 import org.sgrewritten.stargate.util.portal.TeleportationHelper;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 /**
@@ -38,7 +43,9 @@ import java.util.logging.Level;
 public class Teleporter {
 
     private static final double LOOK_FOR_LEASHED_RADIUS = 15;
-    private static final Set<Entity> boatsTeleporting = new HashSet<>();
+    private static final Set<Entity> boatsTeleporting = ConcurrentHashMap.newKeySet();
+    private static final LatencyRecorder teleportTime = StargateMetrics.getLatency(MetricName.of("teleport_latency"));
+    private static final Counter teleports = StargateMetrics.getCounter(MetricName.of("teleports"));
 
     private Location exit;
     private final RealPortal origin;
@@ -84,6 +91,7 @@ public class Teleporter {
      * @param target <p>The entity that is the target of this teleportation</p>
      */
     public void teleport(Entity target) {
+        final long startTime = System.nanoTime();
         // Teleport the whole vessel, regardless of what entity triggered the initial event
         while (target.getVehicle() != null) {
             target = target.getVehicle();
@@ -98,17 +106,19 @@ public class Teleporter {
 
         hasPermission = dfs.depthFirstSearch(baseEntity);
         Set<Entity> entitiesToTeleport = dfs.getEntitiesToTeleport();
-        //Check if already is teleporting and prevent entity to teleporting again
+        //Check if already is teleporting and prevent entity to teleporting again. Boats are claimed one by one, so that
+        //two region threads can never both teleport the same boat
+        List<Entity> claimedBoats = new ArrayList<>();
         for (Entity entityToTeleport : entitiesToTeleport) {
-            if (boatsTeleporting.contains(entityToTeleport)) {
+            if (!(entityToTeleport instanceof Boat)) {
+                continue;
+            }
+            if (!boatsTeleporting.add(entityToTeleport)) {
+                claimedBoats.forEach(boatsTeleporting::remove);
                 return;
             }
+            claimedBoats.add(entityToTeleport);
         }
-        entitiesToTeleport.forEach(entity -> {
-            if (entity instanceof Boat) {
-                boatsTeleporting.add(entity);
-            }
-        });
 
 
         if (!hasPermission) {
@@ -128,18 +138,46 @@ public class Teleporter {
         if (world != null && !world.getWorldBorder().isInside(exit)) {
             String worldBorderInterfereMessage = languageManager.getErrorMessage(TranslatableMessage.OUTSIDE_WORLD_BORDER);
             entitiesToTeleport.forEach(entity -> entity.sendMessage(worldBorderInterfereMessage));
+            claimedBoats.forEach(boatsTeleporting::remove);
             return;
         }
-        // Avoid collisions by teleporting the entity to a free location
-        if (origin == null || !origin.getExit().getWorld().equals(world)) {
-            exit = TeleportationHelper.findViableSpawnLocation(baseEntity, destination);
-        }
-        new StargateEntityTask(baseEntity) {
-            @Override
-            public void run() {
-                betterTeleport(baseEntity, exit, rotation);
+        final boolean findSpawnLocation = origin == null || !origin.getExit().getWorld().equals(world);
+        // Only teleport once the exit is loaded, instead of loading it while teleporting
+        ExitChunkLoader.load(exit).thenRun(() -> {
+            // Avoid collisions by teleporting the entity to a free location
+            if (findSpawnLocation) {
+                exit = TeleportationHelper.findViableSpawnLocation(baseEntity, destination);
             }
-        }.runNow();
+            new StargateEntityTask(baseEntity) {
+                @Override
+                public void run() {
+                    betterTeleport(baseEntity, exit, rotation);
+                    teleportTime.recordSince(startTime);
+                    teleports.increment();
+                }
+            }.runNow();
+        }).exceptionally(throwable -> {
+            Stargate.log(throwable);
+            boatsTeleporting.removeAll(entitiesToTeleport);
+            return null;
+        });
+    }
+
+    /**
+     * Checks whether the given entity is a boat which is being teleported
+     *
+     * @param entity <p>The entity to check</p>
+     * @return <p>True if the entity is a boat which is being teleported</p>
+     */
+    static boolean isBoatTeleporting(Entity entity) {
+        return boatsTeleporting.contains(entity);
+    }
+
+    /**
+     * @return <p>The time from a teleportation being requested until the entity is teleported</p>
+     */
+    public static LatencyRecorder getTeleportTime() {
+        return teleportTime;
     }
 
     /**
@@ -228,14 +266,11 @@ public class Teleporter {
             return;
         }
 
-        // To smooth the experienced for highly used portals, or entity teleportation
-        if (!exit.getChunk().isLoaded()) {
-            exit.getChunk().load();
-        }
-
         Stargate.log(Level.FINEST, "Trying to teleport surrounding leashed entities");
         teleportNearbyLeashedEntities(target, exit, rotation);
-        Stargate.log(Level.FINEST, "Teleporting entity " + target + " to exit location " + exit);
+        if (Stargate.isLoggable(Level.FINEST)) {
+            Stargate.log(Level.FINEST, "Teleporting entity %s to exit location %s", target, exit);
+        }
         teleport(target, exit, rotation);
     }
 
@@ -302,7 +337,7 @@ public class Teleporter {
         Vector targetVelocity = velocity.rotateAroundY(rotation).multiply(ConfigurationHelper.getDouble(
                 ConfigurationOption.GATE_EXIT_SPEED_MULTIPLIER));
 
-        if (target instanceof Player player) {
+        if (target instanceof Player player && Stargate.isLoggable(Level.FINE)) {
             String msg = "Teleporting player %s to %s";
             msg = String.format(msg, player.getName(), location);
             if (this.origin != null) {
@@ -330,8 +365,10 @@ public class Teleporter {
      */
     private void teleportPoweredMinecart(PoweredMinecart poweredMinecart, Vector targetVelocity, Location location) {
         if (!NonLegacyMethod.GET_FUEL.isImplemented()) {
-            Stargate.log(Level.FINE, String.format("Unable to handle Furnace Minecart at %S --" +
-                    " use Paper 1.17+ for this feature.", location));
+            if (Stargate.isLoggable(Level.FINE)) {
+                Stargate.log(Level.FINE, "Unable to handle Furnace Minecart at %S -- use Paper 1.17+ for this feature.",
+                        location);
+            }
             return;
         }
         //Remove fuel and velocity to force the powered minecart to stop
@@ -340,14 +377,18 @@ public class Teleporter {
         poweredMinecart.setVelocity(new Vector());
 
         //Teleport the powered minecart
-        Stargate.log(Level.FINEST, "Teleporting Powered Minecart to " + exit);
+        if (Stargate.isLoggable(Level.FINEST)) {
+            Stargate.log(Level.FINEST, "Teleporting Powered Minecart to %s", exit);
+        }
         teleport(poweredMinecart, exit);
         poweredMinecart.setFuel(fuel);
 
         new StargateEntityTask(poweredMinecart) {
             @Override
             public void run() {
-                Stargate.log(Level.FINEST, "Setting new velocity " + targetVelocity);
+                if (Stargate.isLoggable(Level.FINEST)) {
+                    Stargate.log(Level.FINEST, "Setting new velocity %s", targetVelocity);
+                }
                 poweredMinecart.setVelocity(targetVelocity);
 
                 //Use the paper-only methods for setting the powered minecart's actual push
@@ -355,12 +396,14 @@ public class Teleporter {
                     Vector direction = destinationFace.getDirection();
                     double pushX = -direction.getBlockX();
                     double pushZ = -direction.getBlockZ();
-                    Stargate.log(Level.FINEST, "Setting push: X = " + pushX + " Z = " + pushZ);
+                    if (Stargate.isLoggable(Level.FINEST)) {
+                        Stargate.log(Level.FINEST, "Setting push: X = %s Z = %s", pushX, pushZ);
+                    }
                     NonLegacyMethod.PUSH_X.invoke(poweredMinecart, pushX);
                     NonLegacyMethod.PUSH_Z.invoke(poweredMinecart, pushZ);
-                } else {
-                    Stargate.log(Level.FINE, String.format("Unable to restore Furnace Minecart Momentum at %S --" +
-                            " use Paper 1.18.2+ for this feature.", location));
+                } else if (Stargate.isLoggable(Level.FINE)) {
+                    Stargate.log(Level.FINE, "Unable to restore Furnace Minecart Momentum at %S -- use Paper 1.18.2+ " +
+                            "for this feature.", location);
                 }
             }
         }.runDelayed(1);
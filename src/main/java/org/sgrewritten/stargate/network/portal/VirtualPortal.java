@@ -11,9 +11,10 @@ import org.sgrewritten.stargate.api.network.portal.flag.StargateFlag;
 import org.sgrewritten.stargate.api.network.portal.RealPortal;
 import org.sgrewritten.stargate.network.StorageType;
 import org.sgrewritten.stargate.network.proxy.BukkitPluginMessageInterface;
+import org.sgrewritten.stargate.network.proxy.InterServerMessage;
+import org.sgrewritten.stargate.network.proxy.InterServerMessageCodec;
 import org.sgrewritten.stargate.network.proxy.PluginMessageInterface;
 import org.sgrewritten.stargate.property.PluginChannel;
-import org.sgrewritten.stargate.util.BungeeHelper;
 import org.sgrewritten.stargate.util.NameHelper;
 
 import java.io.ByteArrayOutputStream;
@@ -166,7 +167,7 @@ public class VirtualPortal implements Portal {
      */
     private void sendTeleportMessage(Stargate plugin, Player player) throws IOException {
         try {
-            String dataMsg = BungeeHelper.generateTeleportJsonMessage(player.getName(), this);
+            byte[] dataMsg = InterServerMessageCodec.encode(InterServerMessage.playerTeleport(player.getName(), this));
             pluginMessageInterface.sendDirectedMessage(dataMsg, PluginChannel.PLAYER_TELEPORT, plugin, server);
         } catch (IOException exception) {
             Stargate.log(Level.WARNING, "Error sending BungeeCord teleport packet");
@@ -3,6 +3,9 @@ package org.sgrewritten.stargate.network.proxy;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.metrics.Counter;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
 import org.sgrewritten.stargate.property.PluginChannel;
 import org.sgrewritten.stargate.thread.task.StargateGlobalTask;
 
@@ -16,8 +19,10 @@ import java.util.logging.Level;
  */
 public class BukkitPluginMessageInterface implements PluginMessageInterface {
 
+    private static final Counter sentMessages = StargateMetrics.getCounter(MetricName.of("bungee_messages", "direction", "out"));
+
     @Override
-    public void scheduleSendMessage(String message, PluginChannel channel) {
+    public void scheduleSendMessage(byte[] message, PluginChannel channel) {
         Stargate stargate = Stargate.getInstance();
 
 
@@ -36,28 +41,36 @@ public class BukkitPluginMessageInterface implements PluginMessageInterface {
 
 
     @Override
-    public void sendMessage(String message, PluginChannel channel, Plugin plugin) throws IOException {
+    public void sendMessage(byte[] message, PluginChannel channel, Plugin plugin) throws IOException {
         try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
             DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
             dataOutputStream.writeUTF(PluginChannel.FORWARD.getChannel());
             dataOutputStream.writeUTF("ALL");
             dataOutputStream.writeUTF(channel.getChannel());
-            Stargate.log(Level.FINER, String.format("Sending bungee message:%n%s", message));
-            dataOutputStream.writeUTF(message);
+            if (Stargate.isLoggable(Level.FINER)) {
+                Stargate.log(Level.FINER, "Sending bungee message of %d bytes", message.length);
+            }
+            dataOutputStream.writeShort(message.length);
+            dataOutputStream.write(message);
             Bukkit.getServer().sendPluginMessage(plugin, PluginChannel.BUNGEE.getChannel(), byteArrayOutputStream.toByteArray());
+            sentMessages.increment();
         }
     }
 
     @Override
-    public void sendDirectedMessage(String message, PluginChannel channel, Plugin plugin, String server) throws IOException {
+    public void sendDirectedMessage(byte[] message, PluginChannel channel, Plugin plugin, String server) throws IOException {
         try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
             DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
             dataOutputStream.writeUTF(PluginChannel.FORWARD.getChannel());
             dataOutputStream.writeUTF(server);
             dataOutputStream.writeUTF(channel.getChannel());
-            Stargate.log(Level.FINER, String.format("Sending bungee message:%n%s", message));
-            dataOutputStream.writeUTF(message);
+            if (Stargate.isLoggable(Level.FINER)) {
+                Stargate.log(Level.FINER, "Sending bungee message of %d bytes", message.length);
+            }
+            dataOutputStream.writeShort(message.length);
+            dataOutputStream.write(message);
             Bukkit.getServer().sendPluginMessage(plugin, PluginChannel.BUNGEE.getChannel(), byteArrayOutputStream.toByteArray());
+            sentMessages.increment();
         }
     }
 }
@@ -0,0 +1,117 @@
+package org.sgrewritten.stargate.network.proxy;
+
+import org.jetbrains.annotations.Nullable;
+import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.api.network.portal.Portal;
+import org.sgrewritten.stargate.property.StargateProtocolRequestType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A message sent between the servers of a proxy network
+ *
+ * <p>Only the fields used by the message's request type are set, every other field is null. Snapshot and batch
+ * messages list their portals as portal add or remove messages in the same network and server.</p>
+ *
+ * @param requestType <p>The type of request this message makes</p>
+ * @param network     <p>The id of the network the request concerns</p>
+ * @param portal      <p>The name of the portal the request concerns</p>
+ * @param server      <p>The server the portal is on</p>
+ * @param flags       <p>The flags of the portal</p>
+ * @param owner       <p>The owner of the portal</p>
+ * @param newName     <p>The new name of the renamed portal or network</p>
+ * @param player      <p>The name of the teleporting player</p>
+ * @param portals     <p>The portals of a snapshot or batch message</p>
+ */
+public record InterServerMessage(StargateProtocolRequestType requestType, String network, @Nullable String portal,
+                                 @Nullable String server, @Nullable String flags, @Nullable UUID owner,
+                                 @Nullable String newName, @Nullable String player,
+                                 @Nullable List<InterServerMessage> portals) {
+
+    /**
+     * Instantiates a new message about a single portal or network
+     *
+     * @param requestType <p>The type of request this message makes</p>
+     * @param network     <p>The id of the network the request concerns</p>
+     * @param portal      <p>The name of the portal the request concerns</p>
+     * @param server      <p>The server the portal is on</p>
+     * @param flags       <p>The flags of the portal</p>
+     * @param owner       <p>The owner of the portal</p>
+     * @param newName     <p>The new name of the renamed portal or network</p>
+     * @param player      <p>The name of the teleporting player</p>
+     */
+    public InterServerMessage(StargateProtocolRequestType requestType, String network, @Nullable String portal,
+                              @Nullable String server, @Nullable String flags, @Nullable UUID owner,
+                              @Nullable String newName, @Nullable String player) {
+        this(requestType, network, portal, server, flags, owner, newName, player, null);
+    }
+
+    /**
+     * Creates a message telling other servers that a portal was added or removed
+     *
+     * @param portal      <p>The portal which was added or removed</p>
+     * @param requestType <p>Whether the portal was added or removed</p>
+     * @return <p>A portal add or remove message</p>
+     */
+    public static InterServerMessage portalChange(Portal portal, StargateProtocolRequestType requestType) {
+        return new InterServerMessage(requestType, portal.getNetwork().getId(), portal.getName(),
+                Stargate.getServerName(), portal.getAllFlagsString(), portal.getOwnerUUID(), null, null);
+    }
+
+    /**
+     * Creates a message telling other servers that a network was renamed
+     *
+     * @param newId <p>The id of the network after the rename</p>
+     * @param oldId <p>The id of the network before the rename</p>
+     * @return <p>A network rename message</p>
+     */
+    public static InterServerMessage networkRename(String newId, String oldId) {
+        return new InterServerMessage(StargateProtocolRequestType.NETWORK_RENAME, oldId, null, null, null, null, newId,
+                null);
+    }
+
+    /**
+     * Creates a message telling other servers that a portal was renamed
+     *
+     * @param newName   <p>The name of the portal after the rename</p>
+     * @param oldName   <p>The name of the portal before the rename</p>
+     * @param networkId <p>The id of the network of the portal</p>
+     * @return <p>A portal rename message</p>
+     */
+    public static InterServerMessage portalRename(String newName, String oldName, String networkId) {
+        return new InterServerMessage(StargateProtocolRequestType.PORTAL_RENAME, networkId, oldName, null, null, null,
+                newName, null);
+    }
+
+    /**
+     * Creates a message telling another server that a player is teleporting to one of its portals
+     *
+     * @param player <p>The name of the teleporting player</p>
+     * @param portal <p>The portal the player teleports to</p>
+     * @return <p>A player teleport message</p>
+     */
+    public static InterServerMessage playerTeleport(String player, Portal portal) {
+        return new InterServerMessage(StargateProtocolRequestType.PLAYER_TELEPORT, portal.getNetwork().getId(),
+                portal.getName(), null, null, null, null, player);
+    }
+
+    /**
+     * Creates a message listing portals of this server in a network
+     *
+     * @param requestType <p>Whether the portals replace every portal of this server, or are added to the network</p>
+     * @param networkId   <p>The id of the network of the portals</p>
+     * @param portals     <p>The portals to list</p>
+     * @return <p>A network snapshot or portal batch message</p>
+     */
+    public static InterServerMessage portalList(StargateProtocolRequestType requestType, String networkId,
+                                                List<? extends Portal> portals) {
+        List<InterServerMessage> portalMessages = new ArrayList<>(portals.size());
+        for (Portal portal : portals) {
+            portalMessages.add(portalChange(portal, StargateProtocolRequestType.PORTAL_ADD));
+        }
+        return new InterServerMessage(requestType, networkId, null, Stargate.getServerName(), null, null, null, null,
+                portalMessages);
+    }
+}
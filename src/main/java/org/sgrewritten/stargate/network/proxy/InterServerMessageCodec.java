@@ -0,0 +1,264 @@
+package org.sgrewritten.stargate.network.proxy;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import org.sgrewritten.stargate.api.config.ConfigurationOption;
+import org.sgrewritten.stargate.config.ConfigurationHelper;
+import org.sgrewritten.stargate.property.StargateProtocolProperty;
+import org.sgrewritten.stargate.property.StargateProtocolRequestType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encodes and decodes the messages sent between the servers of a proxy network
+ *
+ * <p>Messages are encoded as a version byte, the ordinal of the request type, and the fields used by that request type
+ * in a fixed order. Strings are written as modified UTF-8, and the owner of a portal as two longs. A decoder ignores
+ * any bytes after the fields it knows, so a later version can append fields without breaking older decoders.</p>
+ *
+ * <p>Older versions of Stargate send messages as json, which always starts with '{'. As the version byte is never
+ * '{', both formats can be decoded from the same plugin message channel.</p>
+ */
+public final class InterServerMessageCodec {
+
+    /**
+     * The version of the binary format written by this codec
+     */
+    public static final byte VERSION = 1;
+    private static final byte JSON_START = '{';
+    private static final int MAX_MESSAGE_LENGTH = 0xFFFF;
+
+    private InterServerMessageCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Encodes the given message in the format configured for this server
+     *
+     * @param message <p>The message to encode</p>
+     * @return <p>The encoded message</p>
+     * @throws IOException              <p>If the message is too long to be sent</p>
+     * @throws IllegalArgumentException <p>If json is configured, and the message lists several portals</p>
+     */
+    public static byte[] encode(InterServerMessage message) throws IOException {
+        if (ConfigurationHelper.getBoolean(ConfigurationOption.JSON_INTER_SERVER_MESSAGES)) {
+            return encodeJson(toJson(message));
+        }
+        return encodeBinary(message);
+    }
+
+    /**
+     * Encodes the given message in the binary format
+     *
+     * @param message <p>The message to encode</p>
+     * @return <p>The encoded message</p>
+     * @throws IOException <p>If the message is too long to be sent</p>
+     */
+    public static byte[] encodeBinary(InterServerMessage message) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(byteArrayOutputStream);
+        out.writeByte(VERSION);
+        out.writeByte(message.requestType().ordinal());
+        out.writeUTF(message.network());
+        switch (message.requestType()) {
+            case PORTAL_ADD, PORTAL_REMOVE -> {
+                out.writeUTF(message.portal());
+                out.writeUTF(message.server());
+                writePortal(out, message);
+            }
+            case PORTAL_RENAME -> {
+                out.writeUTF(message.portal());
+                out.writeUTF(message.newName());
+            }
+            case NETWORK_RENAME -> out.writeUTF(message.newName());
+            case PLAYER_TELEPORT -> {
+                out.writeUTF(message.portal());
+                out.writeUTF(message.player());
+            }
+            case NETWORK_SNAPSHOT, PORTAL_BATCH -> {
+                out.writeUTF(message.server());
+                if (message.portals().size() > MAX_MESSAGE_LENGTH) {
+                    throw new IOException("Too many portals in one inter-server message: " + message.portals().size());
+                }
+                out.writeShort(message.portals().size());
+                for (InterServerMessage portal : message.portals()) {
+                    out.writeByte(portal.requestType().ordinal());
+                    out.writeUTF(portal.portal());
+                    writePortal(out, portal);
+                }
+            }
+        }
+        if (byteArrayOutputStream.size() > MAX_MESSAGE_LENGTH) {
+            throw new IOException("Inter-server message is too long to be sent: " + byteArrayOutputStream.size());
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Encodes a json message the same way older versions of Stargate write it to a plugin message
+     *
+     * @param json <p>The json message to encode</p>
+     * @return <p>The modified UTF-8 bytes of the json message</p>
+     * @throws IOException <p>If the json message is too long to be sent</p>
+     */
+    public static byte[] encodeJson(String json) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(json.length() + 2);
+        new DataOutputStream(byteArrayOutputStream).writeUTF(json);
+        byte[] prefixedBytes = byteArrayOutputStream.toByteArray();
+        byte[] bytes = new byte[prefixedBytes.length - 2];
+        System.arraycopy(prefixedBytes, 2, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Converts the given message to the json format used by older versions of Stargate
+     *
+     * @param message <p>The message to convert</p>
+     * @return <p>A json string message</p>
+     * @throws IllegalArgumentException <p>If the message lists several portals, which the json format does not support</p>
+     */
+    public static String toJson(InterServerMessage message) {
+        if (message.portals() != null) {
+            throw new IllegalArgumentException("Older versions of Stargate can not read " + message.requestType() +
+                    " messages, send each portal on its own instead");
+        }
+        JsonObject jsonData = new JsonObject();
+        //Teleport messages never had a request type, as they are sent on their own channel
+        if (message.requestType() != StargateProtocolRequestType.PLAYER_TELEPORT) {
+            addProperty(jsonData, StargateProtocolProperty.REQUEST_TYPE, message.requestType().toString());
+        }
+        addProperty(jsonData, StargateProtocolProperty.NETWORK, message.network());
+        addProperty(jsonData, StargateProtocolProperty.PORTAL, message.portal());
+        addProperty(jsonData, StargateProtocolProperty.SERVER, message.server());
+        addProperty(jsonData, StargateProtocolProperty.PORTAL_FLAG, message.flags());
+        addProperty(jsonData, StargateProtocolProperty.OWNER, message.owner() == null ? null : message.owner().toString());
+        if (message.requestType() == StargateProtocolRequestType.NETWORK_RENAME) {
+            addProperty(jsonData, StargateProtocolProperty.NEW_NETWORK_NAME, message.newName());
+        } else {
+            addProperty(jsonData, StargateProtocolProperty.NEW_PORTAL_NAME, message.newName());
+        }
+        addProperty(jsonData, StargateProtocolProperty.PLAYER, message.player());
+        return jsonData.toString();
+    }
+
+    /**
+     * Decodes a message in either the binary or the json format
+     *
+     * @param data <p>The bytes of the message</p>
+     * @return <p>The decoded message</p>
+     * @throws IOException <p>If the message is malformed, or uses a newer binary version</p>
+     */
+    public static InterServerMessage decode(byte[] data) throws IOException {
+        if (data.length == 0) {
+            throw new IOException("Received an empty inter-server message");
+        }
+        if (data[0] == JSON_START) {
+            return decodeJson(decodeModifiedUtf(data));
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        int version = in.readUnsignedByte();
+        if (version > VERSION) {
+            throw new IOException(String.format("Received an inter-server message of version %d, but only version %d " +
+                    "is supported. Please update Stargate on this server", version, VERSION));
+        }
+        StargateProtocolRequestType requestType = readRequestType(in);
+        String network = in.readUTF();
+        return switch (requestType) {
+            case PORTAL_ADD, PORTAL_REMOVE -> new InterServerMessage(requestType, network, in.readUTF(), in.readUTF(),
+                    in.readUTF(), new UUID(in.readLong(), in.readLong()), null, null);
+            case PORTAL_RENAME -> new InterServerMessage(requestType, network, in.readUTF(), null, null, null,
+                    in.readUTF(), null);
+            case NETWORK_RENAME -> new InterServerMessage(requestType, network, null, null, null, null, in.readUTF(),
+                    null);
+            case PLAYER_TELEPORT -> new InterServerMessage(requestType, network, in.readUTF(), null, null, null, null,
+                    in.readUTF());
+            case NETWORK_SNAPSHOT, PORTAL_BATCH -> {
+                String server = in.readUTF();
+                int portalCount = in.readUnsignedShort();
+                List<InterServerMessage> portals = new ArrayList<>(portalCount);
+                for (int i = 0; i < portalCount; i++) {
+                    StargateProtocolRequestType portalRequestType = readRequestType(in);
+                    if (portalRequestType != StargateProtocolRequestType.PORTAL_ADD &&
+                            portalRequestType != StargateProtocolRequestType.PORTAL_REMOVE) {
+                        throw new IOException("Received a " + portalRequestType + " request in a " + requestType +
+                                " inter-server message");
+                    }
+                    portals.add(new InterServerMessage(portalRequestType, network, in.readUTF(), server, in.readUTF(),
+                            new UUID(in.readLong(), in.readLong()), null, null));
+                }
+                yield new InterServerMessage(requestType, network, null, server, null, null, null, null, portals);
+            }
+        };
+    }
+
+    /**
+     * Decodes a message in the json format used by older versions of Stargate
+     *
+     * @param json <p>The json message</p>
+     * @return <p>The decoded message</p>
+     * @throws IOException <p>If the message is not a valid json message</p>
+     */
+    public static InterServerMessage decodeJson(String json) throws IOException {
+        try {
+            JsonObject jsonData = JsonParser.parseString(json).getAsJsonObject();
+            String requestTypeString = getProperty(jsonData, StargateProtocolProperty.REQUEST_TYPE);
+            StargateProtocolRequestType requestType = requestTypeString == null ?
+                    StargateProtocolRequestType.PLAYER_TELEPORT : StargateProtocolRequestType.valueOf(requestTypeString);
+            String owner = getProperty(jsonData, StargateProtocolProperty.OWNER);
+            String newName = getProperty(jsonData, requestType == StargateProtocolRequestType.NETWORK_RENAME ?
+                    StargateProtocolProperty.NEW_NETWORK_NAME : StargateProtocolProperty.NEW_PORTAL_NAME);
+            return new InterServerMessage(requestType, getProperty(jsonData, StargateProtocolProperty.NETWORK),
+                    getProperty(jsonData, StargateProtocolProperty.PORTAL),
+                    getProperty(jsonData, StargateProtocolProperty.SERVER),
+                    getProperty(jsonData, StargateProtocolProperty.PORTAL_FLAG),
+                    owner == null ? null : UUID.fromString(owner), newName,
+                    getProperty(jsonData, StargateProtocolProperty.PLAYER));
+        } catch (JsonParseException | IllegalStateException | IllegalArgumentException exception) {
+            throw new IOException("Received a malformed inter-server json message", exception);
+        }
+    }
+
+    private static void writePortal(DataOutputStream out, InterServerMessage portal) throws IOException {
+        out.writeUTF(portal.flags());
+        out.writeLong(portal.owner().getMostSignificantBits());
+        out.writeLong(portal.owner().getLeastSignificantBits());
+    }
+
+    private static StargateProtocolRequestType readRequestType(DataInputStream in) throws IOException {
+        int requestTypeOrdinal = in.readUnsignedByte();
+        StargateProtocolRequestType[] requestTypes = StargateProtocolRequestType.values();
+        if (requestTypeOrdinal >= requestTypes.length) {
+            throw new IOException("Received an inter-server message of unknown request type " + requestTypeOrdinal);
+        }
+        return requestTypes[requestTypeOrdinal];
+    }
+
+    private static String decodeModifiedUtf(byte[] data) throws IOException {
+        byte[] prefixedBytes = new byte[data.length + 2];
+        prefixedBytes[0] = (byte) (data.length >>> 8);
+        prefixedBytes[1] = (byte) data.length;
+        System.arraycopy(data, 0, prefixedBytes, 2, data.length);
+        return new DataInputStream(new ByteArrayInputStream(prefixedBytes)).readUTF();
+    }
+
+    private static void addProperty(JsonObject jsonData, StargateProtocolProperty property, String value) {
+        if (value != null) {
+            jsonData.add(property.toString(), new JsonPrimitive(value));
+        }
+    }
+
+    private static String getProperty(JsonObject jsonData, StargateProtocolProperty property) {
+        JsonElement element = jsonData.get(property.toString());
+        return element == null || element.isJsonNull() ? null : element.getAsString();
+    }
+}
@@ -1,17 +1,29 @@
 package org.sgrewritten.stargate.network.proxy;
 
+import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.api.config.ConfigurationOption;
 import org.sgrewritten.stargate.api.network.Network;
+import org.sgrewritten.stargate.api.network.portal.Portal;
 import org.sgrewritten.stargate.api.network.portal.RealPortal;
 import org.sgrewritten.stargate.api.network.proxy.PluginMessageSender;
+import org.sgrewritten.stargate.config.ConfigurationHelper;
 import org.sgrewritten.stargate.property.PluginChannel;
 import org.sgrewritten.stargate.property.StargateProtocolRequestType;
-import org.sgrewritten.stargate.util.BungeeHelper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
 
 /**
  * Handles any cross server information sending
  */
 public class InterServerMessageSender implements PluginMessageSender {
 
+    /**
+     * The most portals sent in one message, which keeps every message well below the plugin message size limit
+     */
+    private static final int SNAPSHOT_PART_SIZE = 256;
     private final PluginMessageInterface pluginMessageInterface;
 
     public InterServerMessageSender() {
@@ -27,26 +39,46 @@ public class InterServerMessageSender implements PluginMessageSender {
 
     @Override
     public void sendCreatePortal(RealPortal realPortal) {
-        String message = BungeeHelper.generateJsonMessage(realPortal, StargateProtocolRequestType.PORTAL_ADD);
-        updateInterServerNetwork(message);
+        updateInterServerNetwork(InterServerMessage.portalChange(realPortal, StargateProtocolRequestType.PORTAL_ADD));
     }
 
     @Override
     public void sendDeletePortal(RealPortal realPortal) {
-        String message = BungeeHelper.generateJsonMessage(realPortal, StargateProtocolRequestType.PORTAL_REMOVE);
-        updateInterServerNetwork(message);
+        updateInterServerNetwork(InterServerMessage.portalChange(realPortal, StargateProtocolRequestType.PORTAL_REMOVE));
     }
 
     @Override
     public void sendRenameNetwork(String newId, String oldId) {
-        String message = BungeeHelper.generateRenameNetworkMessage(newId, oldId);
-        updateInterServerNetwork(message);
+        updateInterServerNetwork(InterServerMessage.networkRename(newId, oldId));
     }
 
     @Override
     public void sendRenamePortal(String newName, String oldName, Network network) {
-        String message = BungeeHelper.generateRenamePortalMessage(newName, oldName, network);
-        updateInterServerNetwork(message);
+        updateInterServerNetwork(InterServerMessage.portalRename(newName, oldName, network.getId()));
+    }
+
+    @Override
+    public void sendNetworkSnapshot(Network network) {
+        List<RealPortal> portals = new ArrayList<>();
+        for (Portal portal : network.getAllPortals()) {
+            if (portal instanceof RealPortal realPortal) {
+                portals.add(realPortal);
+            }
+        }
+        //Older versions only understand one portal per message, and can not remove outdated portals
+        if (ConfigurationHelper.getBoolean(ConfigurationOption.JSON_INTER_SERVER_MESSAGES)) {
+            portals.forEach(this::sendCreatePortal);
+            return;
+        }
+        StargateProtocolRequestType requestType = StargateProtocolRequestType.NETWORK_SNAPSHOT;
+        int start = 0;
+        do {
+            int end = Math.min(start + SNAPSHOT_PART_SIZE, portals.size());
+            updateInterServerNetwork(InterServerMessage.portalList(requestType, network.getId(),
+                    portals.subList(start, end)));
+            requestType = StargateProtocolRequestType.PORTAL_BATCH;
+            start = end;
+        } while (start < portals.size());
     }
 
     /**
@@ -55,7 +87,13 @@ public class InterServerMessageSender implements PluginMessageSender {
      *
      * @param message <p>The message to send</p>
      */
-    private void updateInterServerNetwork(String message) {
-        this.pluginMessageInterface.scheduleSendMessage(message, PluginChannel.NETWORK_CHANGED);
+    private void updateInterServerNetwork(InterServerMessage message) {
+        try {
+            this.pluginMessageInterface.scheduleSendMessage(InterServerMessageCodec.encode(message),
+                    PluginChannel.NETWORK_CHANGED);
+        } catch (IOException e) {
+            Stargate.log(Level.WARNING, "Unable to encode inter-server message");
+            Stargate.log(e);
+        }
     }
 }
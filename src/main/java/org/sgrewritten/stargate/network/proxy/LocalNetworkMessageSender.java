@@ -27,4 +27,9 @@ public class LocalNetworkMessageSender implements PluginMessageSender {
     public void sendRenamePortal(String newName, String oldName, Network network) {
         // Currently does not need to relay any information cross servers
     }
+
+    @Override
+    public void sendNetworkSnapshot(Network network) {
+        // Currently does not need to relay any information cross servers
+    }
 }
@@ -7,6 +7,9 @@ import java.io.IOException;
 
 /**
  * Interface for sending plugin messages if necessary
+ *
+ * <p>Messages are encoded by {@link InterServerMessageCodec}, and written with the same length prefix as
+ * {@link java.io.DataOutputStream#writeUTF(String)}.</p>
  */
 public interface PluginMessageInterface {
 
@@ -17,7 +20,7 @@ public interface PluginMessageInterface {
      * @param message <p>The message to send</p>
      * @param channel <p>Stargate channel of the message</p>
      */
-    void scheduleSendMessage(String message, PluginChannel channel);
+    void scheduleSendMessage(byte[] message, PluginChannel channel);
 
     /**
      * Send a plugin message to all servers in specified network. Does not wait until a player joins this server. Data can be lost.
@@ -26,7 +29,7 @@ public interface PluginMessageInterface {
      * @param plugin <p>A plugin (necessary for bukkit api)</p>
      * @throws IOException <p>If unable to send the message</p>
      */
-    void sendMessage(String dataMsg, PluginChannel pluginChannel, Plugin plugin) throws IOException;
+    void sendMessage(byte[] dataMsg, PluginChannel pluginChannel, Plugin plugin) throws IOException;
 
     /**
      * Send a plugin message directed to only one server
@@ -36,5 +39,5 @@ public interface PluginMessageInterface {
      * @param server <p>The server to send this message to</p>
      * @throws IOException <p>If unable to send the message</p>
      */
-    void sendDirectedMessage(String message, PluginChannel channel, Plugin plugin, String server) throws IOException;
+    void sendDirectedMessage(byte[] message, PluginChannel channel, Plugin plugin, String server) throws IOException;
 }
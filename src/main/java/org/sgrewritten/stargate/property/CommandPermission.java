@@ -20,6 +20,11 @@ public enum CommandPermission {
      */
     TRACE("sg.admin.trace"),
 
+    /**
+     * The permission necessary for executing the stats command
+     */
+    STATS("sg.admin.stats"),
+
     /**
      * The permission necessary for executing the version command
      */
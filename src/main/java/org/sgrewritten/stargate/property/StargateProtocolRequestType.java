@@ -3,6 +3,8 @@ package org.sgrewritten.stargate.property;
 /**
  * An enum representing the different stargate protocol types
  *
+ * <p>The ordinal of a request type is sent in binary inter-server messages, so new request types must be added last.</p>
+ *
  * @author Kristian
  */
 public enum StargateProtocolRequestType {
@@ -25,6 +27,21 @@ public enum StargateProtocolRequestType {
     /**
      * Defines a network rename request
      */
-    NETWORK_RENAME
+    NETWORK_RENAME,
+
+    /**
+     * Defines a player teleport request
+     */
+    PLAYER_TELEPORT,
+
+    /**
+     * Defines a request replacing every portal one server has in a network
+     */
+    NETWORK_SNAPSHOT,
+
+    /**
+     * Defines a request adding or removing several portals in a network at once
+     */
+    PORTAL_BATCH
 
 }
@@ -0,0 +1,188 @@
+package org.sgrewritten.stargate.thread;
+
+import org.sgrewritten.stargate.Stargate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Runs tasks on a pool of worker threads, in order for tasks with the same key
+ *
+ * <p>Tasks with the same key run one at a time, in the order they were submitted, while tasks with different keys
+ * run in parallel. Tasks submitted while the executor is stopped are held until it is started.</p>
+ */
+public class KeyedExecutor {
+
+    private static final long SHUTDOWN_TIMEOUT = 10;
+    private final String name;
+    private final Object lock = new Object();
+    private final Map<Object, Deque<Runnable>> queues = new HashMap<>();
+    private final Set<Object> runningKeys = new HashSet<>();
+    private ExecutorService executorService;
+    private int pendingTasks = 0;
+
+    /**
+     * Instantiates a new keyed executor
+     *
+     * @param name <p>The name of the executor, used to name its threads</p>
+     */
+    public KeyedExecutor(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Starts running submitted tasks
+     *
+     * @param threads <p>The amount of worker threads to run tasks on</p>
+     */
+    public void start(int threads) {
+        synchronized (lock) {
+            if (executorService != null) {
+                return;
+            }
+            executorService = Executors.newFixedThreadPool(Math.max(1, threads), createThreadFactory());
+            for (Object key : queues.keySet()) {
+                dispatch(key);
+            }
+        }
+    }
+
+    /**
+     * Stops the executor, dropping any task which has not started yet
+     *
+     * <p>Waits for a while for running tasks to finish.</p>
+     */
+    public void stop() {
+        ExecutorService stoppedService;
+        synchronized (lock) {
+            stoppedService = executorService;
+            executorService = null;
+            for (Deque<Runnable> queue : queues.values()) {
+                pendingTasks -= queue.size();
+            }
+            queues.clear();
+            lock.notifyAll();
+        }
+        if (stoppedService == null) {
+            return;
+        }
+        stoppedService.shutdown();
+        try {
+            if (!stoppedService.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                Stargate.log(Level.WARNING, "Some " + name + " tasks did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Submits a task to run after every previously submitted task with the same key
+     *
+     * @param key  <p>The key to order the task by</p>
+     * @param task <p>The task to run</p>
+     */
+    public void submit(Object key, Runnable task) {
+        synchronized (lock) {
+            queues.computeIfAbsent(key, k -> new ArrayDeque<>()).add(task);
+            pendingTasks++;
+            if (executorService != null) {
+                dispatch(key);
+            }
+        }
+    }
+
+    /**
+     * Waits until every submitted task has finished
+     *
+     * <p>Returns immediately if the executor is stopped. Never call this from a task of this executor.</p>
+     *
+     * @throws InterruptedException <p>If interrupted while waiting</p>
+     */
+    public void awaitEmpty() throws InterruptedException {
+        synchronized (lock) {
+            while (pendingTasks > 0 && executorService != null) {
+                lock.wait();
+            }
+        }
+    }
+
+    /**
+     * @return <p>The amount of submitted tasks which have not finished</p>
+     */
+    public int getPendingTasks() {
+        synchronized (lock) {
+            return pendingTasks;
+        }
+    }
+
+    /**
+     * Starts draining the queue of the given key, unless it is already being drained
+     *
+     * <p>Must be called while holding the lock.</p>
+     *
+     * @param key <p>The key to drain the queue of</p>
+     */
+    private void dispatch(Object key) {
+        if (!runningKeys.add(key)) {
+            return;
+        }
+        ExecutorService service = executorService;
+        service.execute(() -> drain(key, service));
+    }
+
+    private void drain(Object key, ExecutorService service) {
+        while (true) {
+            Runnable task;
+            synchronized (lock) {
+                Deque<Runnable> queue = queues.get(key);
+                task = queue == null ? null : queue.poll();
+                if (task == null || service != executorService) {
+                    if (task != null) {
+                        // The executor was restarted; leave the task to the new workers
+                        queue.addFirst(task);
+                    }
+                    if (queue != null && queue.isEmpty()) {
+                        queues.remove(key);
+                    }
+                    runningKeys.remove(key);
+                    if (task != null && executorService != null) {
+                        dispatch(key);
+                    }
+                    return;
+                }
+            }
+            try {
+                task.run();
+            } catch (Exception e) {
+                Stargate.log(e);
+            } finally {
+                synchronized (lock) {
+                    pendingTasks--;
+                    if (pendingTasks == 0) {
+                        lock.notifyAll();
+                    }
+                }
+            }
+        }
+    }
+
+    private ThreadFactory createThreadFactory() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -3,37 +3,75 @@ package org.sgrewritten.stargate.thread;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.api.config.ConfigurationOption;
+import org.sgrewritten.stargate.config.ConfigurationHelper;
+import org.sgrewritten.stargate.metrics.Counter;
+import org.sgrewritten.stargate.metrics.LatencyRecorder;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
+import org.sgrewritten.stargate.thread.task.TaskPriority;
 
-import java.util.LinkedList;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 /**
- * Cycles through a queue of actions everytime the {@link SynchronousPopulator#run()} function is triggered.
+ * Cycles through queues of actions everytime the {@link SynchronousPopulator#run()} function is triggered.
  *
  * <p>If used with the {@link org.bukkit.scheduler.BukkitScheduler#scheduleSyncRepeatingTask(Plugin, Runnable, long, long)}
  * function, you can use this as a handy way to do synchronous tasks (tasks that happens during a specific tick).
  * Warning: Running this once, even by running forceDoAllTasks does not guarantee all tasks to finish.</p>
  *
+ * <p>Every run only spends the configured populator tick budget. Interactive actions run first, and bulk actions
+ * use what is left of the budget, followed by bungee actions. At least one bulk action and one bungee action run
+ * every tick, so that neither is starved by the lanes before it.</p>
+ *
  * @author Thorin
  */
 public class SynchronousPopulator implements Runnable {
-    private boolean queueOverflowHasBeenAchieved = false;
-    private final Queue<Runnable> populatorQueue = new LinkedList<>();
-    private final Queue<Runnable> bungeePopulatorQueue = new LinkedList<>();
+
+    private static final int BACKLOG_WARNING_SIZE = 10000;
+    private static final int BACKLOG_LOG_INTERVAL = 100;
+    private final Map<TaskPriority, Lane> lanes = new EnumMap<>(TaskPriority.class);
+    private final Lane bungeeLane = new Lane("bungee");
+    private final Counter budgetOverruns = new Counter();
+    private int ticksSinceBacklogLog = 0;
+
+    /**
+     * Instantiates a new synchronous populator
+     */
+    public SynchronousPopulator() {
+        for (TaskPriority priority : TaskPriority.values()) {
+            lanes.put(priority, new Lane(priority.name().toLowerCase(Locale.ROOT)));
+        }
+    }
 
     @Override
     public void run() {
-        cycleQueue(populatorQueue);
+        long startTime = System.nanoTime();
+        long deadline = startTime + ConfigurationHelper.getInteger(ConfigurationOption.POPULATOR_TICK_BUDGET) * 1_000_000L;
+        lanes.get(TaskPriority.INTERACTIVE).cycle(deadline, false);
+        lanes.get(TaskPriority.BULK).cycle(deadline, true);
         // Don't try to run any bungee related action unless the server knows its own uuid and there is a player online
-        if (!Stargate.knowsServerName() || Bukkit.getServer().getOnlinePlayers().isEmpty()) {
-            return;
+        if (Stargate.knowsServerName() && !Bukkit.getServer().getOnlinePlayers().isEmpty()) {
+            bungeeLane.cycle(deadline, true);
         }
-        cycleQueue(bungeePopulatorQueue);
+        long endTime = System.nanoTime();
+        if (endTime > deadline) {
+            budgetOverruns.increment();
+            if (Stargate.isLoggable(Level.FINER)) {
+                Stargate.log(Level.FINER, "Populator ran for %d µs, over its budget", (endTime - startTime) / 1000);
+            }
+        }
+        logBacklog();
     }
 
     /**
-     * Adds a populator action to the queue
+     * Adds a populator action to the bulk queue
      *
      * @param action <p>The action to add</p>
      */
@@ -42,7 +80,7 @@ public class SynchronousPopulator implements Runnable {
     }
 
     /**
-     * Adds a populator action to the queue
+     * Adds a populator action to the bulk queue
      *
      * <p>Actions in the Bungee queue are only performed once the server name is known. If you need this behavior, use
      * isBungee = true. If not, don't use isBungee.</p>
@@ -51,47 +89,148 @@ public class SynchronousPopulator implements Runnable {
      * @param isBungee <p>Whether the action relies on the server name being known and should be put in the bungee queue</p>
      */
     public void addAction(Runnable action, boolean isBungee) {
-        if (action != null) {
-            Stargate.log(Level.FINEST, "Adding action " + action);
-        }
-        Queue<Runnable> queue = (isBungee ? this.bungeePopulatorQueue : this.populatorQueue);
-        boolean couldAdd = queue.offer(action);
-        if(!couldAdd && !queueOverflowHasBeenAchieved){
-            Stargate.log(Level.SEVERE, "There are too many scheduled actions: " + queue.size() + " actions");
-            queueOverflowHasBeenAchieved = true;
+        addAction(action, isBungee, TaskPriority.BULK);
+    }
+
+    /**
+     * Adds a populator action to the queue of the given priority
+     *
+     * @param action   <p>The action to add</p>
+     * @param isBungee <p>Whether the action relies on the server name being known and should be put in the bungee queue</p>
+     * @param priority <p>The priority of the action, which is ignored for bungee actions</p>
+     */
+    public void addAction(Runnable action, boolean isBungee, TaskPriority priority) {
+        if (action == null) {
+            return;
         }
+        Stargate.log(Level.FINEST, () -> "Adding action " + action);
+        (isBungee ? bungeeLane : lanes.get(priority)).add(action);
     }
 
     /**
      * Force all populator tasks to be performed and clear the tasks unable to be performed
      */
     public void clear() {
-        populatorQueue.clear();
-        bungeePopulatorQueue.clear();
+        lanes.values().forEach(Lane::clear);
+        bungeeLane.clear();
     }
 
     /**
-     * Goes through a populator action queue and runs the action
-     *
-     * <p>If more than 25 milliseconds pass, the cycling will stop. This is mainly a protection against infinite
-     * loops, but it will also reduce lag when there are many actions in the queue.</p>
-     *
-     * @param queue       <p>The queue to cycle through</p>
+     * @param priority <p>The priority of the queue</p>
+     * @return <p>The amount of actions waiting in the queue</p>
+     */
+    public int getQueueDepth(TaskPriority priority) {
+        return lanes.get(priority).depth.get();
+    }
+
+    /**
+     * @return <p>The amount of actions waiting for the server name to be known</p>
+     */
+    public int getBungeeQueueDepth() {
+        return bungeeLane.depth.get();
+    }
+
+    /**
+     * @param priority <p>The priority of the queue</p>
+     * @return <p>The time actions of the given priority waited in the queue before running</p>
+     */
+    public LatencyRecorder getQueueLatency(TaskPriority priority) {
+        return lanes.get(priority).latency;
+    }
+
+    /**
+     * @return <p>The amount of runs which took longer than the populator tick budget</p>
+     */
+    public long getBudgetOverruns() {
+        return budgetOverruns.getCount();
+    }
+
+    /**
+     * Registers the queue depths, queue latencies and budget overruns of this populator as metrics
+     */
+    public void registerMetrics() {
+        lanes.values().forEach(Lane::registerMetrics);
+        bungeeLane.registerMetrics();
+        StargateMetrics.registerCounter(MetricName.of("populator_budget_overruns"), budgetOverruns);
+    }
+
+    private void logBacklog() {
+        if (++ticksSinceBacklogLog < BACKLOG_LOG_INTERVAL) {
+            return;
+        }
+        ticksSinceBacklogLog = 0;
+        int interactive = getQueueDepth(TaskPriority.INTERACTIVE);
+        int bulk = getQueueDepth(TaskPriority.BULK);
+        int bungee = getBungeeQueueDepth();
+        if (interactive + bulk + bungee > 0 && Stargate.isLoggable(Level.FINE)) {
+            Stargate.log(Level.FINE, "Populator backlog: %d interactive, %d bulk and %d bungee actions",
+                    interactive, bulk, bungee);
+        }
+    }
+
+    /**
+     * A queue of actions of the same priority
      */
-    private void cycleQueue(Queue<Runnable> queue) {
-        long initialSystemTime = System.nanoTime();
-
-        //Go through all populator actions until 25 milliseconds have passed, or the queue is empty
-        while (System.nanoTime() - initialSystemTime < 25000000) {
-            try {
-                Runnable action = queue.poll();
-                if(action == null){
-                    break;
+    private static final class Lane {
+
+        private final String name;
+        private final Queue<QueuedAction> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final LatencyRecorder latency = new LatencyRecorder();
+        private volatile boolean hasWarnedAboutBacklog = false;
+
+        private Lane(String name) {
+            this.name = name;
+        }
+
+        private void add(Runnable action) {
+            queue.offer(new QueuedAction(action, System.nanoTime()));
+            int size = depth.incrementAndGet();
+            if (size >= BACKLOG_WARNING_SIZE && !hasWarnedAboutBacklog) {
+                hasWarnedAboutBacklog = true;
+                Stargate.log(Level.WARNING, "There are too many scheduled " + name + " actions: " + size + " actions");
+            }
+        }
+
+        /**
+         * Runs the actions of this lane until the deadline has passed, or the queue is empty
+         *
+         * @param deadline       <p>The {@link System#nanoTime()} to stop at</p>
+         * @param runAtLeastOnce <p>Whether to run one action even if the deadline has already passed</p>
+         */
+        private void cycle(long deadline, boolean runAtLeastOnce) {
+            boolean mayRun = runAtLeastOnce;
+            while (mayRun || System.nanoTime() < deadline) {
+                mayRun = false;
+                QueuedAction queuedAction = queue.poll();
+                if (queuedAction == null) {
+                    hasWarnedAboutBacklog = false;
+                    return;
+                }
+                depth.decrementAndGet();
+                latency.recordSince(queuedAction.queueTime());
+                try {
+                    queuedAction.action().run();
+                } catch (Exception e) {
+                    Stargate.log(e);
                 }
-                action.run();
-            } catch (Exception e) {
-                Stargate.log(e);
             }
         }
+
+        private void registerMetrics() {
+            StargateMetrics.registerGauge(MetricName.of("populator_queue_depth", "queue", name), depth::get);
+            StargateMetrics.registerLatency(MetricName.of("populator_queue_wait", "queue", name), latency);
+        }
+
+        private void clear() {
+            while (queue.poll() != null) {
+                depth.decrementAndGet();
+            }
+            hasWarnedAboutBacklog = false;
+        }
+    }
+
+    private record QueuedAction(Runnable action, long queueTime) {
+
     }
 }
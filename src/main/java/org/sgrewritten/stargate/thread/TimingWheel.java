@@ -0,0 +1,218 @@
+package org.sgrewritten.stargate.thread;
+
+import org.sgrewritten.stargate.Stargate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel running timeouts a number of ticks after they were scheduled
+ *
+ * <p>Every run of the wheel is one tick. Timeouts due within 64 ticks are kept in a slot for their tick, timeouts due
+ * later are kept in a slot of a coarser level, and are moved down a level once their slot comes up. Scheduling,
+ * re-scheduling and cancelling a timeout is done in constant time, and as a timeout is linked into its slot directly,
+ * re-scheduling it does not allocate anything.</p>
+ *
+ * <p>Timeouts can be scheduled from any thread, but the wheel should only be run from one thread.</p>
+ */
+public class TimingWheel implements Runnable {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+    private static final long MAXIMUM_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Timeout[][] slots = new Timeout[LEVELS][SLOTS];
+    private final List<Timeout> expired = new ArrayList<>();
+    private long tick = 0;
+    private int size = 0;
+
+    /**
+     * Schedules the given timeout, re-scheduling it if it is already scheduled
+     *
+     * @param timeout <p>The timeout to schedule</p>
+     * @param delay   <p>The amount of ticks until the timeout runs, at least one</p>
+     */
+    public synchronized void schedule(Timeout timeout, long delay) {
+        if (timeout.isScheduled()) {
+            unlink(timeout);
+        }
+        timeout.deadline = tick + Math.max(1, delay);
+        link(timeout);
+    }
+
+    /**
+     * Cancels the given timeout, if it is scheduled
+     *
+     * @param timeout <p>The timeout to cancel</p>
+     */
+    public synchronized void cancel(Timeout timeout) {
+        if (timeout.isScheduled()) {
+            unlink(timeout);
+        }
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            tick++;
+            if ((tick & SLOT_MASK) == 0) {
+                if (((tick >>> SLOT_BITS) & SLOT_MASK) == 0) {
+                    cascade(2, (int) (tick >>> (SLOT_BITS * 2)) & SLOT_MASK);
+                }
+                cascade(1, (int) (tick >>> SLOT_BITS) & SLOT_MASK);
+            }
+            Timeout timeout = slots[0][(int) tick & SLOT_MASK];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                unlink(timeout);
+                expired.add(timeout);
+                timeout = next;
+            }
+        }
+        runExpired();
+    }
+
+    /**
+     * Runs every scheduled timeout now
+     */
+    public void runAll() {
+        synchronized (this) {
+            for (Timeout[] level : slots) {
+                for (Timeout timeout : level) {
+                    while (timeout != null) {
+                        Timeout next = timeout.next;
+                        unlink(timeout);
+                        expired.add(timeout);
+                        timeout = next;
+                    }
+                }
+            }
+        }
+        runExpired();
+    }
+
+    /**
+     * Cancels every scheduled timeout
+     */
+    public synchronized void clear() {
+        for (Timeout[] level : slots) {
+            for (Timeout timeout : level) {
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    unlink(timeout);
+                    timeout = next;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return <p>The amount of scheduled timeouts</p>
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Runs the expired timeouts outside the lock, so that they can re-schedule themselves
+     */
+    private void runExpired() {
+        for (Timeout timeout : expired) {
+            try {
+                timeout.action.run();
+            } catch (Exception e) {
+                Stargate.log(e);
+            }
+        }
+        expired.clear();
+    }
+
+    /**
+     * Moves every timeout in the given slot to the slot matching its remaining delay
+     *
+     * @param level <p>The level of the slot</p>
+     * @param slot  <p>The slot to cascade</p>
+     */
+    private void cascade(int level, int slot) {
+        Timeout timeout = slots[level][slot];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            unlink(timeout);
+            link(timeout);
+            timeout = next;
+        }
+    }
+
+    private void link(Timeout timeout) {
+        long delay = timeout.deadline - tick;
+        long placedDeadline = delay > MAXIMUM_DELAY ? tick + MAXIMUM_DELAY : timeout.deadline;
+        int level;
+        if (delay < SLOTS) {
+            level = 0;
+        } else if (delay < SLOTS * SLOTS) {
+            level = 1;
+        } else {
+            level = 2;
+        }
+        int slot = (int) (placedDeadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+        Timeout head = slots[level][slot];
+        timeout.next = head;
+        timeout.previous = null;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        slots[level][slot] = timeout;
+        timeout.level = level;
+        timeout.slot = slot;
+        size++;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.previous == null) {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        } else {
+            timeout.previous.next = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.level = -1;
+        size--;
+    }
+
+    /**
+     * An action which can be scheduled on a timing wheel
+     *
+     * <p>A timeout is scheduled at most once at a time, so the owner of a deadline keeps one timeout and re-schedules
+     * it whenever the deadline moves.</p>
+     */
+    public static final class Timeout {
+
+        private final Runnable action;
+        private Timeout previous;
+        private Timeout next;
+        private long deadline;
+        private int level = -1;
+        private int slot;
+
+        /**
+         * Instantiates a new timeout
+         *
+         * @param action <p>The action to run when the timeout expires</p>
+         */
+        public Timeout(Runnable action) {
+            this.action = action;
+        }
+
+        /**
+         * @return <p>Whether this timeout is scheduled on a timing wheel</p>
+         */
+        public boolean isScheduled() {
+            return level != -1;
+        }
+    }
+}
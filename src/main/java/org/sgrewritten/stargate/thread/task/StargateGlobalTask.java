@@ -1,13 +1,16 @@
 package org.sgrewritten.stargate.thread.task;
 
 import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
 import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.thread.TimingWheel;
 import org.sgrewritten.stargate.util.BungeeHelper;
 
 /**
  * Runs task on the global thread (Folia) or on the main thread (paper)
  */
 public abstract class StargateGlobalTask extends StargateTask {
+    private static final TimingWheel timingWheel = new TimingWheel();
     private final Stargate plugin;
     private boolean bungee = false;
 
@@ -60,4 +63,31 @@ public abstract class StargateGlobalTask extends StargateTask {
     public void runTaskTimer(long period, long delay) {
         runTaskTimer(period, delay, super::runTask);
     }
+
+    /**
+     * Starts running the timing wheel once every tick on the global thread (Folia) or on the main thread (paper)
+     *
+     * @param plugin <p>The plugin to run the timing wheel for</p>
+     */
+    public static void startTimingWheel(Plugin plugin) {
+        if (USING_FOLIA) {
+            Bukkit.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin, ignored -> timingWheel.run(), 1, 1);
+        } else {
+            new StargateBukkitRunnable(timingWheel).runTaskTimer(plugin, 1, 1);
+        }
+    }
+
+    /**
+     * Cancels every timeout scheduled on the timing wheel without running it
+     */
+    public static void clearTimingWheel() {
+        timingWheel.clear();
+    }
+
+    /**
+     * @return <p>The timing wheel running portal timeouts on the global thread</p>
+     */
+    public static TimingWheel getTimingWheel() {
+        return timingWheel;
+    }
 }
@@ -1,33 +1,62 @@
 package org.sgrewritten.stargate.thread.task;
 
-import org.sgrewritten.stargate.Stargate;
-
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import org.sgrewritten.stargate.api.config.ConfigurationOption;
+import org.sgrewritten.stargate.config.ConfigurationHelper;
+import org.sgrewritten.stargate.metrics.LatencyRecorder;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
+import org.sgrewritten.stargate.thread.KeyedExecutor;
 
 /**
- * Runs asynchronous tasks in a queue (an attempt to avoid race conditions, and probably better than not doing this)
+ * Runs asynchronous tasks in queues (an attempt to avoid race conditions, and probably better than not doing this)
+ *
+ * <p>Tasks with the same key, such as tasks writing portals of the same network, run in the order they were queued.
+ * Tasks with different keys run in parallel.</p>
  */
 public abstract class StargateQueuedAsyncTask extends StargateTask {
-    public static final BlockingQueue<Runnable> asyncQueue = new LinkedBlockingQueue<>();
 
+    private static final Object DEFAULT_KEY = new Object();
+    private static final KeyedExecutor executor = new KeyedExecutor("Stargate-async");
+    private static final LatencyRecorder queueWait = StargateMetrics.getLatency(MetricName.of("async_queue_wait"));
+    private static Long activeQueueId = null;
+    private final Object key;
+
+    /**
+     * Instantiates a task running in order with every other task without a key
+     */
     protected StargateQueuedAsyncTask() {
+        this(DEFAULT_KEY);
     }
 
+    /**
+     * Instantiates a task running in order with every other task with the same key
+     *
+     * @param key <p>The key to order the task by, such as the network of the written portal</p>
+     */
+    protected StargateQueuedAsyncTask(Object key) {
+        this.key = key == null ? DEFAULT_KEY : key;
+    }
+
+    /**
+     * Waits until every queued task has finished
+     *
+     * <p>Never call this from a queued task.</p>
+     */
     public static void waitForEmptyQueue() {
-        while (true) {
-            if (asyncQueue.peek() == null) {
-                return;
-            }
-            try {
-                Thread.sleep(5);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return;
-            }
+        try {
+            executor.awaitEmpty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * @return <p>The amount of queued tasks which have not finished</p>
+     */
+    public static int getQueueDepth() {
+        return executor.getPendingTasks();
+    }
+
     @Override
     public void runDelayed(long delay) {
         StargateQueuedAsyncTask task = this;
@@ -41,13 +70,12 @@ public abstract class StargateQueuedAsyncTask extends StargateTask {
 
     @Override
     public void runNow() {
-        try {
-            super.registerTask();
-            asyncQueue.put(super::runTask);
-        } catch (InterruptedException e) {
-            Stargate.log(e);
-            Thread.currentThread().interrupt();
-        }
+        super.registerTask();
+        long queueTime = System.nanoTime();
+        executor.submit(key, () -> {
+            queueWait.recordSince(queueTime);
+            super.runTask();
+        });
     }
 
     @Override
@@ -62,56 +90,20 @@ public abstract class StargateQueuedAsyncTask extends StargateTask {
         }.runTaskTimer(period, delay);
     }
 
-    public static void disableAsyncQueue(long id) {
-        try {
-            asyncQueue.put(new DisableQueueTask(id));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    public static synchronized void disableAsyncQueue(long id) {
+        if (activeQueueId == null || activeQueueId != id) {
+            return;
         }
+        activeQueueId = null;
+        executor.stop();
     }
 
-    public static void enableAsyncQueue(long id) {
-        new StargateAsyncTask() {
-            @Override
-            public void run() {
-                StargateQueuedAsyncTask.cycleThroughAsyncQueue(id);
-            }
-        }.runNow();
-    }
-
-    private static void cycleThroughAsyncQueue(long id) {
-        do {
-            try {
-                Runnable runnable = asyncQueue.take();
-                if (runnable instanceof DisableQueueTask disableQueueTask && !disableQueueTask.hasId(id)) {
-                    asyncQueue.put(runnable);
-                    continue;
-                }
-                runnable.run();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                Stargate.log(e);
-            }
-        } while (!Thread.currentThread().isInterrupted());
-    }
-
-    private static class DisableQueueTask implements Runnable {
-        private final long id;
-
-        public DisableQueueTask(long id) {
-            this.id = id;
-        }
-
-        @Override
-        public void run() {
-            Thread.currentThread().interrupt();
-            asyncQueue.clear();
-        }
-
-        public boolean hasId(long id) {
-            return this.id == id;
+    public static synchronized void enableAsyncQueue(long id) {
+        if (activeQueueId != null) {
+            executor.stop();
         }
+        activeQueueId = id;
+        StargateMetrics.registerGauge(MetricName.of("async_queue_depth"), StargateQueuedAsyncTask::getQueueDepth);
+        executor.start(ConfigurationHelper.getInteger(ConfigurationOption.ASYNC_WORKER_THREADS));
     }
 }
@@ -17,11 +17,21 @@ public abstract class StargateRegionTask extends StargateTask {
     private static final SynchronousPopulator populator = new SynchronousPopulator();
 
     private final boolean bungee;
+    private final TaskPriority priority;
 
-    protected StargateRegionTask(Location location, boolean bungee) {
+    protected StargateRegionTask(Location location, boolean bungee, TaskPriority priority) {
         this.location = location;
         this.plugin = Stargate.getInstance();
         this.bungee = bungee;
+        this.priority = priority;
+    }
+
+    protected StargateRegionTask(Location location, boolean bungee) {
+        this(location, bungee, TaskPriority.BULK);
+    }
+
+    protected StargateRegionTask(Location location, TaskPriority priority) {
+        this(location, false, priority);
     }
 
     protected StargateRegionTask(Location location) {
@@ -60,7 +70,7 @@ public abstract class StargateRegionTask extends StargateTask {
     }
 
     private void runPopulatorTask() {
-        populator.addAction(super::runTask, bungee);
+        populator.addAction(super::runTask, bungee, priority);
         super.registerTask();
     }
 
@@ -68,10 +78,18 @@ public abstract class StargateRegionTask extends StargateTask {
         if (USING_FOLIA) {
             return;
         }
+        populator.registerMetrics();
         new StargateBukkitRunnable(populator).runTaskTimer(plugin, 0, 1);
     }
 
     public static void clearPopulator() {
         populator.clear();
     }
+
+    /**
+     * @return <p>The populator running region tasks on non-regionized servers</p>
+     */
+    public static SynchronousPopulator getPopulator() {
+        return populator;
+    }
 }
@@ -0,0 +1,17 @@
+package org.sgrewritten.stargate.thread.task;
+
+/**
+ * The priority of a task run by the {@link org.sgrewritten.stargate.thread.SynchronousPopulator}
+ */
+public enum TaskPriority {
+
+    /**
+     * Work a player is waiting for, such as opening a portal or teleporting
+     */
+    INTERACTIVE,
+
+    /**
+     * Work nobody is waiting for, such as loading portals or redrawing controls
+     */
+    BULK
+}
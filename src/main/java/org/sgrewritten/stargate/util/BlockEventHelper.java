@@ -9,9 +9,11 @@ import org.sgrewritten.stargate.Stargate;
 import org.sgrewritten.stargate.api.StargateAPI;
 import org.sgrewritten.stargate.api.config.ConfigurationOption;
 import org.sgrewritten.stargate.api.event.portal.StargateDestroyPortalEvent;
+import org.sgrewritten.stargate.api.network.RegistryAPI;
 import org.sgrewritten.stargate.api.network.portal.RealPortal;
 import org.sgrewritten.stargate.config.ConfigurationHelper;
 import org.sgrewritten.stargate.property.BlockEventType;
+import org.sgrewritten.stargate.util.portal.SpawnLocationCache;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -34,7 +36,15 @@ public class BlockEventHelper {
      * @param stargateAPI <p> The stargate api </p>
      */
     public static boolean onAnyBlockChangeEvent(Cancellable event, BlockEventType type, Location location, StargateAPI stargateAPI) {
-        RealPortal portal = stargateAPI.getRegistry().getPortal(location);
+        //Physics updates rarely change a block, and any cached spawn location is checked again before it is used
+        if (type != BlockEventType.BLOCK_PHYSICS) {
+            SpawnLocationCache.invalidate(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        }
+        RegistryAPI registry = stargateAPI.getRegistry();
+        if (!registry.hasPortalsNear(location.getWorld(), location.getBlockX(), location.getBlockZ())) {
+            return false;
+        }
+        RealPortal portal = registry.getPortal(location);
         if (portal == null) {
             return false;
         }
@@ -77,8 +87,13 @@ public class BlockEventHelper {
         if (type == BlockEventType.BLOCK_EXPLODE || type == BlockEventType.ENTITY_EXPLODE) {
             canDestroy = ConfigurationHelper.getBoolean(ConfigurationOption.DESTROY_ON_EXPLOSION);
         }
+        RegistryAPI registry = stargateAPI.getRegistry();
         for (Block block : blocks) {
-            RealPortal portal = stargateAPI.getRegistry().getPortal(block.getLocation());
+            SpawnLocationCache.invalidate(block.getWorld(), block.getX(), block.getY(), block.getZ());
+            if (!registry.hasPortalsNear(block.getWorld(), block.getX(), block.getZ())) {
+                continue;
+            }
+            RealPortal portal = registry.getPortal(block.getWorld(), block.getX(), block.getY(), block.getZ());
             if (portal != null) {
                 if (!canDestroy) {
                     event.setCancelled(true);
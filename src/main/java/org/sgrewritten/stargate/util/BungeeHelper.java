@@ -1,7 +1,5 @@
 package org.sgrewritten.stargate.util;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
 import org.bukkit.Bukkit;
 import org.jetbrains.annotations.Nullable;
 import org.sgrewritten.stargate.Stargate;
@@ -15,7 +13,8 @@ import org.sgrewritten.stargate.exception.name.NameConflictException;
 import org.sgrewritten.stargate.exception.name.NameLengthException;
 import org.sgrewritten.stargate.network.NetworkType;
 import org.sgrewritten.stargate.network.StorageType;
-import org.sgrewritten.stargate.property.StargateProtocolProperty;
+import org.sgrewritten.stargate.network.proxy.InterServerMessage;
+import org.sgrewritten.stargate.network.proxy.InterServerMessageCodec;
 import org.sgrewritten.stargate.property.StargateProtocolRequestType;
 
 import java.io.*;
@@ -104,14 +103,7 @@ public final class BungeeHelper {
      * @return <p>A json string message</p>
      */
     public static String generateJsonMessage(Portal portal, StargateProtocolRequestType requestType) {
-        JsonObject jsonData = new JsonObject();
-        jsonData.add(StargateProtocolProperty.REQUEST_TYPE.toString(), new JsonPrimitive(requestType.toString()));
-        jsonData.add(StargateProtocolProperty.NETWORK.toString(), new JsonPrimitive(portal.getNetwork().getId()));
-        jsonData.add(StargateProtocolProperty.PORTAL.toString(), new JsonPrimitive(portal.getName()));
-        jsonData.add(StargateProtocolProperty.SERVER.toString(), new JsonPrimitive(Stargate.getServerName()));
-        jsonData.add(StargateProtocolProperty.PORTAL_FLAG.toString(), new JsonPrimitive(portal.getAllFlagsString()));
-        jsonData.add(StargateProtocolProperty.OWNER.toString(), new JsonPrimitive(portal.getOwnerUUID().toString()));
-        return jsonData.toString();
+        return InterServerMessageCodec.toJson(InterServerMessage.portalChange(portal, requestType));
     }
 
     /**
@@ -121,11 +113,7 @@ public final class BungeeHelper {
      * @return <p>A json string with a rename network message</p>
      */
     public static String generateRenameNetworkMessage(String newId, String oldId) {
-        JsonObject jsonData = new JsonObject();
-        jsonData.add(StargateProtocolProperty.REQUEST_TYPE.toString(), new JsonPrimitive(StargateProtocolRequestType.NETWORK_RENAME.toString()));
-        jsonData.add(StargateProtocolProperty.NEW_NETWORK_NAME.toString(), new JsonPrimitive(newId));
-        jsonData.add(StargateProtocolProperty.NETWORK.toString(), new JsonPrimitive(oldId));
-        return jsonData.toString();
+        return InterServerMessageCodec.toJson(InterServerMessage.networkRename(newId, oldId));
     }
 
     /**
@@ -136,12 +124,7 @@ public final class BungeeHelper {
      * @return <p>A json string with a rename portal message</p>
      */
     public static String generateRenamePortalMessage(String newName, String oldName, Network network) {
-        JsonObject jsonData = new JsonObject();
-        jsonData.add(StargateProtocolProperty.REQUEST_TYPE.toString(), new JsonPrimitive(StargateProtocolRequestType.PORTAL_RENAME.toString()));
-        jsonData.add(StargateProtocolProperty.NEW_PORTAL_NAME.toString(), new JsonPrimitive(newName));
-        jsonData.add(StargateProtocolProperty.NETWORK.toString(), new JsonPrimitive(network.getId()));
-        jsonData.add(StargateProtocolProperty.PORTAL.toString(), new JsonPrimitive(oldName));
-        return jsonData.toString();
+        return InterServerMessageCodec.toJson(InterServerMessage.portalRename(newName, oldName, network.getId()));
     }
 
     /**
@@ -150,11 +133,7 @@ public final class BungeeHelper {
      * @return <p>A json string with a teleport player message</p>
      */
     public static String generateTeleportJsonMessage(String player, Portal portal) {
-        JsonObject jsonData = new JsonObject();
-        jsonData.add(StargateProtocolProperty.PLAYER.toString(), new JsonPrimitive(player));
-        jsonData.add(StargateProtocolProperty.PORTAL.toString(), new JsonPrimitive(portal.getName()));
-        jsonData.add(StargateProtocolProperty.NETWORK.toString(), new JsonPrimitive(portal.getNetwork().getId()));
-        return jsonData.toString();
+        return InterServerMessageCodec.toJson(InterServerMessage.playerTeleport(player, portal));
     }
 
     /**
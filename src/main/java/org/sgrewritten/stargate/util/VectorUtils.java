@@ -8,6 +8,13 @@ import org.sgrewritten.stargate.api.vectorlogic.VectorOperation;
 
 public class VectorUtils {
 
+    private static final int HORIZONTAL_BITS = 26;
+    private static final int VERTICAL_BITS = 12;
+    private static final long HORIZONTAL_MASK = (1L << HORIZONTAL_BITS) - 1;
+    private static final long VERTICAL_MASK = (1L << VERTICAL_BITS) - 1;
+    private static final int X_SHIFT = HORIZONTAL_BITS + VERTICAL_BITS;
+    private static final int Z_SHIFT = VERTICAL_BITS;
+
     private VectorUtils(){
         throw new IllegalStateException("Utility class");
     }
@@ -82,4 +89,30 @@ public class VectorUtils {
     public static Vector getFormatSpaceCoordinate(Location topLeft, VectorOperation vectorOperation, Location location){
         return vectorOperation.performToAbstractSpaceOperation(topLeft.clone().subtract(location).toVector());
     }
+
+    /**
+     * Packs the given block coordinates into a single long
+     *
+     * <p>Uses 26 bits for the x and z coordinates, and 12 bits for the y coordinate, which covers the whole world
+     * border and the full build height.</p>
+     *
+     * @param x <p>The x coordinate of the block</p>
+     * @param y <p>The y coordinate of the block</p>
+     * @param z <p>The z coordinate of the block</p>
+     * @return <p>The packed block position</p>
+     */
+    public static long packBlockPosition(int x, int y, int z) {
+        return ((x & HORIZONTAL_MASK) << X_SHIFT) | ((z & HORIZONTAL_MASK) << Z_SHIFT) | (y & VERTICAL_MASK);
+    }
+
+    /**
+     * Packs the given chunk coordinates into a single long
+     *
+     * @param chunkX <p>The x coordinate of the chunk</p>
+     * @param chunkZ <p>The z coordinate of the chunk</p>
+     * @return <p>The packed chunk position</p>
+     */
+    public static long packChunkPosition(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
 }
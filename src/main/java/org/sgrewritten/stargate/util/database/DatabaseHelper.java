@@ -162,7 +162,7 @@ public class DatabaseHelper {
                 return new MySqlDatabase(stargate);
             }
 
-            DatabaseDriver driver = DatabaseDriver.valueOf(ConfigurationHelper.getString(ConfigurationOption.BUNGEE_DRIVER).toUpperCase());
+            DatabaseDriver driver = ConfigurationHelper.getEnum(ConfigurationOption.BUNGEE_DRIVER, DatabaseDriver.class);
             String bungeeDatabaseName = ConfigurationHelper.getString(ConfigurationOption.BUNGEE_DATABASE);
             int port = ConfigurationHelper.getInteger(ConfigurationOption.BUNGEE_PORT);
             String address = ConfigurationHelper.getString(ConfigurationOption.BUNGEE_ADDRESS);
@@ -179,7 +179,7 @@ public class DatabaseHelper {
         } else {
             String databaseName = ConfigurationHelper.getString(ConfigurationOption.DATABASE_NAME);
             File file = new File(stargate.getAbsoluteDataFolder(), databaseName + ".db");
-            return new SQLiteDatabase(file);
+            return new SQLiteDatabase(file, ConfigurationHelper.getInteger(ConfigurationOption.SQLITE_POOL_SIZE));
         }
     }
 
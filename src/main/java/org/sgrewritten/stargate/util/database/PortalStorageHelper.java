@@ -54,7 +54,7 @@ public class PortalStorageHelper {
         String serverName = null;
         if (portalType == StorageType.INTER_SERVER) {
             serverUUID = resultSet.getString("homeServerId");
-            Stargate.log(Level.FINEST, "serverUUID = " + serverUUID);
+            Stargate.log(Level.FINEST, "serverUUID = %s", serverUUID);
             if (!serverUUID.equals(Stargate.getServerUUID())) {
                 serverName = resultSet.getString("serverName");
             }
@@ -104,7 +104,20 @@ public class PortalStorageHelper {
 
 
     public static void addPortalPosition(PreparedStatement addPositionStatement, RealPortal portal, PortalPosition portalPosition) throws SQLException {
-        Stargate.log(Level.FINEST, "Saving portal position, " + portalPosition + " for portal " + portal.getName() + ":" + portal.getNetwork().getName());
+        Stargate.log(Level.FINEST, "Saving portal position, %s for portal %s:%s", portalPosition, portal.getName(), portal.getNetwork().getName());
+        setPortalPositionParameters(addPositionStatement, portal, portalPosition);
+        addPositionStatement.execute();
+    }
+
+    /**
+     * Sets the parameters of a statement inserting a portal position, without executing it
+     *
+     * @param addPositionStatement <p>The prepared statement for adding a portal position</p>
+     * @param portal               <p>The portal the portal position belongs to</p>
+     * @param portalPosition       <p>The portal position to add</p>
+     * @throws SQLException <p>If unable to set the parameters</p>
+     */
+    public static void setPortalPositionParameters(PreparedStatement addPositionStatement, RealPortal portal, PortalPosition portalPosition) throws SQLException {
         addPositionStatement.setString(1, portal.getName());
         addPositionStatement.setString(2, portal.getNetwork().getId());
         addPositionStatement.setString(3, String.valueOf(portalPosition.getRelativePositionLocation().getBlockX()));
@@ -113,7 +126,6 @@ public class PortalStorageHelper {
         addPositionStatement.setString(6, portalPosition.getPositionType().name());
         addPositionStatement.setString(7, "");
         addPositionStatement.setString(8, portalPosition.getPluginName());
-        addPositionStatement.execute();
     }
 
     /**
@@ -132,13 +144,13 @@ public class PortalStorageHelper {
         int modX = Integer.parseInt(portalProperties[3]);
         int modZ = Integer.parseInt(portalProperties[4]);
         double rotation = Double.parseDouble(portalProperties[5]);
-        Stargate.log(Level.FINEST, String.format("modX = %d, modZ = %d, rotation %f", modX, modZ, rotation));
+        Stargate.log(Level.FINEST, "modX = %d, modZ = %d, rotation %f", modX, modZ, rotation);
 
         BlockFace facing = LegacyDataHandler.getFacing(modX, modZ);
         if (facing == null) {
             facing = LegacyDataHandler.getFacing(rotation);
         }
-        Stargate.log(Level.FINEST, String.format("chose a facing %s", facing.toString()));
+        Stargate.log(Level.FINEST, "chose a facing %s", facing);
         Location topLeft = LegacyDataHandler.loadLocation(world, portalProperties[6]);
         String gateFileName = portalProperties[7];
         String destination = (portalProperties.length > 8) ? portalProperties[8] : "";
@@ -1,6 +1,8 @@
 package org.sgrewritten.stargate.util.portal;
 
+import org.sgrewritten.stargate.api.StargateAPI;
 import org.sgrewritten.stargate.api.config.ConfigurationOption;
+import org.sgrewritten.stargate.api.network.Network;
 import org.sgrewritten.stargate.api.network.NetworkManager;
 import org.sgrewritten.stargate.api.network.portal.flag.PortalFlag;
 import org.sgrewritten.stargate.api.network.portal.RealPortal;
@@ -40,27 +42,70 @@ public final class PortalHelper {
      * @return <p>True if the portal is valid</p>
      */
     public static boolean portalValidityCheck(RealPortal portal, NetworkManager networkManager) {
-        PortalValidity portalValidity = PortalValidity.valueOf(ConfigurationHelper.getString(ConfigurationOption.PORTAL_VALIDITY).toUpperCase());
         try {
-            boolean isValid = portal.getGate().isValid();
-            return switch (portalValidity){
-                case IGNORE -> isValid;
-                case REMOVE -> {
-                    if(!isValid){
-                        networkManager.destroyPortal(portal);
-                    }
-                    yield isValid;
-                }
-                case REPAIR -> {
-                    if(!isValid){
-                        portal.getGate().forceGenerateStructure();
-                    }
-                    yield true;
-                }
-            };
+            return applyPortalValidity(portal, portal.getGate().isValid(), networkManager);
         } catch (GateConflictException e) {
             return false;
         }
     }
 
+    /**
+     * Checks the validity of a portal which has already been registered
+     *
+     * <p>Unlike {@link #portalValidityCheck(RealPortal, NetworkManager)}, the portal does not conflict with itself, as
+     * only the blocks of its gate are checked. If any chunk of the gate has been unloaded since the check was
+     * deferred, the check is deferred again instead of loading the chunk. An invalid portal is taken out of its
+     * network and the registry even if invalid portals are ignored, as it would not have been registered had it been
+     * checked right away, but it is kept in storage.</p>
+     *
+     * @param portal      <p>The registered portal to check for</p>
+     * @param stargateAPI <p>The stargate API</p>
+     * @return <p>True if the portal is valid, or its check has been deferred again</p>
+     */
+    public static boolean registeredPortalValidityCheck(RealPortal portal, StargateAPI stargateAPI) {
+        if (portal.isDestroyed()) {
+            return false;
+        }
+        if (stargateAPI.getRegistry().deferGateValidation(portal)) {
+            return true;
+        }
+        boolean isValid = portal.getGate().hasValidStructure();
+        PortalValidity portalValidity = ConfigurationHelper.getEnum(ConfigurationOption.PORTAL_VALIDITY, PortalValidity.class);
+        if (!isValid && portalValidity == PortalValidity.IGNORE) {
+            Network network = portal.getNetwork();
+            stargateAPI.getRegistry().unregisterPortal(portal);
+            network.removePortal(portal);
+            network.updatePortals();
+            return false;
+        }
+        return applyPortalValidity(portal, isValid, stargateAPI.getNetworkManager());
+    }
+
+    /**
+     * Applies the configured portal validity action to a portal
+     *
+     * @param portal         <p>The portal to apply the action to</p>
+     * @param isValid        <p>Whether the portal's gate is valid</p>
+     * @param networkManager <p>A stargate network manager</p>
+     * @return <p>True if the portal is valid after applying the action</p>
+     */
+    private static boolean applyPortalValidity(RealPortal portal, boolean isValid, NetworkManager networkManager) {
+        PortalValidity portalValidity = ConfigurationHelper.getEnum(ConfigurationOption.PORTAL_VALIDITY, PortalValidity.class);
+        return switch (portalValidity){
+            case IGNORE -> isValid;
+            case REMOVE -> {
+                if(!isValid){
+                    networkManager.destroyPortal(portal);
+                }
+                yield isValid;
+            }
+            case REPAIR -> {
+                if(!isValid){
+                    portal.getGate().forceGenerateStructure();
+                }
+                yield true;
+            }
+        };
+    }
+
 }
@@ -0,0 +1,204 @@
+package org.sgrewritten.stargate.util.portal;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+import org.sgrewritten.stargate.api.network.portal.RealPortal;
+import org.sgrewritten.stargate.container.LongObjectHashMap;
+import org.sgrewritten.stargate.util.VectorUtils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+/**
+ * A cache of the spawn locations found in front of portals, by the size of the entity spawning
+ *
+ * <p>Every cached search remembers the box of blocks it looked at, and is dropped as soon as a block inside that box
+ * changes, or the portal is unregistered. The box is indexed by chunk, so that checking a changed block only looks at
+ * the searches covering its chunk. Only searches which found a spawn location are cached, and the location is checked
+ * again whenever it is used, as not every block change has an event.</p>
+ */
+public final class SpawnLocationCache {
+
+    private static final Map<RealPortal, Map<Integer, CachedSearch>> searches = new HashMap<>();
+    private static final Map<UUID, LongObjectHashMap<Set<CachedSearch>>> chunkSearches = new HashMap<>();
+    // Lets block changes skip the lock while nothing is cached, which is the common case for most block changes
+    private static volatile boolean isEmpty = true;
+
+    private SpawnLocationCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Gets the cached search for the given portal and entity size
+     *
+     * @param portal <p>The portal the entity exits from</p>
+     * @param width  <p>The width of the entity, in blocks</p>
+     * @param height <p>The height of the entity, in blocks</p>
+     * @return <p>The cached search, or null if there is no valid cached search</p>
+     */
+    static synchronized @Nullable CachedSearch get(RealPortal portal, int width, int height) {
+        Map<Integer, CachedSearch> portalSearches = searches.get(portal);
+        return portalSearches == null ? null : portalSearches.get(getSizeClass(width, height));
+    }
+
+    /**
+     * Caches the result of a spawn location search
+     *
+     * @param portal        <p>The portal the entity exits from</p>
+     * @param width         <p>The width of the entity, in blocks</p>
+     * @param height        <p>The height of the entity, in blocks</p>
+     * @param spawnLocation <p>The found spawn location</p>
+     * @param searchedBox   <p>The minimum and maximum x, y and z coordinates of the blocks the search looked at</p>
+     */
+    static synchronized void put(RealPortal portal, int width, int height, Location spawnLocation,
+                                 int[] searchedBox) {
+        World world = portal.getExit().getWorld();
+        if (world == null) {
+            return;
+        }
+        CachedSearch search = new CachedSearch(portal, getSizeClass(width, height), world.getUID(), spawnLocation,
+                searchedBox);
+        CachedSearch previousSearch = searches.computeIfAbsent(portal, key -> new HashMap<>())
+                .put(search.sizeClass, search);
+        if (previousSearch != null) {
+            unindex(previousSearch);
+        }
+        LongObjectHashMap<Set<CachedSearch>> worldSearches = chunkSearches.computeIfAbsent(search.worldId,
+                key -> new LongObjectHashMap<>());
+        search.forEachChunk(chunk -> worldSearches.computeIfAbsent(chunk, key -> new HashSet<>()).add(search));
+        isEmpty = false;
+    }
+
+    /**
+     * Drops any cached search which looked at the given block
+     *
+     * @param world <p>The world of the block</p>
+     * @param x     <p>The x coordinate of the block</p>
+     * @param y     <p>The y coordinate of the block</p>
+     * @param z     <p>The z coordinate of the block</p>
+     */
+    public static void invalidate(World world, int x, int y, int z) {
+        if (world == null || isEmpty) {
+            return;
+        }
+        invalidateBlock(world, x, y, z);
+    }
+
+    private static synchronized void invalidateBlock(World world, int x, int y, int z) {
+        LongObjectHashMap<Set<CachedSearch>> worldSearches = chunkSearches.get(world.getUID());
+        if (worldSearches == null) {
+            return;
+        }
+        Set<CachedSearch> candidates = worldSearches.get(VectorUtils.packChunkPosition(x >> 4, z >> 4));
+        if (candidates == null) {
+            return;
+        }
+        for (CachedSearch search : candidates.toArray(new CachedSearch[0])) {
+            if (search.contains(x, y, z)) {
+                remove(search);
+            }
+        }
+    }
+
+    /**
+     * Drops all cached searches for the given portal
+     *
+     * @param portal <p>The portal to drop the searches of</p>
+     */
+    public static synchronized void invalidate(RealPortal portal) {
+        Map<Integer, CachedSearch> portalSearches = searches.remove(portal);
+        if (portalSearches != null) {
+            portalSearches.values().forEach(SpawnLocationCache::unindex);
+        }
+        isEmpty = searches.isEmpty();
+    }
+
+    /**
+     * Drops all cached searches
+     */
+    public static synchronized void clear() {
+        searches.clear();
+        chunkSearches.clear();
+        isEmpty = true;
+    }
+
+    private static void remove(CachedSearch search) {
+        Map<Integer, CachedSearch> portalSearches = searches.get(search.portal);
+        if (portalSearches != null && portalSearches.remove(search.sizeClass, search) && portalSearches.isEmpty()) {
+            searches.remove(search.portal);
+        }
+        unindex(search);
+        isEmpty = searches.isEmpty();
+    }
+
+    private static void unindex(CachedSearch search) {
+        LongObjectHashMap<Set<CachedSearch>> worldSearches = chunkSearches.get(search.worldId);
+        if (worldSearches == null) {
+            return;
+        }
+        search.forEachChunk(chunk -> {
+            Set<CachedSearch> chunkSet = worldSearches.get(chunk);
+            if (chunkSet != null && chunkSet.remove(search) && chunkSet.isEmpty()) {
+                worldSearches.remove(chunk);
+            }
+        });
+        if (worldSearches.isEmpty()) {
+            chunkSearches.remove(search.worldId);
+        }
+    }
+
+    private static int getSizeClass(int width, int height) {
+        return (width << 16) | (height & 0xFFFF);
+    }
+
+    /**
+     * A cached spawn location search
+     */
+    static final class CachedSearch {
+
+        private final RealPortal portal;
+        private final int sizeClass;
+        private final UUID worldId;
+        private final Location spawnLocation;
+        private final int[] box;
+
+        /**
+         * @param portal        <p>The portal the search was done for</p>
+         * @param sizeClass     <p>The size of the entity the search was done for</p>
+         * @param worldId       <p>The world the search was done in</p>
+         * @param spawnLocation <p>The found spawn location</p>
+         * @param box           <p>The minimum and maximum x, y and z coordinates of the blocks the search looked at</p>
+         */
+        private CachedSearch(RealPortal portal, int sizeClass, UUID worldId, Location spawnLocation, int[] box) {
+            this.portal = portal;
+            this.sizeClass = sizeClass;
+            this.worldId = worldId;
+            this.spawnLocation = spawnLocation.clone();
+            this.box = box;
+        }
+
+        /**
+         * @return <p>A copy of the found spawn location</p>
+         */
+        Location getSpawnLocation() {
+            return spawnLocation.clone();
+        }
+
+        private boolean contains(int x, int y, int z) {
+            return x >= box[0] && y >= box[1] && z >= box[2] && x <= box[3] && y <= box[4] && z <= box[5];
+        }
+
+        private void forEachChunk(LongConsumer consumer) {
+            for (int chunkX = box[0] >> 4; chunkX <= box[3] >> 4; chunkX++) {
+                for (int chunkZ = box[2] >> 4; chunkZ <= box[5] >> 4; chunkZ++) {
+                    consumer.accept(VectorUtils.packChunkPosition(chunkX, chunkZ));
+                }
+            }
+        }
+    }
+}
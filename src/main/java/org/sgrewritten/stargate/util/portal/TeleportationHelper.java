@@ -3,18 +3,18 @@ package org.sgrewritten.stargate.util.portal;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WorldBorder;
-import org.bukkit.block.Block;
 import org.bukkit.entity.Entity;
 import org.bukkit.util.BlockVector;
 import org.bukkit.util.Vector;
+import org.sgrewritten.stargate.api.gate.GateAPI;
 import org.sgrewritten.stargate.api.gate.GateStructureType;
 import org.sgrewritten.stargate.api.network.portal.RealPortal;
+import org.sgrewritten.stargate.container.LongObjectHashMap;
+import org.sgrewritten.stargate.util.VectorUtils;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
 
 /**
  * A helper class for teleportation-related checks
@@ -27,48 +27,118 @@ public class TeleportationHelper {
 
     private static final int CONE_LENGTH = 7;
     private static final int MAXIMUM_CONE_EXTENSION = 4;
+    private static final int[] NONE = {0, 0, 0};
+    private static final int[] UP = {0, 1, 0};
+    private static final int[] DOWN = {0, -1, 0};
 
     /**
      * Tries to find an alternative viable spawn location for the specified entity
      *
+     * <p>A found location is cached for the portal and the size of the entity, until a block near the portal's exit
+     * changes.</p>
+     *
      * @param entity            <p>The entity to be teleported</p>
      * @param destinationPortal <p>The portal the entity is about to exit from</p>
      * @return <p>A possible spawn location, or null if no viable location could be found</p>
      */
     public static Location findViableSpawnLocation(Entity entity, RealPortal destinationPortal) {
-        BlockVector forward = destinationPortal.getExitFacing().getOppositeFace().getDirection().toBlockVector();
-        BlockVector left = forward.clone().rotateAroundY(Math.PI / 2).toBlockVector();
-        BlockVector right = forward.clone().rotateAroundY(-Math.PI / 2).toBlockVector();
-        BlockVector up = new BlockVector(0, 1, 0);
-        BlockVector down = new BlockVector(0, -1, 0);
+        int width = (int) Math.ceil(entity.getWidth());
+        int height = (int) Math.ceil(entity.getHeight());
+        World world = destinationPortal.getGate().getTopLeft().getWorld();
+        World exitWorld = destinationPortal.getExit().getWorld();
+        WorldBorder worldBorder = exitWorld != null ? exitWorld.getWorldBorder() : null;
+
+        SpawnLocationCache.CachedSearch cachedSearch = SpawnLocationCache.get(destinationPortal, width, height);
+        if (cachedSearch != null) {
+            Location cachedLocation = cachedSearch.getSpawnLocation();
+            //Not every block change has an event, so make sure the cached location is still viable
+            if (isViableSpawnLocation(world, width, height, cachedLocation.getX(), cachedLocation.getY(),
+                    cachedLocation.getZ()) && (worldBorder == null || worldBorder.isInside(cachedLocation))) {
+                return cachedLocation;
+            }
+        }
+
+        int[] searchedBox = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                Integer.MIN_VALUE, Integer.MIN_VALUE};
+        Location spawnLocation = searchViableSpawnLocation(destinationPortal, world, worldBorder, width, height,
+                searchedBox);
+        //A failed search can not be checked as cheaply as a found location, so it is searched again next time
+        if (spawnLocation != null) {
+            SpawnLocationCache.put(destinationPortal, width, height, spawnLocation, searchedBox);
+        }
+        return spawnLocation;
+    }
+
+    /**
+     * Searches the cone in front of the given portal for a viable spawn location
+     *
+     * @param destinationPortal <p>The portal the entity is about to exit from</p>
+     * @param world             <p>The world of the portal</p>
+     * @param worldBorder       <p>The world border of the portal's exit, or null if none</p>
+     * @param width             <p>The width of the entity, in blocks</p>
+     * @param height            <p>The height of the entity, in blocks</p>
+     * @param searchedBox       <p>The box to expand to include all blocks looked at by the search</p>
+     * @return <p>A possible spawn location, or null if no viable location could be found</p>
+     */
+    private static Location searchViableSpawnLocation(RealPortal destinationPortal, World world, WorldBorder worldBorder,
+                                                      int width, int height, int[] searchedBox) {
+        int[] forward = toBlockOffset(destinationPortal.getExitFacing().getOppositeFace().getDirection());
+        int[] left = {forward[2], 0, -forward[0]};
+        int[] right = {-forward[2], 0, forward[0]};
 
-        List<Location> irisLocations = new ArrayList<>();
         //Add locations of all iris blocks in the Stargate
         //TODO: Limit checking of iris blocks far from the ground
-        destinationPortal.getGate().getLocations(GateStructureType.IRIS).forEach(
-                (blockLocation) -> irisLocations.add(blockLocation.getLocation()));
+        GateAPI gate = destinationPortal.getGate();
+        int[] irisPositions = new int[gate.getLocations(GateStructureType.IRIS).size() * 3];
+        int[] irisIndex = {0};
+        gate.forEachLocation(GateStructureType.IRIS, (x, y, z) -> {
+            irisPositions[irisIndex[0]++] = x;
+            irisPositions[irisIndex[0]++] = y;
+            irisPositions[irisIndex[0]++] = z;
+        });
         //TODO: Add the blocks beneath the iris as well
-        int width = (int) Math.ceil(entity.getWidth());
-        int height = (int) Math.ceil(entity.getHeight());
-        Vector centerOffset = width % 2 != 0 ? new Vector(0.5, 0, 0.5) : new Vector();
-        Location portalCenter = destinationPortal.getGate().getExit();
-        World world = destinationPortal.getExit().getWorld();
-        WorldBorder worldBorder = world != null ? world.getWorldBorder() : null;
+        double centerOffset = width % 2 != 0 ? 0.5 : 0;
+        Location portalCenter = gate.getExit();
+        double centerX = portalCenter.getX();
+        double centerY = portalCenter.getY();
+        double centerZ = portalCenter.getZ();
 
         //skip first layer as that was the origin of issue https://github.com/stargate-rewritten/Stargate-Bukkit/issues/231
-        List<Location> coneLocations = getDirectionalConeLayer(irisLocations, forward, left, right, up, down, 0, portalCenter);
-        //Give up after reaching the max cone length
-        for (int coneHeight = 1; coneHeight <= CONE_LENGTH; coneHeight++) {
-            coneLocations = getDirectionalConeLayer(coneLocations, forward, left, right, up, down, coneHeight, portalCenter);
-            for (Location possibleSpawnLocation : coneLocations) {
-                Location modifiedPossibleSpawnLocation = possibleSpawnLocation.clone().add(centerOffset);
-                if (isViableSpawnLocation(width, height, modifiedPossibleSpawnLocation) &&
-                        (worldBorder == null || worldBorder.isInside(modifiedPossibleSpawnLocation))) {
-                    return modifiedPossibleSpawnLocation;
+        int[] conePositions = getDirectionalConeLayer(irisPositions, forward, left, right, UP, DOWN, 0, centerX, centerY,
+                centerZ);
+        try {
+            //Give up after reaching the max cone length
+            for (int coneHeight = 1; coneHeight <= CONE_LENGTH; coneHeight++) {
+                conePositions = getDirectionalConeLayer(conePositions, forward, left, right, UP, DOWN, coneHeight,
+                        centerX, centerY, centerZ);
+                for (int i = 0; i < conePositions.length; i += 3) {
+                    int x = conePositions[i];
+                    int y = conePositions[i + 1];
+                    int z = conePositions[i + 2];
+                    expandBox(searchedBox, x, y, z);
+                    double spawnX = x + centerOffset;
+                    double spawnZ = z + centerOffset;
+                    if (!isViableSpawnLocation(world, width, height, spawnX, y, spawnZ)) {
+                        continue;
+                    }
+                    Location possibleSpawnLocation = new Location(world, spawnX, y, spawnZ);
+                    if (worldBorder == null || worldBorder.isInside(possibleSpawnLocation)) {
+                        return possibleSpawnLocation;
+                    }
                 }
             }
+            return null;
+        } finally {
+            //Include the blocks checked around the searched positions
+            if (searchedBox[0] <= searchedBox[3]) {
+                searchedBox[0] -= width;
+                searchedBox[1] -= 1;
+                searchedBox[2] -= width;
+                searchedBox[3] += width;
+                searchedBox[4] += height;
+                searchedBox[5] += width;
+            }
         }
-        return null;
     }
 
     /**
@@ -87,36 +157,98 @@ public class TeleportationHelper {
     protected static List<Location> getDirectionalConeLayer(List<Location> locations, BlockVector outwards,
                                                             BlockVector left, BlockVector right, BlockVector up, BlockVector down, int recursionNumber,
                                                             Location portalCenter) {
-        Set<Location> relativeLocations = new HashSet<>();
-        for (Location location : locations) {
-            /*
-             * Store relative locations in a new hashset to make sure the upwards and
-             * downwards variations are only created for the three relative locations just
-             * generated
-             */
-            Set<Location> newRelativeLocations = new HashSet<>();
-            //Add the three relevant relative locations
-            newRelativeLocations.add(location.clone().add(outwards));
-            
-            /* Stop expanding the cone except outwards after the specified number of recursions to prevent way too big 
-            search areas */
-            if (recursionNumber <= MAXIMUM_CONE_EXTENSION) {
-                newRelativeLocations.add(location.clone().add(outwards).add(left));
-                newRelativeLocations.add(location.clone().add(outwards).add(right));
-                //Check upwards and downwards for a 3-dimensional search
-                Set<Location> relativeLocationsCopy = new HashSet<>(newRelativeLocations);
-                for (Location relativeLocation : relativeLocationsCopy) {
-                    newRelativeLocations.add(relativeLocation.clone().add(up));
-                    newRelativeLocations.add(relativeLocation.clone().add(down));
+        int[] positions = new int[locations.size() * 3];
+        for (int i = 0; i < locations.size(); i++) {
+            Location location = locations.get(i);
+            positions[i * 3] = location.getBlockX();
+            positions[i * 3 + 1] = location.getBlockY();
+            positions[i * 3 + 2] = location.getBlockZ();
+        }
+        int[] layer = getDirectionalConeLayer(positions, toBlockOffset(outwards), toBlockOffset(left),
+                toBlockOffset(right), toBlockOffset(up), toBlockOffset(down), recursionNumber, portalCenter.getX(),
+                portalCenter.getY(), portalCenter.getZ());
+        List<Location> layerLocations = new ArrayList<>(layer.length / 3);
+        for (int i = 0; i < layer.length; i += 3) {
+            layerLocations.add(new Location(portalCenter.getWorld(), layer[i], layer[i + 1], layer[i + 2]));
+        }
+        return layerLocations;
+    }
+
+    /**
+     * Gets the next layer in a cone going out from the given positions in the given direction (outwards)
+     *
+     * @param positions       <p>The x, y and z coordinates of the positions in the previous cone layer</p>
+     * @param outwards        <p>The direction to place the next layer of the cone in</p>
+     * @param left            <p>The direction to the left of outwards</p>
+     * @param right           <p>The direction to the right of outwards</p>
+     * @param up              <p>The upwards direction along the y-axis</p>
+     * @param down            <p>The downwards direction along the y-axis</p>
+     * @param recursionNumber <p>The number of times this method has been run in the current call chain</p>
+     * @param centerX         <p>The x coordinate of the center of the portal, used for sorting by distance</p>
+     * @param centerY         <p>The y coordinate of the center of the portal, used for sorting by distance</p>
+     * @param centerZ         <p>The z coordinate of the center of the portal, used for sorting by distance</p>
+     * @return <p>The x, y and z coordinates of the positions in the next cone layer</p>
+     */
+    private static int[] getDirectionalConeLayer(int[] positions, int[] outwards, int[] left, int[] right, int[] up,
+                                                 int[] down, int recursionNumber, double centerX, double centerY,
+                                                 double centerZ) {
+        /* Stop expanding the cone except outwards after the specified number of recursions to prevent way too big
+        search areas */
+        boolean expand = recursionNumber <= MAXIMUM_CONE_EXTENSION;
+        int[][] sideways = expand ? new int[][]{NONE, left, right} : new int[][]{NONE};
+        //Check upwards and downwards for a 3-dimensional search
+        int[][] vertical = expand ? new int[][]{NONE, up, down} : new int[][]{NONE};
+
+        int[] layer = new int[positions.length * sideways.length * vertical.length];
+        LongObjectHashMap<Boolean> addedPositions = new LongObjectHashMap<>(layer.length / 3);
+        int size = 0;
+        for (int i = 0; i < positions.length; i += 3) {
+            for (int[] side : sideways) {
+                for (int[] verticalOffset : vertical) {
+                    int x = positions[i] + outwards[0] + side[0] + verticalOffset[0];
+                    int y = positions[i + 1] + outwards[1] + side[1] + verticalOffset[1];
+                    int z = positions[i + 2] + outwards[2] + side[2] + verticalOffset[2];
+                    if (addedPositions.put(VectorUtils.packBlockPosition(x, y, z), Boolean.TRUE) == null) {
+                        layer[size++] = x;
+                        layer[size++] = y;
+                        layer[size++] = z;
+                    }
                 }
             }
-            relativeLocations.addAll(newRelativeLocations);
         }
-        List<Location> relativeLocationsList = new ArrayList<>(relativeLocations.size());
-        relativeLocationsList.addAll(relativeLocations);
         //Sort by distance relative to portal center to prefer the most "normal" locations
-        relativeLocationsList.sort(Comparator.comparingDouble((Location location) -> location.distance(portalCenter)));
-        return relativeLocationsList;
+        return sortByDistance(layer, size, centerX, centerY, centerZ);
+    }
+
+    /**
+     * Sorts the given positions by their distance to the given center
+     *
+     * <p>The squared distance is stored as a float in the upper bits of a long, with the index of the position in the
+     * lower bits, so that the positions can be sorted as primitives. Positive floats sort the same as their bits.</p>
+     *
+     * @param positions <p>The x, y and z coordinates of the positions to sort</p>
+     * @param size      <p>The amount of coordinates in use</p>
+     * @param centerX   <p>The x coordinate of the center</p>
+     * @param centerY   <p>The y coordinate of the center</p>
+     * @param centerZ   <p>The z coordinate of the center</p>
+     * @return <p>The sorted positions</p>
+     */
+    private static int[] sortByDistance(int[] positions, int size, double centerX, double centerY, double centerZ) {
+        long[] keys = new long[size / 3];
+        for (int i = 0; i < keys.length; i++) {
+            double distanceX = positions[i * 3] - centerX;
+            double distanceY = positions[i * 3 + 1] - centerY;
+            double distanceZ = positions[i * 3 + 2] - centerZ;
+            float squaredDistance = (float) (distanceX * distanceX + distanceY * distanceY + distanceZ * distanceZ);
+            keys[i] = ((long) Float.floatToIntBits(squaredDistance) << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] sortedPositions = new int[size];
+        for (int i = 0; i < keys.length; i++) {
+            int index = (int) keys[i];
+            System.arraycopy(positions, index * 3, sortedPositions, i * 3, 3);
+        }
+        return sortedPositions;
     }
 
     /**
@@ -128,25 +260,64 @@ public class TeleportationHelper {
      * @return <p>True if the entity can be safely teleported to the given location</p>
      */
     protected static boolean isViableSpawnLocation(int width, int height, Location center) {
-        Location corner = center.clone().subtract(width / 2.0, 0, width / 2.0);
+        return isViableSpawnLocation(center.getWorld(), width, height, center.getX(), center.getY(), center.getZ());
+    }
+
+    /**
+     * Check whether an entity will be safe when spawning at the specified coordinates
+     *
+     * @param world   <p>The world to spawn in</p>
+     * @param width   <p>The width of the entity</p>
+     * @param height  <p>The height of the entity</p>
+     * @param centerX <p>The x coordinate of the entity</p>
+     * @param centerY <p>The y coordinate of the entity</p>
+     * @param centerZ <p>The z coordinate of the entity</p>
+     * @return <p>True if the entity can be safely teleported to the given coordinates</p>
+     */
+    private static boolean isViableSpawnLocation(World world, int width, int height, double centerX, double centerY,
+                                                 double centerZ) {
+        double cornerX = centerX - width / 2.0;
+        double cornerZ = centerZ - width / 2.0;
 
         //If a single solid block is found, the entity would be crushed to death
-        for (Location occupiedLocation : getOccupiedLocations(width, height, corner)) {
-            Block block = occupiedLocation.getBlock();
-            if (block.getType().isSolid()) {
-                return false;
+        for (int ix = 0; ix < width; ix++) {
+            for (int iy = 0; iy < height; iy++) {
+                for (int iz = 0; iz < width; iz++) {
+                    if (world.getBlockAt(Location.locToBlock(cornerX + ix), Location.locToBlock(centerY + iy),
+                            Location.locToBlock(cornerZ + iz)).getType().isSolid()) {
+                        return false;
+                    }
+                }
             }
         }
 
         //As long as the entity as a single floor block to spawn on, it won't fall down
-        for (Location floorLocation : getFloorLocations(width, corner)) {
-            if (floorLocation.getBlock().getType().isSolid()) {
-                return true;
+        int floorY = Location.locToBlock(centerY - 1);
+        for (int ix = 0; ix < width; ix++) {
+            for (int iz = 0; iz < width; iz++) {
+                if (world.getBlockAt(Location.locToBlock(cornerX + ix), floorY,
+                        Location.locToBlock(cornerZ + iz)).getType().isSolid()) {
+                    return true;
+                }
             }
         }
         return false;
     }
 
+    private static void expandBox(int[] box, int x, int y, int z) {
+        box[0] = Math.min(box[0], x);
+        box[1] = Math.min(box[1], y);
+        box[2] = Math.min(box[2], z);
+        box[3] = Math.max(box[3], x);
+        box[4] = Math.max(box[4], y);
+        box[5] = Math.max(box[5], z);
+    }
+
+    private static int[] toBlockOffset(Vector direction) {
+        return new int[]{(int) Math.round(direction.getX()), (int) Math.round(direction.getY()),
+                (int) Math.round(direction.getZ())};
+    }
+
     /**
      * Calculate the locations an entity will occupy based from a corner location of the entity
      *
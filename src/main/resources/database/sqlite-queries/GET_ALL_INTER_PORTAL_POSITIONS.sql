@@ -0,0 +1,8 @@
+SELECT
+   {InterPortalPosition}.*,
+   {PositionType}.positionName
+FROM
+   {InterPortalPosition}
+LEFT
+OUTER
+JOIN {PositionType} ON {PositionType}.id = {InterPortalPosition}.positionType;
\ No newline at end of file
@@ -0,0 +1,16 @@
+SELECT
+   {InterPortalPosition}.*,
+   {PositionType}.positionName
+FROM
+   {InterPortalPosition}
+INNER
+JOIN {InterPortal} ON {InterPortal}.name = {InterPortalPosition}.portalName
+AND
+   {InterPortal}.network = {InterPortalPosition}.networkName
+LEFT
+OUTER
+JOIN {PositionType} ON {PositionType}.id = {InterPortalPosition}.positionType
+WHERE
+   {InterPortal}.world = ?
+AND
+   {InterPortal}.homeServerId = ?;
\ No newline at end of file
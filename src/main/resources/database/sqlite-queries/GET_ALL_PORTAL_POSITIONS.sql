@@ -0,0 +1,8 @@
+SELECT
+   {PortalPosition}.*,
+   {PositionType}.positionName
+FROM
+   {PortalPosition}
+LEFT
+OUTER
+JOIN {PositionType} ON {PositionType}.id = {PortalPosition}.positionType;
\ No newline at end of file
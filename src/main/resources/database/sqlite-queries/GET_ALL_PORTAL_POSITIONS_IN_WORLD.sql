@@ -0,0 +1,14 @@
+SELECT
+   {PortalPosition}.*,
+   {PositionType}.positionName
+FROM
+   {PortalPosition}
+INNER
+JOIN {Portal} ON {Portal}.name = {PortalPosition}.portalName
+AND
+   {Portal}.network = {PortalPosition}.networkName
+LEFT
+OUTER
+JOIN {PositionType} ON {PositionType}.id = {PortalPosition}.positionType
+WHERE
+   {Portal}.world = ?;
\ No newline at end of file
@@ -109,6 +109,21 @@ class StargateTest {
         Assertions.assertFalse(plugin.isEnabled());
     }
 
+    @Test
+    void log_levelNotLogged_messageNotCreated() {
+        Level previousLogLevel = Stargate.getLogLevel();
+        Stargate.setLogLevel(Level.INFO);
+        try {
+            Assertions.assertFalse(Stargate.isLoggable(Level.FINEST));
+            Assertions.assertDoesNotThrow(() -> Stargate.log(Level.FINEST, () -> {
+                throw new IllegalStateException("The message should not be created");
+            }));
+            Assertions.assertDoesNotThrow(() -> Stargate.log(Level.FINEST, "%d", "not a number"));
+        } finally {
+            Stargate.setLogLevel(previousLogLevel);
+        }
+    }
+
     @Test
     void reloadInterServer() {
         setInterServerEnabled();
@@ -0,0 +1,110 @@
+package org.sgrewritten.stargate.api.network.portal.behavior;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sgrewritten.stargate.api.network.portal.Portal;
+import org.sgrewritten.stargate.util.portal.PortalMock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DestinationListTest {
+
+    private static final int PORTAL_COUNT = 100;
+    private List<Portal> portals;
+    private NavigableMap<String, Portal> sortedPortals;
+    private Portal origin;
+    private AtomicInteger checks;
+
+    @BeforeEach
+    void setUp() {
+        portals = new ArrayList<>();
+        sortedPortals = new TreeMap<>();
+        for (int i = 0; i < PORTAL_COUNT; i++) {
+            Portal portal = new NamedPortalMock(String.format("portal%03d", i));
+            portals.add(portal);
+            sortedPortals.put(portal.getId(), portal);
+        }
+        origin = portals.get(0);
+        checks = new AtomicInteger();
+    }
+
+    @Test
+    void getNext_onlyChecksPassedCandidates() {
+        DestinationList destinations = new DestinationList(sortedPortals, origin, portal -> {
+            checks.incrementAndGet();
+            return true;
+        });
+        Assertions.assertSame(portals.get(51), destinations.getNext(portals.get(50)));
+        Assertions.assertSame(portals.get(49), destinations.getPrevious(portals.get(50)));
+        Assertions.assertEquals(2, checks.get());
+        Assertions.assertNull(destinations.getNext(portals.get(PORTAL_COUNT - 1)));
+        Assertions.assertEquals(2, checks.get());
+    }
+
+    @Test
+    void getFirst_excludesOriginAndHidden() {
+        DestinationList destinations = new DestinationList(sortedPortals, origin, portal -> portals.indexOf(portal) % 2 == 0);
+        Assertions.assertSame(portals.get(2), destinations.getFirst());
+        Assertions.assertSame(portals.get(PORTAL_COUNT - 2), destinations.getLast());
+        Assertions.assertNull(destinations.getPrevious(portals.get(2)));
+        Assertions.assertSame(portals.get(4), destinations.getNext(portals.get(3)));
+        Assertions.assertFalse(destinations.contains(portals.get(1)));
+        Assertions.assertFalse(destinations.contains(origin));
+        Assertions.assertTrue(destinations.contains(portals.get(2)));
+    }
+
+    @Test
+    void contains_checksVisibilityOnce() {
+        DestinationList destinations = new DestinationList(sortedPortals, origin, portal -> {
+            checks.incrementAndGet();
+            return true;
+        });
+        Assertions.assertTrue(destinations.contains(portals.get(10)));
+        Assertions.assertTrue(destinations.contains(portals.get(10)));
+        Assertions.assertEquals(1, checks.get());
+    }
+
+    @Test
+    void of_keepsGivenOrder() {
+        DestinationList destinations = DestinationList.of(List.of(portals.get(3), portals.get(1), portals.get(2)), origin);
+        Assertions.assertSame(portals.get(3), destinations.getFirst());
+        Assertions.assertSame(portals.get(2), destinations.getNext(portals.get(1)));
+        Assertions.assertSame(portals.get(2), destinations.getLast());
+        Assertions.assertFalse(destinations.contains(portals.get(4)));
+    }
+
+    @Test
+    void getNames_copiedOnModification() {
+        DestinationList destinations = new DestinationList(sortedPortals, origin, portal -> true);
+        DestinationList.NameList names = destinations.getNames();
+        Assertions.assertFalse(names.isModified());
+        Assertions.assertEquals(PORTAL_COUNT - 1, names.size());
+        names.remove(0);
+        Assertions.assertTrue(names.isModified());
+        Assertions.assertEquals(PORTAL_COUNT - 2, names.size());
+        Assertions.assertEquals(PORTAL_COUNT - 1, destinations.getNames().size());
+    }
+
+    private static class NamedPortalMock extends PortalMock {
+        private final String name;
+
+        private NamedPortalMock(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getId() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.sgrewritten.stargate.api.network.portal.formatting;
+
+import be.seeseemelk.mockbukkit.MockBukkitInject;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.Sign;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.sgrewritten.stargate.StargateExtension;
+
+@ExtendWith(StargateExtension.class)
+class StargateComponentTest {
+
+    @MockBukkitInject
+    private ServerMock server;
+    private Sign sign;
+
+    @BeforeEach
+    void setUp() {
+        WorldMock world = server.addSimpleWorld("world");
+        Block block = world.getBlockAt(0, 0, 0);
+        block.setType(Material.OAK_WALL_SIGN);
+        this.sign = (Sign) block.getState();
+    }
+
+    @Test
+    void equals_sameText() {
+        Assertions.assertEquals(new LegacyStargateComponent("text"), new LegacyStargateComponent("text"));
+        Assertions.assertNotEquals(new LegacyStargateComponent("text"), new LegacyStargateComponent("other"));
+        Assertions.assertEquals(new AdventureStargateComponent(Component.text("text")),
+                new AdventureStargateComponent(Component.text("text")));
+        Assertions.assertEquals(StargateComponent.empty(), StargateComponent.empty());
+        Assertions.assertNotEquals(StargateComponent.empty(), new LegacyStargateComponent(""));
+    }
+
+    @Test
+    void isOnSignLine_legacy() {
+        StargateComponent component = new LegacyStargateComponent("text");
+        Assertions.assertFalse(component.isOnSignLine(0, sign));
+        component.setSignLine(0, sign);
+        Assertions.assertTrue(component.isOnSignLine(0, sign));
+        Assertions.assertFalse(component.isOnSignLine(1, sign));
+    }
+
+    @Test
+    void isOnSignLine_empty() {
+        StargateComponent component = StargateComponent.empty();
+        Assertions.assertTrue(component.isOnSignLine(0, sign));
+        new LegacyStargateComponent("text").setSignLine(0, sign);
+        Assertions.assertFalse(component.isOnSignLine(0, sign));
+    }
+}
@@ -0,0 +1,67 @@
+package org.sgrewritten.stargate.command;
+
+import be.seeseemelk.mockbukkit.MockBukkitInject;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.command.Command;
+import org.bukkit.command.defaults.VersionCommand;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.StargateExtension;
+import org.sgrewritten.stargate.StargateInject;
+import org.sgrewritten.stargate.metrics.MetricName;
+import org.sgrewritten.stargate.metrics.StargateMetrics;
+
+@ExtendWith(StargateExtension.class)
+class CommandStatsTest {
+
+    @MockBukkitInject
+    ServerMock server;
+    @StargateInject
+    private @NotNull Stargate plugin;
+    private @NotNull PlayerMock sender;
+    private CommandStats statsCommand;
+    private final Command fakeCommand = new VersionCommand("fake");
+
+    @BeforeEach
+    void setUp() {
+        sender = server.addPlayer();
+        statsCommand = new CommandStats(plugin.getLanguageManager());
+        sender.addAttachment(plugin, "sg.admin.stats", true);
+    }
+
+    @Test
+    void onCommand_filter() {
+        StargateMetrics.getCounter(MetricName.of("test_stats_command")).add(2);
+        StargateMetrics.getLatency(MetricName.of("test_stats_latency")).record(1_500_000);
+        Assertions.assertTrue(statsCommand.onCommand(sender, fakeCommand, "", new String[]{"stats", "test_stats"}));
+        Assertions.assertNotNull(sender.nextMessage());
+        String counterLine = sender.nextMessage();
+        Assertions.assertNotNull(counterLine);
+        Assertions.assertTrue(counterLine.contains("test_stats_command") && counterLine.contains(": 2 "), counterLine);
+        String latencyLine = sender.nextMessage();
+        Assertions.assertNotNull(latencyLine);
+        Assertions.assertTrue(latencyLine.contains("n=1") && latencyLine.contains("max=1.5ms"), latencyLine);
+        Assertions.assertNull(sender.nextMessage());
+    }
+
+    @Test
+    void onCommandNoPermissions() {
+        sender.addAttachment(plugin, "sg.admin.stats", false);
+        Assertions.assertTrue(statsCommand.onCommand(sender, fakeCommand, "", new String[]{"stats"}));
+        String nextMessage = sender.nextMessage();
+        Assertions.assertNotNull(nextMessage);
+        Assertions.assertTrue(nextMessage.contains("Access denied!"));
+    }
+
+    @Test
+    void formatLatency() {
+        Assertions.assertEquals("999ns", CommandStats.formatLatency(999));
+        Assertions.assertEquals("1.5µs", CommandStats.formatLatency(1500));
+        Assertions.assertEquals("2.00s", CommandStats.formatLatency(2_000_000_000));
+    }
+}
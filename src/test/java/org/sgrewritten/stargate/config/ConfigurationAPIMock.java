@@ -1,13 +1,19 @@
 package org.sgrewritten.stargate.config;
 
 import org.sgrewritten.stargate.api.config.ConfigurationAPI;
+import org.sgrewritten.stargate.api.config.ConfigurationChangeListener;
 import org.sgrewritten.stargate.api.config.ConfigurationOption;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 public class ConfigurationAPIMock implements ConfigurationAPI {
     private final Map<ConfigurationOption, Object> configuration = loadDefaultConfiguration();
+    private final List<ConfigurationChangeListener> listeners = new ArrayList<>();
 
     private static Map<ConfigurationOption, Object> loadDefaultConfiguration() {
         Map<ConfigurationOption, Object> config = new HashMap<>();
@@ -19,7 +25,10 @@ public class ConfigurationAPIMock implements ConfigurationAPI {
 
     @Override
     public void setConfigurationOptionValue(ConfigurationOption configurationOption, Object newValue) {
-        configuration.put(configurationOption, newValue);
+        Object previousValue = configuration.put(configurationOption, newValue);
+        if (!Objects.equals(previousValue, newValue)) {
+            listeners.forEach(listener -> listener.onConfigurationChange(EnumSet.of(configurationOption)));
+        }
     }
 
     @Override
@@ -36,4 +45,14 @@ public class ConfigurationAPIMock implements ConfigurationAPI {
     public void reload() {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public void addConfigurationChangeListener(ConfigurationChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeConfigurationChangeListener(ConfigurationChangeListener listener) {
+        listeners.remove(listener);
+    }
 }
@@ -0,0 +1,52 @@
+package org.sgrewritten.stargate.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.StargateExtension;
+import org.sgrewritten.stargate.StargateInject;
+import org.sgrewritten.stargate.api.config.ConfigurationChangeListener;
+import org.sgrewritten.stargate.api.config.ConfigurationOption;
+import org.sgrewritten.stargate.property.PortalValidity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@ExtendWith(StargateExtension.class)
+class ConfigurationHelperTest {
+
+    @StargateInject
+    private Stargate plugin;
+
+    @Test
+    void setConfigurationOptionValue_readFromNewSnapshot() {
+        plugin.setConfigurationOptionValue(ConfigurationOption.UPKEEP_COST, 3);
+        Assertions.assertEquals(3, ConfigurationHelper.getInteger(ConfigurationOption.UPKEEP_COST));
+        plugin.setConfigurationOptionValue(ConfigurationOption.UPKEEP_COST, 4);
+        Assertions.assertEquals(4, ConfigurationHelper.getInteger(ConfigurationOption.UPKEEP_COST));
+    }
+
+    @Test
+    void getEnum_ignoresCase() {
+        plugin.setConfigurationOptionValue(ConfigurationOption.PORTAL_VALIDITY, "repair");
+        Assertions.assertEquals(PortalValidity.REPAIR, ConfigurationHelper.getEnum(ConfigurationOption.PORTAL_VALIDITY, PortalValidity.class));
+    }
+
+    @Test
+    void changeListener_notifiedOfChangedOptions() {
+        List<Set<ConfigurationOption>> changes = new ArrayList<>();
+        ConfigurationChangeListener listener = changes::add;
+        plugin.addConfigurationChangeListener(listener);
+        try {
+            plugin.setConfigurationOptionValue(ConfigurationOption.HANDLE_LEASHES,
+                    !ConfigurationHelper.getBoolean(ConfigurationOption.HANDLE_LEASHES));
+            plugin.setConfigurationOptionValue(ConfigurationOption.HANDLE_LEASHES,
+                    ConfigurationHelper.getBoolean(ConfigurationOption.HANDLE_LEASHES));
+        } finally {
+            plugin.removeConfigurationChangeListener(listener);
+        }
+        Assertions.assertEquals(List.of(Set.of(ConfigurationOption.HANDLE_LEASHES)), changes);
+    }
+}
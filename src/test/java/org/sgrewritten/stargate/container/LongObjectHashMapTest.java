@@ -0,0 +1,50 @@
+package org.sgrewritten.stargate.container;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+class LongObjectHashMapTest {
+
+    private LongObjectHashMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new LongObjectHashMap<>();
+    }
+
+    @Test
+    void putGetRemove() {
+        Assertions.assertNull(map.put(5, "five"));
+        Assertions.assertEquals("five", map.get(5));
+        Assertions.assertEquals("five", map.put(5, "FIVE"));
+        Assertions.assertEquals(1, map.size());
+        Assertions.assertEquals("FIVE", map.remove(5));
+        Assertions.assertNull(map.get(5));
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void nullValue() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    void matchesHashMap() {
+        Map<Long, String> reference = new HashMap<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            long key = random.nextInt(2000) - 1000;
+            switch (random.nextInt(3)) {
+                case 0 -> Assertions.assertEquals(reference.put(key, "v" + i), map.put(key, "v" + i));
+                case 1 -> Assertions.assertEquals(reference.remove(key), map.remove(key));
+                default -> Assertions.assertEquals(reference.get(key), map.get(key));
+            }
+            Assertions.assertEquals(reference.size(), map.size());
+        }
+    }
+}
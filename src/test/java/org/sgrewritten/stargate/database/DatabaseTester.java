@@ -43,6 +43,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -246,6 +247,24 @@ public class DatabaseTester {
         return output;
     }
 
+    void getAllPortalPositionsTest(StorageType type) throws SQLException {
+        Map<String, RealPortal> portals = (type == StorageType.LOCAL) ? localPortals : interServerPortals;
+        Map<String, List<PortalPosition>> allPortalPositions = new HashMap<>();
+        try (PreparedStatement statement = generator.generateGetAllPortalPositionsStatement(connection, type)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                String key = resultSet.getString("networkName") + ":" + resultSet.getString("portalName");
+                allPortalPositions.computeIfAbsent(key, k -> new ArrayList<>()).add(PortalStorageHelper.loadPortalPosition(resultSet));
+            }
+        }
+        for (RealPortal portal : portals.values()) {
+            List<PortalPosition> portalPositions = fetchPortalPositions(portal, type);
+            List<PortalPosition> bulkPortalPositions = allPortalPositions.getOrDefault(portal.getNetwork().getName() + ":" + portal.getName(), List.of());
+            Assertions.assertEquals(portalPositions.size(), bulkPortalPositions.size());
+            Assertions.assertTrue(bulkPortalPositions.containsAll(portalPositions), "Bulk query did not return the same portal positions");
+        }
+    }
+
     void addAndRemovePortalPosition(StorageType type) throws SQLException {
         Map<String, RealPortal> portals = (type == StorageType.LOCAL) ? localPortals : interServerPortals;
 
@@ -82,6 +82,8 @@ public class MySQLDatabaseTest {
         tester.addInterPortalTest();
         tester.getPortalTest();
         tester.getInterPortalTest();
+        tester.getAllPortalPositionsTest(StorageType.LOCAL);
+        tester.getAllPortalPositionsTest(StorageType.INTER_SERVER);
         tester.addAndRemovePortalPosition(StorageType.LOCAL);
         tester.addAndRemovePortalPosition(StorageType.INTER_SERVER);
         tester.setPortalMetaDataTest(StorageType.LOCAL);
@@ -0,0 +1,75 @@
+package org.sgrewritten.stargate.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+class StatementCacheTest {
+
+    private static final String QUERY = "SELECT 1;";
+    @TempDir
+    File tempDir;
+    private SQLiteDatabase database;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = new SQLiteDatabase(new File(tempDir, "test.db"), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void pooledConnection_usesWriteAheadLog() throws SQLException {
+        try (Connection connection = database.getConnection();
+             PreparedStatement statement = connection.prepareStatement("PRAGMA journal_mode;");
+             ResultSet resultSet = statement.executeQuery()) {
+            Assertions.assertTrue(resultSet.next());
+            Assertions.assertEquals("wal", resultSet.getString(1).toLowerCase());
+        }
+    }
+
+    @Test
+    void pooledConnection_enforcesForeignKeys() throws SQLException {
+        try (Connection connection = database.getConnection();
+             PreparedStatement statement = connection.prepareStatement("PRAGMA foreign_keys;");
+             ResultSet resultSet = statement.executeQuery()) {
+            Assertions.assertTrue(resultSet.next());
+            Assertions.assertEquals(1, resultSet.getInt(1));
+        }
+    }
+
+    @Test
+    void prepareStatement_reusedAfterClose() throws SQLException {
+        PreparedStatement first;
+        try (Connection connection = database.getConnection();
+             PreparedStatement statement = connection.prepareStatement(QUERY)) {
+            first = statement.unwrap(PreparedStatement.class);
+        }
+        try (Connection connection = database.getConnection();
+             PreparedStatement statement = connection.prepareStatement(QUERY);
+             ResultSet resultSet = statement.executeQuery()) {
+            Assertions.assertSame(first, statement.unwrap(PreparedStatement.class));
+            Assertions.assertTrue(resultSet.next());
+        }
+    }
+
+    @Test
+    void prepareStatement_inUse_notShared() throws SQLException {
+        try (Connection connection = database.getConnection();
+             PreparedStatement first = connection.prepareStatement(QUERY);
+             PreparedStatement second = connection.prepareStatement(QUERY)) {
+            Assertions.assertNotSame(first.unwrap(PreparedStatement.class), second.unwrap(PreparedStatement.class));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.sgrewritten.stargate.database;
+
+import org.bukkit.util.BlockVector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.StargateExtension;
+import org.sgrewritten.stargate.StargateInject;
+import org.sgrewritten.stargate.api.network.portal.PortalPosition;
+import org.sgrewritten.stargate.api.network.portal.PositionType;
+import org.sgrewritten.stargate.exception.database.StorageReadException;
+import org.sgrewritten.stargate.exception.database.StorageWriteException;
+import org.sgrewritten.stargate.network.StorageType;
+import org.sgrewritten.stargate.util.portal.PortalMock;
+
+@ExtendWith(StargateExtension.class)
+class WriteBehindStorageTest {
+
+    @StargateInject
+    private Stargate plugin;
+    private StorageMock storageMock;
+    private WriteBehindStorage storage;
+    private PortalMock portal;
+    private PortalPosition portalPosition;
+
+    @BeforeEach
+    void setUp() {
+        this.storageMock = new StorageMock();
+        this.storage = new WriteBehindStorage(storageMock, 1000000);
+        this.portal = new PortalMock();
+        this.portalPosition = new PortalPosition(PositionType.BUTTON, new BlockVector(1, 2, 3), "Stargate");
+    }
+
+    @Test
+    void addPortalPosition_heldBackUntilFlush() throws StorageWriteException {
+        storage.addPortalPosition(portal, StorageType.LOCAL, portalPosition);
+        Assertions.assertNull(storageMock.getNextAddedPortalPosition());
+        Assertions.assertEquals(1, storage.getQueueDepth());
+        storage.flush();
+        Assertions.assertEquals(portalPosition, storageMock.getNextAddedPortalPosition().getThirdValue());
+        Assertions.assertEquals(0, storage.getQueueDepth());
+        Assertions.assertEquals(1, storage.getPeakQueueDepth());
+        Assertions.assertEquals(1, storage.getFlushCount());
+        Assertions.assertEquals(storage.getFlushLatency().getLastLatency(), storage.getFlushLatency().getMaxLatency());
+    }
+
+    @Test
+    void addThenRemovePortalPosition_coalesced() throws StorageWriteException {
+        storage.addPortalPosition(portal, StorageType.LOCAL, portalPosition);
+        storage.removePortalPosition(portal, StorageType.LOCAL, portalPosition);
+        Assertions.assertEquals(1, storage.getQueueDepth());
+        storage.flush();
+        Assertions.assertNull(storageMock.getNextAddedPortalPosition());
+        Assertions.assertEquals(portalPosition, storageMock.getNextRemovedPortalPosition().getThirdValue());
+    }
+
+    @Test
+    void getPortalMetaData_readsHeldBackValue() throws StorageReadException {
+        storage.setPortalMetaData(portal, "meta", StorageType.LOCAL);
+        storage.setPortalPositionMetaData(portal, portalPosition, "positionMeta", StorageType.LOCAL);
+        Assertions.assertEquals("meta", storage.getPortalMetaData(portal, StorageType.LOCAL));
+        Assertions.assertEquals("positionMeta", storage.getPortalPositionMetaData(portal, portalPosition, StorageType.LOCAL));
+    }
+
+    @Test
+    void removePortalFromStorage_dropsHeldBackChanges() throws StorageWriteException {
+        storage.addPortalPosition(portal, StorageType.LOCAL, portalPosition);
+        storage.removePortalFromStorage(portal);
+        Assertions.assertEquals(0, storage.getQueueDepth());
+        storage.flush();
+        Assertions.assertNull(storageMock.getNextAddedPortalPosition());
+    }
+
+    @Test
+    void savePortalToStorage_supersedesHeldBackPositions() throws StorageWriteException, StorageReadException {
+        storage.addPortalPosition(portal, StorageType.LOCAL, portalPosition);
+        storage.setPortalMetaData(portal, "meta", StorageType.LOCAL);
+        storage.savePortalToStorage(portal);
+        Assertions.assertEquals(0, storage.getQueueDepth());
+        Assertions.assertNull(storageMock.getNextAddedPortalPosition());
+        Assertions.assertEquals(1, storage.getFlushCount());
+        // Nothing is held back anymore, so the value is read from the storage
+        Assertions.assertNull(storage.getPortalMetaData(portal, StorageType.LOCAL));
+    }
+}
@@ -0,0 +1,112 @@
+package org.sgrewritten.stargate.gate;
+
+import be.seeseemelk.mockbukkit.MockBukkitInject;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.sgrewritten.stargate.StargateExtension;
+import org.sgrewritten.stargate.api.gate.GateFormatRegistry;
+import org.sgrewritten.stargate.network.portal.PortalBlockGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@ExtendWith(StargateExtension.class)
+class GateFormatMatcherTest {
+
+    private static final int GENERATED_FORMATS = 40;
+
+    @MockBukkitInject
+    private ServerMock server;
+    @TempDir
+    private File gateFolder;
+    private WorldMock world;
+    private Block signBlock;
+
+    @BeforeEach
+    void setUp() {
+        this.world = server.addSimpleWorld("world");
+        this.signBlock = PortalBlockGenerator.generatePortal(new Location(world, 0, 3, 0));
+    }
+
+    @Test
+    void isSymmetric_symmetricFormat() {
+        Assertions.assertTrue(GateFormatRegistry.getFormat("nether.gate").getMatcher().isSymmetric());
+    }
+
+    @Test
+    void isSymmetric_asymmetricFormat() throws IOException {
+        writeGate("asymmetric.gate", "portal-open=NETHER_PORTAL", "portal-closed=AIR", "X=OBSIDIAN",
+                "Y=GLOWSTONE", "-=OBSIDIAN", "", " XY ", "X..Y", "-..-", "X*.Y", " XY ");
+        GateFormat format = GateFormatHandler.loadGateFormats(gateFolder).get(0);
+        Assertions.assertFalse(format.getMatcher().isSymmetric());
+    }
+
+    @Test
+    void matches_matchingFormat() {
+        BlockMaterialCache blocks = new BlockMaterialCache(world);
+        Assertions.assertTrue(GateFormatRegistry.getFormat("nether.gate").getMatcher().matches(blocks,
+                signBlock.getLocation(), BlockFace.SOUTH));
+    }
+
+    @Test
+    void matches_otherFormat() {
+        BlockMaterialCache blocks = new BlockMaterialCache(world);
+        Assertions.assertFalse(GateFormatRegistry.getFormat("water.gate").getMatcher().matches(blocks,
+                signBlock.getLocation(), BlockFace.SOUTH));
+    }
+
+    @Test
+    void matches_brokenFrame() {
+        world.getBlockAt(1, 7, 0).setType(Material.DIRT);
+        BlockMaterialCache blocks = new BlockMaterialCache(world);
+        Assertions.assertFalse(GateFormatRegistry.getFormat("nether.gate").getMatcher().matches(blocks,
+                signBlock.getLocation(), BlockFace.SOUTH));
+    }
+
+    @Test
+    void matches_wrongFacing() {
+        BlockMaterialCache blocks = new BlockMaterialCache(world);
+        Assertions.assertFalse(GateFormatRegistry.getFormat("nether.gate").getMatcher().matches(blocks,
+                signBlock.getLocation(), BlockFace.UP));
+    }
+
+    @Test
+    void matches_manyFormats_onlyMatchingFormat() throws IOException {
+        List<Material> frameMaterials = Arrays.stream(Material.values())
+                .filter(material -> !material.isLegacy() && material.isBlock() && material.isSolid() &&
+                        material != Material.OBSIDIAN)
+                .limit(GENERATED_FORMATS).toList();
+        for (Material frameMaterial : frameMaterials) {
+            writeGate(frameMaterial.name().toLowerCase() + ".gate", "portal-open=NETHER_PORTAL",
+                    "portal-closed=AIR", "X=" + frameMaterial.name(), "-=OBSIDIAN", "", " XX ", "X..X", "-..-",
+                    "X*.X", " XX ");
+        }
+        List<GateFormat> formats = new ArrayList<>(GateFormatHandler.loadGateFormats(gateFolder));
+        formats.add(GateFormatRegistry.getFormat("nether.gate"));
+
+        BlockMaterialCache blocks = new BlockMaterialCache(world);
+        List<GateFormat> matching = formats.stream().filter(format -> format.getMatcher().matches(blocks,
+                signBlock.getLocation(), BlockFace.SOUTH)).toList();
+        Assertions.assertEquals(List.of(GateFormatRegistry.getFormat("nether.gate")), matching);
+        //The gate is checked with the sign on both control blocks, each reading at most the 4x5 area of the gate
+        Assertions.assertTrue(blocks.getReadBlocks() <= 2 * 4 * 5, "Read " + blocks.getReadBlocks() +
+                " blocks for " + formats.size() + " formats");
+    }
+
+    private void writeGate(String fileName, String... lines) throws IOException {
+        Files.write(new File(gateFolder, fileName).toPath(), List.of(lines));
+    }
+}
@@ -91,6 +91,11 @@ public class GateMock implements GateAPI {
         return false;
     }
 
+    @Override
+    public boolean hasValidStructure() {
+        return false;
+    }
+
     @Override
     public void calculatePortalPositions(boolean alwaysOn) {
 
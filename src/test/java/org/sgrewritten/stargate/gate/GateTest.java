@@ -18,6 +18,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.sgrewritten.stargate.StargateExtension;
 import org.sgrewritten.stargate.api.gate.GateFormatRegistry;
+import org.sgrewritten.stargate.api.gate.GateStructureType;
+import org.sgrewritten.stargate.api.network.portal.BlockLocation;
 import org.sgrewritten.stargate.api.network.portal.PortalPosition;
 import org.sgrewritten.stargate.api.network.portal.PositionType;
 import org.sgrewritten.stargate.exception.GateConflictException;
@@ -26,6 +28,9 @@ import org.sgrewritten.stargate.network.RegistryMock;
 import org.sgrewritten.stargate.network.portal.PortalBlockGenerator;
 import org.sgrewritten.stargate.network.portal.portaldata.GateData;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @ExtendWith(StargateExtension.class)
 class GateTest {
     private @NotNull WorldMock world;
@@ -85,6 +90,20 @@ class GateTest {
         Assertions.assertTrue(gate.isValid(), "Gate was not created on a valid structure");
     }
 
+    @ParameterizedTest
+    @EnumSource
+    void forEachLocation_matchesFormatPositions(GateStructureType structureType) throws InvalidStructureException {
+        Gate gate = createLoadedGate(gateData);
+        List<BlockLocation> expected = new ArrayList<>();
+        for (BlockVector vector : gate.getFormat().getStructure(structureType.getGateFormatEquivalent()).getStructureTypePositions()) {
+            expected.add(new BlockLocation(gate.getLocation(vector)));
+        }
+        List<BlockLocation> iterated = new ArrayList<>();
+        gate.forEachLocation(structureType, (x, y, z) -> iterated.add(new BlockLocation(new Location(world, x, y, z))));
+        Assertions.assertEquals(expected, iterated);
+        Assertions.assertEquals(expected, gate.getLocations(structureType));
+    }
+
     Gate createLoadedGate(GateData gateData) throws InvalidStructureException {
         return new Gate(gateData, new RegistryMock());
     }
@@ -0,0 +1,126 @@
+package org.sgrewritten.stargate.listener;
+
+import be.seeseemelk.mockbukkit.MockBukkitInject;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.StargateAPIMock;
+import org.sgrewritten.stargate.StargateExtension;
+import org.sgrewritten.stargate.StargateInject;
+import org.sgrewritten.stargate.api.config.ConfigurationOption;
+import org.sgrewritten.stargate.api.gate.GateStructureType;
+import org.sgrewritten.stargate.api.gate.ImplicitGateBuilder;
+import org.sgrewritten.stargate.api.network.PortalBuilder;
+import org.sgrewritten.stargate.api.network.portal.RealPortal;
+import org.sgrewritten.stargate.api.network.portal.StargateChunk;
+import org.sgrewritten.stargate.exception.GateConflictException;
+import org.sgrewritten.stargate.exception.InvalidStructureException;
+import org.sgrewritten.stargate.exception.NoFormatFoundException;
+import org.sgrewritten.stargate.exception.TranslatableException;
+import org.sgrewritten.stargate.network.portal.PortalBlockGenerator;
+import org.sgrewritten.stargate.property.PortalValidity;
+
+import java.util.Set;
+
+@ExtendWith(StargateExtension.class)
+class WorldEventListenerTest {
+
+    @MockBukkitInject
+    ServerMock server;
+    @StargateInject
+    Stargate plugin;
+    private StargateAPIMock stargateAPI;
+    private WorldEventListener listener;
+    private RealPortal portal;
+    private WorldMock world;
+
+    @BeforeEach
+    void setUp() throws TranslatableException, NoFormatFoundException, GateConflictException, InvalidStructureException {
+        world = server.addSimpleWorld("world");
+        PlayerMock player = server.addPlayer();
+        Block sign = PortalBlockGenerator.generatePortal(new Location(world, 0, 10, 0));
+        stargateAPI = new StargateAPIMock();
+        portal = new PortalBuilder(stargateAPI, player, "portal").setGateBuilder(new ImplicitGateBuilder(sign.getLocation(), stargateAPI.getRegistry())).setNetwork("network").build();
+        listener = new WorldEventListener(stargateAPI);
+    }
+
+    @Test
+    void onChunkLoad_deferredValidation_invalidPortalRemoved() {
+        Location frame = portal.getGate().getLocations(GateStructureType.FRAME).get(0).getLocation();
+        frame.getBlock().setType(Material.AIR);
+        world.unloadChunk(frame.getBlockX() >> 4, frame.getBlockZ() >> 4);
+        Assertions.assertTrue(stargateAPI.getRegistry().deferGateValidation(portal));
+        Assertions.assertFalse(portal.isDestroyed());
+
+        Chunk chunk = world.getChunkAt(frame);
+        listener.onChunkLoad(new ChunkLoadEvent(chunk, false));
+        Assertions.assertTrue(portal.isDestroyed());
+    }
+
+    @Test
+    void onChunkLoad_deferredValidation_validPortalKept() {
+        Location frame = portal.getGate().getLocations(GateStructureType.FRAME).get(0).getLocation();
+        world.unloadChunk(frame.getBlockX() >> 4, frame.getBlockZ() >> 4);
+        Assertions.assertTrue(stargateAPI.getRegistry().deferGateValidation(portal));
+
+        Chunk chunk = world.getChunkAt(frame);
+        listener.onChunkLoad(new ChunkLoadEvent(chunk, false));
+        Assertions.assertFalse(portal.isDestroyed());
+        Assertions.assertTrue(stargateAPI.getRegistry().pollGateValidations(new StargateChunk(chunk)).isEmpty());
+    }
+
+    @Test
+    void onChunkLoad_deferredValidationIgnored_invalidPortalUnregistered() {
+        Object portalValidity = plugin.getConfigurationOptionValue(ConfigurationOption.PORTAL_VALIDITY);
+        plugin.setConfigurationOptionValue(ConfigurationOption.PORTAL_VALIDITY, PortalValidity.IGNORE.name());
+        try {
+            Location frame = portal.getGate().getLocations(GateStructureType.FRAME).get(0).getLocation();
+            frame.getBlock().setType(Material.AIR);
+            world.unloadChunk(frame.getBlockX() >> 4, frame.getBlockZ() >> 4);
+            Assertions.assertTrue(stargateAPI.getRegistry().deferGateValidation(portal));
+
+            listener.onChunkLoad(new ChunkLoadEvent(world.getChunkAt(frame), false));
+            Assertions.assertFalse(portal.isDestroyed());
+            Assertions.assertFalse(portal.getNetwork().getAllPortals().contains(portal));
+            Assertions.assertNull(stargateAPI.getRegistry().getPortal(frame));
+        } finally {
+            plugin.setConfigurationOptionValue(ConfigurationOption.PORTAL_VALIDITY, portalValidity);
+        }
+    }
+
+    @Test
+    void onWorldUnload_onlyPortalsInWorldRemoved() throws TranslatableException, NoFormatFoundException,
+            GateConflictException, InvalidStructureException {
+        WorldMock otherWorld = server.addSimpleWorld("otherWorld");
+        Block sign = PortalBlockGenerator.generatePortal(new Location(otherWorld, 0, 10, 0));
+        RealPortal otherPortal = new PortalBuilder(stargateAPI, server.addPlayer(), "otherPortal")
+                .setGateBuilder(new ImplicitGateBuilder(sign.getLocation(), stargateAPI.getRegistry()))
+                .setNetwork("network").build();
+        Assertions.assertEquals(Set.of(portal), stargateAPI.getRegistry().getPortalsInWorld(world.getUID()));
+
+        listener.onWordUnload(new WorldUnloadEvent(world));
+        Assertions.assertTrue(stargateAPI.getRegistry().getPortalsInWorld(world.getUID()).isEmpty());
+        Assertions.assertFalse(portal.getNetwork().getAllPortals().contains(portal));
+        Assertions.assertNull(stargateAPI.getRegistry().getPortal(new Location(world, 1, 10, 0)));
+        Assertions.assertEquals(Set.of(otherPortal), stargateAPI.getRegistry().getPortalsInWorld(otherWorld.getUID()));
+        Assertions.assertTrue(otherPortal.getNetwork().getAllPortals().contains(otherPortal));
+    }
+
+    @Test
+    void deferGateValidation_chunksLoaded_notDeferred() {
+        Location frame = portal.getGate().getLocations(GateStructureType.FRAME).get(0).getLocation();
+        world.getChunkAt(frame);
+        Assertions.assertFalse(stargateAPI.getRegistry().deferGateValidation(portal));
+    }
+}
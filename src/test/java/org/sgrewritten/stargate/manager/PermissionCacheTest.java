@@ -0,0 +1,72 @@
+package org.sgrewritten.stargate.manager;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.MockBukkitInject;
+import be.seeseemelk.mockbukkit.MockPlugin;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.permissions.PermissionAttachment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.sgrewritten.stargate.StargateExtension;
+import org.sgrewritten.stargate.network.NetworkType;
+import org.sgrewritten.stargate.util.LanguageManagerMock;
+
+@ExtendWith(StargateExtension.class)
+class PermissionCacheTest {
+
+    private static final String DEFAULT_NETWORK_PERMISSION = "sg.create.network.default";
+    @MockBukkitInject
+    ServerMock server;
+    private PlayerMock player;
+    private MockPlugin plugin;
+
+    @BeforeEach
+    void setUp() {
+        player = server.addPlayer();
+        plugin = MockBukkit.createMockPlugin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        PermissionCache.setCacheTime(0);
+    }
+
+    @Test
+    void getParentPermissions() {
+        Assertions.assertArrayEquals(new String[]{"sg.create.network", "sg.create", "sg"},
+                PermissionCache.getParentPermissions(DEFAULT_NETWORK_PERMISSION));
+        Assertions.assertArrayEquals(new String[0], PermissionCache.getParentPermissions("sg"));
+    }
+
+    @Test
+    void hasPermission_parentPermission_inherited() {
+        player.addAttachment(plugin, "sg.create", true);
+        Assertions.assertTrue(createPermissionManager().canCreateInNetwork("network", NetworkType.DEFAULT));
+    }
+
+    @Test
+    void hasPermission_noCacheTime_notCached() {
+        Assertions.assertFalse(createPermissionManager().canCreateInNetwork("network", NetworkType.DEFAULT));
+        player.addAttachment(plugin, DEFAULT_NETWORK_PERMISSION, true);
+        Assertions.assertTrue(createPermissionManager().canCreateInNetwork("network", NetworkType.DEFAULT));
+    }
+
+    @Test
+    void hasPermission_cacheTime_cachedUntilInvalidated() {
+        PermissionCache.setCacheTime(100);
+        PermissionAttachment attachment = player.addAttachment(plugin, DEFAULT_NETWORK_PERMISSION, true);
+        Assertions.assertTrue(createPermissionManager().canCreateInNetwork("network", NetworkType.DEFAULT));
+        player.removeAttachment(attachment);
+        Assertions.assertTrue(createPermissionManager().canCreateInNetwork("network", NetworkType.DEFAULT));
+        PermissionCache.invalidate(player.getUniqueId());
+        Assertions.assertFalse(createPermissionManager().canCreateInNetwork("network", NetworkType.DEFAULT));
+    }
+
+    private StargatePermissionManager createPermissionManager() {
+        return new StargatePermissionManager(player, new LanguageManagerMock());
+    }
+}
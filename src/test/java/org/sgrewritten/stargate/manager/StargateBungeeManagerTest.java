@@ -31,11 +31,16 @@ import org.sgrewritten.stargate.network.StargateNetwork;
 import org.sgrewritten.stargate.network.StargateNetworkManager;
 import org.sgrewritten.stargate.network.StorageType;
 import org.sgrewritten.stargate.network.portal.TestPortalBuilder;
+import org.sgrewritten.stargate.network.proxy.InterServerMessage;
+import org.sgrewritten.stargate.network.proxy.InterServerMessageCodec;
 import org.sgrewritten.stargate.property.StargateProtocolRequestType;
 import org.sgrewritten.stargate.util.BungeeHelper;
 import org.sgrewritten.stargate.util.LanguageManagerMock;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 @ExtendWith(StargateExtension.class)
 class StargateBungeeManagerTest {
@@ -55,6 +60,7 @@ class StargateBungeeManagerTest {
     private static final String PORTAL2 = "portal2";
     private static final String PLAYER = "player";
     private static final String REGISTERED_PORTAL = "rPortal";
+    private static final String INTER_SERVER_FLAGS = String.valueOf(StargateFlag.INTERSERVER.getCharacterRepresentation());
     private StargateNetworkManager networkManager;
     private StargateAPI stargateAPI;
     private int count = 0;
@@ -133,6 +139,36 @@ class StargateBungeeManagerTest {
     }
 
 
+    @Test
+    void updateNetwork_snapshot_replacesPortalsOfServer() throws IOException {
+        UUID owner = UUID.randomUUID();
+        bungeeManager.updateNetwork(InterServerMessageCodec.encodeBinary(new InterServerMessage(
+                StargateProtocolRequestType.PORTAL_ADD, NETWORK, PORTAL, SERVER, INTER_SERVER_FLAGS, owner, null, null)));
+        InterServerMessage snapshot = new InterServerMessage(StargateProtocolRequestType.NETWORK_SNAPSHOT, NETWORK,
+                null, SERVER, null, null, null, null, List.of(new InterServerMessage(
+                StargateProtocolRequestType.PORTAL_ADD, NETWORK, PORTAL2, SERVER, INTER_SERVER_FLAGS, owner, null, null)));
+        bungeeManager.updateNetwork(InterServerMessageCodec.encodeBinary(snapshot));
+
+        Network network = registry.getNetwork(NETWORK, StorageType.INTER_SERVER);
+        Assertions.assertNotNull(network);
+        Assertions.assertNull(network.getPortal(PORTAL));
+        Assertions.assertNotNull(network.getPortal(PORTAL2));
+    }
+
+    @Test
+    void updateNetwork_snapshot_keepsPortalsOfOtherServers() throws IOException {
+        UUID owner = UUID.randomUUID();
+        bungeeManager.updateNetwork(InterServerMessageCodec.encodeBinary(new InterServerMessage(
+                StargateProtocolRequestType.PORTAL_ADD, NETWORK, PORTAL, "other_server", INTER_SERVER_FLAGS, owner, null, null)));
+        InterServerMessage snapshot = new InterServerMessage(StargateProtocolRequestType.NETWORK_SNAPSHOT, NETWORK,
+                null, SERVER, null, null, null, null, List.of());
+        bungeeManager.updateNetwork(InterServerMessageCodec.encodeBinary(snapshot));
+
+        Network network = registry.getNetwork(NETWORK, StorageType.INTER_SERVER);
+        Assertions.assertNotNull(network);
+        Assertions.assertNotNull(network.getPortal(PORTAL));
+    }
+
     @Test
     void playerConnectOnline() {
         PlayerMock player = server.addPlayer(PLAYER);
@@ -0,0 +1,93 @@
+package org.sgrewritten.stargate.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class LatencyRecorderTest {
+
+    private LatencyRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        this.recorder = new LatencyRecorder();
+    }
+
+    @Test
+    void getPercentile_nothingRecorded() {
+        Assertions.assertEquals(0, recorder.getPercentile(50));
+        Assertions.assertEquals(0, recorder.getAverageLatency());
+    }
+
+    @Test
+    void getPercentile_withinPrecision() {
+        for (long latency = 1; latency <= 10000; latency++) {
+            recorder.record(latency * 1000);
+        }
+        assertWithinPrecision(5_000_000, recorder.getMedianLatency());
+        assertWithinPrecision(9_900_000, recorder.getPercentile99Latency());
+        Assertions.assertEquals(10_000_000, recorder.getMaxLatency());
+        Assertions.assertEquals(5_000_500, recorder.getAverageLatency());
+        Assertions.assertEquals(10000, recorder.getCount());
+        Assertions.assertTrue(recorder.getPercentile(100) <= recorder.getMaxLatency());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 15, 16, 17, 1000, 123_456_789, 60_000_000_000L})
+    void getBucket_middleWithinPrecision(long latency) {
+        long middle = LatencyRecorder.getBucketMiddle(LatencyRecorder.getBucket(latency));
+        assertWithinPrecision(latency, middle);
+    }
+
+    @Test
+    void getBucket_increasing() {
+        int previousBucket = -1;
+        for (long latency = 0; latency < 100_000; latency++) {
+            int bucket = LatencyRecorder.getBucket(latency);
+            Assertions.assertTrue(bucket == previousBucket || bucket == previousBucket + 1);
+            previousBucket = bucket;
+        }
+    }
+
+    @Test
+    void record_hugeAndNegativeLatencies() {
+        recorder.record(Long.MAX_VALUE);
+        recorder.record(-5);
+        Assertions.assertEquals(2, recorder.getCount());
+        Assertions.assertEquals(Long.MAX_VALUE, recorder.getMaxLatency());
+        Assertions.assertEquals(0, recorder.getPercentile(50));
+    }
+
+    @Test
+    void record_concurrently() throws InterruptedException {
+        int threadCount = 8;
+        int recordsPerThread = 10000;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            long latency = (i + 1) * 1000L;
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < recordsPerThread; j++) {
+                    recorder.record(latency);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(threadCount * recordsPerThread, recorder.getCount());
+        Assertions.assertEquals(threadCount * 1000L, recorder.getMaxLatency());
+        Assertions.assertEquals((long) recordsPerThread * 1000 * threadCount * (threadCount + 1) / 2,
+                recorder.getTotalLatency());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        Assertions.assertTrue(Math.abs(expected - actual) <= expected / 16, "Expected about " + expected +
+                ", but got " + actual);
+    }
+}
@@ -0,0 +1,80 @@
+package org.sgrewritten.stargate.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+
+class StargateMetricsTest {
+
+    @TempDir
+    private File folder;
+
+    @Test
+    void getCounter_sameCounter() {
+        Counter counter = StargateMetrics.getCounter(MetricName.of("test_counter"));
+        Assertions.assertSame(counter, StargateMetrics.getCounter(MetricName.of("test_counter")));
+        Assertions.assertNotSame(counter, StargateMetrics.getCounter(MetricName.of("test_counter", "kind", "other")));
+    }
+
+    @Test
+    void sampleRates() throws InterruptedException {
+        Counter counter = StargateMetrics.getCounter(MetricName.of("test_rate"));
+        StargateMetrics.sampleRates();
+        counter.add(100);
+        Thread.sleep(10);
+        StargateMetrics.sampleRates();
+        Assertions.assertTrue(counter.getRate() > 0);
+        StargateMetrics.sampleRates();
+        Assertions.assertEquals(0, counter.getRate());
+    }
+
+    @Test
+    void format_prometheus() {
+        StargateMetrics.getCounter(MetricName.of("test_format_counter")).add(3);
+        StargateMetrics.registerGauge(MetricName.of("test_format_gauge", "queue", "bulk"), () -> 7);
+        StargateMetrics.getLatency(MetricName.of("test_format_latency")).record(2_000_000);
+
+        String metrics = PrometheusFormatter.format();
+        Assertions.assertTrue(metrics.contains("# TYPE stargate_test_format_counter_total counter\n" +
+                "stargate_test_format_counter_total 3\n"), metrics);
+        Assertions.assertTrue(metrics.contains("stargate_test_format_gauge{queue=\"bulk\"} 7\n"), metrics);
+        Assertions.assertTrue(metrics.contains("# TYPE stargate_test_format_latency_seconds summary\n"), metrics);
+        Assertions.assertTrue(metrics.contains("stargate_test_format_latency_seconds_count 1\n"), metrics);
+        Assertions.assertTrue(metrics.contains("stargate_test_format_latency_seconds_sum 0.002000000\n"), metrics);
+    }
+
+    @Test
+    void write_replacesFile() throws IOException {
+        File file = new File(folder, "metrics/stargate.prom");
+        MetricsReporter.write(file, "first\n");
+        MetricsReporter.write(file, "second\n");
+        Assertions.assertEquals("second\n", Files.readString(file.toPath()));
+        Assertions.assertFalse(new File(folder, "metrics/stargate.prom.tmp").exists());
+    }
+
+    @Test
+    void registerMBeans() throws JMException {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        StargateMetrics.getCounter(MetricName.of("test_jmx_counter")).add(4);
+        StargateMetrics.registerMBeans();
+        try {
+            StargateMetrics.getLatency(MetricName.of("test_jmx_latency", "query", "test")).record(10);
+            Assertions.assertEquals(4L, mBeanServer.getAttribute(
+                    new ObjectName("org.sgrewritten.stargate:type=Counter,name=test_jmx_counter"), "Count"));
+            Assertions.assertEquals(1L, mBeanServer.getAttribute(
+                    new ObjectName("org.sgrewritten.stargate:type=Latency,name=test_jmx_latency,query=\"test\""),
+                    "Count"));
+        } finally {
+            StargateMetrics.unregisterMBeans();
+        }
+        Assertions.assertTrue(mBeanServer.queryNames(new ObjectName("org.sgrewritten.stargate:*"), null).isEmpty());
+    }
+}
@@ -0,0 +1,155 @@
+package org.sgrewritten.stargate.network;
+
+import be.seeseemelk.mockbukkit.MockBukkitInject;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import org.bukkit.Location;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.sgrewritten.stargate.StargateExtension;
+import org.sgrewritten.stargate.api.BlockHandlerResolver;
+import org.sgrewritten.stargate.api.gate.GateStructureType;
+import org.sgrewritten.stargate.api.network.Network;
+import org.sgrewritten.stargate.api.network.portal.BlockLocation;
+import org.sgrewritten.stargate.api.network.portal.Portal;
+import org.sgrewritten.stargate.api.network.portal.RealPortal;
+import org.sgrewritten.stargate.database.StorageMock;
+import org.sgrewritten.stargate.exception.UnimplementedFlagException;
+import org.sgrewritten.stargate.exception.name.InvalidNameException;
+import org.sgrewritten.stargate.exception.name.NameConflictException;
+import org.sgrewritten.stargate.exception.name.NameLengthException;
+import org.sgrewritten.stargate.network.portal.VirtualPortal;
+import org.sgrewritten.stargate.util.portal.PortalMock;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hammers the registry with lookups from several threads, while portals are created and destroyed in other regions,
+ * the way region threads use it on a regionized server
+ */
+@ExtendWith(StargateExtension.class)
+class StargateRegistryStressTest {
+
+    private static final int REGIONS = 4;
+    private static final int READERS = 4;
+    private static final int ITERATIONS = 2000;
+    private static final int REGION_SIZE = 1024;
+    private static final int PORTAL_BLOCKS = 20;
+
+    @MockBukkitInject
+    ServerMock server;
+    private WorldMock world;
+    private StargateRegistry registry;
+    private Network network;
+
+    @BeforeEach
+    void setUp() throws NameLengthException, NameConflictException, InvalidNameException, UnimplementedFlagException {
+        this.world = server.addSimpleWorld("world");
+        StorageMock storageMock = new StorageMock();
+        this.registry = new StargateRegistry(storageMock, new BlockHandlerResolver(storageMock));
+        this.network = new StargateNetworkManager(registry, storageMock).createNetwork("network",
+                NetworkType.CUSTOM, StorageType.LOCAL, false);
+    }
+
+    @Test
+    void lookupsWhilePortalsChange() throws InterruptedException {
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        RealPortal[] regionPortals = new RealPortal[REGIONS];
+        List<Thread> threads = new ArrayList<>();
+
+        for (int region = 0; region < REGIONS; region++) {
+            regionPortals[region] = new PortalMock();
+            int writerRegion = region;
+            threads.add(new Thread(() -> runSafely(failures, start, () -> {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    createAndDestroyPortal(writerRegion, regionPortals[writerRegion], i);
+                }
+            })));
+        }
+        for (int reader = 0; reader < READERS; reader++) {
+            threads.add(new Thread(() -> runSafely(failures, start, () -> {
+                while (writing.get()) {
+                    lookUpAll(regionPortals);
+                }
+            })));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread writer : threads.subList(0, REGIONS)) {
+            writer.join(60000);
+        }
+        writing.set(false);
+        for (Thread reader : threads.subList(REGIONS, threads.size())) {
+            reader.join(60000);
+        }
+
+        Assertions.assertTrue(failures.isEmpty(), () -> "Concurrent access failed: " + failures.peek());
+        for (int region = 0; region < REGIONS; region++) {
+            Assertions.assertNull(registry.getPortal(world, getX(region, 0), 0, 0));
+            Assertions.assertFalse(registry.hasPortalsNear(world, getX(region, 0), 0));
+        }
+        Assertions.assertEquals(0, network.size());
+    }
+
+    private void createAndDestroyPortal(int region, RealPortal portal, int iteration) throws NameConflictException {
+        List<BlockLocation> locations = new ArrayList<>();
+        for (int i = 0; i < PORTAL_BLOCKS; i++) {
+            BlockLocation location = new BlockLocation(new Location(world, getX(region, i), i % 5, 0));
+            registry.registerLocation(GateStructureType.FRAME, location, portal);
+            locations.add(location);
+        }
+        Portal virtualPortal = new VirtualPortal("server", region + "-" + iteration, network, new HashSet<>(),
+                UUID.randomUUID());
+        network.addPortal(virtualPortal);
+        Assertions.assertSame(portal, registry.getPortal(world, getX(region, 0), 0, 0));
+        Assertions.assertSame(virtualPortal, network.getPortal(virtualPortal.getName()));
+        network.removePortal(virtualPortal);
+        for (BlockLocation location : locations) {
+            registry.unRegisterLocation(GateStructureType.FRAME, location);
+        }
+    }
+
+    private void lookUpAll(RealPortal[] regionPortals) {
+        for (int region = 0; region < REGIONS; region++) {
+            for (int i = 0; i < PORTAL_BLOCKS; i++) {
+                RealPortal found = registry.getPortal(world, getX(region, i), i % 5, 0);
+                if (found != null && found != regionPortals[region]) {
+                    throw new AssertionError("Found the portal of another region in region " + region);
+                }
+            }
+            registry.hasPortalsNear(world, getX(region, 0), 0);
+        }
+        for (Portal portal : network.getAllPortals()) {
+            Assertions.assertNotNull(portal.getName());
+        }
+        network.getSortedPortals().values().forEach(Assertions::assertNotNull);
+    }
+
+    private static int getX(int region, int block) {
+        return region * REGION_SIZE + block;
+    }
+
+    private static void runSafely(Queue<Throwable> failures, CountDownLatch start, ThrowingRunnable runnable) {
+        try {
+            start.await();
+            runnable.run();
+        } catch (Throwable throwable) {
+            failures.add(throwable);
+        }
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -102,6 +102,42 @@ class StargateRegistryTest {
         Assertions.assertNotNull(storageMock.getNextRemovedPortalPosition());
     }
 
+    @ParameterizedTest
+    @EnumSource
+    void getPortalFromCoordinates(GateStructureType type) {
+        PortalMock portal = new PortalMock();
+        BlockLocation blockLocation = new BlockLocation(new Location(world, 10, -20, 30));
+        registry.registerLocation(type, blockLocation, portal);
+        Assertions.assertEquals(portal, registry.getPortal(world, 10, -20, 30, type));
+        Assertions.assertEquals(portal, registry.getPortal(world, 10, -20, 30));
+        Assertions.assertNull(registry.getPortal(world, 10, -20, 31));
+        Assertions.assertNull(registry.getPortal(server.addSimpleWorld("other"), 10, -20, 30));
+    }
+
+    @Test
+    void hasPortalsNear() {
+        PortalMock portal = new PortalMock();
+        BlockLocation blockLocation = new BlockLocation(new Location(world, 15, 0, 0));
+        Assertions.assertFalse(registry.hasPortalsNear(world, 15, 0));
+        registry.registerLocation(GateStructureType.FRAME, blockLocation, portal);
+        Assertions.assertTrue(registry.hasPortalsNear(world, 15, 0));
+        // Adjacent block across the chunk border
+        Assertions.assertTrue(registry.hasPortalsNear(world, 16, 0));
+        Assertions.assertFalse(registry.hasPortalsNear(world, 100, 100));
+        registry.unRegisterLocation(GateStructureType.FRAME, blockLocation);
+        Assertions.assertFalse(registry.hasPortalsNear(world, 15, 0));
+        Assertions.assertFalse(registry.hasPortalsNear(world, 16, 0));
+    }
+
+    @Test
+    void worldLoading() {
+        Assertions.assertFalse(registry.isWorldLoading(world.getUID()));
+        registry.setWorldLoading(world.getUID(), true);
+        Assertions.assertTrue(registry.isWorldLoading(world.getUID()));
+        registry.setWorldLoading(world.getUID(), false);
+        Assertions.assertFalse(registry.isWorldLoading(world.getUID()));
+    }
+
     @Test
     void getPortalPosition_notFound() {
         Location location = new Location(world, 0, 0, 0);
@@ -0,0 +1,78 @@
+package org.sgrewritten.stargate.network.portal;
+
+import be.seeseemelk.mockbukkit.WorldMock;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A world which only loads chunks asynchronously once told to, and which keeps track of plugin chunk tickets
+ */
+public class AsyncChunkWorldMock extends WorldMock {
+
+    private final Set<Long> chunkTickets = new HashSet<>();
+    private CompletableFuture<Chunk> chunkLoad;
+    private int chunkLoadX;
+    private int chunkLoadZ;
+
+    public AsyncChunkWorldMock() {
+        super(Material.GRASS_BLOCK, 4);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Chunk> getChunkAtAsync(int x, int z) {
+        chunkLoad = new CompletableFuture<>();
+        chunkLoadX = x;
+        chunkLoadZ = z;
+        return chunkLoad;
+    }
+
+    @Override
+    public boolean addPluginChunkTicket(int x, int z, @NotNull Plugin plugin) {
+        return chunkTickets.add(getChunkKey(x, z));
+    }
+
+    @Override
+    public boolean removePluginChunkTicket(int x, int z, @NotNull Plugin plugin) {
+        return chunkTickets.remove(getChunkKey(x, z));
+    }
+
+    /**
+     * @return <p>Whether a chunk is being loaded asynchronously</p>
+     */
+    public boolean isLoadingChunk() {
+        return chunkLoad != null && !chunkLoad.isDone();
+    }
+
+    /**
+     * Finishes loading the chunk being loaded asynchronously
+     */
+    public void completeChunkLoad() {
+        chunkLoad.complete(getChunkAt(chunkLoadX, chunkLoadZ));
+    }
+
+    /**
+     * Fails loading the chunk being loaded asynchronously
+     */
+    public void failChunkLoad() {
+        chunkLoad.completeExceptionally(new IllegalStateException("Unable to load chunk"));
+    }
+
+    /**
+     * @param x <p>The x-coordinate of the chunk</p>
+     * @param z <p>The z-coordinate of the chunk</p>
+     * @return <p>Whether the chunk has a plugin chunk ticket</p>
+     */
+    public boolean hasChunkTicket(int x, int z) {
+        return chunkTickets.contains(getChunkKey(x, z));
+    }
+
+    private static long getChunkKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
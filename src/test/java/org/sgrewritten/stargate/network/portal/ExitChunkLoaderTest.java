@@ -0,0 +1,86 @@
+package org.sgrewritten.stargate.network.portal;
+
+import be.seeseemelk.mockbukkit.MockBukkitInject;
+import be.seeseemelk.mockbukkit.ServerMock;
+import org.bukkit.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.sgrewritten.stargate.StargateExtension;
+import org.sgrewritten.stargate.util.StargateTestHelper;
+
+import java.util.concurrent.CompletableFuture;
+
+@ExtendWith(StargateExtension.class)
+class ExitChunkLoaderTest {
+
+    @MockBukkitInject
+    private ServerMock server;
+    private AsyncChunkWorldMock world;
+
+    @BeforeEach
+    void setUp() {
+        world = new AsyncChunkWorldMock();
+        server.addWorld(world);
+        ExitChunkLoader.clearTickets();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ExitChunkLoader.clearTickets();
+    }
+
+    @Test
+    void load_loadedChunk_completesImmediately() {
+        Location exit = new Location(world, 0, 10, 0);
+        world.getChunkAt(exit);
+        CompletableFuture<Void> future = ExitChunkLoader.load(exit);
+        Assertions.assertTrue(future.isDone());
+        Assertions.assertFalse(world.isLoadingChunk());
+        StargateTestHelper.runAllTasks();
+        Assertions.assertTrue(world.hasChunkTicket(0, 0));
+        Assertions.assertEquals(1, ExitChunkLoader.getTicketCount());
+    }
+
+    @Test
+    void load_unloadedChunk_completesOnceLoaded() {
+        Location exit = new Location(world, 100, 10, 100);
+        Assertions.assertFalse(world.isChunkLoaded(6, 6));
+        CompletableFuture<Void> future = ExitChunkLoader.load(exit);
+        Assertions.assertFalse(future.isDone());
+        Assertions.assertTrue(world.isLoadingChunk());
+
+        world.completeChunkLoad();
+        Assertions.assertTrue(future.isDone());
+        Assertions.assertFalse(future.isCompletedExceptionally());
+        StargateTestHelper.runAllTasks();
+        Assertions.assertTrue(world.hasChunkTicket(6, 6));
+    }
+
+    @Test
+    void load_failedChunkLoad_completesExceptionally() {
+        CompletableFuture<Void> future = ExitChunkLoader.load(new Location(world, 100, 10, 100));
+        world.failChunkLoad();
+        Assertions.assertTrue(future.isCompletedExceptionally());
+        Assertions.assertEquals(0, ExitChunkLoader.getTicketCount());
+    }
+
+    @Test
+    void clearTickets_chunkTicketedAgain() {
+        Location exit = new Location(world, 0, 10, 0);
+        world.getChunkAt(exit);
+        ExitChunkLoader.load(exit);
+        StargateTestHelper.runAllTasks();
+        // As done when the plugin is disabled, which removes its tickets
+        ExitChunkLoader.clearTickets();
+        world.removePluginChunkTicket(0, 0, null);
+        Assertions.assertEquals(0, ExitChunkLoader.getTicketCount());
+
+        ExitChunkLoader.load(exit);
+        StargateTestHelper.runAllTasks();
+        Assertions.assertEquals(1, ExitChunkLoader.getTicketCount());
+        Assertions.assertTrue(world.hasChunkTicket(0, 0));
+    }
+}
@@ -3,6 +3,7 @@ package org.sgrewritten.stargate.network.portal;
 import be.seeseemelk.mockbukkit.MockBukkitInject;
 import be.seeseemelk.mockbukkit.ServerMock;
 import be.seeseemelk.mockbukkit.WorldMock;
+import be.seeseemelk.mockbukkit.entity.EntityMock;
 import be.seeseemelk.mockbukkit.entity.HorseMock;
 import be.seeseemelk.mockbukkit.entity.PlayerMock;
 import be.seeseemelk.mockbukkit.entity.PoweredMinecartMock;
@@ -43,19 +44,22 @@ class TeleporterTest {
     private ServerMock server;
     private BukkitSchedulerMock scheduler;
     private StargateAPIMock stargateAPI;
+    private WorldMock world;
+    private Network network;
+    private RealPortal origin;
 
     @BeforeEach
     public void setup() throws TranslatableException, InvalidStructureException, GateConflictException, NoFormatFoundException {
         this.scheduler = server.getScheduler();
-        WorldMock world = server.addSimpleWorld("world");
+        world = server.addSimpleWorld("world");
         PlayerMock player = server.addPlayer();
         this.stargateAPI = new StargateAPIMock();
 
 
         horse = (HorseMock) world.spawnEntity(new Location(world, 0, 0, 0), EntityType.HORSE);
         horse.addPassenger(player);
-        Network network = new StargateNetwork("custom", NetworkType.CUSTOM, StorageType.LOCAL);
-        RealPortal origin = generatePortal(network, "origin", new Location(world, 0, 10, 0));
+        network = new StargateNetwork("custom", NetworkType.CUSTOM, StorageType.LOCAL);
+        origin = generatePortal(network, "origin", new Location(world, 0, 10, 0));
         RealPortal destination = generatePortal(network, "destination", new Location(world, 0, 20, 0));
         populator = new SynchronousPopulator();
         teleporter = new Teleporter(destination, origin, destination.getGate().getFacing(),
@@ -85,4 +89,59 @@ class TeleporterTest {
         StargateTestHelper.runAllTasks();
         Assertions.assertTrue(furnaceMinecart.hasTeleported());
     }
+
+    @Test
+    void teleport_exitChunkLoaded_teleportsWithoutLoading() throws TranslatableException, InvalidStructureException, GateConflictException, NoFormatFoundException {
+        AsyncChunkWorldMock exitWorld = new AsyncChunkWorldMock();
+        server.addWorld(exitWorld);
+        RealPortal exitPortal = generatePortal(network, "exit", new Location(exitWorld, 0, 10, 0));
+        Teleporter exitTeleporter = createTeleporter(exitPortal);
+        exitWorld.getChunkAt(exitPortal.getExit());
+        exitTeleporter.teleport(horse);
+        Assertions.assertFalse(exitWorld.isLoadingChunk());
+        StargateTestHelper.runAllTasks();
+        Assertions.assertTrue(horse.hasTeleported());
+    }
+
+    @Test
+    void teleport_exitChunkUnloaded_teleportsOnceLoaded() throws TranslatableException, InvalidStructureException, GateConflictException, NoFormatFoundException {
+        AsyncChunkWorldMock exitWorld = new AsyncChunkWorldMock();
+        server.addWorld(exitWorld);
+        RealPortal exitPortal = generatePortal(network, "exit", new Location(exitWorld, 0, 10, 0));
+        Teleporter exitTeleporter = createTeleporter(exitPortal);
+        Location exit = exitPortal.getExit();
+        exitWorld.unloadChunk(exit.getBlockX() >> 4, exit.getBlockZ() >> 4);
+
+        exitTeleporter.teleport(horse);
+        StargateTestHelper.runAllTasks();
+        Assertions.assertTrue(exitWorld.isLoadingChunk());
+        Assertions.assertFalse(horse.hasTeleported());
+
+        exitWorld.completeChunkLoad();
+        StargateTestHelper.runAllTasks();
+        Assertions.assertTrue(horse.hasTeleported());
+    }
+
+    @Test
+    void teleport_exitChunkLoadFails_releasesBoat() throws TranslatableException, InvalidStructureException, GateConflictException, NoFormatFoundException {
+        AsyncChunkWorldMock exitWorld = new AsyncChunkWorldMock();
+        server.addWorld(exitWorld);
+        RealPortal exitPortal = generatePortal(network, "exit", new Location(exitWorld, 0, 10, 0));
+        Teleporter exitTeleporter = createTeleporter(exitPortal);
+        Location exit = exitPortal.getExit();
+        exitWorld.unloadChunk(exit.getBlockX() >> 4, exit.getBlockZ() >> 4);
+        EntityMock boat = (EntityMock) world.spawnEntity(new Location(world, 0, 0, 0), EntityType.BOAT);
+
+        exitTeleporter.teleport(boat);
+        Assertions.assertTrue(Teleporter.isBoatTeleporting(boat));
+        exitWorld.failChunkLoad();
+        StargateTestHelper.runAllTasks();
+        Assertions.assertFalse(Teleporter.isBoatTeleporting(boat));
+        Assertions.assertFalse(boat.hasTeleported());
+    }
+
+    private Teleporter createTeleporter(RealPortal destination) {
+        return new Teleporter(destination, origin, destination.getGate().getFacing(), origin.getGate().getFacing(), 0,
+                "empty", new LanguageManagerMock(), new StargateEconomyManagerMock());
+    }
 }
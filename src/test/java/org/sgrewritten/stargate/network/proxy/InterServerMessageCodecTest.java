@@ -0,0 +1,97 @@
+package org.sgrewritten.stargate.network.proxy;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.sgrewritten.stargate.property.StargateProtocolProperty;
+import org.sgrewritten.stargate.property.StargateProtocolRequestType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+class InterServerMessageCodecTest {
+
+    private static final InterServerMessage PORTAL_ADD = new InterServerMessage(StargateProtocolRequestType.PORTAL_ADD,
+            "network", "portal", "server", "QR", UUID.randomUUID(), null, null);
+    private static final InterServerMessage NETWORK_RENAME = InterServerMessage.networkRename("new_network", "network");
+    private static final InterServerMessage PORTAL_RENAME = InterServerMessage.portalRename("new_portal", "portal", "network");
+    private static final InterServerMessage PLAYER_TELEPORT = new InterServerMessage(
+            StargateProtocolRequestType.PLAYER_TELEPORT, "network", "portal", null, null, null, null, "player");
+
+    @Test
+    void decode_binary_roundTrip() throws IOException {
+        for (InterServerMessage message : new InterServerMessage[]{PORTAL_ADD, NETWORK_RENAME, PORTAL_RENAME, PLAYER_TELEPORT}) {
+            Assertions.assertEquals(message, InterServerMessageCodec.decode(InterServerMessageCodec.encodeBinary(message)));
+        }
+    }
+
+    @Test
+    void decode_snapshot_roundTrip() throws IOException {
+        InterServerMessage removal = new InterServerMessage(StargateProtocolRequestType.PORTAL_REMOVE, "network",
+                "portal2", "server", "", UUID.randomUUID(), null, null);
+        for (StargateProtocolRequestType requestType : new StargateProtocolRequestType[]{
+                StargateProtocolRequestType.NETWORK_SNAPSHOT, StargateProtocolRequestType.PORTAL_BATCH}) {
+            InterServerMessage message = new InterServerMessage(requestType, "network", null, "server", null, null,
+                    null, null, List.of(PORTAL_ADD, removal));
+            Assertions.assertEquals(message, InterServerMessageCodec.decode(InterServerMessageCodec.encodeBinary(message)));
+        }
+    }
+
+    @Test
+    void toJson_snapshot_throws() {
+        InterServerMessage message = new InterServerMessage(StargateProtocolRequestType.NETWORK_SNAPSHOT, "network",
+                null, "server", null, null, null, null, List.of(PORTAL_ADD));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> InterServerMessageCodec.toJson(message));
+    }
+
+    @Test
+    void decode_json_roundTrip() throws IOException {
+        for (InterServerMessage message : new InterServerMessage[]{PORTAL_ADD, NETWORK_RENAME, PORTAL_RENAME, PLAYER_TELEPORT}) {
+            byte[] json = InterServerMessageCodec.encodeJson(InterServerMessageCodec.toJson(message));
+            Assertions.assertEquals(message, InterServerMessageCodec.decode(json));
+        }
+    }
+
+    @Test
+    void toJson_readableByOlderVersions() {
+        JsonObject json = JsonParser.parseString(InterServerMessageCodec.toJson(PORTAL_ADD)).getAsJsonObject();
+        Assertions.assertEquals(PORTAL_ADD.requestType().toString(), json.get(StargateProtocolProperty.REQUEST_TYPE.toString()).getAsString());
+        Assertions.assertEquals(PORTAL_ADD.network(), json.get(StargateProtocolProperty.NETWORK.toString()).getAsString());
+        Assertions.assertEquals(PORTAL_ADD.portal(), json.get(StargateProtocolProperty.PORTAL.toString()).getAsString());
+        Assertions.assertEquals(PORTAL_ADD.server(), json.get(StargateProtocolProperty.SERVER.toString()).getAsString());
+        Assertions.assertEquals(PORTAL_ADD.flags(), json.get(StargateProtocolProperty.PORTAL_FLAG.toString()).getAsString());
+        Assertions.assertEquals(PORTAL_ADD.owner().toString(), json.get(StargateProtocolProperty.OWNER.toString()).getAsString());
+    }
+
+    @Test
+    void decode_olderVersionJson() throws IOException {
+        String json = "{\"" + StargateProtocolProperty.PLAYER + "\":\"player\",\"" + StargateProtocolProperty.PORTAL +
+                "\":\"portal\",\"" + StargateProtocolProperty.NETWORK + "\":\"network\"}";
+        Assertions.assertEquals(PLAYER_TELEPORT, InterServerMessageCodec.decode(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void encodeBinary_smallerThanJson() throws IOException {
+        byte[] binary = InterServerMessageCodec.encodeBinary(PORTAL_ADD);
+        byte[] json = InterServerMessageCodec.encodeJson(InterServerMessageCodec.toJson(PORTAL_ADD));
+        Assertions.assertTrue(binary.length * 2 < json.length, binary.length + " bytes is not much smaller than " + json.length);
+    }
+
+    @Test
+    void decode_newerVersion_throws() throws IOException {
+        byte[] message = InterServerMessageCodec.encodeBinary(PORTAL_ADD);
+        message[0] = InterServerMessageCodec.VERSION + 1;
+        Assertions.assertThrows(IOException.class, () -> InterServerMessageCodec.decode(message));
+    }
+
+    @Test
+    void decode_truncated_throws() throws IOException {
+        byte[] message = InterServerMessageCodec.encodeBinary(PORTAL_ADD);
+        byte[] truncated = new byte[message.length - 4];
+        System.arraycopy(message, 0, truncated, 0, truncated.length);
+        Assertions.assertThrows(IOException.class, () -> InterServerMessageCodec.decode(truncated));
+    }
+}
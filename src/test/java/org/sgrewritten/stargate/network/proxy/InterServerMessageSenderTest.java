@@ -2,8 +2,6 @@ package org.sgrewritten.stargate.network.proxy;
 
 import be.seeseemelk.mockbukkit.MockBukkitInject;
 import be.seeseemelk.mockbukkit.ServerMock;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import org.bukkit.World;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -21,14 +19,16 @@ import org.sgrewritten.stargate.exception.GateConflictException;
 import org.sgrewritten.stargate.exception.InvalidStructureException;
 import org.sgrewritten.stargate.exception.NoFormatFoundException;
 import org.sgrewritten.stargate.exception.TranslatableException;
+import org.sgrewritten.stargate.exception.name.NameConflictException;
 import org.sgrewritten.stargate.network.NetworkType;
 import org.sgrewritten.stargate.network.StargateNetwork;
 import org.sgrewritten.stargate.network.StorageType;
 import org.sgrewritten.stargate.network.portal.TestPortalBuilder;
 import org.sgrewritten.stargate.property.PluginChannel;
-import org.sgrewritten.stargate.property.StargateProtocolProperty;
 import org.sgrewritten.stargate.property.StargateProtocolRequestType;
 
+import java.io.IOException;
+
 @ExtendWith(StargateExtension.class)
 class InterServerMessageSenderTest {
 
@@ -56,55 +56,64 @@ class InterServerMessageSenderTest {
     }
 
     @Test
-    void sendCreatePortal() {
+    void sendCreatePortal() throws IOException {
         messageSender.sendCreatePortal(portal);
-        TwoTuple<String, PluginChannel> sentData = pluginMessageInterface.getSentMessageFromQueue();
-        Assertions.assertNotNull(sentData);
-        Assertions.assertEquals(PluginChannel.NETWORK_CHANGED, sentData.getSecondValue());
-        JsonObject parsedData = (JsonObject) JsonParser.parseString(sentData.getFirstValue());
-        Assertions.assertEquals(StargateProtocolRequestType.PORTAL_ADD.toString(), parsedData.get(StargateProtocolProperty.REQUEST_TYPE.toString()).getAsString());
-        Assertions.assertEquals(network.getId(), parsedData.get(StargateProtocolProperty.NETWORK.toString()).getAsString());
-        Assertions.assertEquals(portal.getName(), parsedData.get(StargateProtocolProperty.PORTAL.toString()).getAsString());
-        Assertions.assertEquals(Stargate.getServerName(), parsedData.get(StargateProtocolProperty.SERVER.toString()).getAsString());
+        InterServerMessage message = pollNetworkChangedMessage();
+        Assertions.assertEquals(StargateProtocolRequestType.PORTAL_ADD, message.requestType());
+        Assertions.assertEquals(network.getId(), message.network());
+        Assertions.assertEquals(portal.getName(), message.portal());
+        Assertions.assertEquals(Stargate.getServerName(), message.server());
+        Assertions.assertEquals(portal.getOwnerUUID(), message.owner());
     }
 
     @Test
-    void sendDeletePortal() {
+    void sendDeletePortal() throws IOException {
         messageSender.sendDeletePortal(portal);
-        TwoTuple<String, PluginChannel> sentData = pluginMessageInterface.getSentMessageFromQueue();
-        Assertions.assertNotNull(sentData);
-        Assertions.assertEquals(PluginChannel.NETWORK_CHANGED, sentData.getSecondValue());
-        JsonObject parsedData = (JsonObject) JsonParser.parseString(sentData.getFirstValue());
-        Assertions.assertEquals(StargateProtocolRequestType.PORTAL_REMOVE.toString(), parsedData.get(StargateProtocolProperty.REQUEST_TYPE.toString()).getAsString());
-        Assertions.assertEquals(NETWORK_ID, parsedData.get(StargateProtocolProperty.NETWORK.toString()).getAsString());
-        Assertions.assertEquals(portal.getName(), parsedData.get(StargateProtocolProperty.PORTAL.toString()).getAsString());
-        Assertions.assertEquals(Stargate.getServerName(), parsedData.get(StargateProtocolProperty.SERVER.toString()).getAsString());
+        InterServerMessage message = pollNetworkChangedMessage();
+        Assertions.assertEquals(StargateProtocolRequestType.PORTAL_REMOVE, message.requestType());
+        Assertions.assertEquals(NETWORK_ID, message.network());
+        Assertions.assertEquals(portal.getName(), message.portal());
+        Assertions.assertEquals(Stargate.getServerName(), message.server());
     }
 
     @Test
-    void sendRenameNetwork() {
+    void sendRenameNetwork() throws IOException {
         String newNetName = "new_network";
         messageSender.sendRenameNetwork(newNetName, NETWORK_ID);
-        TwoTuple<String, PluginChannel> sentData = pluginMessageInterface.getSentMessageFromQueue();
-        Assertions.assertNotNull(sentData);
-        Assertions.assertEquals(PluginChannel.NETWORK_CHANGED, sentData.getSecondValue());
-        JsonObject parsedData = (JsonObject) JsonParser.parseString(sentData.getFirstValue());
-        Assertions.assertEquals(StargateProtocolRequestType.NETWORK_RENAME.toString(), parsedData.get(StargateProtocolProperty.REQUEST_TYPE.toString()).getAsString());
-        Assertions.assertEquals(NETWORK_ID, parsedData.get(StargateProtocolProperty.NETWORK.toString()).getAsString());
-        Assertions.assertEquals(newNetName, parsedData.get(StargateProtocolProperty.NEW_NETWORK_NAME.toString()).getAsString());
+        InterServerMessage message = pollNetworkChangedMessage();
+        Assertions.assertEquals(StargateProtocolRequestType.NETWORK_RENAME, message.requestType());
+        Assertions.assertEquals(NETWORK_ID, message.network());
+        Assertions.assertEquals(newNetName, message.newName());
     }
 
     @Test
-    void sendRenamePortal() {
+    void sendRenamePortal() throws IOException {
         String newPortalName = "new_portal";
         messageSender.sendRenamePortal(newPortalName, PORTAL_NAME, network);
-        TwoTuple<String, PluginChannel> sentData = pluginMessageInterface.getSentMessageFromQueue();
+        InterServerMessage message = pollNetworkChangedMessage();
+        Assertions.assertEquals(StargateProtocolRequestType.PORTAL_RENAME, message.requestType());
+        Assertions.assertEquals(NETWORK_ID, message.network());
+        Assertions.assertEquals(newPortalName, message.newName());
+        Assertions.assertEquals(PORTAL_NAME, message.portal());
+    }
+
+    @Test
+    void sendNetworkSnapshot() throws IOException, NameConflictException {
+        network.addPortal(portal);
+        messageSender.sendNetworkSnapshot(network);
+        InterServerMessage message = pollNetworkChangedMessage();
+        Assertions.assertEquals(StargateProtocolRequestType.NETWORK_SNAPSHOT, message.requestType());
+        Assertions.assertEquals(NETWORK_ID, message.network());
+        Assertions.assertEquals(Stargate.getServerName(), message.server());
+        Assertions.assertEquals(1, message.portals().size());
+        Assertions.assertEquals(PORTAL_NAME, message.portals().get(0).portal());
+        Assertions.assertNull(pluginMessageInterface.getSentMessageFromQueue());
+    }
+
+    private InterServerMessage pollNetworkChangedMessage() throws IOException {
+        TwoTuple<byte[], PluginChannel> sentData = pluginMessageInterface.getSentMessageFromQueue();
         Assertions.assertNotNull(sentData);
         Assertions.assertEquals(PluginChannel.NETWORK_CHANGED, sentData.getSecondValue());
-        JsonObject parsedData = (JsonObject) JsonParser.parseString(sentData.getFirstValue());
-        Assertions.assertEquals(StargateProtocolRequestType.PORTAL_RENAME.toString(), parsedData.get(StargateProtocolProperty.REQUEST_TYPE.toString()).getAsString());
-        Assertions.assertEquals(NETWORK_ID, parsedData.get(StargateProtocolProperty.NETWORK.toString()).getAsString());
-        Assertions.assertEquals(newPortalName, parsedData.get(StargateProtocolProperty.NEW_PORTAL_NAME.toString()).getAsString());
-        Assertions.assertEquals(PORTAL_NAME, parsedData.get(StargateProtocolProperty.PORTAL.toString()).getAsString());
+        return InterServerMessageCodec.decode(sentData.getFirstValue());
     }
 }
\ No newline at end of file
@@ -12,24 +12,24 @@ import java.util.Queue;
 
 public class TestPluginMessageInterface implements PluginMessageInterface {
 
-    final Queue<TwoTuple<String, PluginChannel>> sentMessagesQueue = new ArrayDeque<>();
+    final Queue<TwoTuple<byte[], PluginChannel>> sentMessagesQueue = new ArrayDeque<>();
 
     @Override
-    public void scheduleSendMessage(String message, PluginChannel channel) {
+    public void scheduleSendMessage(byte[] message, PluginChannel channel) {
         this.sendMessage(message, channel, Stargate.getInstance());
     }
 
     @Override
-    public void sendMessage(String dataMsg, PluginChannel pluginChannel, Plugin plugin) {
+    public void sendMessage(byte[] dataMsg, PluginChannel pluginChannel, Plugin plugin) {
         sentMessagesQueue.add(new TwoTuple<>(dataMsg, pluginChannel));
     }
 
     @Override
-    public void sendDirectedMessage(String message, PluginChannel channel, Plugin plugin, String server) throws IOException {
+    public void sendDirectedMessage(byte[] message, PluginChannel channel, Plugin plugin, String server) throws IOException {
         sentMessagesQueue.add(new TwoTuple<>(message, channel));
     }
 
-    public @Nullable TwoTuple<String, PluginChannel> getSentMessageFromQueue() {
+    public @Nullable TwoTuple<byte[], PluginChannel> getSentMessageFromQueue() {
         return sentMessagesQueue.poll();
     }
 }
@@ -0,0 +1,70 @@
+package org.sgrewritten.stargate.thread;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class KeyedExecutorTest {
+
+    private KeyedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyedExecutor("test");
+        executor.start(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.stop();
+    }
+
+    @Test
+    void submit_sameKey_runsInOrder() throws InterruptedException {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            expected.add(value);
+            executor.submit("key", () -> order.add(value));
+        }
+        executor.awaitEmpty();
+        Assertions.assertEquals(expected, order);
+        Assertions.assertEquals(0, executor.getPendingTasks());
+    }
+
+    @Test
+    void submit_differentKeys_runInParallel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean wasReleased = new AtomicBoolean();
+        executor.submit("first", () -> {
+            try {
+                wasReleased.set(latch.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.submit("second", latch::countDown);
+        executor.awaitEmpty();
+        Assertions.assertTrue(wasReleased.get());
+    }
+
+    @Test
+    void submit_stopped_heldUntilStarted() throws InterruptedException {
+        executor.stop();
+        AtomicBoolean hasRun = new AtomicBoolean();
+        executor.submit("key", () -> hasRun.set(true));
+        Assertions.assertEquals(1, executor.getPendingTasks());
+        executor.start(1);
+        executor.awaitEmpty();
+        Assertions.assertTrue(hasRun.get());
+    }
+}
@@ -0,0 +1,74 @@
+package org.sgrewritten.stargate.thread;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sgrewritten.stargate.thread.task.TaskPriority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class SynchronousPopulatorTest {
+
+    private SynchronousPopulator populator;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        populator = new SynchronousPopulator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void run_interactiveBeforeBulk() {
+        List<String> order = new ArrayList<>();
+        populator.addAction(() -> order.add("bulk"));
+        populator.addAction(() -> order.add("interactive"), false, TaskPriority.INTERACTIVE);
+        Assertions.assertEquals(1, populator.getQueueDepth(TaskPriority.INTERACTIVE));
+        Assertions.assertEquals(1, populator.getQueueDepth(TaskPriority.BULK));
+
+        populator.run();
+        Assertions.assertEquals(List.of("interactive", "bulk"), order);
+        Assertions.assertEquals(0, populator.getQueueDepth(TaskPriority.BULK));
+        Assertions.assertEquals(1, populator.getQueueLatency(TaskPriority.BULK).getCount());
+    }
+
+    @Test
+    void run_budgetUsedUp_bulkNotStarved() {
+        List<String> order = new ArrayList<>();
+        populator.addAction(() -> order.add("bulk"));
+        populator.addAction(() -> order.add("bulk"));
+        populator.addAction(() -> sleep(20), false, TaskPriority.INTERACTIVE);
+        populator.addAction(() -> order.add("interactive"), false, TaskPriority.INTERACTIVE);
+
+        populator.run();
+        Assertions.assertEquals(List.of("bulk"), order);
+        Assertions.assertEquals(1, populator.getQueueDepth(TaskPriority.INTERACTIVE));
+        Assertions.assertEquals(1, populator.getBudgetOverruns());
+    }
+
+    @Test
+    void run_bungeeActionsWaitForPlayers() {
+        List<String> order = new ArrayList<>();
+        populator.addAction(() -> order.add("bungee"), true);
+        populator.run();
+        Assertions.assertTrue(order.isEmpty());
+        Assertions.assertEquals(1, populator.getBungeeQueueDepth());
+        populator.clear();
+        Assertions.assertEquals(0, populator.getBungeeQueueDepth());
+    }
+
+    private static void sleep(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
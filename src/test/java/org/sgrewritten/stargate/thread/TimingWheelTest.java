@@ -0,0 +1,122 @@
+package org.sgrewritten.stargate.thread;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TimingWheelTest {
+
+    private TimingWheel timingWheel;
+    private AtomicInteger runs;
+    private TimingWheel.Timeout timeout;
+
+    @BeforeEach
+    void setUp() {
+        this.timingWheel = new TimingWheel();
+        this.runs = new AtomicInteger();
+        this.timeout = new TimingWheel.Timeout(runs::incrementAndGet);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 63, 64, 65, 300, 400, 4095, 4096, 4097, 10000, 300000})
+    void run_exactDelay(long delay) {
+        //Start on an uneven tick, so that timeouts cross the slot boundaries of every level
+        tick(37);
+        timingWheel.schedule(timeout, delay);
+        tick(delay - 1);
+        Assertions.assertEquals(0, runs.get());
+        tick(1);
+        Assertions.assertEquals(1, runs.get());
+        Assertions.assertFalse(timeout.isScheduled());
+        tick(delay);
+        Assertions.assertEquals(1, runs.get());
+    }
+
+    @Test
+    void schedule_reschedule_runsOnceAtLastDeadline() {
+        for (int i = 0; i < 100; i++) {
+            timingWheel.schedule(timeout, 300);
+            tick(5);
+        }
+        Assertions.assertEquals(1, timingWheel.size());
+        tick(294);
+        Assertions.assertEquals(0, runs.get());
+        tick(1);
+        Assertions.assertEquals(1, runs.get());
+        Assertions.assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    void schedule_earlierDeadline() {
+        timingWheel.schedule(timeout, 400);
+        timingWheel.schedule(timeout, 10);
+        tick(10);
+        Assertions.assertEquals(1, runs.get());
+        tick(400);
+        Assertions.assertEquals(1, runs.get());
+    }
+
+    @Test
+    void schedule_fromTimeout() {
+        TimingWheel.Timeout[] repeating = new TimingWheel.Timeout[1];
+        repeating[0] = new TimingWheel.Timeout(() -> {
+            if (runs.incrementAndGet() < 3) {
+                timingWheel.schedule(repeating[0], 20);
+            }
+        });
+        timingWheel.schedule(repeating[0], 20);
+        tick(100);
+        Assertions.assertEquals(3, runs.get());
+    }
+
+    @Test
+    void cancel() {
+        timingWheel.schedule(timeout, 20);
+        timingWheel.cancel(timeout);
+        tick(40);
+        Assertions.assertEquals(0, runs.get());
+        Assertions.assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    void runAll() {
+        TimingWheel.Timeout other = new TimingWheel.Timeout(runs::incrementAndGet);
+        timingWheel.schedule(timeout, 5);
+        timingWheel.schedule(other, 5000);
+        timingWheel.runAll();
+        Assertions.assertEquals(2, runs.get());
+        Assertions.assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    void clear() {
+        timingWheel.schedule(timeout, 5);
+        timingWheel.clear();
+        tick(10);
+        Assertions.assertEquals(0, runs.get());
+        Assertions.assertFalse(timeout.isScheduled());
+    }
+
+    @Test
+    void run_manyTimeouts() {
+        int amount = 10000;
+        for (int i = 0; i < amount; i++) {
+            timingWheel.schedule(new TimingWheel.Timeout(runs::incrementAndGet), 1 + i % 500);
+        }
+        Assertions.assertEquals(amount, timingWheel.size());
+        tick(499);
+        Assertions.assertEquals(amount - amount / 500, runs.get());
+        tick(1);
+        Assertions.assertEquals(amount, runs.get());
+    }
+
+    private void tick(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            timingWheel.run();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.sgrewritten.stargate.util;
 
 import be.seeseemelk.mockbukkit.MockBukkit;
 import org.sgrewritten.stargate.Stargate;
+import org.sgrewritten.stargate.thread.task.StargateGlobalTask;
 import org.sgrewritten.stargate.thread.task.StargateQueuedAsyncTask;
 import org.sgrewritten.stargate.thread.task.StargateRegionTask;
 import org.sgrewritten.stargate.thread.task.StargateTask;
@@ -15,5 +16,6 @@ public class StargateTestHelper {
             Stargate.log(e);
         }
         StargateRegionTask.clearPopulator();
+        StargateGlobalTask.clearTimingWheel();
     }
 }
@@ -173,11 +173,6 @@ public class PortalMock implements RealPortal {
         return new GateMock();
     }
 
-    @Override
-    public void close(long relatedOpenTime) {
-
-    }
-
     @Override
     public Location getExit() {
         return null;
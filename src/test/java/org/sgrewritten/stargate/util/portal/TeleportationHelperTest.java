@@ -55,6 +55,7 @@ class TeleportationHelperTest {
         world = server.addSimpleWorld("world");
         this.stargateAPI = new StargateAPIMock();
         network = new StargateNetwork("network", NetworkType.CUSTOM, StorageType.LOCAL);
+        SpawnLocationCache.clear();
     }
 
     @Test
@@ -174,6 +175,28 @@ class TeleportationHelperTest {
         Assertions.assertTrue(topLeft.getX() < location.getX());
     }
 
+    @Test
+    void findViableSpawnLocationTest_Cached() throws TranslatableException, InvalidStructureException, GateConflictException, NoFormatFoundException {
+        Location topLeft = new Location(world, -1, 5, -3);
+        RealPortal portal = generatePortal(topLeft);
+        Location location = TeleportationHelper.findViableSpawnLocation(world.spawnEntity(topLeft, EntityType.BAT), portal);
+        assertNotNull(location);
+        SpawnLocationCache.CachedSearch cachedSearch = SpawnLocationCache.get(portal, 1, 1);
+        assertNotNull(cachedSearch);
+        Assertions.assertEquals(location, cachedSearch.getSpawnLocation());
+        Assertions.assertEquals(location, TeleportationHelper.findViableSpawnLocation(world.spawnEntity(topLeft, EntityType.BAT), portal));
+    }
+
+    @Test
+    void findViableSpawnLocationTest_InvalidatedByBlockChange() throws TranslatableException, InvalidStructureException, GateConflictException, NoFormatFoundException {
+        Location topLeft = new Location(world, -1, 5, -3);
+        RealPortal portal = generatePortal(topLeft);
+        Location location = TeleportationHelper.findViableSpawnLocation(world.spawnEntity(topLeft, EntityType.BAT), portal);
+        assertNotNull(location);
+        SpawnLocationCache.invalidate(world, location.getBlockX(), location.getBlockY() - 1, location.getBlockZ());
+        Assertions.assertNull(SpawnLocationCache.get(portal, 1, 1));
+    }
+
     private RealPortal generatePortal(Location topLeft) throws TranslatableException, InvalidStructureException, GateConflictException, NoFormatFoundException {
         TestPortalBuilder testPortalBuilder = new TestPortalBuilder(stargateAPI.getRegistry(), world);
         ExplicitGateBuilder explicitGateBuilder = new ExplicitGateBuilder(stargateAPI.getRegistry(),topLeft, GateFormatRegistry.getFormat("nether.gate"));